@@ -0,0 +1,139 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Inner loops shared by several array operations. This is the Java 8 implementation, on Java 9 and
+ * newer the multi-release JAR replaces it with the one in {@code src/main/java9}. Both must keep the
+ * same package-private signatures.
+ */
+final class ArrayKernels {
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private ArrayKernels() {}
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(boolean[] array, int index, boolean[] sequence) {
+    for (int j = 0; j < sequence.length; j++) {
+      if (array[index + j] != sequence[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(byte[] array, int index, byte[] sequence) {
+    for (int j = 0; j < sequence.length; j++) {
+      if (array[index + j] != sequence[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(char[] array, int index, char[] sequence) {
+    for (int j = 0; j < sequence.length; j++) {
+      if (array[index + j] != sequence[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(int[] array, int index, int[] sequence) {
+    for (int j = 0; j < sequence.length; j++) {
+      if (array[index + j] != sequence[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(long[] array, int index, long[] sequence) {
+    for (int j = 0; j < sequence.length; j++) {
+      if (array[index + j] != sequence[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(short[] array, int index, short[] sequence) {
+    for (int j = 0; j < sequence.length; j++) {
+      if (array[index + j] != sequence[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
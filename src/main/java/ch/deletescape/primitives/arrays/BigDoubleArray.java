@@ -0,0 +1,433 @@
+package ch.deletescape.primitives.arrays;
+
+import ch.deletescape.primitives.Doubles;
+
+/**
+ * A {@code double} array on the Java heap that is indexed with {@code long} values and can therefore hold
+ * more than {@code Integer.MAX_VALUE} elements. The elements are stored in segments of equal size
+ * (except for the last one), the {@code parallel} operations split every segment into chunks and
+ * process them as described by a {@link ParallelConfig}.
+ */
+public final class BigDoubleArray {
+  static final int SEGMENT_SHIFT = 27;
+
+  private final double[][] segments;
+  private final long length;
+  private final int segmentShift;
+  private final long segmentMask;
+
+  private BigDoubleArray(long length, int segmentShift) {
+    if (length < 0) {
+      throw new InvalidArrayException("Array length must not be negative");
+    }
+    this.length = length;
+    this.segmentShift = segmentShift;
+    this.segmentMask = (1L << segmentShift) - 1;
+    long segmentLength = 1L << segmentShift;
+    segments = new double[(int) ((length + segmentMask) >>> segmentShift)][];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = new double[(int) Math.min(segmentLength, length - ((long) i << segmentShift))];
+    }
+  }
+
+  /**
+   * Creates a new big array with all elements set to {@code 0}
+   * 
+   * @param length
+   *          the number of elements
+   * @return a new big array
+   */
+  public static BigDoubleArray allocate(long length) {
+    return new BigDoubleArray(length, SEGMENT_SHIFT);
+  }
+
+  static BigDoubleArray allocate(long length, int segmentShift) {
+    return new BigDoubleArray(length, segmentShift);
+  }
+
+  /**
+   * Concatenate any number of {@code double} arrays into a big array. Unlike
+   * {@link DoubleArrays#concatAll(double[]...)} the total number of elements may exceed
+   * {@code Integer.MAX_VALUE}.
+   * 
+   * @param arrays
+   *          the {@code double} arrays to concatenate
+   * @return a big array containing the values of all {@code arrays}
+   */
+  public static BigDoubleArray concatAll(double[]... arrays) {
+    long totalLength = 0;
+    for (double[] array : arrays) {
+      totalLength += array.length;
+    }
+    BigDoubleArray result = allocate(totalLength);
+    long offset = 0;
+    for (double[] array : arrays) {
+      result.copyFrom(array, 0, offset, array.length);
+      offset += array.length;
+    }
+    return result;
+  }
+
+  /**
+   * Concatenate any number of big arrays
+   * 
+   * @param arrays
+   *          the big arrays to concatenate
+   * @return a new big array containing the values of all {@code arrays}
+   */
+  public static BigDoubleArray concatAll(BigDoubleArray... arrays) {
+    long totalLength = 0;
+    for (BigDoubleArray array : arrays) {
+      totalLength += array.length;
+    }
+    BigDoubleArray result = allocate(totalLength);
+    long offset = 0;
+    for (BigDoubleArray array : arrays) {
+      for (double[] segment : array.segments) {
+        result.copyFrom(segment, 0, offset, segment.length);
+        offset += segment.length;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the number of elements in this array
+   */
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Returns the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @return the element at {@code index}
+   */
+  public double get(long index) {
+    checkRange(index, 1);
+    return segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)];
+  }
+
+  /**
+   * Replaces the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @param value
+   *          the new value of the element
+   */
+  public void set(long index, double value) {
+    checkRange(index, 1);
+    segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)] = value;
+  }
+
+  /**
+   * Copies values from a {@code double} array into this array
+   * 
+   * @param src
+   *          the array to copy the values from
+   * @param srcPos
+   *          the index of the first value in {@code src}
+   * @param index
+   *          the index in this array where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyFrom(double[] src, int srcPos, long index, int count) {
+    checkRange(index, count);
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      double[] segment = segments[(int) (pos >>> segmentShift)];
+      int offset = (int) (pos & segmentMask);
+      int chunk = Math.min(count - done, segment.length - offset);
+      System.arraycopy(src, srcPos + done, segment, offset, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies values from this array into a {@code double} array
+   * 
+   * @param index
+   *          the index of the first value in this array
+   * @param dest
+   *          the array to copy the values to
+   * @param destPos
+   *          the index in {@code dest} where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyTo(long index, double[] dest, int destPos, int count) {
+    checkRange(index, count);
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      double[] segment = segments[(int) (pos >>> segmentShift)];
+      int offset = (int) (pos & segmentMask);
+      int chunk = Math.min(count - done, segment.length - offset);
+      System.arraycopy(segment, offset, dest, destPos + done, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies this array into a regular {@code double} array
+   * 
+   * @return a new {@code double} array containing all values of this array
+   * @throws InvalidArrayException
+   *           if this array has more than {@code Integer.MAX_VALUE} elements
+   */
+  public double[] toArray() {
+    if (length > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Array is too large to be copied to a regular array");
+    }
+    double[] tmp = new double[(int) length];
+    copyTo(0, tmp, 0, tmp.length);
+    return tmp;
+  }
+
+  /**
+   * Returns true if the array contains the specified value
+   * {@code 0.001} is used for equality checks
+   * 
+   * @param value
+   *          the value to check for
+   * @return whether or not this array contains {@code value}
+   * @see DoubleArrays#contains(double[], double)
+   */
+  public boolean contains(double value) {
+    for (double[] segment : segments) {
+      if (DoubleArrays.contains(segment, value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Same as {@link #contains(double)}, but searches the segments in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param value
+   *          the value to check for
+   * @return whether or not this array contains {@code value}
+   */
+  public boolean parallelContains(double value) {
+    return parallelContains(value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #contains(double)}, but searches the segments in parallel. Segments below the
+   * threshold of {@code config} are searched sequentially.
+   * 
+   * @param value
+   *          the value to check for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not this array contains {@code value}
+   * @see DoubleArrays#parallelContains(double[], double, ParallelConfig)
+   */
+  public boolean parallelContains(double value, ParallelConfig config) {
+    for (double[] segment : segments) {
+      if (DoubleArrays.parallelContains(segment, value, config)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values in this array
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see DoubleArrays#findSequence(double[], double...)
+   */
+  public long findSequence(double[] sequence) {
+    return findSequence(0, sequence);
+  }
+
+  /**
+   * Finds the first occurrence starting from {@code fromIndex} of a sequence of values in this array,
+   * occurrences spanning two segments are found as well
+   * 
+   * @param fromIndex
+   *          the index from where to start searching
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see DoubleArrays#findSequence(int, double[], double...)
+   */
+  public long findSequence(long fromIndex, double[] sequence) {
+    int seqLen = sequence.length;
+    long maxIdx = length - seqLen;
+    for (long i = Math.max(0, Math.min(fromIndex, maxIdx)); i <= maxIdx; i++) {
+      for (int j = 0; Doubles.equality(at(i + j), sequence[j], DoubleArrays.DELTA); j++) {
+        if (j == seqLen - 1) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the greatest value of this array
+   * 
+   * @return the biggest value in this array
+   * @see DoubleArrays#max(double...)
+   */
+  public double max() {
+    checkNotEmpty("max");
+    double max = DoubleArrays.max(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      double item = DoubleArrays.max(segments[i]);
+      if (item > max) {
+        max = item;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Same as {@link #max()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the biggest value in this array
+   */
+  public double parallelMax() {
+    return parallelMax(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #max()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the biggest value in this array
+   * @see DoubleArrays#parallelMax(double[], ParallelConfig)
+   */
+  public double parallelMax(ParallelConfig config) {
+    checkNotEmpty("max");
+    double max = DoubleArrays.parallelMax(segments[0], config);
+    for (int i = 1; i < segments.length; i++) {
+      double item = DoubleArrays.parallelMax(segments[i], config);
+      if (item > max) {
+        max = item;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Returns the smallest value of this array
+   * 
+   * @return the smallest value in this array
+   * @see DoubleArrays#min(double...)
+   */
+  public double min() {
+    checkNotEmpty("min");
+    double min = DoubleArrays.min(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      double item = DoubleArrays.min(segments[i]);
+      if (item < min) {
+        min = item;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Same as {@link #min()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the smallest value in this array
+   */
+  public double parallelMin() {
+    return parallelMin(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #min()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the smallest value in this array
+   * @see DoubleArrays#parallelMin(double[], ParallelConfig)
+   */
+  public double parallelMin(ParallelConfig config) {
+    checkNotEmpty("min");
+    double min = DoubleArrays.parallelMin(segments[0], config);
+    for (int i = 1; i < segments.length; i++) {
+      double item = DoubleArrays.parallelMin(segments[i], config);
+      if (item < min) {
+        min = item;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Returns the sum of all values in this array
+   * 
+   * @return the sum of the values in this array
+   * @see DoubleArrays#sum(double...)
+   */
+  public double sum() {
+    double total = 0;
+    for (double[] segment : segments) {
+      total += sum(segment);
+    }
+    return total;
+  }
+
+  /**
+   * Same as {@link #sum()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the sum of the values in this array
+   */
+  public double parallelSum() {
+    return parallelSum(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #sum()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values in this array
+   */
+  public double parallelSum(ParallelConfig config) {
+    double total = 0;
+    for (double[] segment : segments) {
+      total += DoubleArrays.parallelSum(segment, config);
+    }
+    return total;
+  }
+
+  private double at(long index) {
+    return segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)];
+  }
+
+  private void checkRange(long index, int count) {
+    if (index < 0 || count < 0 || index > length - count) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + index + ", " + index + " + " + count + ") out of bounds for length " + length);
+    }
+  }
+
+  private void checkNotEmpty(String operation) {
+    if (length == 0) {
+      throw new InvalidArrayException("Can't get " + operation + " value from empty array");
+    }
+  }
+
+  private static double sum(double[] segment) {
+    return DoubleArrays.sum(segment);
+  }
+}
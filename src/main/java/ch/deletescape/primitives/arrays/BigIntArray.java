@@ -0,0 +1,437 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * A {@code int} array on the Java heap that is indexed with {@code long} values and can therefore hold
+ * more than {@code Integer.MAX_VALUE} elements. The elements are stored in segments of equal size
+ * (except for the last one), the {@code parallel} operations split every segment into chunks and
+ * process them as described by a {@link ParallelConfig}.
+ */
+public final class BigIntArray {
+  static final int SEGMENT_SHIFT = 27;
+
+  private final int[][] segments;
+  private final long length;
+  private final int segmentShift;
+  private final long segmentMask;
+
+  private BigIntArray(long length, int segmentShift) {
+    if (length < 0) {
+      throw new InvalidArrayException("Array length must not be negative");
+    }
+    this.length = length;
+    this.segmentShift = segmentShift;
+    this.segmentMask = (1L << segmentShift) - 1;
+    long segmentLength = 1L << segmentShift;
+    segments = new int[(int) ((length + segmentMask) >>> segmentShift)][];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = new int[(int) Math.min(segmentLength, length - ((long) i << segmentShift))];
+    }
+  }
+
+  /**
+   * Creates a new big array with all elements set to {@code 0}
+   * 
+   * @param length
+   *          the number of elements
+   * @return a new big array
+   */
+  public static BigIntArray allocate(long length) {
+    return new BigIntArray(length, SEGMENT_SHIFT);
+  }
+
+  static BigIntArray allocate(long length, int segmentShift) {
+    return new BigIntArray(length, segmentShift);
+  }
+
+  /**
+   * Concatenate any number of {@code int} arrays into a big array. Unlike
+   * {@link IntArrays#concatAll(int[]...)} the total number of elements may exceed
+   * {@code Integer.MAX_VALUE}.
+   * 
+   * @param arrays
+   *          the {@code int} arrays to concatenate
+   * @return a big array containing the values of all {@code arrays}
+   */
+  public static BigIntArray concatAll(int[]... arrays) {
+    long totalLength = 0;
+    for (int[] array : arrays) {
+      totalLength += array.length;
+    }
+    BigIntArray result = allocate(totalLength);
+    long offset = 0;
+    for (int[] array : arrays) {
+      result.copyFrom(array, 0, offset, array.length);
+      offset += array.length;
+    }
+    return result;
+  }
+
+  /**
+   * Concatenate any number of big arrays
+   * 
+   * @param arrays
+   *          the big arrays to concatenate
+   * @return a new big array containing the values of all {@code arrays}
+   */
+  public static BigIntArray concatAll(BigIntArray... arrays) {
+    long totalLength = 0;
+    for (BigIntArray array : arrays) {
+      totalLength += array.length;
+    }
+    BigIntArray result = allocate(totalLength);
+    long offset = 0;
+    for (BigIntArray array : arrays) {
+      for (int[] segment : array.segments) {
+        result.copyFrom(segment, 0, offset, segment.length);
+        offset += segment.length;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the number of elements in this array
+   */
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Returns the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @return the element at {@code index}
+   */
+  public int get(long index) {
+    checkRange(index, 1);
+    return segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)];
+  }
+
+  /**
+   * Replaces the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @param value
+   *          the new value of the element
+   */
+  public void set(long index, int value) {
+    checkRange(index, 1);
+    segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)] = value;
+  }
+
+  /**
+   * Copies values from a {@code int} array into this array
+   * 
+   * @param src
+   *          the array to copy the values from
+   * @param srcPos
+   *          the index of the first value in {@code src}
+   * @param index
+   *          the index in this array where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyFrom(int[] src, int srcPos, long index, int count) {
+    checkRange(index, count);
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      int[] segment = segments[(int) (pos >>> segmentShift)];
+      int offset = (int) (pos & segmentMask);
+      int chunk = Math.min(count - done, segment.length - offset);
+      System.arraycopy(src, srcPos + done, segment, offset, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies values from this array into a {@code int} array
+   * 
+   * @param index
+   *          the index of the first value in this array
+   * @param dest
+   *          the array to copy the values to
+   * @param destPos
+   *          the index in {@code dest} where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyTo(long index, int[] dest, int destPos, int count) {
+    checkRange(index, count);
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      int[] segment = segments[(int) (pos >>> segmentShift)];
+      int offset = (int) (pos & segmentMask);
+      int chunk = Math.min(count - done, segment.length - offset);
+      System.arraycopy(segment, offset, dest, destPos + done, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies this array into a regular {@code int} array
+   * 
+   * @return a new {@code int} array containing all values of this array
+   * @throws InvalidArrayException
+   *           if this array has more than {@code Integer.MAX_VALUE} elements
+   */
+  public int[] toArray() {
+    if (length > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Array is too large to be copied to a regular array");
+    }
+    int[] tmp = new int[(int) length];
+    copyTo(0, tmp, 0, tmp.length);
+    return tmp;
+  }
+
+  /**
+   * Returns true if the array contains the specified value
+   * 
+   * @param value
+   *          the value to check for
+   * @return whether or not this array contains {@code value}
+   * @see IntArrays#contains(int[], int)
+   */
+  public boolean contains(int value) {
+    for (int[] segment : segments) {
+      if (IntArrays.contains(segment, value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Same as {@link #contains(int)}, but searches the segments in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param value
+   *          the value to check for
+   * @return whether or not this array contains {@code value}
+   */
+  public boolean parallelContains(int value) {
+    return parallelContains(value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #contains(int)}, but searches the segments in parallel. Segments below the
+   * threshold of {@code config} are searched sequentially.
+   * 
+   * @param value
+   *          the value to check for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not this array contains {@code value}
+   * @see IntArrays#parallelContains(int[], int, ParallelConfig)
+   */
+  public boolean parallelContains(int value, ParallelConfig config) {
+    for (int[] segment : segments) {
+      if (IntArrays.parallelContains(segment, value, config)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values in this array
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see IntArrays#findSequence(int[], int...)
+   */
+  public long findSequence(int[] sequence) {
+    return findSequence(0, sequence);
+  }
+
+  /**
+   * Finds the first occurrence starting from {@code fromIndex} of a sequence of values in this array,
+   * occurrences spanning two segments are found as well
+   * 
+   * @param fromIndex
+   *          the index from where to start searching
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see IntArrays#findSequence(int, int[], int...)
+   */
+  public long findSequence(long fromIndex, int[] sequence) {
+    int seqLen = sequence.length;
+    long maxIdx = length - seqLen;
+    for (long i = Math.max(0, Math.min(fromIndex, maxIdx)); i <= maxIdx; i++) {
+      for (int j = 0; at(i + j) == sequence[j]; j++) {
+        if (j == seqLen - 1) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the greatest value of this array
+   * 
+   * @return the biggest value in this array
+   * @see IntArrays#max(int...)
+   */
+  public int max() {
+    checkNotEmpty("max");
+    int max = IntArrays.max(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      int item = IntArrays.max(segments[i]);
+      if (item > max) {
+        max = item;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Same as {@link #max()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the biggest value in this array
+   */
+  public int parallelMax() {
+    return parallelMax(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #max()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the biggest value in this array
+   * @see IntArrays#parallelMax(int[], ParallelConfig)
+   */
+  public int parallelMax(ParallelConfig config) {
+    checkNotEmpty("max");
+    int max = IntArrays.parallelMax(segments[0], config);
+    for (int i = 1; i < segments.length; i++) {
+      int item = IntArrays.parallelMax(segments[i], config);
+      if (item > max) {
+        max = item;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Returns the smallest value of this array
+   * 
+   * @return the smallest value in this array
+   * @see IntArrays#min(int...)
+   */
+  public int min() {
+    checkNotEmpty("min");
+    int min = IntArrays.min(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      int item = IntArrays.min(segments[i]);
+      if (item < min) {
+        min = item;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Same as {@link #min()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the smallest value in this array
+   */
+  public int parallelMin() {
+    return parallelMin(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #min()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the smallest value in this array
+   * @see IntArrays#parallelMin(int[], ParallelConfig)
+   */
+  public int parallelMin(ParallelConfig config) {
+    checkNotEmpty("min");
+    int min = IntArrays.parallelMin(segments[0], config);
+    for (int i = 1; i < segments.length; i++) {
+      int item = IntArrays.parallelMin(segments[i], config);
+      if (item < min) {
+        min = item;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Returns the sum of all values in this array, unlike
+   * {@link IntArrays#sum(int...)} the sum is accumulated in a {@code long}
+   * 
+   * @return the sum of the values in this array
+   * @see IntArrays#sum(int...)
+   */
+  public long sum() {
+    long total = 0;
+    for (int[] segment : segments) {
+      total += IntArrays.sumLong(segment);
+    }
+    return total;
+  }
+
+  /**
+   * Same as {@link #sum()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the sum of the values in this array
+   */
+  public long parallelSum() {
+    return parallelSum(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #sum()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values in this array
+   */
+  public long parallelSum(ParallelConfig config) {
+    long total = 0;
+    for (int[] segment : segments) {
+      total += parallelSum(segment, config);
+    }
+    return total;
+  }
+
+  private int at(long index) {
+    return segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)];
+  }
+
+  private void checkRange(long index, int count) {
+    if (index < 0 || count < 0 || index > length - count) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + index + ", " + index + " + " + count + ") out of bounds for length " + length);
+    }
+  }
+
+  private void checkNotEmpty(String operation) {
+    if (length == 0) {
+      throw new InvalidArrayException("Can't get " + operation + " value from empty array");
+    }
+  }
+
+  private static long parallelSum(int[] segment, ParallelConfig config) {
+    if (!config.isParallel(segment.length)) {
+      return IntArrays.sumLong(segment);
+    }
+    long[] partials = new long[Parallel.chunks(config, 0, segment.length)];
+    Parallel.forEachChunk(config, 0, segment.length,
+        (chunk, from, to) -> partials[chunk] = IntArrays.sumLong(segment, from, to));
+    return LongArrays.sum(partials);
+  }
+}
@@ -0,0 +1,430 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * A {@code long} array on the Java heap that is indexed with {@code long} values and can therefore hold
+ * more than {@code Integer.MAX_VALUE} elements. The elements are stored in segments of equal size
+ * (except for the last one), the {@code parallel} operations split every segment into chunks and
+ * process them as described by a {@link ParallelConfig}.
+ */
+public final class BigLongArray {
+  static final int SEGMENT_SHIFT = 27;
+
+  private final long[][] segments;
+  private final long length;
+  private final int segmentShift;
+  private final long segmentMask;
+
+  private BigLongArray(long length, int segmentShift) {
+    if (length < 0) {
+      throw new InvalidArrayException("Array length must not be negative");
+    }
+    this.length = length;
+    this.segmentShift = segmentShift;
+    this.segmentMask = (1L << segmentShift) - 1;
+    long segmentLength = 1L << segmentShift;
+    segments = new long[(int) ((length + segmentMask) >>> segmentShift)][];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = new long[(int) Math.min(segmentLength, length - ((long) i << segmentShift))];
+    }
+  }
+
+  /**
+   * Creates a new big array with all elements set to {@code 0}
+   * 
+   * @param length
+   *          the number of elements
+   * @return a new big array
+   */
+  public static BigLongArray allocate(long length) {
+    return new BigLongArray(length, SEGMENT_SHIFT);
+  }
+
+  static BigLongArray allocate(long length, int segmentShift) {
+    return new BigLongArray(length, segmentShift);
+  }
+
+  /**
+   * Concatenate any number of {@code long} arrays into a big array. Unlike
+   * {@link LongArrays#concatAll(long[]...)} the total number of elements may exceed
+   * {@code Integer.MAX_VALUE}.
+   * 
+   * @param arrays
+   *          the {@code long} arrays to concatenate
+   * @return a big array containing the values of all {@code arrays}
+   */
+  public static BigLongArray concatAll(long[]... arrays) {
+    long totalLength = 0;
+    for (long[] array : arrays) {
+      totalLength += array.length;
+    }
+    BigLongArray result = allocate(totalLength);
+    long offset = 0;
+    for (long[] array : arrays) {
+      result.copyFrom(array, 0, offset, array.length);
+      offset += array.length;
+    }
+    return result;
+  }
+
+  /**
+   * Concatenate any number of big arrays
+   * 
+   * @param arrays
+   *          the big arrays to concatenate
+   * @return a new big array containing the values of all {@code arrays}
+   */
+  public static BigLongArray concatAll(BigLongArray... arrays) {
+    long totalLength = 0;
+    for (BigLongArray array : arrays) {
+      totalLength += array.length;
+    }
+    BigLongArray result = allocate(totalLength);
+    long offset = 0;
+    for (BigLongArray array : arrays) {
+      for (long[] segment : array.segments) {
+        result.copyFrom(segment, 0, offset, segment.length);
+        offset += segment.length;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the number of elements in this array
+   */
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Returns the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @return the element at {@code index}
+   */
+  public long get(long index) {
+    checkRange(index, 1);
+    return segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)];
+  }
+
+  /**
+   * Replaces the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @param value
+   *          the new value of the element
+   */
+  public void set(long index, long value) {
+    checkRange(index, 1);
+    segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)] = value;
+  }
+
+  /**
+   * Copies values from a {@code long} array into this array
+   * 
+   * @param src
+   *          the array to copy the values from
+   * @param srcPos
+   *          the index of the first value in {@code src}
+   * @param index
+   *          the index in this array where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyFrom(long[] src, int srcPos, long index, int count) {
+    checkRange(index, count);
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      long[] segment = segments[(int) (pos >>> segmentShift)];
+      int offset = (int) (pos & segmentMask);
+      int chunk = Math.min(count - done, segment.length - offset);
+      System.arraycopy(src, srcPos + done, segment, offset, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies values from this array into a {@code long} array
+   * 
+   * @param index
+   *          the index of the first value in this array
+   * @param dest
+   *          the array to copy the values to
+   * @param destPos
+   *          the index in {@code dest} where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyTo(long index, long[] dest, int destPos, int count) {
+    checkRange(index, count);
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      long[] segment = segments[(int) (pos >>> segmentShift)];
+      int offset = (int) (pos & segmentMask);
+      int chunk = Math.min(count - done, segment.length - offset);
+      System.arraycopy(segment, offset, dest, destPos + done, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies this array into a regular {@code long} array
+   * 
+   * @return a new {@code long} array containing all values of this array
+   * @throws InvalidArrayException
+   *           if this array has more than {@code Integer.MAX_VALUE} elements
+   */
+  public long[] toArray() {
+    if (length > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Array is too large to be copied to a regular array");
+    }
+    long[] tmp = new long[(int) length];
+    copyTo(0, tmp, 0, tmp.length);
+    return tmp;
+  }
+
+  /**
+   * Returns true if the array contains the specified value
+   * 
+   * @param value
+   *          the value to check for
+   * @return whether or not this array contains {@code value}
+   * @see LongArrays#contains(long[], long)
+   */
+  public boolean contains(long value) {
+    for (long[] segment : segments) {
+      if (LongArrays.contains(segment, value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Same as {@link #contains(long)}, but searches the segments in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param value
+   *          the value to check for
+   * @return whether or not this array contains {@code value}
+   */
+  public boolean parallelContains(long value) {
+    return parallelContains(value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #contains(long)}, but searches the segments in parallel. Segments below the
+   * threshold of {@code config} are searched sequentially.
+   * 
+   * @param value
+   *          the value to check for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not this array contains {@code value}
+   * @see LongArrays#parallelContains(long[], long, ParallelConfig)
+   */
+  public boolean parallelContains(long value, ParallelConfig config) {
+    for (long[] segment : segments) {
+      if (LongArrays.parallelContains(segment, value, config)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values in this array
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see LongArrays#findSequence(long[], long...)
+   */
+  public long findSequence(long[] sequence) {
+    return findSequence(0, sequence);
+  }
+
+  /**
+   * Finds the first occurrence starting from {@code fromIndex} of a sequence of values in this array,
+   * occurrences spanning two segments are found as well
+   * 
+   * @param fromIndex
+   *          the index from where to start searching
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see LongArrays#findSequence(int, long[], long...)
+   */
+  public long findSequence(long fromIndex, long[] sequence) {
+    int seqLen = sequence.length;
+    long maxIdx = length - seqLen;
+    for (long i = Math.max(0, Math.min(fromIndex, maxIdx)); i <= maxIdx; i++) {
+      for (int j = 0; at(i + j) == sequence[j]; j++) {
+        if (j == seqLen - 1) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the greatest value of this array
+   * 
+   * @return the biggest value in this array
+   * @see LongArrays#max(long...)
+   */
+  public long max() {
+    checkNotEmpty("max");
+    long max = LongArrays.max(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      long item = LongArrays.max(segments[i]);
+      if (item > max) {
+        max = item;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Same as {@link #max()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the biggest value in this array
+   */
+  public long parallelMax() {
+    return parallelMax(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #max()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the biggest value in this array
+   * @see LongArrays#parallelMax(long[], ParallelConfig)
+   */
+  public long parallelMax(ParallelConfig config) {
+    checkNotEmpty("max");
+    long max = LongArrays.parallelMax(segments[0], config);
+    for (int i = 1; i < segments.length; i++) {
+      long item = LongArrays.parallelMax(segments[i], config);
+      if (item > max) {
+        max = item;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Returns the smallest value of this array
+   * 
+   * @return the smallest value in this array
+   * @see LongArrays#min(long...)
+   */
+  public long min() {
+    checkNotEmpty("min");
+    long min = LongArrays.min(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      long item = LongArrays.min(segments[i]);
+      if (item < min) {
+        min = item;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Same as {@link #min()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the smallest value in this array
+   */
+  public long parallelMin() {
+    return parallelMin(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #min()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the smallest value in this array
+   * @see LongArrays#parallelMin(long[], ParallelConfig)
+   */
+  public long parallelMin(ParallelConfig config) {
+    checkNotEmpty("min");
+    long min = LongArrays.parallelMin(segments[0], config);
+    for (int i = 1; i < segments.length; i++) {
+      long item = LongArrays.parallelMin(segments[i], config);
+      if (item < min) {
+        min = item;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Returns the sum of all values in this array
+   * 
+   * @return the sum of the values in this array
+   * @see LongArrays#sum(long...)
+   */
+  public long sum() {
+    long total = 0;
+    for (long[] segment : segments) {
+      total += sum(segment);
+    }
+    return total;
+  }
+
+  /**
+   * Same as {@link #sum()}, but processes the segments in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @return the sum of the values in this array
+   */
+  public long parallelSum() {
+    return parallelSum(ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Same as {@link #sum()}, but processes the segments in parallel. Segments below the threshold of
+   * {@code config} are processed sequentially.
+   * 
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values in this array
+   */
+  public long parallelSum(ParallelConfig config) {
+    long total = 0;
+    for (long[] segment : segments) {
+      total += LongArrays.parallelSum(segment, config);
+    }
+    return total;
+  }
+
+  private long at(long index) {
+    return segments[(int) (index >>> segmentShift)][(int) (index & segmentMask)];
+  }
+
+  private void checkRange(long index, int count) {
+    if (index < 0 || count < 0 || index > length - count) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + index + ", " + index + " + " + count + ") out of bounds for length " + length);
+    }
+  }
+
+  private void checkNotEmpty(String operation) {
+    if (length == 0) {
+      throw new InvalidArrayException("Can't get " + operation + " value from empty array");
+    }
+  }
+
+  private static long sum(long[] segment) {
+    return LongArrays.sum(segment);
+  }
+}
@@ -3,6 +3,7 @@ package ch.deletescape.primitives.arrays;
 import java.util.Random;
 
 import ch.deletescape.primitives.Bools;
+import ch.deletescape.primitives.Ints;
 
 public final class BoolArrays {
   /**
@@ -19,11 +20,88 @@ public final class BoolArrays {
    * @see Bools#from(long)
    */
   public static boolean[] from(long[] lngArr) {
-    boolean[] tmp = new boolean[lngArr.length];
-    for (int i = 0; i < lngArr.length; i++) {
-      tmp[i] = Bools.from(lngArr[i]);
+    return from(lngArr, 0, new boolean[lngArr.length], 0, lngArr.length);
+  }
+
+  /**
+   * Converts a range of a long array to boolean values using {@link Bools#from(long)},
+   * writing them into an existing boolean array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bools#from(long)
+   */
+  public static boolean[] from(long[] lngArr, int srcPos, boolean[] dest, int destPos, int length) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bools.from(lngArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a long array to boolean values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing boolean array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(long[], int, boolean[], int, int)
+   */
+  public static boolean[] parallelFrom(long[] lngArr, int srcPos, boolean[] dest, int destPos, int length) {
+    return parallelFrom(lngArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a long array to boolean values in parallel, writing them into an existing boolean
+   * array. Every chunk is converted the same way as by {@link #from(long[], int, boolean[], int, int)}.
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static boolean[] parallelFrom(long[] lngArr, int srcPos, boolean[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(lngArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(lngArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -35,11 +113,88 @@ public final class BoolArrays {
    * @see Bools#from(char)
    */
   public static boolean[] from(char[] cArr) {
-    boolean[] tmp = new boolean[cArr.length];
-    for (int i = 0; i < cArr.length; i++) {
-      tmp[i] = Bools.from(cArr[i]);
+    return from(cArr, 0, new boolean[cArr.length], 0, cArr.length);
+  }
+
+  /**
+   * Converts a range of a char array to boolean values using {@link Bools#from(char)},
+   * writing them into an existing boolean array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bools#from(char)
+   */
+  public static boolean[] from(char[] cArr, int srcPos, boolean[] dest, int destPos, int length) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bools.from(cArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a char array to boolean values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing boolean array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(char[], int, boolean[], int, int)
+   */
+  public static boolean[] parallelFrom(char[] cArr, int srcPos, boolean[] dest, int destPos, int length) {
+    return parallelFrom(cArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a char array to boolean values in parallel, writing them into an existing boolean
+   * array. Every chunk is converted the same way as by {@link #from(char[], int, boolean[], int, int)}.
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static boolean[] parallelFrom(char[] cArr, int srcPos, boolean[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(cArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(cArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -51,11 +206,88 @@ public final class BoolArrays {
    * @see Bools#from(short)
    */
   public static boolean[] from(short[] shrtArr) {
-    boolean[] tmp = new boolean[shrtArr.length];
-    for (int i = 0; i < shrtArr.length; i++) {
-      tmp[i] = Bools.from(shrtArr[i]);
+    return from(shrtArr, 0, new boolean[shrtArr.length], 0, shrtArr.length);
+  }
+
+  /**
+   * Converts a range of a short array to boolean values using {@link Bools#from(short)},
+   * writing them into an existing boolean array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bools#from(short)
+   */
+  public static boolean[] from(short[] shrtArr, int srcPos, boolean[] dest, int destPos, int length) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bools.from(shrtArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a short array to boolean values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing boolean array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(short[], int, boolean[], int, int)
+   */
+  public static boolean[] parallelFrom(short[] shrtArr, int srcPos, boolean[] dest, int destPos, int length) {
+    return parallelFrom(shrtArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a short array to boolean values in parallel, writing them into an existing boolean
+   * array. Every chunk is converted the same way as by {@link #from(short[], int, boolean[], int, int)}.
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static boolean[] parallelFrom(short[] shrtArr, int srcPos, boolean[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(shrtArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(shrtArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -67,11 +299,88 @@ public final class BoolArrays {
    * @see Bools#from(int)
    */
   public static boolean[] from(int[] iArr) {
-    boolean[] tmp = new boolean[iArr.length];
-    for (int i = 0; i < iArr.length; i++) {
-      tmp[i] = Bools.from(iArr[i]);
+    return from(iArr, 0, new boolean[iArr.length], 0, iArr.length);
+  }
+
+  /**
+   * Converts a range of a int array to boolean values using {@link Bools#from(int)},
+   * writing them into an existing boolean array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bools#from(int)
+   */
+  public static boolean[] from(int[] iArr, int srcPos, boolean[] dest, int destPos, int length) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bools.from(iArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a int array to boolean values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing boolean array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(int[], int, boolean[], int, int)
+   */
+  public static boolean[] parallelFrom(int[] iArr, int srcPos, boolean[] dest, int destPos, int length) {
+    return parallelFrom(iArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a int array to boolean values in parallel, writing them into an existing boolean
+   * array. Every chunk is converted the same way as by {@link #from(int[], int, boolean[], int, int)}.
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static boolean[] parallelFrom(int[] iArr, int srcPos, boolean[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(iArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(iArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -83,11 +392,88 @@ public final class BoolArrays {
    * @see Bools#from(double)
    */
   public static boolean[] from(double[] dblArr) {
-    boolean[] tmp = new boolean[dblArr.length];
-    for (int i = 0; i < dblArr.length; i++) {
-      tmp[i] = Bools.from(dblArr[i]);
+    return from(dblArr, 0, new boolean[dblArr.length], 0, dblArr.length);
+  }
+
+  /**
+   * Converts a range of a double array to boolean values using {@link Bools#from(double)},
+   * writing them into an existing boolean array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bools#from(double)
+   */
+  public static boolean[] from(double[] dblArr, int srcPos, boolean[] dest, int destPos, int length) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bools.from(dblArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a double array to boolean values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing boolean array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(double[], int, boolean[], int, int)
+   */
+  public static boolean[] parallelFrom(double[] dblArr, int srcPos, boolean[] dest, int destPos, int length) {
+    return parallelFrom(dblArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a double array to boolean values in parallel, writing them into an existing boolean
+   * array. Every chunk is converted the same way as by {@link #from(double[], int, boolean[], int, int)}.
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static boolean[] parallelFrom(double[] dblArr, int srcPos, boolean[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(dblArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(dblArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -99,11 +485,88 @@ public final class BoolArrays {
    * @see Bools#from(float)
    */
   public static boolean[] from(float[] fltArr) {
-    boolean[] tmp = new boolean[fltArr.length];
-    for (int i = 0; i < fltArr.length; i++) {
-      tmp[i] = Bools.from(fltArr[i]);
+    return from(fltArr, 0, new boolean[fltArr.length], 0, fltArr.length);
+  }
+
+  /**
+   * Converts a range of a float array to boolean values using {@link Bools#from(float)},
+   * writing them into an existing boolean array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bools#from(float)
+   */
+  public static boolean[] from(float[] fltArr, int srcPos, boolean[] dest, int destPos, int length) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bools.from(fltArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a float array to boolean values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing boolean array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(float[], int, boolean[], int, int)
+   */
+  public static boolean[] parallelFrom(float[] fltArr, int srcPos, boolean[] dest, int destPos, int length) {
+    return parallelFrom(fltArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a float array to boolean values in parallel, writing them into an existing boolean
+   * array. Every chunk is converted the same way as by {@link #from(float[], int, boolean[], int, int)}.
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static boolean[] parallelFrom(float[] fltArr, int srcPos, boolean[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(fltArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(fltArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -115,11 +578,88 @@ public final class BoolArrays {
    * @see Bools#from(byte)
    */
   public static boolean[] from(byte[] bArr) {
-    boolean[] tmp = new boolean[bArr.length];
-    for (int i = 0; i < bArr.length; i++) {
-      tmp[i] = Bools.from(bArr[i]);
+    return from(bArr, 0, new boolean[bArr.length], 0, bArr.length);
+  }
+
+  /**
+   * Converts a range of a byte array to boolean values using {@link Bools#from(byte)},
+   * writing them into an existing boolean array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bools#from(byte)
+   */
+  public static boolean[] from(byte[] bArr, int srcPos, boolean[] dest, int destPos, int length) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bools.from(bArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a byte array to boolean values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing boolean array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(byte[], int, boolean[], int, int)
+   */
+  public static boolean[] parallelFrom(byte[] bArr, int srcPos, boolean[] dest, int destPos, int length) {
+    return parallelFrom(bArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a byte array to boolean values in parallel, writing them into an existing boolean
+   * array. Every chunk is converted the same way as by {@link #from(byte[], int, boolean[], int, int)}.
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the boolean array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static boolean[] parallelFrom(byte[] bArr, int srcPos, boolean[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(bArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(bArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -151,9 +691,32 @@ public final class BoolArrays {
    * @see String#join(CharSequence, CharSequence...)
    */
   public static String join(CharSequence delimiter, boolean... elements) {
-    String[] tmp = new String[elements.length];
-    for (int i = 0; i < tmp.length; i++) {
-      tmp[i] = elements[i] ? "true" : "false";
+    return join(delimiter, elements, 0, elements.length);
+  }
+
+  /**
+   * Joins a range of an array the same way {@link #join(CharSequence, boolean...)} joins a whole array
+   * 
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @param elements
+   *          the elements to join together.
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new {@code String} that is composed of the elements in the range separated by the
+   *         {@code delimiter}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > elements.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static String join(CharSequence delimiter, boolean[] elements, int fromIndex, int toIndex) {
+    Ranges.check(elements.length, fromIndex, toIndex);
+    String[] tmp = new String[toIndex - fromIndex];
+    for (int i = fromIndex; i < toIndex; i++) {
+      tmp[i - fromIndex] = elements[i] ? "true" : "false";
     }
     return String.join(delimiter, tmp);
   }
@@ -164,13 +727,18 @@ public final class BoolArrays {
    * @param arrays
    *          the {@code boolean} arrays to concatenate
    * @return an {@code boolean} array cotaining the values of all {@code arrays}
+   * @throws InvalidArrayException
+   *           if the arrays contain more than {@code Integer.MAX_VALUE} elements in total
    */
   public static boolean[] concatAll(boolean[]... arrays) {
-    int totalLength = 0;
+    long totalLength = 0;
     for (boolean[] array : arrays) {
       totalLength += array.length;
     }
-    boolean[] result = new boolean[totalLength];
+    if (totalLength > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    boolean[] result = new boolean[(int) totalLength];
     int offset = 0;
     for (boolean[] array : arrays) {
       System.arraycopy(array, 0, result, offset, array.length);
@@ -189,14 +757,91 @@ public final class BoolArrays {
    * @return whether or not {@code array} contains {@code value}
    */
   public static boolean contains(boolean[] array, boolean value) {
-    for (boolean item : array) {
-      if (item == value) {
+    return contains(array, 0, array.length, value);
+  }
+
+  /**
+   * Returns true if a range of an array contains the specified value
+   * 
+   * @param array
+   *          the array to search for {@code value}
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to check for
+   * @return whether or not the range contains {@code value}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static boolean contains(boolean[] array, int fromIndex, int toIndex, boolean value) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (array[i] == value) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Checks if an array contains a specific value, searching it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(boolean[] array, boolean value) {
+    return parallelContains(array, 0, array.length, value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Checks if an array contains a specific value, searching it in parallel
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(boolean[] array, boolean value, ParallelConfig config) {
+    return parallelContains(array, 0, array.length, value, config);
+  }
+
+  /**
+   * Checks if a range of an array contains a specific value, searching it in parallel. Chunks which
+   * haven't been searched yet are skipped as soon as the value was found.
+   * 
+   * @param array
+   *          the array to search in
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not the range contains {@code value}
+   * @see #contains(boolean[], int, int, boolean)
+   */
+  public static boolean parallelContains(boolean[] array, int fromIndex, int toIndex, boolean value,
+      ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return contains(array, fromIndex, toIndex, value);
+    }
+    return Parallel.anyChunk(config, fromIndex, toIndex, (from, to) -> contains(array, from, to, value));
+  }
+
   /**
    * Returns a new array containing only the unique values of the original array
    * 
@@ -205,11 +850,31 @@ public final class BoolArrays {
    * @return only the distinct values in {@code array}
    */
   public static boolean[] distinct(boolean[] array) {
-    if (array.length == 0) {
+    return distinct(array, 0, array.length);
+  }
+
+  /**
+   * Returns a new array containing only the unique values in a range of an array
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return only the distinct values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static boolean[] distinct(boolean[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       return new boolean[0];
     }
-    boolean first = array[0];
-    if (contains(array, !first)) {
+    boolean first = array[fromIndex];
+    if (contains(array, fromIndex, toIndex, !first)) {
       return new boolean[] { first, !first };
     }
     return new boolean[] { first };
@@ -245,10 +910,39 @@ public final class BoolArrays {
     int seqLen = sequence.length;
     int maxIdx = array.length - seqLen;
     for (int i = Math.min(fromIndex, maxIdx); i <= maxIdx; i++) {
-      for (int j = 0; array[i + j] == sequence[j]; j++) {
-        if (j == seqLen - 1) {
-          return i;
-        }
+      if (array[i] == sequence[0] && ArrayKernels.regionMatches(array, i, sequence)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values inside a range of an array. Only occurrences
+   * that lie completely within the range are found.
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside {@code array} or {@code -1} if the
+   *         sequence isn't found
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int findSequence(boolean[] array, int fromIndex, int toIndex, boolean[] sequence) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int seqLen = sequence.length;
+    int maxIdx = toIndex - seqLen;
+    for (int i = fromIndex; i <= maxIdx; i++) {
+      if (array[i] == sequence[0] && ArrayKernels.regionMatches(array, i, sequence)) {
+        return i;
       }
     }
     return -1;
@@ -293,6 +987,35 @@ public final class BoolArrays {
     return count;
   }
 
+  /**
+   * Counts the number of times {@code sequence} can be found inside a range of {@code array}
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #findSequence(boolean[], int, int, boolean[])
+   */
+  public static int countSequence(boolean[] array, int fromIndex, int toIndex, boolean[] sequence) {
+    int count = 0;
+    int idx = fromIndex;
+    int len = sequence.length;
+    while ((idx = findSequence(array, idx, toIndex, sequence)) != -1) {
+      count++;
+      idx += len;
+    }
+    return count;
+  }
+
   /**
    * Insert an array into another one starting at the specified {@code index}
    * 
@@ -308,9 +1031,8 @@ public final class BoolArrays {
     int lenArr = array.length;
     int lenIns = insert.length;
     int idx = Math.max(0, Math.min(lenArr, index));
-    int offset = Math.min(idx + 1, lenArr);
     boolean[] arr = new boolean[lenArr + lenIns];
-    System.arraycopy(array, 0, arr, 0, offset);
+    System.arraycopy(array, 0, arr, 0, idx);
     System.arraycopy(insert, 0, arr, idx, lenIns);
     System.arraycopy(array, idx, arr, idx + lenIns, lenArr - idx);
     return arr;
@@ -329,4 +1051,261 @@ public final class BoolArrays {
   public static boolean[] append(boolean[] array, boolean... values) {
     return insert(array, values, array.length);
   }
+
+  /**
+   * Computes the element-wise logical AND of two boolean arrays
+   * 
+   * @param array1
+   *          the first operand
+   * @param array2
+   *          the second operand
+   * @return a new array containing {@code array1[i] & array2[i]} for every index
+   * @throws InvalidArrayException
+   *           if the arrays are not of the same length
+   */
+  public static boolean[] and(boolean[] array1, boolean[] array2) {
+    return and(array1, array2, new boolean[array1.length]);
+  }
+
+  /**
+   * Computes the element-wise logical AND of two boolean arrays into {@code dest}. {@code dest}
+   * may be one of the operands.
+   * 
+   * @param array1
+   *          the first operand
+   * @param array2
+   *          the second operand
+   * @param dest
+   *          the array to store the result in
+   * @return {@code dest}
+   * @throws InvalidArrayException
+   *           if the arrays are not of the same length
+   */
+  public static boolean[] and(boolean[] array1, boolean[] array2, boolean[] dest) {
+    int len = checkSameLength(array1, array2, dest);
+    // Non short-circuiting operators keep the loop branch free, so the JIT compiles it to vector
+    // instructions that combine more than the eight values per step BoolWords would
+    for (int i = 0; i < len; i++) {
+      dest[i] = array1[i] & array2[i];
+    }
+    return dest;
+  }
+
+  /**
+   * Computes the element-wise logical OR of two boolean arrays
+   * 
+   * @param array1
+   *          the first operand
+   * @param array2
+   *          the second operand
+   * @return a new array containing {@code array1[i] | array2[i]} for every index
+   * @throws InvalidArrayException
+   *           if the arrays are not of the same length
+   */
+  public static boolean[] or(boolean[] array1, boolean[] array2) {
+    return or(array1, array2, new boolean[array1.length]);
+  }
+
+  /**
+   * Computes the element-wise logical OR of two boolean arrays into {@code dest}. {@code dest}
+   * may be one of the operands.
+   * 
+   * @param array1
+   *          the first operand
+   * @param array2
+   *          the second operand
+   * @param dest
+   *          the array to store the result in
+   * @return {@code dest}
+   * @throws InvalidArrayException
+   *           if the arrays are not of the same length
+   */
+  public static boolean[] or(boolean[] array1, boolean[] array2, boolean[] dest) {
+    int len = checkSameLength(array1, array2, dest);
+    for (int i = 0; i < len; i++) {
+      dest[i] = array1[i] | array2[i];
+    }
+    return dest;
+  }
+
+  /**
+   * Computes the element-wise logical XOR of two boolean arrays
+   * 
+   * @param array1
+   *          the first operand
+   * @param array2
+   *          the second operand
+   * @return a new array containing {@code array1[i] ^ array2[i]} for every index
+   * @throws InvalidArrayException
+   *           if the arrays are not of the same length
+   */
+  public static boolean[] xor(boolean[] array1, boolean[] array2) {
+    return xor(array1, array2, new boolean[array1.length]);
+  }
+
+  /**
+   * Computes the element-wise logical XOR of two boolean arrays into {@code dest}. {@code dest}
+   * may be one of the operands.
+   * 
+   * @param array1
+   *          the first operand
+   * @param array2
+   *          the second operand
+   * @param dest
+   *          the array to store the result in
+   * @return {@code dest}
+   * @throws InvalidArrayException
+   *           if the arrays are not of the same length
+   */
+  public static boolean[] xor(boolean[] array1, boolean[] array2, boolean[] dest) {
+    int len = checkSameLength(array1, array2, dest);
+    for (int i = 0; i < len; i++) {
+      dest[i] = array1[i] ^ array2[i];
+    }
+    return dest;
+  }
+
+  /**
+   * Negates every element of a boolean array
+   * 
+   * @param array
+   *          the array to negate
+   * @return a new array containing {@code !array[i]} for every index
+   */
+  public static boolean[] not(boolean[] array) {
+    return not(array, new boolean[array.length]);
+  }
+
+  /**
+   * Negates every element of a boolean array into {@code dest}. {@code dest} may be {@code array}
+   * itself.
+   * 
+   * @param array
+   *          the array to negate
+   * @param dest
+   *          the array to store the result in
+   * @return {@code dest}
+   * @throws InvalidArrayException
+   *           if the arrays are not of the same length
+   */
+  public static boolean[] not(boolean[] array, boolean[] dest) {
+    int len = checkSameLength(array, array, dest);
+    for (int i = 0; i < len; i++) {
+      dest[i] = !array[i];
+    }
+    return dest;
+  }
+
+  /**
+   * Counts the number of {@code true} values in an array
+   * 
+   * @param array
+   *          the array to count the values of
+   * @return the number of elements in {@code array} that are {@code true}
+   */
+  public static int countTrue(boolean[] array) {
+    return countTrue(array, 0, array.length);
+  }
+
+  /**
+   * Counts the number of {@code true} values in a range of an array
+   * 
+   * @param array
+   *          the array to count the values of
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the number of elements in the range that are {@code true}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int countTrue(boolean[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    return BoolWords.countTrue(array, fromIndex, toIndex);
+  }
+
+  /**
+   * Finds the index of the first {@code true} value in an array
+   * 
+   * @param array
+   *          the array to search
+   * @return the index of the first {@code true} value or {@code -1} if there is none
+   */
+  public static int firstTrue(boolean[] array) {
+    return nextTrue(array, 0);
+  }
+
+  /**
+   * Finds the index of the first {@code true} value in an array, starting from {@code fromIndex}
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index from where to start searching
+   * @return the index of the first {@code true} value at or after {@code fromIndex} or {@code -1}
+   *         if there is none
+   */
+  public static int nextTrue(boolean[] array, int fromIndex) {
+    return BoolWords.nextTrue(array, Math.max(0, fromIndex));
+  }
+
+  /**
+   * Packs a boolean array into a bit set, element {@code i} being stored as bit {@code i % 64} of
+   * word {@code i / 64}
+   * 
+   * @param array
+   *          the array to pack
+   * @return the packed bits of {@code array}
+   * @see #fromBits(long[], int)
+   */
+  public static long[] toBits(boolean[] array) {
+    int len = array.length;
+    long[] bits = new long[(len + Long.SIZE - 1) / Long.SIZE];
+    int fullWords = len / Long.SIZE;
+    for (int w = 0; w < fullWords; w++) {
+      int base = w * Long.SIZE;
+      long word = 0;
+      for (int b = 0; b < Long.SIZE; b++) {
+        word |= (long) Ints.from(array[base + b]) << b;
+      }
+      bits[w] = word;
+    }
+    for (int i = fullWords * Long.SIZE; i < len; i++) {
+      bits[fullWords] |= (long) Ints.from(array[i]) << i;
+    }
+    return bits;
+  }
+
+  /**
+   * Unpacks a bit set created by {@link #toBits(boolean[])} into a boolean array
+   * 
+   * @param bits
+   *          the packed bits
+   * @param length
+   *          the number of elements to unpack
+   * @return a boolean array of size {@code length}
+   * @throws InvalidArrayException
+   *           if {@code bits} holds less than {@code length} bits
+   */
+  public static boolean[] fromBits(long[] bits, int length) {
+    if (length > (long) bits.length * Long.SIZE) {
+      throw new InvalidArrayException("Not enough bits to unpack " + length + " values");
+    }
+    boolean[] tmp = new boolean[length];
+    for (int i = 0; i < length; i++) {
+      tmp[i] = (bits[i >>> 6] & 1L << i) != 0;
+    }
+    return tmp;
+  }
+
+  private static int checkSameLength(boolean[] array1, boolean[] array2, boolean[] dest) {
+    int len = array1.length;
+    if (array2.length != len || dest.length != len) {
+      throw new InvalidArrayException("Arrays must be of the same length");
+    }
+    return len;
+  }
 }
@@ -0,0 +1,181 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * A view of a range of a {@code boolean} array. Creating a slice doesn't copy any values, the operations
+ * of the slice run directly on the range of the underlying array and changes to the array are
+ * visible through the slice.
+ */
+public final class BoolSlice {
+  private final boolean[] array;
+  private final int offset;
+  private final int length;
+
+  private BoolSlice(boolean[] array, int offset, int length) {
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates a slice covering a whole array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @return a new slice of {@code array}
+   */
+  public static BoolSlice of(boolean... array) {
+    return new BoolSlice(array, 0, array.length);
+  }
+
+  /**
+   * Creates a slice covering a range of an array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new slice of {@code array}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static BoolSlice of(boolean[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    return new BoolSlice(array, fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return the array this slice is a view of
+   */
+  public boolean[] array() {
+    return array;
+  }
+
+  /**
+   * @return the index of the first element of this slice inside {@link #array()}
+   */
+  public int offset() {
+    return offset;
+  }
+
+  /**
+   * @return the number of elements in this slice
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the element at the specified index of this slice
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @return the element at {@code index}
+   */
+  public boolean get(int index) {
+    return array[offset + checkIndex(index)];
+  }
+
+  /**
+   * Replaces the element at the specified index of this slice, which modifies the underlying array
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @param value
+   *          the new value of the element
+   */
+  public void set(int index, boolean value) {
+    array[offset + checkIndex(index)] = value;
+  }
+
+  /**
+   * Creates a slice covering a range of this slice
+   * 
+   * @param fromIndex
+   *          the index of the first element relative to the start of this slice, inclusive
+   * @param toIndex
+   *          the index of the last element relative to the start of this slice, exclusive
+   * @return a new slice of the same array
+   */
+  public BoolSlice subSlice(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return new BoolSlice(array, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return a new array containing a copy of the elements of this slice
+   */
+  public boolean[] toArray() {
+    return Arrays.copyOfRange(array, offset, offset + length);
+  }
+
+  /**
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @return the elements of this slice separated by {@code delimiter}
+   * @see BoolArrays#join(CharSequence, boolean[], int, int)
+   */
+  public String join(CharSequence delimiter) {
+    return BoolArrays.join(delimiter, array, offset, offset + length);
+  }
+
+  /**
+   * @param value
+   *          the value to check for
+   * @return whether or not this slice contains {@code value}
+   * @see BoolArrays#contains(boolean[], int, int, boolean)
+   */
+  public boolean contains(boolean value) {
+    return BoolArrays.contains(array, offset, offset + length, value);
+  }
+
+  /**
+   * @return the number of {@code true} values in this slice
+   * @see BoolArrays#countTrue(boolean[], int, int)
+   */
+  public int countTrue() {
+    return BoolArrays.countTrue(array, offset, offset + length);
+  }
+
+  /**
+   * @return a new array containing only the distinct values of this slice
+   * @see BoolArrays#distinct(boolean[], int, int)
+   */
+  public boolean[] distinct() {
+    return BoolArrays.distinct(array, offset, offset + length);
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the index relative to the start of this slice of the first occurrence of
+   *         {@code sequence} or {@code -1} if the sequence isn't found
+   * @see BoolArrays#findSequence(boolean[], int, int, boolean[])
+   */
+  public int findSequence(boolean... sequence) {
+    int idx = BoolArrays.findSequence(array, offset, offset + length, sequence);
+    return idx == -1 ? -1 : idx - offset;
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside this slice
+   * @see BoolArrays#countSequence(boolean[], int, int, boolean[])
+   */
+  public int countSequence(boolean... sequence) {
+    return BoolArrays.countSequence(array, offset, offset + length, sequence);
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return index;
+  }
+}
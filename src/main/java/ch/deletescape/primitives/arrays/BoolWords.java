@@ -0,0 +1,122 @@
+package ch.deletescape.primitives.arrays;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+
+/**
+ * Reads boolean arrays eight elements at a time. Every {@code boolean} is stored as a byte holding
+ * {@code 0} or {@code 1}, so one aligned {@code long} read covers eight elements and its bit count
+ * is the number of {@code true} values among them. There is no public API to read a
+ * {@code boolean[]} as {@code long}s, so {@code sun.misc.Unsafe} is looked up reflectively and
+ * every method falls back to a loop over single elements if that fails.
+ */
+final class BoolWords {
+  private static final MethodHandle GET_LONG;
+  private static final long BASE_OFFSET;
+  private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+  static {
+    MethodHandle getLong = null;
+    long baseOffset = 0;
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      Object unsafe = field.get(null);
+      Object offset = unsafeClass.getMethod("arrayBaseOffset", Class.class).invoke(unsafe, boolean[].class);
+      Object scale = unsafeClass.getMethod("arrayIndexScale", Class.class).invoke(unsafe, boolean[].class);
+      if (((Integer) scale).intValue() == 1) {
+        getLong = MethodHandles.lookup()
+            .unreflect(unsafeClass.getMethod("getLong", Object.class, long.class))
+            .bindTo(unsafe);
+        baseOffset = ((Integer) offset).intValue();
+      }
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // A restricted runtime, the single element loops are used
+    }
+    GET_LONG = getLong;
+    BASE_OFFSET = baseOffset;
+  }
+
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private BoolWords() {}
+
+  /**
+   * Counts the {@code true} values in a range of an array. The caller has to check the range.
+   *
+   * @param array
+   *          the array to count the values of
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the number of elements in the range that are {@code true}
+   */
+  static int countTrue(boolean[] array, int fromIndex, int toIndex) {
+    int count = 0;
+    int i = fromIndex;
+    if (GET_LONG != null) {
+      for (; i < toIndex && !isAligned(i); i++) {
+        count += array[i] ? 1 : 0;
+      }
+      for (; i <= toIndex - Long.BYTES; i += Long.BYTES) {
+        count += Long.bitCount(word(array, i));
+      }
+    }
+    for (; i < toIndex; i++) {
+      count += array[i] ? 1 : 0;
+    }
+    return count;
+  }
+
+  /**
+   * Finds the index of the first {@code true} value in an array at or after {@code fromIndex}. The
+   * caller has to make sure {@code fromIndex} is not negative.
+   *
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index from where to start searching
+   * @return the index of the first {@code true} value or {@code -1} if there is none
+   */
+  static int nextTrue(boolean[] array, int fromIndex) {
+    int len = array.length;
+    int i = fromIndex;
+    if (GET_LONG != null) {
+      for (; i < len && !isAligned(i); i++) {
+        if (array[i]) {
+          return i;
+        }
+      }
+      for (; i <= len - Long.BYTES; i += Long.BYTES) {
+        long word = word(array, i);
+        if (word != 0) {
+          int zeros = LITTLE_ENDIAN ? Long.numberOfTrailingZeros(word) : Long.numberOfLeadingZeros(word);
+          return i + zeros / Byte.SIZE;
+        }
+      }
+    }
+    for (; i < len; i++) {
+      if (array[i]) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isAligned(int index) {
+    return ((BASE_OFFSET + index) & (Long.BYTES - 1)) == 0;
+  }
+
+  private static long word(boolean[] array, int index) {
+    try {
+      return (long) GET_LONG.invokeExact((Object) array, BASE_OFFSET + index);
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
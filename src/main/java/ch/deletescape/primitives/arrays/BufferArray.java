@@ -0,0 +1,162 @@
+package ch.deletescape.primitives.arrays;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Common base of the arrays stored outside of the Java heap. The elements are split into chunks of
+ * at most {@code 1 << CHUNK_SHIFT} bytes, each backed by its own {@link ByteBuffer}, so the arrays can be
+ * indexed with {@code long} values.
+ */
+abstract class BufferArray implements AutoCloseable {
+  static final int CHUNK_SHIFT = 30;
+  static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+  final long length;
+  final int chunkShift;
+  final long chunkMask;
+  private ByteBuffer[] buffers;
+
+  BufferArray(ByteBuffer[] buffers, long length, int elementShift, int byteChunkShift) {
+    this.buffers = buffers;
+    this.length = length;
+    this.chunkShift = byteChunkShift - elementShift;
+    this.chunkMask = (1L << chunkShift) - 1;
+  }
+
+  /**
+   * @return the number of elements in this array
+   */
+  public final long length() {
+    return length;
+  }
+
+  /**
+   * Releases the memory backing this array. Afterwards every operation on this array throws an
+   * {@link IllegalStateException}. This method must not be called while other threads are still
+   * accessing the array.
+   */
+  @Override
+  public final void close() {
+    ByteBuffer[] tmp = buffers;
+    if (tmp == null) {
+      return;
+    }
+    buffers = null;
+    releaseViews();
+    release(tmp);
+  }
+
+  /**
+   * @return whether or not {@link #close()} has been called
+   */
+  public final boolean isClosed() {
+    return buffers == null;
+  }
+
+  final ByteBuffer[] buffers() {
+    ByteBuffer[] tmp = buffers;
+    if (tmp == null) {
+      throw new IllegalStateException("Array has already been closed");
+    }
+    return tmp;
+  }
+
+  final void checkIndex(long index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+    }
+  }
+
+  final void checkRange(long index, int count) {
+    if (index < 0 || count < 0 || index > length - count) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + index + ", " + index + " + " + count + ") out of bounds for length " + length);
+    }
+  }
+
+  final int toArrayLength() {
+    if (length > MAX_ARRAY_LENGTH) {
+      throw new InvalidArrayException("Array is too large to be copied to the heap");
+    }
+    return (int) length;
+  }
+
+  /**
+   * Drops the typed views of the buffers, called before the buffers are released
+   */
+  abstract void releaseViews();
+
+  /**
+   * Releases the given buffers, which are no longer referenced by this array
+   */
+  void release(ByteBuffer[] released) {
+    for (ByteBuffer buffer : released) {
+      Cleaner.clean(buffer);
+    }
+  }
+
+  static ByteBuffer[] allocateDirect(long length, int elementShift, int byteChunkShift) {
+    if (length < 0) {
+      throw new InvalidArrayException("Array length must not be negative");
+    }
+    long bytes = length << elementShift;
+    long chunkBytes = 1L << byteChunkShift;
+    int count = (int) ((bytes + chunkBytes - 1) >>> byteChunkShift);
+    ByteBuffer[] buffers = new ByteBuffer[count];
+    for (int i = 0; i < count; i++) {
+      int size = (int) Math.min(chunkBytes, bytes - ((long) i << byteChunkShift));
+      buffers[i] = ByteBuffer.allocateDirect(size);
+    }
+    return buffers;
+  }
+
+  /**
+   * Frees direct buffers right away instead of waiting for them to be garbage collected. There is
+   * no public API for this before Java 9, so the cleaner is looked up reflectively and the garbage
+   * collector is left to do the work if that fails.
+   */
+  static final class Cleaner {
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+      Object unsafe = null;
+      Method invokeCleaner = null;
+      try {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        Field field = unsafeClass.getDeclaredField("theUnsafe");
+        field.setAccessible(true);
+        unsafe = field.get(null);
+        invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        // Java 8 or a restricted runtime, see #clean(ByteBuffer)
+      }
+      UNSAFE = unsafe;
+      INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private Cleaner() {}
+
+    static void clean(ByteBuffer buffer) {
+      if (!buffer.isDirect()) {
+        return;
+      }
+      try {
+        if (INVOKE_CLEANER != null) {
+          INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } else {
+          Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+          cleanerMethod.setAccessible(true);
+          Object cleaner = cleanerMethod.invoke(buffer);
+          if (cleaner != null) {
+            cleaner.getClass().getMethod("clean").invoke(cleaner);
+          }
+        }
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        // The memory is freed once the buffer is garbage collected
+      }
+    }
+  }
+}
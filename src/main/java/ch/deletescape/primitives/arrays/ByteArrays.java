@@ -1,5 +1,8 @@
 package ch.deletescape.primitives.arrays;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Random;
 
 import ch.deletescape.primitives.Bytes;
@@ -20,11 +23,88 @@ public final class ByteArrays {
    * @see Bytes#from(long)
    */
   public static byte[] from(long[] lngArr) {
-    byte[] tmp = new byte[lngArr.length];
-    for (int i = 0; i < lngArr.length; i++) {
-      tmp[i] = Bytes.from(lngArr[i]);
+    return from(lngArr, 0, new byte[lngArr.length], 0, lngArr.length);
+  }
+
+  /**
+   * Converts a range of a long array to byte values using {@link Bytes#from(long)},
+   * writing them into an existing byte array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bytes#from(long)
+   */
+  public static byte[] from(long[] lngArr, int srcPos, byte[] dest, int destPos, int length) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bytes.from(lngArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a long array to byte values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing byte array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(long[], int, byte[], int, int)
+   */
+  public static byte[] parallelFrom(long[] lngArr, int srcPos, byte[] dest, int destPos, int length) {
+    return parallelFrom(lngArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a long array to byte values in parallel, writing them into an existing byte
+   * array. Every chunk is converted the same way as by {@link #from(long[], int, byte[], int, int)}.
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static byte[] parallelFrom(long[] lngArr, int srcPos, byte[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(lngArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(lngArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -36,11 +116,88 @@ public final class ByteArrays {
    * @see Bytes#from(char)
    */
   public static byte[] from(char[] cArr) {
-    byte[] tmp = new byte[cArr.length];
-    for (int i = 0; i < cArr.length; i++) {
-      tmp[i] = Bytes.from(cArr[i]);
+    return from(cArr, 0, new byte[cArr.length], 0, cArr.length);
+  }
+
+  /**
+   * Converts a range of a char array to byte values using {@link Bytes#from(char)},
+   * writing them into an existing byte array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bytes#from(char)
+   */
+  public static byte[] from(char[] cArr, int srcPos, byte[] dest, int destPos, int length) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bytes.from(cArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a char array to byte values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing byte array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(char[], int, byte[], int, int)
+   */
+  public static byte[] parallelFrom(char[] cArr, int srcPos, byte[] dest, int destPos, int length) {
+    return parallelFrom(cArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a char array to byte values in parallel, writing them into an existing byte
+   * array. Every chunk is converted the same way as by {@link #from(char[], int, byte[], int, int)}.
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static byte[] parallelFrom(char[] cArr, int srcPos, byte[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(cArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(cArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -52,11 +209,88 @@ public final class ByteArrays {
    * @see Bytes#from(short)
    */
   public static byte[] from(short[] shrtArr) {
-    byte[] tmp = new byte[shrtArr.length];
-    for (int i = 0; i < shrtArr.length; i++) {
-      tmp[i] = Bytes.from(shrtArr[i]);
+    return from(shrtArr, 0, new byte[shrtArr.length], 0, shrtArr.length);
+  }
+
+  /**
+   * Converts a range of a short array to byte values using {@link Bytes#from(short)},
+   * writing them into an existing byte array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bytes#from(short)
+   */
+  public static byte[] from(short[] shrtArr, int srcPos, byte[] dest, int destPos, int length) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bytes.from(shrtArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a short array to byte values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing byte array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(short[], int, byte[], int, int)
+   */
+  public static byte[] parallelFrom(short[] shrtArr, int srcPos, byte[] dest, int destPos, int length) {
+    return parallelFrom(shrtArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a short array to byte values in parallel, writing them into an existing byte
+   * array. Every chunk is converted the same way as by {@link #from(short[], int, byte[], int, int)}.
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static byte[] parallelFrom(short[] shrtArr, int srcPos, byte[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(shrtArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(shrtArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -68,11 +302,88 @@ public final class ByteArrays {
    * @see Bytes#from(int)
    */
   public static byte[] from(int[] iArr) {
-    byte[] tmp = new byte[iArr.length];
-    for (int i = 0; i < iArr.length; i++) {
-      tmp[i] = Bytes.from(iArr[i]);
+    return from(iArr, 0, new byte[iArr.length], 0, iArr.length);
+  }
+
+  /**
+   * Converts a range of a int array to byte values using {@link Bytes#from(int)},
+   * writing them into an existing byte array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bytes#from(int)
+   */
+  public static byte[] from(int[] iArr, int srcPos, byte[] dest, int destPos, int length) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bytes.from(iArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a int array to byte values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing byte array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(int[], int, byte[], int, int)
+   */
+  public static byte[] parallelFrom(int[] iArr, int srcPos, byte[] dest, int destPos, int length) {
+    return parallelFrom(iArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a int array to byte values in parallel, writing them into an existing byte
+   * array. Every chunk is converted the same way as by {@link #from(int[], int, byte[], int, int)}.
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static byte[] parallelFrom(int[] iArr, int srcPos, byte[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(iArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(iArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -84,11 +395,88 @@ public final class ByteArrays {
    * @see Bytes#from(double)
    */
   public static byte[] from(double[] dblArr) {
-    byte[] tmp = new byte[dblArr.length];
-    for (int i = 0; i < dblArr.length; i++) {
-      tmp[i] = Bytes.from(dblArr[i]);
+    return from(dblArr, 0, new byte[dblArr.length], 0, dblArr.length);
+  }
+
+  /**
+   * Converts a range of a double array to byte values using {@link Bytes#from(double)},
+   * writing them into an existing byte array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bytes#from(double)
+   */
+  public static byte[] from(double[] dblArr, int srcPos, byte[] dest, int destPos, int length) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bytes.from(dblArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a double array to byte values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing byte array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(double[], int, byte[], int, int)
+   */
+  public static byte[] parallelFrom(double[] dblArr, int srcPos, byte[] dest, int destPos, int length) {
+    return parallelFrom(dblArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a double array to byte values in parallel, writing them into an existing byte
+   * array. Every chunk is converted the same way as by {@link #from(double[], int, byte[], int, int)}.
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static byte[] parallelFrom(double[] dblArr, int srcPos, byte[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(dblArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(dblArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -100,11 +488,88 @@ public final class ByteArrays {
    * @see Bytes#from(float)
    */
   public static byte[] from(float[] fltArr) {
-    byte[] tmp = new byte[fltArr.length];
-    for (int i = 0; i < fltArr.length; i++) {
-      tmp[i] = Bytes.from(fltArr[i]);
+    return from(fltArr, 0, new byte[fltArr.length], 0, fltArr.length);
+  }
+
+  /**
+   * Converts a range of a float array to byte values using {@link Bytes#from(float)},
+   * writing them into an existing byte array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bytes#from(float)
+   */
+  public static byte[] from(float[] fltArr, int srcPos, byte[] dest, int destPos, int length) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bytes.from(fltArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a float array to byte values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing byte array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(float[], int, byte[], int, int)
+   */
+  public static byte[] parallelFrom(float[] fltArr, int srcPos, byte[] dest, int destPos, int length) {
+    return parallelFrom(fltArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a float array to byte values in parallel, writing them into an existing byte
+   * array. Every chunk is converted the same way as by {@link #from(float[], int, byte[], int, int)}.
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static byte[] parallelFrom(float[] fltArr, int srcPos, byte[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(fltArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(fltArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -116,11 +581,151 @@ public final class ByteArrays {
    * @see Bytes#from(boolean)
    */
   public static byte[] from(boolean[] boolArr) {
-    byte[] tmp = new byte[boolArr.length];
-    for (int i = 0; i < boolArr.length; i++) {
-      tmp[i] = Bytes.from(boolArr[i]);
+    return from(boolArr, 0, new byte[boolArr.length], 0, boolArr.length);
+  }
+
+  /**
+   * Converts a range of a boolean array to byte values using {@link Bytes#from(boolean)},
+   * writing them into an existing byte array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Bytes#from(boolean)
+   */
+  public static byte[] from(boolean[] boolArr, int srcPos, byte[] dest, int destPos, int length) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Bytes.from(boolArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a boolean array to byte values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing byte array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(boolean[], int, byte[], int, int)
+   */
+  public static byte[] parallelFrom(boolean[] boolArr, int srcPos, byte[] dest, int destPos, int length) {
+    return parallelFrom(boolArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a boolean array to byte values in parallel, writing them into an existing byte
+   * array. Every chunk is converted the same way as by {@link #from(boolean[], int, byte[], int, int)}.
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the byte array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static byte[] parallelFrom(boolean[] boolArr, int srcPos, byte[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(boolArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(boolArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
+  }
+
+  /**
+   * Splits int values into their bytes in the specified byte order, 4 bytes per value
+   * 
+   * @param values
+   *          the values to split
+   * @param order
+   *          the byte order of the resulting bytes
+   * @return a new byte array containing {@code values.length * 4} bytes
+   * @throws InvalidArrayException
+   *           if the resulting array would contain more than {@code Integer.MAX_VALUE} bytes
+   * @see IntArrays#fromBytes(byte[], ByteOrder)
+   */
+  public static byte[] toBytes(int[] values, ByteOrder order) {
+    if (values.length > Integer.MAX_VALUE / 4) {
+      throw new InvalidArrayException("Can't convert more than " + Integer.MAX_VALUE / 4 + " values to bytes");
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(values.length * 4).order(order);
+    buffer.asIntBuffer().put(values);
+    return buffer.array();
+  }
+
+  /**
+   * Splits long values into their bytes in the specified byte order, 8 bytes per value
+   * 
+   * @param values
+   *          the values to split
+   * @param order
+   *          the byte order of the resulting bytes
+   * @return a new byte array containing {@code values.length * 8} bytes
+   * @throws InvalidArrayException
+   *           if the resulting array would contain more than {@code Integer.MAX_VALUE} bytes
+   * @see LongArrays#fromBytes(byte[], ByteOrder)
+   */
+  public static byte[] toBytes(long[] values, ByteOrder order) {
+    if (values.length > Integer.MAX_VALUE / 8) {
+      throw new InvalidArrayException("Can't convert more than " + Integer.MAX_VALUE / 8 + " values to bytes");
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(values.length * 8).order(order);
+    buffer.asLongBuffer().put(values);
+    return buffer.array();
+  }
+
+  /**
+   * Splits double values into their bytes in the specified byte order, 8 bytes per value
+   * 
+   * @param values
+   *          the values to split
+   * @param order
+   *          the byte order of the resulting bytes
+   * @return a new byte array containing {@code values.length * 8} bytes
+   * @throws InvalidArrayException
+   *           if the resulting array would contain more than {@code Integer.MAX_VALUE} bytes
+   * @see DoubleArrays#fromBytes(byte[], ByteOrder)
+   */
+  public static byte[] toBytes(double[] values, ByteOrder order) {
+    if (values.length > Integer.MAX_VALUE / 8) {
+      throw new InvalidArrayException("Can't convert more than " + Integer.MAX_VALUE / 8 + " values to bytes");
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(values.length * 8).order(order);
+    buffer.asDoubleBuffer().put(values);
+    return buffer.array();
   }
 
   /**
@@ -153,9 +758,32 @@ public final class ByteArrays {
    * @see String#join(CharSequence, CharSequence...)
    */
   public static String join(CharSequence delimiter, byte... elements) {
-    String[] tmp = new String[elements.length];
-    for (int i = 0; i < tmp.length; i++) {
-      tmp[i] = Byte.toString(elements[i]);
+    return join(delimiter, elements, 0, elements.length);
+  }
+
+  /**
+   * Joins a range of an array the same way {@link #join(CharSequence, byte...)} joins a whole array
+   * 
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @param elements
+   *          the elements to join together.
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new {@code String} that is composed of the elements in the range separated by the
+   *         {@code delimiter}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > elements.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static String join(CharSequence delimiter, byte[] elements, int fromIndex, int toIndex) {
+    Ranges.check(elements.length, fromIndex, toIndex);
+    String[] tmp = new String[toIndex - fromIndex];
+    for (int i = fromIndex; i < toIndex; i++) {
+      tmp[i - fromIndex] = Byte.toString(elements[i]);
     }
     return String.join(delimiter, tmp);
   }
@@ -166,13 +794,18 @@ public final class ByteArrays {
    * @param arrays
    *          the {@code byte} arrays to concatenate
    * @return an {@code byte} array cotaining the values of all {@code arrays}
+   * @throws InvalidArrayException
+   *           if the arrays contain more than {@code Integer.MAX_VALUE} elements in total
    */
   public static byte[] concatAll(byte[]... arrays) {
-    int totalLength = 0;
+    long totalLength = 0;
     for (byte[] array : arrays) {
       totalLength += array.length;
     }
-    byte[] result = new byte[totalLength];
+    if (totalLength > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    byte[] result = new byte[(int) totalLength];
     int offset = 0;
     for (byte[] array : arrays) {
       System.arraycopy(array, 0, result, offset, array.length);
@@ -191,14 +824,98 @@ public final class ByteArrays {
    * @return whether or not {@code array} contains {@code value}
    */
   public static boolean contains(byte[] array, byte value) {
-    for (byte item : array) {
-      if (item == value) {
+    return contains(array, 0, array.length, value);
+  }
+
+  /**
+   * Returns true if a range of an array contains the specified value
+   * 
+   * @param array
+   *          the array to search for {@code value}
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to check for
+   * @return whether or not the range contains {@code value}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static boolean contains(byte[] array, int fromIndex, int toIndex, byte value) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int i = fromIndex;
+    // Compares blocks of eight values with non-short-circuit ors, so there is one branch per block
+    for (; i < toIndex - 7; i += 8) {
+      if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value
+          | array[i + 4] == value | array[i + 5] == value | array[i + 6] == value | array[i + 7] == value) {
+        return true;
+      }
+    }
+    for (; i < toIndex; i++) {
+      if (array[i] == value) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Checks if an array contains a specific value, searching it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(byte[] array, byte value) {
+    return parallelContains(array, 0, array.length, value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Checks if an array contains a specific value, searching it in parallel
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(byte[] array, byte value, ParallelConfig config) {
+    return parallelContains(array, 0, array.length, value, config);
+  }
+
+  /**
+   * Checks if a range of an array contains a specific value, searching it in parallel. Chunks which
+   * haven't been searched yet are skipped as soon as the value was found.
+   * 
+   * @param array
+   *          the array to search in
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not the range contains {@code value}
+   * @see #contains(byte[], int, int, byte)
+   */
+  public static boolean parallelContains(byte[] array, int fromIndex, int toIndex, byte value, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return contains(array, fromIndex, toIndex, value);
+    }
+    return Parallel.anyChunk(config, fromIndex, toIndex, (from, to) -> contains(array, from, to, value));
+  }
+
   /**
    * Returns a new array containing only the unique values of the original array
    * 
@@ -207,15 +924,35 @@ public final class ByteArrays {
    * @return only the distinct values in {@code array}
    */
   public static byte[] distinct(byte[] array) {
-    byte[] tmp = new byte[array.length];
-    int i = 0;
-    for (byte item : array) {
-      if (!contains(tmp, item)) {
-        tmp[i++] = item;
+    return distinct(array, 0, array.length);
+  }
+
+  /**
+   * Returns a new array containing only the unique values in a range of an array
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return only the distinct values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static byte[] distinct(byte[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    byte[] tmp = new byte[toIndex - fromIndex];
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (!contains(tmp, 0, count, array[i])) {
+        tmp[count++] = array[i];
       }
     }
-    byte[] distincts = new byte[i];
-    System.arraycopy(tmp, 0, distincts, 0, i);
+    byte[] distincts = new byte[count];
+    System.arraycopy(tmp, 0, distincts, 0, count);
     return distincts;
   }
 
@@ -249,10 +986,39 @@ public final class ByteArrays {
     int seqLen = sequence.length;
     int maxIdx = array.length - seqLen;
     for (int i = Math.min(fromIndex, maxIdx); i <= maxIdx; i++) {
-      for (int j = 0; array[i + j] == sequence[j]; j++) {
-        if (j == seqLen - 1) {
-          return i;
-        }
+      if (array[i] == sequence[0] && ArrayKernels.regionMatches(array, i, sequence)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values inside a range of an array. Only occurrences
+   * that lie completely within the range are found.
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside {@code array} or {@code -1} if the
+   *         sequence isn't found
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int findSequence(byte[] array, int fromIndex, int toIndex, byte[] sequence) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int seqLen = sequence.length;
+    int maxIdx = toIndex - seqLen;
+    for (int i = fromIndex; i <= maxIdx; i++) {
+      if (array[i] == sequence[0] && ArrayKernels.regionMatches(array, i, sequence)) {
+        return i;
       }
     }
     return -1;
@@ -297,6 +1063,35 @@ public final class ByteArrays {
     return count;
   }
 
+  /**
+   * Counts the number of times {@code sequence} can be found inside a range of {@code array}
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #findSequence(byte[], int, int, byte[])
+   */
+  public static int countSequence(byte[] array, int fromIndex, int toIndex, byte[] sequence) {
+    int count = 0;
+    int idx = fromIndex;
+    int len = sequence.length;
+    while ((idx = findSequence(array, idx, toIndex, sequence)) != -1) {
+      count++;
+      idx += len;
+    }
+    return count;
+  }
+
   /**
    * Insert an array into another one starting at the specified {@code index}
    * 
@@ -312,9 +1107,8 @@ public final class ByteArrays {
     int lenArr = array.length;
     int lenIns = insert.length;
     int idx = Math.max(0, Math.min(lenArr, index));
-    int offset = Math.min(idx + 1, lenArr);
     byte[] arr = new byte[lenArr + lenIns];
-    System.arraycopy(array, 0, arr, 0, offset);
+    System.arraycopy(array, 0, arr, 0, idx);
     System.arraycopy(insert, 0, arr, idx, lenIns);
     System.arraycopy(array, idx, arr, idx + lenIns, lenArr - idx);
     return arr;
@@ -342,16 +1136,45 @@ public final class ByteArrays {
    * @return the biggest value from {@code values}
    */
   public static byte max(byte... values) {
-    if (values.length == 0) {
+    return max(values, 0, values.length);
+  }
+
+  /**
+   * Returns the greatest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the biggest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static byte max(byte[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get max value from empty array");
     }
-    byte max = values[0];
-    for (byte i : values) {
-      if (i > max) {
-        max = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    int max0 = array[fromIndex];
+    int max1 = max0;
+    int max2 = max0;
+    int max3 = max0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      max0 = Math.max(max0, array[i]);
+      max1 = Math.max(max1, array[i + 1]);
+      max2 = Math.max(max2, array[i + 2]);
+      max3 = Math.max(max3, array[i + 3]);
+    }
+    for (; i < toIndex; i++) {
+      max0 = Math.max(max0, array[i]);
     }
-    return max;
+    return (byte) Math.max(Math.max(max0, max1), Math.max(max2, max3));
   }
 
   /**
@@ -362,16 +1185,45 @@ public final class ByteArrays {
    * @return the smallest value from {@code values}
    */
   public static byte min(byte... values) {
-    if (values.length == 0) {
+    return min(values, 0, values.length);
+  }
+
+  /**
+   * Returns the smallest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the smallest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static byte min(byte[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get min value from empty array");
     }
-    byte min = values[0];
-    for (byte i : values) {
-      if (i < min) {
-        min = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    int min0 = array[fromIndex];
+    int min1 = min0;
+    int min2 = min0;
+    int min3 = min0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      min0 = Math.min(min0, array[i]);
+      min1 = Math.min(min1, array[i + 1]);
+      min2 = Math.min(min2, array[i + 2]);
+      min3 = Math.min(min3, array[i + 3]);
+    }
+    for (; i < toIndex; i++) {
+      min0 = Math.min(min0, array[i]);
     }
-    return min;
+    return (byte) Math.min(Math.min(min0, min1), Math.min(min2, min3));
   }
 
   /**
@@ -382,11 +1234,31 @@ public final class ByteArrays {
    * @return the average value of {@code values}
    */
   public static double avg(byte... values) {
-    int len = values.length;
+    return avg(values, 0, values.length);
+  }
+
+  /**
+   * Returns the average of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the average value of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double avg(byte[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
     if (len == 0) {
       throw new InvalidArrayException("Can't get average value from empty array");
     }
-    return sum(values) / (double) len;
+    return sumLong(array, fromIndex, toIndex) / (double) len;
   }
 
   /**
@@ -397,10 +1269,486 @@ public final class ByteArrays {
    * @return the sum of {@code values}
    */
   public static byte sum(byte... values) {
-    byte total = 0;
-    for (byte i : values) {
-      total += i;
+    return sum(values, 0, values.length);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static byte sum(byte[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    // Independent accumulators break the dependency between additions
+    int total0 = 0;
+    int total1 = 0;
+    int total2 = 0;
+    int total3 = 0;
+    int i = fromIndex;
+    for (; i < toIndex - 3; i += 4) {
+      total0 += array[i];
+      total1 += array[i + 1];
+      total2 += array[i + 2];
+      total3 += array[i + 3];
+    }
+    for (; i < toIndex; i++) {
+      total0 += array[i];
+    }
+    return (byte) (total0 + total1 + total2 + total3);
+  }
+
+  /**
+   * Returns the sum of any number of values as a {@code long}. Unlike {@link #sum(byte...)} this
+   * can't overflow for any array length.
+   * 
+   * @param values
+   *          the values to sum up
+   * @return the sum of {@code values}
+   */
+  public static long sumLong(byte... values) {
+    return sumLong(values, 0, values.length);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array as a {@code long}. Unlike
+   * {@link #sum(byte[], int, int)} this can't overflow for any array length.
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static long sumLong(byte[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    // Independent accumulators break the dependency between additions
+    long total0 = 0;
+    long total1 = 0;
+    long total2 = 0;
+    long total3 = 0;
+    int i = fromIndex;
+    for (; i < toIndex - 3; i += 4) {
+      total0 += array[i];
+      total1 += array[i + 1];
+      total2 += array[i + 2];
+      total3 += array[i + 3];
+    }
+    for (; i < toIndex; i++) {
+      total0 += array[i];
+    }
+    return total0 + total1 + total2 + total3;
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values of an array in a single
+   * pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the statistics of {@code array}
+   * @see #stats(byte[], int, int, IntStats)
+   */
+  public static IntStats stats(byte[] array) {
+    return stats(array, 0, array.length, new IntStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the statistics of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #stats(byte[], int, int, IntStats)
+   */
+  public static IntStats stats(byte[] array, int fromIndex, int toIndex) {
+    return stats(array, fromIndex, toIndex, new IntStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass, storing them in an existing holder
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param stats
+   *          the holder to store the statistics in, its previous values are replaced
+   * @return {@code stats}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static IntStats stats(byte[] array, int fromIndex, int toIndex, IntStats stats) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int count = toIndex - fromIndex;
+    if (count == 0) {
+      throw new InvalidArrayException("Can't get statistics from empty array");
+    }
+    // The variance is updated value by value, the same way as by moments, so it doesn't lose most of
+    // its precision if the values are far away from zero
+    Moments moments = new Moments();
+    int min = array[fromIndex];
+    int max = min;
+    long sum = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      byte value = array[i];
+      min = value < min ? value : min;
+      max = value > max ? value : max;
+      sum += value;
+      moments.add(value);
+    }
+    stats.set(count, sum, min, max, moments.mean(), moments.variance());
+    return stats;
+  }
+
+  /**
+   * Returns the value which would be at index {@code n} if the array was sorted, without sorting it.
+   * The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param n
+   *          the index in the sorted array
+   * @return the {@code n}-th smallest value, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code n} is outside of the array
+   * @see #nthElementInPlace(byte[], int, int, int)
+   */
+  public static byte nthElement(byte[] array, int n) {
+    return nthElementInPlace(array.clone(), 0, array.length, n);
+  }
+
+  /**
+   * Reorders a range of an array so the value at {@code fromIndex + n} is the one which would be there
+   * if the range was sorted, all values before it are smaller or equal and all values after it are
+   * bigger or equal. This takes linear time on average and {@code O(n log n)} time in the worst case.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param n
+   *          the index in the sorted range
+   * @return the {@code n}-th smallest value of the range, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0}, {@code toIndex > array.length} or {@code n} is outside of the
+   *           range
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static byte nthElementInPlace(byte[] array, int fromIndex, int toIndex, int n) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (n < 0 || n >= toIndex - fromIndex) {
+      throw new ArrayIndexOutOfBoundsException(n);
+    }
+    int[] ranks = new int[] { fromIndex + n };
+    select(array, fromIndex, toIndex, ranks, 0, 1, Selection.depthLimit(toIndex - fromIndex));
+    return array[fromIndex + n];
+  }
+
+  /**
+   * Returns the median of any number of values, without sorting them. The values themselves aren't
+   * changed.
+   * 
+   * @param values
+   *          the values
+   * @return the median value of {@code values}
+   * @see #percentile(byte[], double)
+   */
+  public static double median(byte... values) {
+    return percentile(values, 50);
+  }
+
+  /**
+   * Returns a percentile of the values of an array, interpolating linearly between the two closest
+   * values, without sorting it. The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentile
+   *          the percentile, between 0 and 100
+   * @return the percentile of {@code array}
+   * @throws IllegalArgumentException
+   *           if {@code percentile} isn't between 0 and 100
+   * @see #percentilesInPlace(byte[], int, int, double...)
+   */
+  public static double percentile(byte[] array, double percentile) {
+    return percentiles(array, percentile)[0];
+  }
+
+  /**
+   * Returns several percentiles of the values of an array, without sorting it. The array itself isn't
+   * changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of {@code array}, in the same order as {@code percentiles}
+   * @throws IllegalArgumentException
+   *           if a percentile isn't between 0 and 100
+   * @see #percentilesInPlace(byte[], int, int, double...)
+   */
+  public static double[] percentiles(byte[] array, double... percentiles) {
+    return percentilesInPlace(array.clone(), 0, array.length, percentiles);
+  }
+
+  /**
+   * Computes several percentiles of the values in a range of an array, interpolating linearly between
+   * the two closest values. All of them are found in a single partitioning pass, which reorders the
+   * range instead of copying it.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of the range, in the same order as {@code percentiles}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex} or a percentile isn't between 0 and 100
+   */
+  public static double[] percentilesInPlace(byte[] array, int fromIndex, int toIndex, double... percentiles) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
+    if (len == 0) {
+      throw new InvalidArrayException("Can't get percentile from empty array");
+    }
+    int[] ranks = Selection.ranks(fromIndex, len, percentiles);
+    select(array, fromIndex, toIndex, ranks, 0, ranks.length, Selection.depthLimit(len));
+    double[] result = new double[percentiles.length];
+    for (int i = 0; i < result.length; i++) {
+      double pos = Selection.position(len, percentiles[i]);
+      int lower = fromIndex + (int) Math.floor(pos);
+      int upper = fromIndex + (int) Math.ceil(pos);
+      result[i] = Selection.interpolate(array[lower], array[upper], pos - Math.floor(pos));
+    }
+    return result;
+  }
+
+  /**
+   * Moves the values at the given ranks of a range to their sorted positions, using a three way
+   * partitioning quickselect which falls back to sorting after too many bad pivots
+   */
+  private static void select(byte[] array, int fromIndex, int toIndex, int[] ranks, int rankFrom, int rankTo,
+      int depth) {
+    while (rankFrom < rankTo) {
+      if (depth-- == 0 || toIndex - fromIndex <= Selection.SORT_THRESHOLD) {
+        Arrays.sort(array, fromIndex, toIndex);
+        return;
+      }
+      byte a = array[fromIndex];
+      byte b = array[(fromIndex + toIndex) >>> 1];
+      byte c = array[toIndex - 1];
+      byte pivot = a < b ? (b < c ? b : a < c ? c : a) : (a < c ? a : b < c ? c : b);
+      // [fromIndex, lt) < pivot, [lt, i) == pivot, [gt, toIndex) > pivot
+      int lt = fromIndex;
+      int gt = toIndex;
+      int i = fromIndex;
+      while (i < gt) {
+        byte value = array[i];
+        if (value < pivot) {
+          array[i++] = array[lt];
+          array[lt++] = value;
+        } else if (value > pivot) {
+          array[i] = array[--gt];
+          array[gt] = value;
+        } else {
+          i++;
+        }
+      }
+      int left = Selection.split(ranks, rankFrom, rankTo, lt);
+      int right = Selection.split(ranks, left, rankTo, gt);
+      // Recurse into the smaller side and loop on the bigger one to bound the stack depth
+      if (lt - fromIndex < toIndex - gt) {
+        select(array, fromIndex, lt, ranks, rankFrom, left, depth);
+        fromIndex = gt;
+        rankFrom = right;
+      } else {
+        select(array, gt, toIndex, ranks, right, rankTo, depth);
+        toIndex = lt;
+        rankTo = left;
+      }
+    }
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the maximum value of {@code array}
+   */
+  public static byte parallelMax(byte[] array) {
+    return parallelMax(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value of {@code array}
+   */
+  public static byte parallelMax(byte[] array, ParallelConfig config) {
+    return parallelMax(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the maximum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value in the range
+   * @see #max(byte[], int, int)
+   */
+  public static byte parallelMax(byte[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return max(array, fromIndex, toIndex);
+    }
+    byte[] partials = new byte[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = max(array, from, to));
+    return max(partials);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the minimum value of {@code array}
+   */
+  public static byte parallelMin(byte[] array) {
+    return parallelMin(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value of {@code array}
+   */
+  public static byte parallelMin(byte[] array, ParallelConfig config) {
+    return parallelMin(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the minimum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value in the range
+   * @see #min(byte[], int, int)
+   */
+  public static byte parallelMin(byte[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return min(array, fromIndex, toIndex);
+    }
+    byte[] partials = new byte[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = min(array, from, to));
+    return min(partials);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the sum of the values of {@code array}
+   */
+  public static byte parallelSum(byte[] array) {
+    return parallelSum(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values of {@code array}
+   */
+  public static byte parallelSum(byte[] array, ParallelConfig config) {
+    return parallelSum(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array, computing it in parallel.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values in the range
+   * @see #sum(byte[], int, int)
+   */
+  public static byte parallelSum(byte[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return sum(array, fromIndex, toIndex);
     }
-    return total;
+    byte[] partials = new byte[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = sum(array, from, to));
+    return sum(partials);
   }
 }
@@ -0,0 +1,213 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * A view of a range of a {@code byte} array. Creating a slice doesn't copy any values, the operations
+ * of the slice run directly on the range of the underlying array and changes to the array are
+ * visible through the slice.
+ */
+public final class ByteSlice {
+  private final byte[] array;
+  private final int offset;
+  private final int length;
+
+  private ByteSlice(byte[] array, int offset, int length) {
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates a slice covering a whole array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @return a new slice of {@code array}
+   */
+  public static ByteSlice of(byte... array) {
+    return new ByteSlice(array, 0, array.length);
+  }
+
+  /**
+   * Creates a slice covering a range of an array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new slice of {@code array}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static ByteSlice of(byte[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    return new ByteSlice(array, fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return the array this slice is a view of
+   */
+  public byte[] array() {
+    return array;
+  }
+
+  /**
+   * @return the index of the first element of this slice inside {@link #array()}
+   */
+  public int offset() {
+    return offset;
+  }
+
+  /**
+   * @return the number of elements in this slice
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the element at the specified index of this slice
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @return the element at {@code index}
+   */
+  public byte get(int index) {
+    return array[offset + checkIndex(index)];
+  }
+
+  /**
+   * Replaces the element at the specified index of this slice, which modifies the underlying array
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @param value
+   *          the new value of the element
+   */
+  public void set(int index, byte value) {
+    array[offset + checkIndex(index)] = value;
+  }
+
+  /**
+   * Creates a slice covering a range of this slice
+   * 
+   * @param fromIndex
+   *          the index of the first element relative to the start of this slice, inclusive
+   * @param toIndex
+   *          the index of the last element relative to the start of this slice, exclusive
+   * @return a new slice of the same array
+   */
+  public ByteSlice subSlice(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return new ByteSlice(array, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return a new array containing a copy of the elements of this slice
+   */
+  public byte[] toArray() {
+    return Arrays.copyOfRange(array, offset, offset + length);
+  }
+
+  /**
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @return the elements of this slice separated by {@code delimiter}
+   * @see ByteArrays#join(CharSequence, byte[], int, int)
+   */
+  public String join(CharSequence delimiter) {
+    return ByteArrays.join(delimiter, array, offset, offset + length);
+  }
+
+  /**
+   * @param value
+   *          the value to check for
+   * @return whether or not this slice contains {@code value}
+   * @see ByteArrays#contains(byte[], int, int, byte)
+   */
+  public boolean contains(byte value) {
+    return ByteArrays.contains(array, offset, offset + length, value);
+  }
+
+  /**
+   * @return a new array containing only the distinct values of this slice
+   * @see ByteArrays#distinct(byte[], int, int)
+   */
+  public byte[] distinct() {
+    return ByteArrays.distinct(array, offset, offset + length);
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the index relative to the start of this slice of the first occurrence of
+   *         {@code sequence} or {@code -1} if the sequence isn't found
+   * @see ByteArrays#findSequence(byte[], int, int, byte[])
+   */
+  public int findSequence(byte... sequence) {
+    int idx = ByteArrays.findSequence(array, offset, offset + length, sequence);
+    return idx == -1 ? -1 : idx - offset;
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside this slice
+   * @see ByteArrays#countSequence(byte[], int, int, byte[])
+   */
+  public int countSequence(byte... sequence) {
+    return ByteArrays.countSequence(array, offset, offset + length, sequence);
+  }
+
+  /**
+   * @return the biggest value of this slice
+   * @see ByteArrays#max(byte[], int, int)
+   */
+  public byte max() {
+    return ByteArrays.max(array, offset, offset + length);
+  }
+
+  /**
+   * @return the smallest value of this slice
+   * @see ByteArrays#min(byte[], int, int)
+   */
+  public byte min() {
+    return ByteArrays.min(array, offset, offset + length);
+  }
+
+  /**
+   * @return the average value of this slice
+   * @see ByteArrays#avg(byte[], int, int)
+   */
+  public double avg() {
+    return ByteArrays.avg(array, offset, offset + length);
+  }
+
+  /**
+   * @return the sum of the values of this slice
+   * @see ByteArrays#sum(byte[], int, int)
+   */
+  public byte sum() {
+    return ByteArrays.sum(array, offset, offset + length);
+  }
+
+  /**
+   * @return count, sum, minimum, maximum, mean and variance of this slice, computed in a single pass
+   * @see ByteArrays#stats(byte[], int, int)
+   */
+  public IntStats stats() {
+    return ByteArrays.stats(array, offset, offset + length);
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return index;
+  }
+}
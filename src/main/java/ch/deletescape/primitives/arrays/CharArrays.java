@@ -1,5 +1,6 @@
 package ch.deletescape.primitives.arrays;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import ch.deletescape.primitives.Chars;
@@ -19,11 +20,88 @@ public final class CharArrays {
    * @see Chars#from(long)
    */
   public static char[] from(long[] lngArr) {
-    char[] tmp = new char[lngArr.length];
-    for (int i = 0; i < lngArr.length; i++) {
-      tmp[i] = Chars.from(lngArr[i]);
+    return from(lngArr, 0, new char[lngArr.length], 0, lngArr.length);
+  }
+
+  /**
+   * Converts a range of a long array to char values using {@link Chars#from(long)},
+   * writing them into an existing char array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Chars#from(long)
+   */
+  public static char[] from(long[] lngArr, int srcPos, char[] dest, int destPos, int length) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Chars.from(lngArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a long array to char values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing char array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(long[], int, char[], int, int)
+   */
+  public static char[] parallelFrom(long[] lngArr, int srcPos, char[] dest, int destPos, int length) {
+    return parallelFrom(lngArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a long array to char values in parallel, writing them into an existing char
+   * array. Every chunk is converted the same way as by {@link #from(long[], int, char[], int, int)}.
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static char[] parallelFrom(long[] lngArr, int srcPos, char[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(lngArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(lngArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -35,11 +113,88 @@ public final class CharArrays {
    * @see Chars#from(short)
    */
   public static char[] from(short[] shrtArr) {
-    char[] tmp = new char[shrtArr.length];
-    for (int i = 0; i < shrtArr.length; i++) {
-      tmp[i] = Chars.from(shrtArr[i]);
+    return from(shrtArr, 0, new char[shrtArr.length], 0, shrtArr.length);
+  }
+
+  /**
+   * Converts a range of a short array to char values using {@link Chars#from(short)},
+   * writing them into an existing char array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Chars#from(short)
+   */
+  public static char[] from(short[] shrtArr, int srcPos, char[] dest, int destPos, int length) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Chars.from(shrtArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a short array to char values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing char array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(short[], int, char[], int, int)
+   */
+  public static char[] parallelFrom(short[] shrtArr, int srcPos, char[] dest, int destPos, int length) {
+    return parallelFrom(shrtArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a short array to char values in parallel, writing them into an existing char
+   * array. Every chunk is converted the same way as by {@link #from(short[], int, char[], int, int)}.
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static char[] parallelFrom(short[] shrtArr, int srcPos, char[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(shrtArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(shrtArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -50,11 +205,86 @@ public final class CharArrays {
    * @return the resulting char array.
    */
   public static char[] from(byte[] bArr) {
-    char[] tmp = new char[bArr.length];
-    for (int i = 0; i < bArr.length; i++) {
-      tmp[i] = Chars.from(bArr[i]);
+    return from(bArr, 0, new char[bArr.length], 0, bArr.length);
+  }
+
+  /**
+   * Converts a range of a byte array to char values, writing them into an existing char array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static char[] from(byte[] bArr, int srcPos, char[] dest, int destPos, int length) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Chars.from(bArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a byte array to char values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing char array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(byte[], int, char[], int, int)
+   */
+  public static char[] parallelFrom(byte[] bArr, int srcPos, char[] dest, int destPos, int length) {
+    return parallelFrom(bArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a byte array to char values in parallel, writing them into an existing char
+   * array. Every chunk is converted the same way as by {@link #from(byte[], int, char[], int, int)}.
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static char[] parallelFrom(byte[] bArr, int srcPos, char[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(bArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(bArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -66,11 +296,88 @@ public final class CharArrays {
    * @see Chars#from(int)
    */
   public static char[] from(int[] iArr) {
-    char[] tmp = new char[iArr.length];
-    for (int i = 0; i < iArr.length; i++) {
-      tmp[i] = Chars.from(iArr[i]);
+    return from(iArr, 0, new char[iArr.length], 0, iArr.length);
+  }
+
+  /**
+   * Converts a range of a int array to char values using {@link Chars#from(int)},
+   * writing them into an existing char array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Chars#from(int)
+   */
+  public static char[] from(int[] iArr, int srcPos, char[] dest, int destPos, int length) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Chars.from(iArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a int array to char values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing char array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(int[], int, char[], int, int)
+   */
+  public static char[] parallelFrom(int[] iArr, int srcPos, char[] dest, int destPos, int length) {
+    return parallelFrom(iArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a int array to char values in parallel, writing them into an existing char
+   * array. Every chunk is converted the same way as by {@link #from(int[], int, char[], int, int)}.
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static char[] parallelFrom(int[] iArr, int srcPos, char[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(iArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(iArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -82,11 +389,88 @@ public final class CharArrays {
    * @see Chars#from(double)
    */
   public static char[] from(double[] dblArr) {
-    char[] tmp = new char[dblArr.length];
-    for (int i = 0; i < dblArr.length; i++) {
-      tmp[i] = Chars.from(dblArr[i]);
+    return from(dblArr, 0, new char[dblArr.length], 0, dblArr.length);
+  }
+
+  /**
+   * Converts a range of a double array to char values using {@link Chars#from(double)},
+   * writing them into an existing char array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Chars#from(double)
+   */
+  public static char[] from(double[] dblArr, int srcPos, char[] dest, int destPos, int length) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Chars.from(dblArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a double array to char values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing char array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(double[], int, char[], int, int)
+   */
+  public static char[] parallelFrom(double[] dblArr, int srcPos, char[] dest, int destPos, int length) {
+    return parallelFrom(dblArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a double array to char values in parallel, writing them into an existing char
+   * array. Every chunk is converted the same way as by {@link #from(double[], int, char[], int, int)}.
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static char[] parallelFrom(double[] dblArr, int srcPos, char[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(dblArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(dblArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -98,11 +482,88 @@ public final class CharArrays {
    * @see Chars#from(float)
    */
   public static char[] from(float[] fltArr) {
-    char[] tmp = new char[fltArr.length];
-    for (int i = 0; i < fltArr.length; i++) {
-      tmp[i] = Chars.from(fltArr[i]);
+    return from(fltArr, 0, new char[fltArr.length], 0, fltArr.length);
+  }
+
+  /**
+   * Converts a range of a float array to char values using {@link Chars#from(float)},
+   * writing them into an existing char array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Chars#from(float)
+   */
+  public static char[] from(float[] fltArr, int srcPos, char[] dest, int destPos, int length) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Chars.from(fltArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a float array to char values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing char array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(float[], int, char[], int, int)
+   */
+  public static char[] parallelFrom(float[] fltArr, int srcPos, char[] dest, int destPos, int length) {
+    return parallelFrom(fltArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a float array to char values in parallel, writing them into an existing char
+   * array. Every chunk is converted the same way as by {@link #from(float[], int, char[], int, int)}.
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static char[] parallelFrom(float[] fltArr, int srcPos, char[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(fltArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(fltArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -114,11 +575,88 @@ public final class CharArrays {
    * @see Chars#from(boolean)
    */
   public static char[] from(boolean[] boolArr) {
-    char[] tmp = new char[boolArr.length];
-    for (int i = 0; i < boolArr.length; i++) {
-      tmp[i] = Chars.from(boolArr[i]);
+    return from(boolArr, 0, new char[boolArr.length], 0, boolArr.length);
+  }
+
+  /**
+   * Converts a range of a boolean array to char values using {@link Chars#from(boolean)},
+   * writing them into an existing char array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Chars#from(boolean)
+   */
+  public static char[] from(boolean[] boolArr, int srcPos, char[] dest, int destPos, int length) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Chars.from(boolArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a boolean array to char values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing char array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(boolean[], int, char[], int, int)
+   */
+  public static char[] parallelFrom(boolean[] boolArr, int srcPos, char[] dest, int destPos, int length) {
+    return parallelFrom(boolArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a boolean array to char values in parallel, writing them into an existing char
+   * array. Every chunk is converted the same way as by {@link #from(boolean[], int, char[], int, int)}.
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the char array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static char[] parallelFrom(boolean[] boolArr, int srcPos, char[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(boolArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(boolArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -150,9 +688,32 @@ public final class CharArrays {
    * @see String#join(CharSequence, CharSequence...)
    */
   public static String join(CharSequence delimiter, char... elements) {
-    String[] tmp = new String[elements.length];
-    for (int i = 0; i < tmp.length; i++) {
-      tmp[i] = Character.toString(elements[i]);
+    return join(delimiter, elements, 0, elements.length);
+  }
+
+  /**
+   * Joins a range of an array the same way {@link #join(CharSequence, char...)} joins a whole array
+   * 
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @param elements
+   *          the elements to join together.
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new {@code String} that is composed of the elements in the range separated by the
+   *         {@code delimiter}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > elements.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static String join(CharSequence delimiter, char[] elements, int fromIndex, int toIndex) {
+    Ranges.check(elements.length, fromIndex, toIndex);
+    String[] tmp = new String[toIndex - fromIndex];
+    for (int i = fromIndex; i < toIndex; i++) {
+      tmp[i - fromIndex] = Character.toString(elements[i]);
     }
     return String.join(delimiter, tmp);
   }
@@ -163,13 +724,18 @@ public final class CharArrays {
    * @param arrays
    *          the {@code char} arrays to concatenate
    * @return an {@code char} array cotaining the values of all {@code arrays}
+   * @throws InvalidArrayException
+   *           if the arrays contain more than {@code Integer.MAX_VALUE} elements in total
    */
   public static char[] concatAll(char[]... arrays) {
-    int totalLength = 0;
+    long totalLength = 0;
     for (char[] array : arrays) {
       totalLength += array.length;
     }
-    char[] result = new char[totalLength];
+    if (totalLength > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    char[] result = new char[(int) totalLength];
     int offset = 0;
     for (char[] array : arrays) {
       System.arraycopy(array, 0, result, offset, array.length);
@@ -188,14 +754,98 @@ public final class CharArrays {
    * @return whether or not {@code array} contains {@code value}
    */
   public static boolean contains(char[] array, char value) {
-    for (char item : array) {
-      if (item == value) {
+    return contains(array, 0, array.length, value);
+  }
+
+  /**
+   * Returns true if a range of an array contains the specified value
+   * 
+   * @param array
+   *          the array to search for {@code value}
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to check for
+   * @return whether or not the range contains {@code value}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static boolean contains(char[] array, int fromIndex, int toIndex, char value) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int i = fromIndex;
+    // Compares blocks of eight values with non-short-circuit ors, so there is one branch per block
+    for (; i < toIndex - 7; i += 8) {
+      if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value
+          | array[i + 4] == value | array[i + 5] == value | array[i + 6] == value | array[i + 7] == value) {
+        return true;
+      }
+    }
+    for (; i < toIndex; i++) {
+      if (array[i] == value) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Checks if an array contains a specific value, searching it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(char[] array, char value) {
+    return parallelContains(array, 0, array.length, value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Checks if an array contains a specific value, searching it in parallel
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(char[] array, char value, ParallelConfig config) {
+    return parallelContains(array, 0, array.length, value, config);
+  }
+
+  /**
+   * Checks if a range of an array contains a specific value, searching it in parallel. Chunks which
+   * haven't been searched yet are skipped as soon as the value was found.
+   * 
+   * @param array
+   *          the array to search in
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not the range contains {@code value}
+   * @see #contains(char[], int, int, char)
+   */
+  public static boolean parallelContains(char[] array, int fromIndex, int toIndex, char value, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return contains(array, fromIndex, toIndex, value);
+    }
+    return Parallel.anyChunk(config, fromIndex, toIndex, (from, to) -> contains(array, from, to, value));
+  }
+
   /**
    * Returns a new array containing only the unique values of the original array
    * 
@@ -204,15 +854,35 @@ public final class CharArrays {
    * @return only the distinct values in {@code array}
    */
   public static char[] distinct(char[] array) {
-    char[] tmp = new char[array.length];
-    int i = 0;
-    for (char item : array) {
-      if (!contains(tmp, item)) {
-        tmp[i++] = item;
+    return distinct(array, 0, array.length);
+  }
+
+  /**
+   * Returns a new array containing only the unique values in a range of an array
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return only the distinct values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static char[] distinct(char[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    char[] tmp = new char[toIndex - fromIndex];
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (!contains(tmp, 0, count, array[i])) {
+        tmp[count++] = array[i];
       }
     }
-    char[] distincts = new char[i];
-    System.arraycopy(tmp, 0, distincts, 0, i);
+    char[] distincts = new char[count];
+    System.arraycopy(tmp, 0, distincts, 0, count);
     return distincts;
   }
 
@@ -247,10 +917,39 @@ public final class CharArrays {
     int seqLen = sequence.length;
     int maxIdx = array.length - seqLen;
     for (int i = Math.min(fromIndex, maxIdx); i <= maxIdx; i++) {
-      for (int j = 0; array[i + j] == sequence[j]; j++) {
-        if (j == seqLen - 1) {
-          return i;
-        }
+      if (array[i] == sequence[0] && ArrayKernels.regionMatches(array, i, sequence)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values inside a range of an array. Only occurrences
+   * that lie completely within the range are found.
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside {@code array} or {@code -1} if the
+   *         sequence isn't found
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int findSequence(char[] array, int fromIndex, int toIndex, char[] sequence) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int seqLen = sequence.length;
+    int maxIdx = toIndex - seqLen;
+    for (int i = fromIndex; i <= maxIdx; i++) {
+      if (array[i] == sequence[0] && ArrayKernels.regionMatches(array, i, sequence)) {
+        return i;
       }
     }
     return -1;
@@ -295,6 +994,35 @@ public final class CharArrays {
     return count;
   }
 
+  /**
+   * Counts the number of times {@code sequence} can be found inside a range of {@code array}
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #findSequence(char[], int, int, char[])
+   */
+  public static int countSequence(char[] array, int fromIndex, int toIndex, char[] sequence) {
+    int count = 0;
+    int idx = fromIndex;
+    int len = sequence.length;
+    while ((idx = findSequence(array, idx, toIndex, sequence)) != -1) {
+      count++;
+      idx += len;
+    }
+    return count;
+  }
+
   /**
    * Insert an array into another one starting at the specified {@code index}
    * 
@@ -310,9 +1038,8 @@ public final class CharArrays {
     int lenArr = array.length;
     int lenIns = insert.length;
     int idx = Math.max(0, Math.min(lenArr, index));
-    int offset = Math.min(idx + 1, lenArr);
     char[] arr = new char[lenArr + lenIns];
-    System.arraycopy(array, 0, arr, 0, offset);
+    System.arraycopy(array, 0, arr, 0, idx);
     System.arraycopy(insert, 0, arr, idx, lenIns);
     System.arraycopy(array, idx, arr, idx + lenIns, lenArr - idx);
     return arr;
@@ -340,16 +1067,45 @@ public final class CharArrays {
    * @return the biggest value from {@code values}
    */
   public static char max(char... values) {
-    if (values.length == 0) {
+    return max(values, 0, values.length);
+  }
+
+  /**
+   * Returns the greatest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the biggest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static char max(char[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get max value from empty array");
     }
-    char max = values[0];
-    for (char i : values) {
-      if (i > max) {
-        max = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    int max0 = array[fromIndex];
+    int max1 = max0;
+    int max2 = max0;
+    int max3 = max0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      max0 = Math.max(max0, array[i]);
+      max1 = Math.max(max1, array[i + 1]);
+      max2 = Math.max(max2, array[i + 2]);
+      max3 = Math.max(max3, array[i + 3]);
     }
-    return max;
+    for (; i < toIndex; i++) {
+      max0 = Math.max(max0, array[i]);
+    }
+    return (char) Math.max(Math.max(max0, max1), Math.max(max2, max3));
   }
 
   /**
@@ -360,16 +1116,45 @@ public final class CharArrays {
    * @return the smallest value from {@code values}
    */
   public static char min(char... values) {
-    if (values.length == 0) {
+    return min(values, 0, values.length);
+  }
+
+  /**
+   * Returns the smallest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the smallest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static char min(char[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get min value from empty array");
     }
-    char min = values[0];
-    for (char i : values) {
-      if (i < min) {
-        min = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    int min0 = array[fromIndex];
+    int min1 = min0;
+    int min2 = min0;
+    int min3 = min0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      min0 = Math.min(min0, array[i]);
+      min1 = Math.min(min1, array[i + 1]);
+      min2 = Math.min(min2, array[i + 2]);
+      min3 = Math.min(min3, array[i + 3]);
+    }
+    for (; i < toIndex; i++) {
+      min0 = Math.min(min0, array[i]);
     }
-    return min;
+    return (char) Math.min(Math.min(min0, min1), Math.min(min2, min3));
   }
 
   /**
@@ -380,11 +1165,31 @@ public final class CharArrays {
    * @return the average value of {@code values}
    */
   public static double avg(char... values) {
-    int len = values.length;
+    return avg(values, 0, values.length);
+  }
+
+  /**
+   * Returns the average of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the average value of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double avg(char[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
     if (len == 0) {
       throw new InvalidArrayException("Can't get average value from empty array");
     }
-    return sum(values) / (double) len;
+    return sumLong(array, fromIndex, toIndex) / (double) len;
   }
 
   /**
@@ -395,10 +1200,486 @@ public final class CharArrays {
    * @return the sum of {@code values}
    */
   public static char sum(char... values) {
-    char total = 0;
-    for (char i : values) {
-      total += i;
+    return sum(values, 0, values.length);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static char sum(char[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    // Independent accumulators break the dependency between additions
+    int total0 = 0;
+    int total1 = 0;
+    int total2 = 0;
+    int total3 = 0;
+    int i = fromIndex;
+    for (; i < toIndex - 3; i += 4) {
+      total0 += array[i];
+      total1 += array[i + 1];
+      total2 += array[i + 2];
+      total3 += array[i + 3];
+    }
+    for (; i < toIndex; i++) {
+      total0 += array[i];
+    }
+    return (char) (total0 + total1 + total2 + total3);
+  }
+
+  /**
+   * Returns the sum of any number of values as a {@code long}. Unlike {@link #sum(char...)} this
+   * can't overflow for any array length.
+   * 
+   * @param values
+   *          the values to sum up
+   * @return the sum of {@code values}
+   */
+  public static long sumLong(char... values) {
+    return sumLong(values, 0, values.length);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array as a {@code long}. Unlike
+   * {@link #sum(char[], int, int)} this can't overflow for any array length.
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static long sumLong(char[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    // Independent accumulators break the dependency between additions
+    long total0 = 0;
+    long total1 = 0;
+    long total2 = 0;
+    long total3 = 0;
+    int i = fromIndex;
+    for (; i < toIndex - 3; i += 4) {
+      total0 += array[i];
+      total1 += array[i + 1];
+      total2 += array[i + 2];
+      total3 += array[i + 3];
+    }
+    for (; i < toIndex; i++) {
+      total0 += array[i];
+    }
+    return total0 + total1 + total2 + total3;
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values of an array in a single
+   * pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the statistics of {@code array}
+   * @see #stats(char[], int, int, IntStats)
+   */
+  public static IntStats stats(char[] array) {
+    return stats(array, 0, array.length, new IntStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the statistics of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #stats(char[], int, int, IntStats)
+   */
+  public static IntStats stats(char[] array, int fromIndex, int toIndex) {
+    return stats(array, fromIndex, toIndex, new IntStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass, storing them in an existing holder
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param stats
+   *          the holder to store the statistics in, its previous values are replaced
+   * @return {@code stats}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static IntStats stats(char[] array, int fromIndex, int toIndex, IntStats stats) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int count = toIndex - fromIndex;
+    if (count == 0) {
+      throw new InvalidArrayException("Can't get statistics from empty array");
+    }
+    // The variance is updated value by value, the same way as by moments, so it doesn't lose most of
+    // its precision if the values are far away from zero
+    Moments moments = new Moments();
+    int min = array[fromIndex];
+    int max = min;
+    long sum = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      char value = array[i];
+      min = value < min ? value : min;
+      max = value > max ? value : max;
+      sum += value;
+      moments.add(value);
+    }
+    stats.set(count, sum, min, max, moments.mean(), moments.variance());
+    return stats;
+  }
+
+  /**
+   * Returns the value which would be at index {@code n} if the array was sorted, without sorting it.
+   * The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param n
+   *          the index in the sorted array
+   * @return the {@code n}-th smallest value, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code n} is outside of the array
+   * @see #nthElementInPlace(char[], int, int, int)
+   */
+  public static char nthElement(char[] array, int n) {
+    return nthElementInPlace(array.clone(), 0, array.length, n);
+  }
+
+  /**
+   * Reorders a range of an array so the value at {@code fromIndex + n} is the one which would be there
+   * if the range was sorted, all values before it are smaller or equal and all values after it are
+   * bigger or equal. This takes linear time on average and {@code O(n log n)} time in the worst case.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param n
+   *          the index in the sorted range
+   * @return the {@code n}-th smallest value of the range, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0}, {@code toIndex > array.length} or {@code n} is outside of the
+   *           range
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static char nthElementInPlace(char[] array, int fromIndex, int toIndex, int n) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (n < 0 || n >= toIndex - fromIndex) {
+      throw new ArrayIndexOutOfBoundsException(n);
+    }
+    int[] ranks = new int[] { fromIndex + n };
+    select(array, fromIndex, toIndex, ranks, 0, 1, Selection.depthLimit(toIndex - fromIndex));
+    return array[fromIndex + n];
+  }
+
+  /**
+   * Returns the median of any number of values, without sorting them. The values themselves aren't
+   * changed.
+   * 
+   * @param values
+   *          the values
+   * @return the median value of {@code values}
+   * @see #percentile(char[], double)
+   */
+  public static double median(char... values) {
+    return percentile(values, 50);
+  }
+
+  /**
+   * Returns a percentile of the values of an array, interpolating linearly between the two closest
+   * values, without sorting it. The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentile
+   *          the percentile, between 0 and 100
+   * @return the percentile of {@code array}
+   * @throws IllegalArgumentException
+   *           if {@code percentile} isn't between 0 and 100
+   * @see #percentilesInPlace(char[], int, int, double...)
+   */
+  public static double percentile(char[] array, double percentile) {
+    return percentiles(array, percentile)[0];
+  }
+
+  /**
+   * Returns several percentiles of the values of an array, without sorting it. The array itself isn't
+   * changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of {@code array}, in the same order as {@code percentiles}
+   * @throws IllegalArgumentException
+   *           if a percentile isn't between 0 and 100
+   * @see #percentilesInPlace(char[], int, int, double...)
+   */
+  public static double[] percentiles(char[] array, double... percentiles) {
+    return percentilesInPlace(array.clone(), 0, array.length, percentiles);
+  }
+
+  /**
+   * Computes several percentiles of the values in a range of an array, interpolating linearly between
+   * the two closest values. All of them are found in a single partitioning pass, which reorders the
+   * range instead of copying it.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of the range, in the same order as {@code percentiles}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex} or a percentile isn't between 0 and 100
+   */
+  public static double[] percentilesInPlace(char[] array, int fromIndex, int toIndex, double... percentiles) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
+    if (len == 0) {
+      throw new InvalidArrayException("Can't get percentile from empty array");
+    }
+    int[] ranks = Selection.ranks(fromIndex, len, percentiles);
+    select(array, fromIndex, toIndex, ranks, 0, ranks.length, Selection.depthLimit(len));
+    double[] result = new double[percentiles.length];
+    for (int i = 0; i < result.length; i++) {
+      double pos = Selection.position(len, percentiles[i]);
+      int lower = fromIndex + (int) Math.floor(pos);
+      int upper = fromIndex + (int) Math.ceil(pos);
+      result[i] = Selection.interpolate(array[lower], array[upper], pos - Math.floor(pos));
+    }
+    return result;
+  }
+
+  /**
+   * Moves the values at the given ranks of a range to their sorted positions, using a three way
+   * partitioning quickselect which falls back to sorting after too many bad pivots
+   */
+  private static void select(char[] array, int fromIndex, int toIndex, int[] ranks, int rankFrom, int rankTo,
+      int depth) {
+    while (rankFrom < rankTo) {
+      if (depth-- == 0 || toIndex - fromIndex <= Selection.SORT_THRESHOLD) {
+        Arrays.sort(array, fromIndex, toIndex);
+        return;
+      }
+      char a = array[fromIndex];
+      char b = array[(fromIndex + toIndex) >>> 1];
+      char c = array[toIndex - 1];
+      char pivot = a < b ? (b < c ? b : a < c ? c : a) : (a < c ? a : b < c ? c : b);
+      // [fromIndex, lt) < pivot, [lt, i) == pivot, [gt, toIndex) > pivot
+      int lt = fromIndex;
+      int gt = toIndex;
+      int i = fromIndex;
+      while (i < gt) {
+        char value = array[i];
+        if (value < pivot) {
+          array[i++] = array[lt];
+          array[lt++] = value;
+        } else if (value > pivot) {
+          array[i] = array[--gt];
+          array[gt] = value;
+        } else {
+          i++;
+        }
+      }
+      int left = Selection.split(ranks, rankFrom, rankTo, lt);
+      int right = Selection.split(ranks, left, rankTo, gt);
+      // Recurse into the smaller side and loop on the bigger one to bound the stack depth
+      if (lt - fromIndex < toIndex - gt) {
+        select(array, fromIndex, lt, ranks, rankFrom, left, depth);
+        fromIndex = gt;
+        rankFrom = right;
+      } else {
+        select(array, gt, toIndex, ranks, right, rankTo, depth);
+        toIndex = lt;
+        rankTo = left;
+      }
+    }
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the maximum value of {@code array}
+   */
+  public static char parallelMax(char[] array) {
+    return parallelMax(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value of {@code array}
+   */
+  public static char parallelMax(char[] array, ParallelConfig config) {
+    return parallelMax(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the maximum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value in the range
+   * @see #max(char[], int, int)
+   */
+  public static char parallelMax(char[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return max(array, fromIndex, toIndex);
+    }
+    char[] partials = new char[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = max(array, from, to));
+    return max(partials);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the minimum value of {@code array}
+   */
+  public static char parallelMin(char[] array) {
+    return parallelMin(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value of {@code array}
+   */
+  public static char parallelMin(char[] array, ParallelConfig config) {
+    return parallelMin(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the minimum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value in the range
+   * @see #min(char[], int, int)
+   */
+  public static char parallelMin(char[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return min(array, fromIndex, toIndex);
+    }
+    char[] partials = new char[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = min(array, from, to));
+    return min(partials);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the sum of the values of {@code array}
+   */
+  public static char parallelSum(char[] array) {
+    return parallelSum(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values of {@code array}
+   */
+  public static char parallelSum(char[] array, ParallelConfig config) {
+    return parallelSum(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array, computing it in parallel.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values in the range
+   * @see #sum(char[], int, int)
+   */
+  public static char parallelSum(char[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return sum(array, fromIndex, toIndex);
     }
-    return total;
+    char[] partials = new char[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = sum(array, from, to));
+    return sum(partials);
   }
 }
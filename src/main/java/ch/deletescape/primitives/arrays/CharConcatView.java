@@ -0,0 +1,261 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * A read-only view presenting any number of {@code char} arrays as one continuous sequence, without
+ * copying their values. Creating the view only records where each array starts, so it is independent
+ * of the number of elements; {@link #get(int)} finds the right array with a binary search over the
+ * arrays. The values are only copied into a single array when {@link #toArray()} is called.
+ */
+public final class CharConcatView {
+  private final char[][] parts;
+  // offsets[i] is the index of the first element of parts[i], offsets[parts.length] is the length
+  private final int[] offsets;
+
+  private CharConcatView(char[][] parts) {
+    this.parts = parts;
+    this.offsets = new int[parts.length + 1];
+    long offset = 0;
+    for (int i = 0; i < parts.length; i++) {
+      offsets[i] = (int) offset;
+      offset += parts[i].length;
+    }
+    if (offset > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    offsets[parts.length] = (int) offset;
+  }
+
+  /**
+   * Creates a view of the concatenation of any number of {@code char} arrays. Later changes to the
+   * arrays are visible through the view.
+   * 
+   * @param parts
+   *          the arrays to concatenate
+   * @return a new view of the concatenated arrays
+   * @throws InvalidArrayException
+   *           if the arrays contain more than {@code Integer.MAX_VALUE} elements in total
+   */
+  public static CharConcatView of(char[]... parts) {
+    return new CharConcatView(parts.clone());
+  }
+
+  /**
+   * @return the total number of elements of all arrays
+   */
+  public int length() {
+    return offsets[parts.length];
+  }
+
+  /**
+   * Returns the element at the specified index of the concatenation
+   * 
+   * @param index
+   *          the index of the element
+   * @return the element at {@code index}
+   */
+  public char get(int index) {
+    if (index < 0 || index >= length()) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    int part = part(index);
+    return parts[part][index - offsets[part]];
+  }
+
+  /**
+   * Copies all values into a single array
+   * 
+   * @return a new array containing the values of all arrays
+   * @see CharArrays#concatAll(char[]...)
+   */
+  public char[] toArray() {
+    return CharArrays.concatAll(parts);
+  }
+
+  /**
+   * @param value
+   *          the value to check for
+   * @return whether or not any of the arrays contains {@code value}
+   * @see CharArrays#contains(char[], char)
+   */
+  public boolean contains(char value) {
+    for (char[] part : parts) {
+      if (CharArrays.contains(part, value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values, including occurrences spanning two or more
+   * of the arrays
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside the concatenation or {@code -1} if the
+   *         sequence isn't found
+   * @see CharArrays#findSequence(char[], char...)
+   */
+  public int findSequence(char... sequence) {
+    return findSequence(0, sequence);
+  }
+
+  /**
+   * Finds the first occurrence starting from {@code fromIndex} of a sequence of values, including
+   * occurrences spanning two or more of the arrays
+   * 
+   * @param fromIndex
+   *          the index from where to start searching
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside the concatenation or {@code -1} if the
+   *         sequence isn't found
+   */
+  public int findSequence(int fromIndex, char[] sequence) {
+    int maxIdx = length() - sequence.length;
+    int start = Math.max(0, fromIndex);
+    if (start > maxIdx) {
+      return -1;
+    }
+    if (sequence.length == 0) {
+      return start;
+    }
+    int part = part(start);
+    int offset = start - offsets[part];
+    for (int i = start; i <= maxIdx; i++) {
+      while (offset == parts[part].length) {
+        part++;
+        offset = 0;
+      }
+      if (matches(part, offset, sequence)) {
+        return i;
+      }
+      offset++;
+    }
+    return -1;
+  }
+
+  /**
+   * Counts the number of times {@code sequence} can be found inside the concatenation
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence}, {@code 0} if {@code sequence} is empty
+   * @see #findSequence(char...)
+   */
+  public int countSequence(char... sequence) {
+    if (sequence.length == 0) {
+      // An empty sequence is found at every index, so the search would never advance
+      return 0;
+    }
+    int count = 0;
+    int idx = 0;
+    while ((idx = findSequence(idx, sequence)) != -1) {
+      count++;
+      idx += sequence.length;
+    }
+    return count;
+  }
+
+  /**
+   * @return the biggest value of all arrays
+   * @see CharArrays#max(char...)
+   */
+  public char max() {
+    checkNotEmpty("max");
+    boolean first = true;
+    char max = 0;
+    for (char[] part : parts) {
+      if (part.length > 0) {
+        char partMax = CharArrays.max(part);
+        if (first || partMax > max) {
+          max = partMax;
+          first = false;
+        }
+      }
+    }
+    return max;
+  }
+
+  /**
+   * @return the smallest value of all arrays
+   * @see CharArrays#min(char...)
+   */
+  public char min() {
+    checkNotEmpty("min");
+    boolean first = true;
+    char min = 0;
+    for (char[] part : parts) {
+      if (part.length > 0) {
+        char partMin = CharArrays.min(part);
+        if (first || partMin < min) {
+          min = partMin;
+          first = false;
+        }
+      }
+    }
+    return min;
+  }
+
+  /**
+   * @return the average value of all arrays
+   * @see CharArrays#avg(char...)
+   */
+  public double avg() {
+    checkNotEmpty("average");
+    // The parts are added up as longs, the narrow sum could overflow
+    long total = 0;
+    for (char[] part : parts) {
+      total += CharArrays.sumLong(part);
+    }
+    return total / (double) length();
+  }
+
+  /**
+   * @return the sum of the values of all arrays
+   * @see CharArrays#sum(char...)
+   */
+  public char sum() {
+    char total = 0;
+    for (char[] part : parts) {
+      total += CharArrays.sum(part);
+    }
+    return total;
+  }
+
+  private void checkNotEmpty(String operation) {
+    if (length() == 0) {
+      throw new InvalidArrayException("Can't get " + operation + " value from empty array");
+    }
+  }
+
+  private boolean matches(int part, int offset, char[] sequence) {
+    int p = part;
+    int o = offset;
+    for (char item : sequence) {
+      while (o == parts[p].length) {
+        p++;
+        o = 0;
+      }
+      if (parts[p][o] != item) {
+        return false;
+      }
+      o++;
+    }
+    return true;
+  }
+
+  private int part(int index) {
+    // Finds the last part starting at or before index, skipping empty parts
+    int idx = Arrays.binarySearch(offsets, 0, parts.length, index);
+    if (idx < 0) {
+      return -idx - 2;
+    }
+    while (idx < parts.length - 1 && offsets[idx + 1] == index) {
+      idx++;
+    }
+    return idx;
+  }
+}
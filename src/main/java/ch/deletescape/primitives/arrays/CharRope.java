@@ -0,0 +1,306 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * An immutable sequence of {@code char} values stored as a balanced tree of chunks. In contrast to
+ * {@link CharArrays#insert(char[], char[], int)}, which copies the whole array, inserting, deleting and
+ * extracting ranges only copies the chunks at the edges of the range and returns a new rope sharing
+ * all other chunks with the original. Every rope is therefore also a cheap snapshot: later edits never
+ * change it.
+ */
+public final class CharRope {
+  static final int MAX_CHUNK_LENGTH = 256;
+  private static final CharRope EMPTY = new CharRope(new char[0]);
+
+  // Exactly one of chunk and left/right is set
+  private final char[] chunk;
+  private final CharRope left;
+  private final CharRope right;
+  private final int length;
+  private final int height;
+
+  private CharRope(char[] chunk) {
+    this.chunk = chunk;
+    this.left = null;
+    this.right = null;
+    this.length = chunk.length;
+    this.height = 0;
+  }
+
+  private CharRope(CharRope left, CharRope right) {
+    this.chunk = null;
+    this.left = left;
+    this.right = right;
+    this.length = left.length + right.length;
+    this.height = Math.max(left.height, right.height) + 1;
+  }
+
+  /**
+   * @return a rope without any values
+   */
+  public static CharRope empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a rope containing a copy of the specified values
+   * 
+   * @param values
+   *          the values of the rope
+   * @return a new rope containing {@code values}
+   */
+  public static CharRope of(char... values) {
+    return values.length == 0 ? EMPTY : build(values, 0, values.length);
+  }
+
+  /**
+   * Creates a rope containing the characters of a {@code CharSequence}
+   * 
+   * @param sequence
+   *          the characters of the rope
+   * @return a new rope containing the characters of {@code sequence}
+   */
+  public static CharRope of(CharSequence sequence) {
+    return of(sequence.toString().toCharArray());
+  }
+
+  /**
+   * @return the number of values in this rope
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the value at the specified index
+   * 
+   * @param index
+   *          the index of the value
+   * @return the value at {@code index}
+   */
+  public char get(int index) {
+    if (index < 0 || index >= length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    CharRope node = this;
+    int idx = index;
+    while (node.chunk == null) {
+      if (idx < node.left.length) {
+        node = node.left;
+      } else {
+        idx -= node.left.length;
+        node = node.right;
+      }
+    }
+    return node.chunk[idx];
+  }
+
+  /**
+   * Inserts values starting at the specified {@code index}
+   * 
+   * @param index
+   *          the index from where to start inserting the values
+   * @param values
+   *          the values to insert
+   * @return a new rope with {@code values} inserted at {@code index}
+   */
+  public CharRope insert(int index, char... values) {
+    return insert(index, of(values));
+  }
+
+  /**
+   * Inserts the values of another rope starting at the specified {@code index}
+   * 
+   * @param index
+   *          the index from where to start inserting the values
+   * @param rope
+   *          the rope to insert
+   * @return a new rope with the values of {@code rope} inserted at {@code index}
+   */
+  public CharRope insert(int index, CharRope rope) {
+    if (index < 0 || index > length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return join(join(prefix(index), rope), suffix(index));
+  }
+
+  /**
+   * Appends the values of another rope to the end of this rope
+   * 
+   * @param rope
+   *          the rope to append
+   * @return a new rope containing the values of this rope followed by those of {@code rope}
+   */
+  public CharRope concat(CharRope rope) {
+    return join(this, rope);
+  }
+
+  /**
+   * Removes the values in the range {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+   * 
+   * @param fromIndex
+   *          the index of the first value to remove
+   * @param toIndex
+   *          the index after the last value to remove
+   * @return a new rope without the values in the range
+   */
+  public CharRope delete(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return join(prefix(fromIndex), suffix(toIndex));
+  }
+
+  /**
+   * Returns the values in the range {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+   * 
+   * @param fromIndex
+   *          the index of the first value
+   * @param toIndex
+   *          the index after the last value
+   * @return a new rope containing the values in the range
+   */
+  public CharRope subRope(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return prefix(toIndex).suffix(fromIndex);
+  }
+
+  /**
+   * @return a new array containing all values of this rope
+   */
+  public char[] toArray() {
+    char[] array = new char[length];
+    copyTo(array, 0);
+    return array;
+  }
+
+  /**
+   * @return a {@code String} containing all characters of this rope
+   */
+  @Override
+  public String toString() {
+    return new String(toArray());
+  }
+
+  int height() {
+    return height;
+  }
+
+  private void copyTo(char[] dest, int destPos) {
+    if (chunk != null) {
+      System.arraycopy(chunk, 0, dest, destPos, chunk.length);
+    } else {
+      left.copyTo(dest, destPos);
+      right.copyTo(dest, destPos + left.length);
+    }
+  }
+
+  private CharRope prefix(int end) {
+    if (end == length) {
+      return this;
+    }
+    if (end == 0) {
+      return EMPTY;
+    }
+    if (chunk != null) {
+      return new CharRope(Arrays.copyOfRange(chunk, 0, end));
+    }
+    if (end <= left.length) {
+      return left.prefix(end);
+    }
+    return join(left, right.prefix(end - left.length));
+  }
+
+  private CharRope suffix(int start) {
+    if (start == 0) {
+      return this;
+    }
+    if (start == length) {
+      return EMPTY;
+    }
+    if (chunk != null) {
+      return new CharRope(Arrays.copyOfRange(chunk, start, chunk.length));
+    }
+    if (start >= left.length) {
+      return right.suffix(start - left.length);
+    }
+    return join(left.suffix(start), right);
+  }
+
+  private static CharRope build(char[] values, int from, int to) {
+    if (to - from <= MAX_CHUNK_LENGTH) {
+      return new CharRope(Arrays.copyOfRange(values, from, to));
+    }
+    int mid = (from + to) >>> 1;
+    return new CharRope(build(values, from, mid), build(values, mid, to));
+  }
+
+  // AVL join: keeps the heights of siblings within one of each other
+  private static CharRope join(CharRope a, CharRope b) {
+    if (a.length == 0) {
+      return b;
+    }
+    if (b.length == 0) {
+      return a;
+    }
+    if ((long) a.length + b.length > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    if (a.height > b.height + 1) {
+      return joinRight(a, b);
+    }
+    if (b.height > a.height + 1) {
+      return joinLeft(a, b);
+    }
+    return node(a, b);
+  }
+
+  private static CharRope joinRight(CharRope a, CharRope b) {
+    CharRope l = a.left;
+    CharRope c = a.right;
+    if (c.height <= b.height + 1) {
+      CharRope t = node(c, b);
+      if (t.height <= l.height + 1) {
+        return new CharRope(l, t);
+      }
+      return rotateLeft(new CharRope(l, rotateRight(t)));
+    }
+    CharRope t = joinRight(c, b);
+    CharRope joined = new CharRope(l, t);
+    return t.height <= l.height + 1 ? joined : rotateLeft(joined);
+  }
+
+  private static CharRope joinLeft(CharRope a, CharRope b) {
+    CharRope c = b.left;
+    CharRope r = b.right;
+    if (c.height <= a.height + 1) {
+      CharRope t = node(a, c);
+      if (t.height <= r.height + 1) {
+        return new CharRope(t, r);
+      }
+      return rotateRight(new CharRope(rotateLeft(t), r));
+    }
+    CharRope t = joinLeft(a, c);
+    CharRope joined = new CharRope(t, r);
+    return t.height <= r.height + 1 ? joined : rotateRight(joined);
+  }
+
+  private static CharRope node(CharRope a, CharRope b) {
+    // Merges small neighbouring chunks so repeated small edits don't fragment the rope
+    if (a.chunk != null && b.chunk != null && a.length + b.length <= MAX_CHUNK_LENGTH) {
+      char[] merged = Arrays.copyOf(a.chunk, a.length + b.length);
+      System.arraycopy(b.chunk, 0, merged, a.length, b.length);
+      return new CharRope(merged);
+    }
+    return new CharRope(a, b);
+  }
+
+  private static CharRope rotateLeft(CharRope node) {
+    CharRope r = node.right;
+    return new CharRope(new CharRope(node.left, r.left), r.right);
+  }
+
+  private static CharRope rotateRight(CharRope node) {
+    CharRope l = node.left;
+    return new CharRope(l.left, new CharRope(l.right, node.right));
+  }
+}
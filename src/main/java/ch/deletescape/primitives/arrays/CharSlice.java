@@ -0,0 +1,213 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * A view of a range of a {@code char} array. Creating a slice doesn't copy any values, the operations
+ * of the slice run directly on the range of the underlying array and changes to the array are
+ * visible through the slice.
+ */
+public final class CharSlice {
+  private final char[] array;
+  private final int offset;
+  private final int length;
+
+  private CharSlice(char[] array, int offset, int length) {
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates a slice covering a whole array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @return a new slice of {@code array}
+   */
+  public static CharSlice of(char... array) {
+    return new CharSlice(array, 0, array.length);
+  }
+
+  /**
+   * Creates a slice covering a range of an array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new slice of {@code array}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static CharSlice of(char[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    return new CharSlice(array, fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return the array this slice is a view of
+   */
+  public char[] array() {
+    return array;
+  }
+
+  /**
+   * @return the index of the first element of this slice inside {@link #array()}
+   */
+  public int offset() {
+    return offset;
+  }
+
+  /**
+   * @return the number of elements in this slice
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the element at the specified index of this slice
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @return the element at {@code index}
+   */
+  public char get(int index) {
+    return array[offset + checkIndex(index)];
+  }
+
+  /**
+   * Replaces the element at the specified index of this slice, which modifies the underlying array
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @param value
+   *          the new value of the element
+   */
+  public void set(int index, char value) {
+    array[offset + checkIndex(index)] = value;
+  }
+
+  /**
+   * Creates a slice covering a range of this slice
+   * 
+   * @param fromIndex
+   *          the index of the first element relative to the start of this slice, inclusive
+   * @param toIndex
+   *          the index of the last element relative to the start of this slice, exclusive
+   * @return a new slice of the same array
+   */
+  public CharSlice subSlice(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return new CharSlice(array, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return a new array containing a copy of the elements of this slice
+   */
+  public char[] toArray() {
+    return Arrays.copyOfRange(array, offset, offset + length);
+  }
+
+  /**
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @return the elements of this slice separated by {@code delimiter}
+   * @see CharArrays#join(CharSequence, char[], int, int)
+   */
+  public String join(CharSequence delimiter) {
+    return CharArrays.join(delimiter, array, offset, offset + length);
+  }
+
+  /**
+   * @param value
+   *          the value to check for
+   * @return whether or not this slice contains {@code value}
+   * @see CharArrays#contains(char[], int, int, char)
+   */
+  public boolean contains(char value) {
+    return CharArrays.contains(array, offset, offset + length, value);
+  }
+
+  /**
+   * @return a new array containing only the distinct values of this slice
+   * @see CharArrays#distinct(char[], int, int)
+   */
+  public char[] distinct() {
+    return CharArrays.distinct(array, offset, offset + length);
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the index relative to the start of this slice of the first occurrence of
+   *         {@code sequence} or {@code -1} if the sequence isn't found
+   * @see CharArrays#findSequence(char[], int, int, char[])
+   */
+  public int findSequence(char... sequence) {
+    int idx = CharArrays.findSequence(array, offset, offset + length, sequence);
+    return idx == -1 ? -1 : idx - offset;
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside this slice
+   * @see CharArrays#countSequence(char[], int, int, char[])
+   */
+  public int countSequence(char... sequence) {
+    return CharArrays.countSequence(array, offset, offset + length, sequence);
+  }
+
+  /**
+   * @return the biggest value of this slice
+   * @see CharArrays#max(char[], int, int)
+   */
+  public char max() {
+    return CharArrays.max(array, offset, offset + length);
+  }
+
+  /**
+   * @return the smallest value of this slice
+   * @see CharArrays#min(char[], int, int)
+   */
+  public char min() {
+    return CharArrays.min(array, offset, offset + length);
+  }
+
+  /**
+   * @return the average value of this slice
+   * @see CharArrays#avg(char[], int, int)
+   */
+  public double avg() {
+    return CharArrays.avg(array, offset, offset + length);
+  }
+
+  /**
+   * @return the sum of the values of this slice
+   * @see CharArrays#sum(char[], int, int)
+   */
+  public char sum() {
+    return CharArrays.sum(array, offset, offset + length);
+  }
+
+  /**
+   * @return count, sum, minimum, maximum, mean and variance of this slice, computed in a single pass
+   * @see CharArrays#stats(char[], int, int)
+   */
+  public IntStats stats() {
+    return CharArrays.stats(array, offset, offset + length);
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return index;
+  }
+}
@@ -1,11 +1,15 @@
 package ch.deletescape.primitives.arrays;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Random;
 
 import ch.deletescape.primitives.Doubles;
+import ch.deletescape.primitives.collections.DoubleHeap;
 
 public final class DoubleArrays {
-  private static final double DELTA = 0.001;
+  static final double DELTA = 0.001;
 
   /**
    * Private Constructor to prevent initialization
@@ -20,11 +24,86 @@ public final class DoubleArrays {
    * @return the resulting double array.
    */
   public static double[] from(int[] iArr) {
-    double[] tmp = new double[iArr.length];
-    for (int i = 0; i < iArr.length; i++) {
-      tmp[i] = iArr[i];
+    return from(iArr, 0, new double[iArr.length], 0, iArr.length);
+  }
+
+  /**
+   * Converts a range of a int array to double values, writing them into an existing double array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] from(int[] iArr, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = iArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a int array to double values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing double array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(int[], int, double[], int, int)
+   */
+  public static double[] parallelFrom(int[] iArr, int srcPos, double[] dest, int destPos, int length) {
+    return parallelFrom(iArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a int array to double values in parallel, writing them into an existing double
+   * array. Every chunk is converted the same way as by {@link #from(int[], int, double[], int, int)}.
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] parallelFrom(int[] iArr, int srcPos, double[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(iArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(iArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -35,11 +114,86 @@ public final class DoubleArrays {
    * @return the resulting double array.
    */
   public static double[] from(char[] cArr) {
-    double[] tmp = new double[cArr.length];
-    for (int i = 0; i < cArr.length; i++) {
-      tmp[i] = cArr[i];
+    return from(cArr, 0, new double[cArr.length], 0, cArr.length);
+  }
+
+  /**
+   * Converts a range of a char array to double values, writing them into an existing double array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] from(char[] cArr, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = cArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a char array to double values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing double array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(char[], int, double[], int, int)
+   */
+  public static double[] parallelFrom(char[] cArr, int srcPos, double[] dest, int destPos, int length) {
+    return parallelFrom(cArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a char array to double values in parallel, writing them into an existing double
+   * array. Every chunk is converted the same way as by {@link #from(char[], int, double[], int, int)}.
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] parallelFrom(char[] cArr, int srcPos, double[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(cArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(cArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -50,11 +204,86 @@ public final class DoubleArrays {
    * @return the resulting double array.
    */
   public static double[] from(byte[] bArr) {
-    double[] tmp = new double[bArr.length];
-    for (int i = 0; i < bArr.length; i++) {
-      tmp[i] = bArr[i];
+    return from(bArr, 0, new double[bArr.length], 0, bArr.length);
+  }
+
+  /**
+   * Converts a range of a byte array to double values, writing them into an existing double array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] from(byte[] bArr, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = bArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a byte array to double values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing double array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(byte[], int, double[], int, int)
+   */
+  public static double[] parallelFrom(byte[] bArr, int srcPos, double[] dest, int destPos, int length) {
+    return parallelFrom(bArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a byte array to double values in parallel, writing them into an existing double
+   * array. Every chunk is converted the same way as by {@link #from(byte[], int, double[], int, int)}.
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] parallelFrom(byte[] bArr, int srcPos, double[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(bArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(bArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -65,11 +294,86 @@ public final class DoubleArrays {
    * @return the resulting double array.
    */
   public static double[] from(short[] shrtArr) {
-    double[] tmp = new double[shrtArr.length];
-    for (int i = 0; i < shrtArr.length; i++) {
-      tmp[i] = shrtArr[i];
+    return from(shrtArr, 0, new double[shrtArr.length], 0, shrtArr.length);
+  }
+
+  /**
+   * Converts a range of a short array to double values, writing them into an existing double array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] from(short[] shrtArr, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = shrtArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a short array to double values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing double array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(short[], int, double[], int, int)
+   */
+  public static double[] parallelFrom(short[] shrtArr, int srcPos, double[] dest, int destPos, int length) {
+    return parallelFrom(shrtArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a short array to double values in parallel, writing them into an existing double
+   * array. Every chunk is converted the same way as by {@link #from(short[], int, double[], int, int)}.
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] parallelFrom(short[] shrtArr, int srcPos, double[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(shrtArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(shrtArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -80,11 +384,86 @@ public final class DoubleArrays {
    * @return the resulting double array.
    */
   public static double[] from(float[] fltArr) {
-    double[] tmp = new double[fltArr.length];
-    for (int i = 0; i < fltArr.length; i++) {
-      tmp[i] = fltArr[i];
+    return from(fltArr, 0, new double[fltArr.length], 0, fltArr.length);
+  }
+
+  /**
+   * Converts a range of a float array to double values, writing them into an existing double array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] from(float[] fltArr, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = fltArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a float array to double values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing double array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(float[], int, double[], int, int)
+   */
+  public static double[] parallelFrom(float[] fltArr, int srcPos, double[] dest, int destPos, int length) {
+    return parallelFrom(fltArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a float array to double values in parallel, writing them into an existing double
+   * array. Every chunk is converted the same way as by {@link #from(float[], int, double[], int, int)}.
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] parallelFrom(float[] fltArr, int srcPos, double[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(fltArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(fltArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -95,11 +474,86 @@ public final class DoubleArrays {
    * @return the resulting double array.
    */
   public static double[] from(long[] lngArr) {
-    double[] tmp = new double[lngArr.length];
-    for (int i = 0; i < lngArr.length; i++) {
-      tmp[i] = lngArr[i];
+    return from(lngArr, 0, new double[lngArr.length], 0, lngArr.length);
+  }
+
+  /**
+   * Converts a range of a long array to double values, writing them into an existing double array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] from(long[] lngArr, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = lngArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a long array to double values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing double array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(long[], int, double[], int, int)
+   */
+  public static double[] parallelFrom(long[] lngArr, int srcPos, double[] dest, int destPos, int length) {
+    return parallelFrom(lngArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a long array to double values in parallel, writing them into an existing double
+   * array. Every chunk is converted the same way as by {@link #from(long[], int, double[], int, int)}.
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] parallelFrom(long[] lngArr, int srcPos, double[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(lngArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(lngArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -111,11 +565,110 @@ public final class DoubleArrays {
    * @see Doubles#from(boolean)
    */
   public static double[] from(boolean[] boolArr) {
-    double[] tmp = new double[boolArr.length];
-    for (int i = 0; i < boolArr.length; i++) {
-      tmp[i] = Doubles.from(boolArr[i]);
+    return from(boolArr, 0, new double[boolArr.length], 0, boolArr.length);
+  }
+
+  /**
+   * Converts a range of a boolean array to double values using {@link Doubles#from(boolean)},
+   * writing them into an existing double array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Doubles#from(boolean)
+   */
+  public static double[] from(boolean[] boolArr, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Doubles.from(boolArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a boolean array to double values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing double array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(boolean[], int, double[], int, int)
+   */
+  public static double[] parallelFrom(boolean[] boolArr, int srcPos, double[] dest, int destPos, int length) {
+    return parallelFrom(boolArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a boolean array to double values in parallel, writing them into an existing double
+   * array. Every chunk is converted the same way as by {@link #from(boolean[], int, double[], int, int)}.
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the double array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] parallelFrom(boolean[] boolArr, int srcPos, double[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(boolArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(boolArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
+  }
+
+  /**
+   * Reinterprets a byte array as double values, combining every 8 bytes into one value in the specified
+   * byte order. In contrast to {@link #from(byte[])} the bytes aren't converted one by one.
+   * 
+   * @param bytes
+   *          the bytes to combine, the length must be a multiple of 8
+   * @param order
+   *          the byte order of the values in {@code bytes}
+   * @return a new double array containing {@code bytes.length / 8} values
+   * @throws InvalidArrayException
+   *           if the length of {@code bytes} isn't a multiple of 8
+   * @see ByteArrays#toBytes(double[], ByteOrder)
+   */
+  public static double[] fromBytes(byte[] bytes, ByteOrder order) {
+    if (bytes.length % 8 != 0) {
+      throw new InvalidArrayException("Byte array length " + bytes.length + " isn't a multiple of 8");
+    }
+    double[] values = new double[bytes.length / 8];
+    ByteBuffer.wrap(bytes).order(order).asDoubleBuffer().get(values);
+    return values;
   }
 
   /**
@@ -147,9 +700,32 @@ public final class DoubleArrays {
    * @see String#join(CharSequence, CharSequence...)
    */
   public static String join(CharSequence delimiter, double... elements) {
-    String[] tmp = new String[elements.length];
-    for (int i = 0; i < tmp.length; i++) {
-      tmp[i] = Double.toString(elements[i]);
+    return join(delimiter, elements, 0, elements.length);
+  }
+
+  /**
+   * Joins a range of an array the same way {@link #join(CharSequence, double...)} joins a whole array
+   * 
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @param elements
+   *          the elements to join together.
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new {@code String} that is composed of the elements in the range separated by the
+   *         {@code delimiter}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > elements.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static String join(CharSequence delimiter, double[] elements, int fromIndex, int toIndex) {
+    Ranges.check(elements.length, fromIndex, toIndex);
+    String[] tmp = new String[toIndex - fromIndex];
+    for (int i = fromIndex; i < toIndex; i++) {
+      tmp[i - fromIndex] = Double.toString(elements[i]);
     }
     return String.join(delimiter, tmp);
   }
@@ -160,13 +736,18 @@ public final class DoubleArrays {
    * @param arrays
    *          the {@code double} arrays to concatenate
    * @return an {@code double} array cotaining the values of all {@code arrays}
+   * @throws InvalidArrayException
+   *           if the arrays contain more than {@code Integer.MAX_VALUE} elements in total
    */
   public static double[] concatAll(double[]... arrays) {
-    int totalLength = 0;
+    long totalLength = 0;
     for (double[] array : arrays) {
       totalLength += array.length;
     }
-    double[] result = new double[totalLength];
+    if (totalLength > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    double[] result = new double[(int) totalLength];
     int offset = 0;
     for (double[] array : arrays) {
       System.arraycopy(array, 0, result, offset, array.length);
@@ -186,14 +767,92 @@ public final class DoubleArrays {
    * @return whether or not {@code array} contains {@code value}
    */
   public static boolean contains(double[] array, double value) {
-    for (double item : array) {
-      if (Doubles.equality(item, value, DELTA)) {
+    return contains(array, 0, array.length, value);
+  }
+
+  /**
+   * Returns true if a range of an array contains the specified value
+   * {@code 0.001} is used for equality checks
+   * 
+   * @param array
+   *          the array to search for {@code value}
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to check for
+   * @return whether or not the range contains {@code value}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static boolean contains(double[] array, int fromIndex, int toIndex, double value) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (Doubles.equality(array[i], value, DELTA)) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Checks if an array contains a specific value, searching it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(double[] array, double value) {
+    return parallelContains(array, 0, array.length, value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Checks if an array contains a specific value, searching it in parallel
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(double[] array, double value, ParallelConfig config) {
+    return parallelContains(array, 0, array.length, value, config);
+  }
+
+  /**
+   * Checks if a range of an array contains a specific value, searching it in parallel. Chunks which
+   * haven't been searched yet are skipped as soon as the value was found.
+   * 
+   * @param array
+   *          the array to search in
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not the range contains {@code value}
+   * @see #contains(double[], int, int, double)
+   */
+  public static boolean parallelContains(double[] array, int fromIndex, int toIndex, double value,
+      ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return contains(array, fromIndex, toIndex, value);
+    }
+    return Parallel.anyChunk(config, fromIndex, toIndex, (from, to) -> contains(array, from, to, value));
+  }
+
   /**
    * Returns a new array containing only the unique values of the original array
    * 
@@ -202,15 +861,35 @@ public final class DoubleArrays {
    * @return only the distinct values in {@code array}
    */
   public static double[] distinct(double[] array) {
-    double[] tmp = new double[array.length];
-    int i = 0;
-    for (double item : array) {
-      if (!contains(tmp, item)) {
-        tmp[i++] = item;
+    return distinct(array, 0, array.length);
+  }
+
+  /**
+   * Returns a new array containing only the unique values in a range of an array
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return only the distinct values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double[] distinct(double[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    double[] tmp = new double[toIndex - fromIndex];
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (!contains(tmp, 0, count, array[i])) {
+        tmp[count++] = array[i];
       }
     }
-    double[] distincts = new double[i];
-    System.arraycopy(tmp, 0, distincts, 0, i);
+    double[] distincts = new double[count];
+    System.arraycopy(tmp, 0, distincts, 0, count);
     return distincts;
   }
 
@@ -254,6 +933,39 @@ public final class DoubleArrays {
     return -1;
   }
 
+  /**
+   * Finds the first occurrence of a sequence of values inside a range of an array. Only occurrences
+   * that lie completely within the range are found.
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside {@code array} or {@code -1} if the
+   *         sequence isn't found
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int findSequence(double[] array, int fromIndex, int toIndex, double[] sequence) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int seqLen = sequence.length;
+    int maxIdx = toIndex - seqLen;
+    for (int i = fromIndex; i <= maxIdx; i++) {
+      for (int j = 0; Doubles.equality(array[i + j], sequence[j], DELTA); j++) {
+        if (j == seqLen - 1) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
   /**
    * Counts the number of times {@code sequence} can be found inside {@code array}
    * 
@@ -294,23 +1006,51 @@ public final class DoubleArrays {
   }
 
   /**
-   * Insert an array into another one starting at the specified {@code index}
+   * Counts the number of times {@code sequence} can be found inside a range of {@code array}
    * 
    * @param array
-   *          the array where you want to insert the values
-   * @param insert
-   *          the array to insert into {@code array}
-   * @param index
-   *          the index from where to start inserting the values
-   * @return a new array, based on a copy of {@code array} with {@code insert} inserted into it
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #findSequence(double[], int, int, double[])
+   */
+  public static int countSequence(double[] array, int fromIndex, int toIndex, double[] sequence) {
+    int count = 0;
+    int idx = fromIndex;
+    int len = sequence.length;
+    while ((idx = findSequence(array, idx, toIndex, sequence)) != -1) {
+      count++;
+      idx += len;
+    }
+    return count;
+  }
+
+  /**
+   * Insert an array into another one starting at the specified {@code index}
+   * 
+   * @param array
+   *          the array where you want to insert the values
+   * @param insert
+   *          the array to insert into {@code array}
+   * @param index
+   *          the index from where to start inserting the values
+   * @return a new array, based on a copy of {@code array} with {@code insert} inserted into it
    */
   public static double[] insert(double[] array, double[] insert, int index) {
     int lenArr = array.length;
     int lenIns = insert.length;
     int idx = Math.max(0, Math.min(lenArr, index));
-    int offset = Math.min(idx + 1, lenArr);
     double[] arr = new double[lenArr + lenIns];
-    System.arraycopy(array, 0, arr, 0, offset);
+    System.arraycopy(array, 0, arr, 0, idx);
     System.arraycopy(insert, 0, arr, idx, lenIns);
     System.arraycopy(array, idx, arr, idx + lenIns, lenArr - idx);
     return arr;
@@ -338,14 +1078,53 @@ public final class DoubleArrays {
    * @return the biggest value from {@code values}
    */
   public static double max(double... values) {
-    if (values.length == 0) {
+    return max(values, 0, values.length);
+  }
+
+  /**
+   * Returns the greatest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the biggest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double max(double[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get max value from empty array");
     }
-    double max = values[0];
-    for (double i : values) {
-      if (i > max) {
-        max = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    double max0 = array[fromIndex];
+    double max1 = max0;
+    double max2 = max0;
+    double max3 = max0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      max0 = array[i] > max0 ? array[i] : max0;
+      max1 = array[i + 1] > max1 ? array[i + 1] : max1;
+      max2 = array[i + 2] > max2 ? array[i + 2] : max2;
+      max3 = array[i + 3] > max3 ? array[i + 3] : max3;
+    }
+    for (; i < toIndex; i++) {
+      max0 = array[i] > max0 ? array[i] : max0;
+    }
+    double max = max0;
+    if (max1 > max) {
+      max = max1;
+    }
+    if (max2 > max) {
+      max = max2;
+    }
+    if (max3 > max) {
+      max = max3;
     }
     return max;
   }
@@ -358,14 +1137,53 @@ public final class DoubleArrays {
    * @return the smallest value from {@code values}
    */
   public static double min(double... values) {
-    if (values.length == 0) {
+    return min(values, 0, values.length);
+  }
+
+  /**
+   * Returns the smallest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the smallest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double min(double[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get min value from empty array");
     }
-    double min = values[0];
-    for (double i : values) {
-      if (i < min) {
-        min = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    double min0 = array[fromIndex];
+    double min1 = min0;
+    double min2 = min0;
+    double min3 = min0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      min0 = array[i] < min0 ? array[i] : min0;
+      min1 = array[i + 1] < min1 ? array[i + 1] : min1;
+      min2 = array[i + 2] < min2 ? array[i + 2] : min2;
+      min3 = array[i + 3] < min3 ? array[i + 3] : min3;
+    }
+    for (; i < toIndex; i++) {
+      min0 = array[i] < min0 ? array[i] : min0;
+    }
+    double min = min0;
+    if (min1 < min) {
+      min = min1;
+    }
+    if (min2 < min) {
+      min = min2;
+    }
+    if (min3 < min) {
+      min = min3;
     }
     return min;
   }
@@ -378,11 +1196,66 @@ public final class DoubleArrays {
    * @return the average value of {@code values}
    */
   public static double avg(double... values) {
-    int len = values.length;
+    return avg(values, 0, values.length);
+  }
+
+  /**
+   * Returns the average of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the average value of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double avg(double[] array, int fromIndex, int toIndex) {
+    return avg(array, fromIndex, toIndex, Summation.PAIRWISE);
+  }
+
+  /**
+   * Returns the average of the values of an array, summing them up with the specified algorithm
+   * 
+   * @param array
+   *          the array containing the values
+   * @param summation
+   *          the algorithm to sum up the values with
+   * @return the average value of {@code array}
+   */
+  public static double avg(double[] array, Summation summation) {
+    return avg(array, 0, array.length, summation);
+  }
+
+  /**
+   * Returns the average of the values in a range of an array, summing them up with the specified
+   * algorithm
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param summation
+   *          the algorithm to sum up the values with
+   * @return the average value of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double avg(double[] array, int fromIndex, int toIndex, Summation summation) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
     if (len == 0) {
       throw new InvalidArrayException("Can't get average value from empty array");
     }
-    return sum(values) / len;
+    return summation.sum(array, fromIndex, toIndex) / len;
   }
 
   /**
@@ -393,10 +1266,1653 @@ public final class DoubleArrays {
    * @return the sum of {@code values}
    */
   public static double sum(double... values) {
+    return sum(values, 0, values.length);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double sum(double[] array, int fromIndex, int toIndex) {
+    return sum(array, fromIndex, toIndex, Summation.PAIRWISE);
+  }
+
+  /**
+   * Returns the sum of the values of an array, summed up with the specified algorithm
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param summation
+   *          the algorithm to sum up the values with
+   * @return the sum of {@code array}
+   */
+  public static double sum(double[] array, Summation summation) {
+    return sum(array, 0, array.length, summation);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array, summed up with the specified algorithm
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param summation
+   *          the algorithm to sum up the values with
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double sum(double[] array, int fromIndex, int toIndex, Summation summation) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    return summation.sum(array, fromIndex, toIndex);
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values of an array in a single
+   * pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the statistics of {@code array}
+   * @see #stats(double[], int, int, DoubleStats)
+   */
+  public static DoubleStats stats(double[] array) {
+    return stats(array, 0, array.length, new DoubleStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the statistics of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #stats(double[], int, int, DoubleStats)
+   */
+  public static DoubleStats stats(double[] array, int fromIndex, int toIndex) {
+    return stats(array, fromIndex, toIndex, new DoubleStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass, storing them in an existing holder
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param stats
+   *          the holder to store the statistics in, its previous values are replaced
+   * @return {@code stats}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static DoubleStats stats(double[] array, int fromIndex, int toIndex, DoubleStats stats) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int count = toIndex - fromIndex;
+    if (count == 0) {
+      throw new InvalidArrayException("Can't get statistics from empty array");
+    }
+    // The variance is updated value by value, the same way as by moments, so it doesn't lose most of
+    // its precision if the values are far away from zero
+    Moments moments = new Moments();
+    double min = array[fromIndex];
+    double max = min;
+    double sum = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      double value = array[i];
+      min = value < min ? value : min;
+      max = value > max ? value : max;
+      sum += value;
+      moments.add(value);
+    }
+    stats.set(count, sum, min, max, moments.mean(), moments.variance());
+    return stats;
+  }
+
+  /**
+   * Returns the value which would be at index {@code n} if the array was sorted, without sorting it.
+   * The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param n
+   *          the index in the sorted array
+   * @return the {@code n}-th smallest value, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code n} is outside of the array
+   * @see #nthElementInPlace(double[], int, int, int)
+   */
+  public static double nthElement(double[] array, int n) {
+    return nthElementInPlace(array.clone(), 0, array.length, n);
+  }
+
+  /**
+   * Reorders a range of an array so the value at {@code fromIndex + n} is the one which would be there
+   * if the range was sorted, all values before it are smaller or equal and all values after it are
+   * bigger or equal. This takes linear time on average and {@code O(n log n)} time in the worst case.
+   * {@code NaN} values are ordered after all other values, like {@link Arrays#sort(double[])} does.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param n
+   *          the index in the sorted range
+   * @return the {@code n}-th smallest value of the range, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0}, {@code toIndex > array.length} or {@code n} is outside of the
+   *           range
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double nthElementInPlace(double[] array, int fromIndex, int toIndex, int n) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (n < 0 || n >= toIndex - fromIndex) {
+      throw new ArrayIndexOutOfBoundsException(n);
+    }
+    int end = moveNaNsToEnd(array, fromIndex, toIndex);
+    int[] ranks = new int[] { fromIndex + n };
+    select(array, fromIndex, end, ranks, 0, Selection.split(ranks, 0, 1, end), Selection.depthLimit(end - fromIndex));
+    return array[fromIndex + n];
+  }
+
+  /**
+   * Returns the median of any number of values, without sorting them. The values themselves aren't
+   * changed.
+   * 
+   * @param values
+   *          the values
+   * @return the median value of {@code values}
+   * @see #percentile(double[], double)
+   */
+  public static double median(double... values) {
+    return percentile(values, 50);
+  }
+
+  /**
+   * Returns a percentile of the values of an array, interpolating linearly between the two closest
+   * values, without sorting it. The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentile
+   *          the percentile, between 0 and 100
+   * @return the percentile of {@code array}
+   * @throws IllegalArgumentException
+   *           if {@code percentile} isn't between 0 and 100
+   * @see #percentilesInPlace(double[], int, int, double...)
+   */
+  public static double percentile(double[] array, double percentile) {
+    return percentiles(array, percentile)[0];
+  }
+
+  /**
+   * Returns several percentiles of the values of an array, without sorting it. The array itself isn't
+   * changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of {@code array}, in the same order as {@code percentiles}
+   * @throws IllegalArgumentException
+   *           if a percentile isn't between 0 and 100
+   * @see #percentilesInPlace(double[], int, int, double...)
+   */
+  public static double[] percentiles(double[] array, double... percentiles) {
+    return percentilesInPlace(array.clone(), 0, array.length, percentiles);
+  }
+
+  /**
+   * Computes several percentiles of the values in a range of an array, interpolating linearly between
+   * the two closest values. All of them are found in a single partitioning pass, which reorders the
+   * range instead of copying it.
+   * {@code NaN} values are ordered after all other values, like {@link Arrays#sort(double[])} does.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of the range, in the same order as {@code percentiles}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex} or a percentile isn't between 0 and 100
+   */
+  public static double[] percentilesInPlace(double[] array, int fromIndex, int toIndex, double... percentiles) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
+    if (len == 0) {
+      throw new InvalidArrayException("Can't get percentile from empty array");
+    }
+    int[] ranks = Selection.ranks(fromIndex, len, percentiles);
+    int end = moveNaNsToEnd(array, fromIndex, toIndex);
+    select(array, fromIndex, end, ranks, 0, Selection.split(ranks, 0, ranks.length, end), Selection.depthLimit(len));
+    double[] result = new double[percentiles.length];
+    for (int i = 0; i < result.length; i++) {
+      double pos = Selection.position(len, percentiles[i]);
+      int lower = fromIndex + (int) Math.floor(pos);
+      int upper = fromIndex + (int) Math.ceil(pos);
+      result[i] = Selection.interpolate(array[lower], array[upper], pos - Math.floor(pos));
+    }
+    return result;
+  }
+
+  /**
+   * Counts the values of an array in bins of equal width between {@code min} and {@code max}. Every
+   * bin includes its lower bound, the last one includes {@code max} as well. Values outside of
+   * {@code [min, max]} and {@code NaN} values aren't counted.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param bins
+   *          the number of bins
+   * @return the number of values in each bin
+   * @throws IllegalArgumentException
+   *           if {@code bins} isn't positive or {@code min} isn't smaller than {@code max}
+   */
+  public static long[] histogram(double[] array, double min, double max, int bins) {
+    return histogram(array, 0, array.length, min, max, new long[bins]);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins of equal width between {@code min} and
+   * {@code max}, adding them to existing counts. The bin of a value is computed with a multiplication
+   * by a precomputed factor in {@code double} precision and then checked against the bounds of the
+   * bin, so a value on the lower bound of a bin is never counted in the bin before.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param counts
+   *          the counts to add to, there is one bin per element
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, {@code counts} is empty or {@code min} isn't smaller
+   *           than {@code max}
+   * @see #histogram(double[], double, double, int)
+   */
+  public static long[] histogram(double[] array, int fromIndex, int toIndex, double min, double max, long[] counts) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    double scale = Histograms.scale(min, max, counts.length);
+    int bins = counts.length;
+    for (int i = fromIndex; i < toIndex; i++) {
+      double value = array[i];
+      if (value >= min && value <= max) {
+        counts[Histograms.bin(value, min, max, scale, bins)]++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Counts the values of an array in bins delimited by the given boundaries. Bin {@code i} includes
+   * the values from {@code boundaries[i]}, inclusive, to {@code boundaries[i + 1]}, exclusive; the
+   * last bin includes its upper boundary as well. Values outside of the boundaries and {@code NaN} values aren't
+   * counted.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @return the number of values in each bin, one less than there are boundaries
+   * @throws IllegalArgumentException
+   *           if there are less than two boundaries or they aren't strictly increasing
+   */
+  public static long[] histogram(double[] array, double[] boundaries) {
+    return histogram(array, 0, array.length, boundaries, new long[Math.max(0, boundaries.length - 1)]);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins delimited by the given boundaries, adding them to
+   * existing counts. The bin of a value is found by a binary search whose steps don't branch on the
+   * comparisons.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @param counts
+   *          the counts to add to, one less than there are boundaries
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, the boundaries aren't strictly increasing or don't match
+   *           the length of {@code counts}
+   * @see #histogram(double[], double[])
+   */
+  public static long[] histogram(double[] array, int fromIndex, int toIndex, double[] boundaries, long[] counts) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    checkBoundaries(boundaries, counts.length);
+    double first = boundaries[0];
+    double lastBoundary = boundaries[boundaries.length - 1];
+    int last = counts.length - 1;
+    for (int i = fromIndex; i < toIndex; i++) {
+      double value = array[i];
+      if (value >= first && value <= lastBoundary) {
+        // Finds the last boundary which isn't bigger than the value
+        int base = 0;
+        for (int len = boundaries.length; len > 1; len -= len >>> 1) {
+          int probe = base + (len >>> 1);
+          base = boundaries[probe] <= value ? probe : base;
+        }
+        counts[Math.min(base, last)]++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Counts the values of an array in bins of equal width in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param bins
+   *          the number of bins
+   * @return the number of values in each bin
+   * @throws IllegalArgumentException
+   *           if {@code bins} isn't positive or {@code min} isn't smaller than {@code max}
+   * @see #histogram(double[], double, double, int)
+   */
+  public static long[] parallelHistogram(double[] array, double min, double max, int bins) {
+    return parallelHistogram(array, 0, array.length, min, max, new long[bins], ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins of equal width in parallel, adding them to
+   * existing counts. Every chunk counts into its own array, these are added up in the end.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param counts
+   *          the counts to add to, there is one bin per element
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, {@code counts} is empty or {@code min} isn't smaller
+   *           than {@code max}
+   * @see #histogram(double[], int, int, double, double, long[])
+   */
+  public static long[] parallelHistogram(double[] array, int fromIndex, int toIndex, double min, double max,
+      long[] counts, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    Histograms.scale(min, max, counts.length);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return histogram(array, fromIndex, toIndex, min, max, counts);
+    }
+    ParallelConfig chunking = Histograms.chunking(config, toIndex - fromIndex);
+    long[][] partials = new long[Parallel.chunks(chunking, fromIndex, toIndex)][];
+    Parallel.forEachChunk(chunking, fromIndex, toIndex,
+        (chunk, from, to) -> partials[chunk] = histogram(array, from, to, min, max, new long[counts.length]));
+    return Histograms.merge(partials, counts);
+  }
+
+  /**
+   * Counts the values of an array in bins delimited by the given boundaries in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @return the number of values in each bin, one less than there are boundaries
+   * @throws IllegalArgumentException
+   *           if there are less than two boundaries or they aren't strictly increasing
+   * @see #histogram(double[], double[])
+   */
+  public static long[] parallelHistogram(double[] array, double[] boundaries) {
+    return parallelHistogram(array, 0, array.length, boundaries, new long[Math.max(0, boundaries.length - 1)],
+        ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins delimited by the given boundaries in parallel,
+   * adding them to existing counts. Every chunk counts into its own array, these are added up in the
+   * end.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @param counts
+   *          the counts to add to, one less than there are boundaries
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, the boundaries aren't strictly increasing or don't match
+   *           the length of {@code counts}
+   * @see #histogram(double[], int, int, double[], long[])
+   */
+  public static long[] parallelHistogram(double[] array, int fromIndex, int toIndex, double[] boundaries, long[] counts,
+      ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    checkBoundaries(boundaries, counts.length);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return histogram(array, fromIndex, toIndex, boundaries, counts);
+    }
+    ParallelConfig chunking = Histograms.chunking(config, toIndex - fromIndex);
+    long[][] partials = new long[Parallel.chunks(chunking, fromIndex, toIndex)][];
+    Parallel.forEachChunk(chunking, fromIndex, toIndex,
+        (chunk, from, to) -> partials[chunk] = histogram(array, from, to, boundaries, new long[counts.length]));
+    return Histograms.merge(partials, counts);
+  }
+
+  private static void checkBoundaries(double[] boundaries, int bins) {
+    Histograms.checkBoundaries(boundaries.length, bins);
+    for (int i = 1; i < boundaries.length; i++) {
+      if (!(boundaries[i - 1] < boundaries[i])) {
+        throw new IllegalArgumentException("Boundaries must be strictly increasing");
+      }
+    }
+  }
+
+  /**
+   * Replaces every value of an array with the sum of it and all values before it. Afterwards the sum
+   * of any range {@code [from, to)} with {@code from > 0} is {@code array[to - 1] - array[from - 1]}.
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   * @see #differences(double[])
+   */
+  public static double[] prefixSum(double[] array) {
+    return prefixSum(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running sums of a range of an array, writing them into an existing array. Each result
+   * is the sum of the source value at the same position and all source values before it in the range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] prefixSum(double[] src, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    double sum = 0;
+    for (int i = 0; i < length; i++) {
+      sum += src[from + i];
+      dest[destPos + i] = sum;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the sum of it and all values before it, computing them in
+   * parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   * @see #prefixSum(double[])
+   */
+  public static double[] parallelPrefixSum(double[] array) {
+    return parallelPrefixSum(array, 0, array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Computes the running sums of a range of an array in parallel, writing them into an existing array.
+   * The first pass sums up every chunk, the second one computes the running sums of every chunk
+   * starting from the total of the chunks before it, so every value is only read twice.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #prefixSum(double[], int, double[], int, int)
+   */
+  public static double[] parallelPrefixSum(double[] src, int srcPos, double[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return prefixSum(src, srcPos, dest, destPos, length);
+    }
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    double[] offsets = new double[Parallel.chunks(config, 0, length)];
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> offsets[chunk] = sum(src, from + start, from + end));
     double total = 0;
-    for (double i : values) {
-      total += i;
+    for (int i = 0; i < offsets.length; i++) {
+      double chunkSum = offsets[i];
+      offsets[i] = total;
+      total += chunkSum;
+    }
+    Parallel.forEachChunk(config, 0, length, (chunk, start, end) -> {
+      double sum = offsets[chunk];
+      for (int i = start; i < end; i++) {
+        sum += src[from + i];
+        dest[destPos + i] = sum;
+      }
+    });
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array but the first with its difference from the value before it,
+   * which reverts {@link #prefixSum(double[])}.
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static double[] differences(double[] array) {
+    return differences(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the differences between neighbouring values of a range of an array, writing them into an
+   * existing array. The first result is the first source value itself, so this reverts
+   * {@link #prefixSum(double[], int, double[], int, int)}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] differences(double[] src, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    double previous = 0;
+    for (int i = 0; i < length; i++) {
+      double value = src[from + i];
+      dest[destPos + i] = value - previous;
+      previous = value;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the minimum of it and all values before it
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static double[] runningMin(double[] array) {
+    return runningMin(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running minimum of a range of an array, writing it into an existing array. Each result
+   * is the minimum of the source value at the same position and all source values before it in the
+   * range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] runningMin(double[] src, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    if (length == 0) {
+      return dest;
+    }
+    double min = src[from];
+    for (int i = 0; i < length; i++) {
+      double value = src[from + i];
+      min = value < min ? value : min;
+      dest[destPos + i] = min;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the maximum of it and all values before it
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static double[] runningMax(double[] array) {
+    return runningMax(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running maximum of a range of an array, writing it into an existing array. Each result
+   * is the maximum of the source value at the same position and all source values before it in the
+   * range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static double[] runningMax(double[] src, int srcPos, double[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    if (length == 0) {
+      return dest;
+    }
+    double max = src[from];
+    for (int i = 0; i < length; i++) {
+      double value = src[from + i];
+      max = value > max ? value : max;
+      dest[destPos + i] = max;
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the sum of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the sums of the windows, {@code array.length - window + 1} of them or none if the array is
+   *         shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static double[] movingSum(double[] array, int window) {
+    return movingSum(array, 0, new double[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the sum of every window of {@code window} consecutive values of a range of an array,
+   * writing them into an existing array. Every sum is derived from the previous one by adding the value
+   * entering the window and removing the one leaving it, so this takes {@code O(n)} time no matter how
+   * big the window is. The sum is compensated for the rounding errors of every step, so they
+   * don't add up over a long series.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static double[] movingSum(double[] src, int srcPos, double[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    double[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    Windows.RunningSum sum = new Windows.RunningSum();
+    for (int i = 0; i < window - 1 && i < length; i++) {
+      sum.add(values[from + i]);
+    }
+    for (int i = 0; i < windows; i++) {
+      sum.add(values[from + i + window - 1]);
+      if (sum.overflowed()) {
+        sum.reset(values, from + i, from + i + window);
+      }
+      dest[destPos + i] = sum.value();
+      sum.remove(values[from + i]);
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the average of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the averages of the windows, {@code array.length - window + 1} of them or none if the array
+   *         is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static double[] movingAvg(double[] array, int window) {
+    return movingAvg(array, 0, new double[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the average of every window of {@code window} consecutive values of a range of an array,
+   * writing them into an existing array. The sum of the window is kept up to date the same way as by
+   * {@link #movingSum(double[], int, double[], int, int, int)}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static double[] movingAvg(double[] src, int srcPos, double[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    double[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    Windows.RunningSum sum = new Windows.RunningSum();
+    for (int i = 0; i < window - 1 && i < length; i++) {
+      sum.add(values[from + i]);
+    }
+    for (int i = 0; i < windows; i++) {
+      sum.add(values[from + i + window - 1]);
+      if (sum.overflowed()) {
+        sum.reset(values, from + i, from + i + window);
+      }
+      dest[destPos + i] = sum.value() / window;
+      sum.remove(values[from + i]);
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the minimum value of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the minimum values of the windows, {@code array.length - window + 1} of them or none if the
+   *         array is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static double[] movingMin(double[] array, int window) {
+    return movingMin(array, 0, new double[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the minimum value of every window of {@code window} consecutive values of a range of an
+   * array, writing them into an existing array. The indices of the values which can still become the
+   * minimum of a later window are kept in a deque, ordered by index and by value, so this takes
+   * {@code O(n)} time no matter how big the window is. Like {@link Math#min(double, double)}, the minimum of a
+   * window containing {@code NaN} is {@code NaN}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static double[] movingMin(double[] src, int srcPos, double[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    if (windows == 0) {
+      return dest;
+    }
+    double[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    // A ring buffer of indices, the values at them are strictly increasing from head to tail
+    int[] deque = new int[window];
+    int head = 0;
+    int size = 0;
+    // NaN values aren't ordered, so they are left out of the deque and only their last index is kept
+    int lastNaN = Integer.MIN_VALUE;
+    for (int i = 0; i < length; i++) {
+      if (size > 0 && deque[head] <= i - window) {
+        head = head + 1 == window ? 0 : head + 1;
+        size--;
+      }
+      double value = values[from + i];
+      if (value != value) {
+        lastNaN = i;
+      } else {
+        while (size > 0) {
+          int last = head + size - 1;
+          if (values[from + deque[last < window ? last : last - window]] < value) {
+            break;
+          }
+          size--;
+        }
+        int tail = head + size;
+        deque[tail < window ? tail : tail - window] = i;
+        size++;
+      }
+      if (i >= window - 1) {
+        dest[destPos + i - window + 1] = lastNaN > i - window ? Double.NaN : values[from + deque[head]];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the maximum value of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the maximum values of the windows, {@code array.length - window + 1} of them or none if the
+   *         array is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static double[] movingMax(double[] array, int window) {
+    return movingMax(array, 0, new double[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the maximum value of every window of {@code window} consecutive values of a range of an
+   * array, writing them into an existing array. The indices of the values which can still become the
+   * maximum of a later window are kept in a deque, ordered by index and by value, so this takes
+   * {@code O(n)} time no matter how big the window is. Like {@link Math#max(double, double)}, the maximum of a
+   * window containing {@code NaN} is {@code NaN}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static double[] movingMax(double[] src, int srcPos, double[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    if (windows == 0) {
+      return dest;
+    }
+    double[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    // A ring buffer of indices, the values at them are strictly decreasing from head to tail
+    int[] deque = new int[window];
+    int head = 0;
+    int size = 0;
+    // NaN values aren't ordered, so they are left out of the deque and only their last index is kept
+    int lastNaN = Integer.MIN_VALUE;
+    for (int i = 0; i < length; i++) {
+      if (size > 0 && deque[head] <= i - window) {
+        head = head + 1 == window ? 0 : head + 1;
+        size--;
+      }
+      double value = values[from + i];
+      if (value != value) {
+        lastNaN = i;
+      } else {
+        while (size > 0) {
+          int last = head + size - 1;
+          if (values[from + deque[last < window ? last : last - window]] > value) {
+            break;
+          }
+          size--;
+        }
+        int tail = head + size;
+        deque[tail < window ? tail : tail - window] = i;
+        size++;
+      }
+      if (i >= window - 1) {
+        dest[destPos + i - window + 1] = lastNaN > i - window ? Double.NaN : values[from + deque[head]];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * Moves the values at the given ranks of a range to their sorted positions, using a three way
+   * partitioning quickselect which falls back to sorting after too many bad pivots
+   */
+  private static void select(double[] array, int fromIndex, int toIndex, int[] ranks, int rankFrom, int rankTo,
+      int depth) {
+    while (rankFrom < rankTo) {
+      if (depth-- == 0 || toIndex - fromIndex <= Selection.SORT_THRESHOLD) {
+        Arrays.sort(array, fromIndex, toIndex);
+        return;
+      }
+      double a = array[fromIndex];
+      double b = array[(fromIndex + toIndex) >>> 1];
+      double c = array[toIndex - 1];
+      double pivot = a < b ? (b < c ? b : a < c ? c : a) : (a < c ? a : b < c ? c : b);
+      // [fromIndex, lt) < pivot, [lt, i) == pivot, [gt, toIndex) > pivot
+      int lt = fromIndex;
+      int gt = toIndex;
+      int i = fromIndex;
+      while (i < gt) {
+        double value = array[i];
+        if (value < pivot) {
+          array[i++] = array[lt];
+          array[lt++] = value;
+        } else if (value > pivot) {
+          array[i] = array[--gt];
+          array[gt] = value;
+        } else {
+          i++;
+        }
+      }
+      int left = Selection.split(ranks, rankFrom, rankTo, lt);
+      int right = Selection.split(ranks, left, rankTo, gt);
+      // Recurse into the smaller side and loop on the bigger one to bound the stack depth
+      if (lt - fromIndex < toIndex - gt) {
+        select(array, fromIndex, lt, ranks, rankFrom, left, depth);
+        fromIndex = gt;
+        rankFrom = right;
+      } else {
+        select(array, gt, toIndex, ranks, right, rankTo, depth);
+        toIndex = lt;
+        rankTo = left;
+      }
+    }
+  }
+
+  /**
+   * Moves all {@code NaN} values of a range to its end, where {@link Arrays#sort(double[])} puts them
+   * 
+   * @return the index of the first {@code NaN} value, {@code toIndex} if there are none
+   */
+  private static int moveNaNsToEnd(double[] array, int fromIndex, int toIndex) {
+    int end = toIndex;
+    for (int i = toIndex - 1; i >= fromIndex; i--) {
+      if (array[i] != array[i]) {
+        array[i] = array[--end];
+        array[end] = Double.NaN;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Computes the moments of the values of an array in a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the moments of {@code array}
+   * @see #moments(double[], int, int, Moments)
+   */
+  public static Moments moments(double[] array) {
+    return moments(array, 0, array.length, new Moments());
+  }
+
+  /**
+   * Computes the moments of the values in a range of an array in a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the moments of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #moments(double[], int, int, Moments)
+   */
+  public static Moments moments(double[] array, int fromIndex, int toIndex) {
+    return moments(array, fromIndex, toIndex, new Moments());
+  }
+
+  /**
+   * Adds the values in a range of an array to existing moments. Unlike {@link #stats(double[], int, int)}
+   * this can be called for any number of consecutive batches of values.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param moments
+   *          the moments to add the values to
+   * @return {@code moments}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static Moments moments(double[] array, int fromIndex, int toIndex, Moments moments) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+      moments.add(array[i]);
+    }
+    return moments;
+  }
+
+  /**
+   * Returns the population variance of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population variance of {@code values}
+   * @see Moments#variance()
+   */
+  public static double variance(double... values) {
+    return variance(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population variance of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population variance of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#variance()
+   */
+  public static double variance(double[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "variance").variance();
+  }
+
+  /**
+   * Returns the population standard deviation of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population standard deviation of {@code values}
+   * @see Moments#stddev()
+   */
+  public static double stddev(double... values) {
+    return stddev(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population standard deviation of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population standard deviation of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#stddev()
+   */
+  public static double stddev(double[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "standard deviation").stddev();
+  }
+
+  /**
+   * Returns the population skewness of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population skewness of {@code values}
+   * @see Moments#skewness()
+   */
+  public static double skewness(double... values) {
+    return skewness(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population skewness of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population skewness of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#skewness()
+   */
+  public static double skewness(double[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "skewness").skewness();
+  }
+
+  /**
+   * Returns the population excess kurtosis of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population excess kurtosis of {@code values}
+   * @see Moments#kurtosis()
+   */
+  public static double kurtosis(double... values) {
+    return kurtosis(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population excess kurtosis of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population excess kurtosis of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#kurtosis()
+   */
+  public static double kurtosis(double[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "kurtosis").kurtosis();
+  }
+
+  /**
+   * Computes the moments of the values of an array in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the moments of {@code array}
+   */
+  public static Moments parallelMoments(double[] array) {
+    return parallelMoments(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Computes the moments of the values of an array in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the moments of {@code array}
+   */
+  public static Moments parallelMoments(double[] array, ParallelConfig config) {
+    return parallelMoments(array, 0, array.length, config);
+  }
+
+  /**
+   * Computes the moments of the values in a range of an array in parallel. The moments of every chunk
+   * are computed separately and then merged.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the moments of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#merge(Moments)
+   */
+  public static Moments parallelMoments(double[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return moments(array, fromIndex, toIndex);
+    }
+    Moments[] partials = new Moments[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = moments(array, from, to));
+    Moments moments = new Moments();
+    for (Moments partial : partials) {
+      moments.merge(partial);
+    }
+    return moments;
+  }
+
+  private static Moments nonEmptyMoments(double[] array, int fromIndex, int toIndex, String name) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
+      throw new InvalidArrayException("Can't get " + name + " from empty array");
+    }
+    return moments(array, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the maximum value of {@code array}
+   */
+  public static double parallelMax(double[] array) {
+    return parallelMax(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value of {@code array}
+   */
+  public static double parallelMax(double[] array, ParallelConfig config) {
+    return parallelMax(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the maximum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value in the range
+   * @see #max(double[], int, int)
+   */
+  public static double parallelMax(double[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return max(array, fromIndex, toIndex);
+    }
+    double[] partials = new double[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = max(array, from, to));
+    return max(partials);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the minimum value of {@code array}
+   */
+  public static double parallelMin(double[] array) {
+    return parallelMin(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value of {@code array}
+   */
+  public static double parallelMin(double[] array, ParallelConfig config) {
+    return parallelMin(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the minimum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value in the range
+   * @see #min(double[], int, int)
+   */
+  public static double parallelMin(double[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return min(array, fromIndex, toIndex);
+    }
+    double[] partials = new double[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = min(array, from, to));
+    return min(partials);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the sum of the values of {@code array}
+   */
+  public static double parallelSum(double[] array) {
+    return parallelSum(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values of {@code array}
+   */
+  public static double parallelSum(double[] array, ParallelConfig config) {
+    return parallelSum(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array, computing it in parallel. The
+   * chunks and their partial sums are summed up pairwise, so the result can differ slightly from
+   * {@link #sum(double[], int, int)}.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values in the range
+   * @see #sum(double[], int, int)
+   */
+  public static double parallelSum(double[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return sum(array, fromIndex, toIndex);
+    }
+    double[] partials = new double[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex,
+        (chunk, from, to) -> partials[chunk] = Summation.PAIRWISE.sum(array, from, to));
+    return Summation.PAIRWISE.sum(partials, 0, partials.length);
+  }
+
+  /**
+   * Returns the {@code k} largest values of an array in descending order, without sorting the
+   * whole array. This runs in {@code O(n log k)}. {@code NaN} values are skipped, so the result is
+   * shorter than {@code k} if there are less other values.
+   * 
+   * @param array
+   *          the array to select the values from
+   * @param k
+   *          the number of values to select, is clamped to the range {@code [0, array.length]}
+   * @return a new array containing the {@code k} largest values of {@code array}, largest first
+   */
+  public static double[] topK(double[] array, int k) {
+    return topK(array, 0, array.length, k);
+  }
+
+  /**
+   * Returns the {@code k} largest values in a range of an array in descending order. {@code NaN}
+   * values are skipped, so the result is shorter than {@code k} if there are less other values.
+   * 
+   * @param array
+   *          the array to select the values from
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param k
+   *          the number of values to select, is clamped to the range {@code [0, toIndex - fromIndex]}
+   * @return a new array containing the {@code k} largest values of the range, largest first
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double[] topK(double[] array, int fromIndex, int toIndex, int k) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = Math.max(0, Math.min(toIndex - fromIndex, k));
+    if (len == 0) {
+      return new double[0];
+    }
+    DoubleHeap heap = DoubleHeap.minHeap(len);
+    for (int i = fromIndex; i < toIndex; i++) {
+      double value = array[i];
+      if (value != value) {
+        continue;
+      }
+      if (heap.size() < len) {
+        heap.push(value);
+      } else if (Double.compare(value, heap.peek()) > 0) {
+        heap.replaceTop(value);
+      }
+    }
+    double[] result = new double[heap.size()];
+    for (int i = result.length - 1; i >= 0; i--) {
+      result[i] = heap.pop();
+    }
+    return result;
+  }
+
+  /**
+   * Returns the indices of the {@code k} largest values of an array, ordered by descending value.
+   * Equal values are ordered by ascending index. This runs in {@code O(n log k)}. The indices of
+   * {@code NaN} values are skipped, so the result is shorter than {@code k} if there are less other
+   * values.
+   * 
+   * @param array
+   *          the array to select the indices from
+   * @param k
+   *          the number of indices to select, is clamped to the range {@code [0, array.length]}
+   * @return a new array containing the indices of the {@code k} largest values of {@code array}
+   * @see #topK(double[], int)
+   */
+  public static int[] topKIndices(double[] array, int k) {
+    int len = Math.max(0, Math.min(array.length, k));
+    if (len == 0) {
+      return new int[0];
+    }
+    // A min heap of indices, the root being the index of the smallest selected value
+    int[] heap = new int[len];
+    int count = 0;
+    for (int i = 0; i < array.length; i++) {
+      if (array[i] != array[i]) {
+        continue;
+      }
+      if (count < len) {
+        heap[count] = i;
+        siftUpIndex(array, heap, count++);
+      } else if (Double.compare(array[i], array[heap[0]]) > 0) {
+        heap[0] = i;
+        siftDownIndex(array, heap, len);
+      }
+    }
+    int[] result = new int[count];
+    for (int size = count; size > 0; size--) {
+      result[size - 1] = heap[0];
+      heap[0] = heap[size - 1];
+      siftDownIndex(array, heap, size - 1);
+    }
+    return result;
+  }
+
+  private static boolean ranksLower(double[] array, int idx1, int idx2) {
+    int cmp = Double.compare(array[idx1], array[idx2]);
+    return cmp < 0 || cmp == 0 && idx1 > idx2;
+  }
+
+  private static void siftUpIndex(double[] array, int[] heap, int pos) {
+    int idx = pos;
+    while (idx > 0) {
+      int parent = (idx - 1) >>> 1;
+      if (!ranksLower(array, heap[idx], heap[parent])) {
+        break;
+      }
+      int tmp = heap[idx];
+      heap[idx] = heap[parent];
+      heap[parent] = tmp;
+      idx = parent;
+    }
+  }
+
+  private static void siftDownIndex(double[] array, int[] heap, int size) {
+    int idx = 0;
+    int half = size >>> 1;
+    while (idx < half) {
+      int child = 2 * idx + 1;
+      if (child + 1 < size && ranksLower(array, heap[child + 1], heap[child])) {
+        child++;
+      }
+      if (!ranksLower(array, heap[child], heap[idx])) {
+        break;
+      }
+      int tmp = heap[idx];
+      heap[idx] = heap[child];
+      heap[child] = tmp;
+      idx = child;
     }
-    return total;
   }
 }
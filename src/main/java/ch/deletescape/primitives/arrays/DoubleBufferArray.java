@@ -0,0 +1,280 @@
+package ch.deletescape.primitives.arrays;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import ch.deletescape.primitives.Doubles;
+
+/**
+ * A {@code double} array stored outside of the Java heap and indexed with {@code long} values. It
+ * offers the same operations as {@link DoubleArrays} and has to be {@link #close() closed} once it is
+ * no longer needed.
+ */
+public abstract class DoubleBufferArray extends BufferArray {
+  private DoubleBuffer[] views;
+
+  DoubleBufferArray(ByteBuffer[] buffers, long length, ByteOrder order, int byteChunkShift) {
+    super(buffers, length, 3, byteChunkShift);
+    views = new DoubleBuffer[buffers.length];
+    for (int i = 0; i < buffers.length; i++) {
+      views[i] = buffers[i].order(order).asDoubleBuffer();
+    }
+  }
+
+  /**
+   * Returns the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @return the element at {@code index}
+   */
+  public double get(long index) {
+    checkIndex(index);
+    return at(views(), index);
+  }
+
+  /**
+   * Replaces the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @param value
+   *          the new value of the element
+   */
+  public void set(long index, double value) {
+    checkIndex(index);
+    views()[(int) (index >>> chunkShift)].put((int) (index & chunkMask), value);
+  }
+
+  /**
+   * Copies values from a heap array into this array
+   * 
+   * @param src
+   *          the array to copy the values from
+   * @param srcPos
+   *          the index of the first value in {@code src}
+   * @param index
+   *          the index in this array where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyFrom(double[] src, int srcPos, long index, int count) {
+    checkRange(index, count);
+    DoubleBuffer[] tmp = views();
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      DoubleBuffer view = tmp[(int) (pos >>> chunkShift)].duplicate();
+      view.position((int) (pos & chunkMask));
+      int chunk = Math.min(count - done, view.remaining());
+      view.put(src, srcPos + done, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies values from this array into a heap array
+   * 
+   * @param index
+   *          the index of the first value in this array
+   * @param dest
+   *          the array to copy the values to
+   * @param destPos
+   *          the index in {@code dest} where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyTo(long index, double[] dest, int destPos, int count) {
+    checkRange(index, count);
+    DoubleBuffer[] tmp = views();
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      DoubleBuffer view = tmp[(int) (pos >>> chunkShift)].duplicate();
+      view.position((int) (pos & chunkMask));
+      int chunk = Math.min(count - done, view.remaining());
+      view.get(dest, destPos + done, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies this array to the heap
+   * 
+   * @return a new {@code double} array containing all values of this array
+   * @throws InvalidArrayException
+   *           if this array has too many elements to fit into a heap array
+   */
+  public double[] toArray() {
+    double[] tmp = new double[toArrayLength()];
+    copyTo(0, tmp, 0, tmp.length);
+    return tmp;
+  }
+
+  /**
+   * Returns true if the array contains the specified value
+   * {@code 0.001} is used for equality checks
+   * 
+   * @param value
+   *          the value to check for
+   * @return whether or not this array contains {@code value}
+   * @see DoubleArrays#contains(double[], double)
+   */
+  public boolean contains(double value) {
+    for (DoubleBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        if (Doubles.equality(view.get(i), value, DoubleArrays.DELTA)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the values of this array without duplicates, in the order of their first occurrence
+   * 
+   * @return only the distinct values in this array
+   * @see DoubleArrays#distinct(double[])
+   */
+  public double[] distinct() {
+    double[] distincts = new double[16];
+    int count = 0;
+    for (DoubleBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        double item = view.get(i);
+        if (indexOf(distincts, count, item) == -1) {
+          if (count == distincts.length) {
+            distincts = Arrays.copyOf(distincts, count * 2);
+          }
+          distincts[count++] = item;
+        }
+      }
+    }
+    return Arrays.copyOf(distincts, count);
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values in this array
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see DoubleArrays#findSequence(double[], double...)
+   */
+  public long findSequence(double[] sequence) {
+    return findSequence(0, sequence);
+  }
+
+  /**
+   * Finds the first occurrence starting from {@code fromIndex} of a sequence of values in this array
+   * 
+   * @param fromIndex
+   *          the index from where to start searching
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see DoubleArrays#findSequence(int, double[], double...)
+   */
+  public long findSequence(long fromIndex, double[] sequence) {
+    DoubleBuffer[] tmp = views();
+    int seqLen = sequence.length;
+    long maxIdx = length - seqLen;
+    for (long i = Math.max(0, Math.min(fromIndex, maxIdx)); i <= maxIdx; i++) {
+      for (int j = 0; Doubles.equality(at(tmp, i + j), sequence[j], DoubleArrays.DELTA); j++) {
+        if (j == seqLen - 1) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the greatest value of this array
+   * 
+   * @return the biggest value in this array
+   * @see DoubleArrays#max(double...)
+   */
+  public double max() {
+    if (length == 0) {
+      throw new InvalidArrayException("Can't get max value from empty array");
+    }
+    double max = get(0);
+    for (DoubleBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        double item = view.get(i);
+        if (item > max) {
+          max = item;
+        }
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Returns the smallest value of this array
+   * 
+   * @return the smallest value in this array
+   * @see DoubleArrays#min(double...)
+   */
+  public double min() {
+    if (length == 0) {
+      throw new InvalidArrayException("Can't get min value from empty array");
+    }
+    double min = get(0);
+    for (DoubleBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        double item = view.get(i);
+        if (item < min) {
+          min = item;
+        }
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Returns the sum of all values in this array
+   * 
+   * @return the sum of the values in this array
+   * @see DoubleArrays#sum(double...)
+   */
+  public double sum() {
+    double total = 0;
+    for (DoubleBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        total += view.get(i);
+      }
+    }
+    return total;
+  }
+
+  @Override
+  final void releaseViews() {
+    views = null;
+  }
+
+  private DoubleBuffer[] views() {
+    DoubleBuffer[] tmp = views;
+    if (tmp == null) {
+      throw new IllegalStateException("Array has already been closed");
+    }
+    return tmp;
+  }
+
+  private double at(DoubleBuffer[] tmp, long index) {
+    return tmp[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+  }
+
+  private static int indexOf(double[] array, int length, double value) {
+    for (int i = 0; i < length; i++) {
+      if (Doubles.equality(array[i], value, DoubleArrays.DELTA)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
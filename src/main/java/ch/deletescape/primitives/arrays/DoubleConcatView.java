@@ -0,0 +1,258 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+import ch.deletescape.primitives.Doubles;
+
+/**
+ * A read-only view presenting any number of {@code double} arrays as one continuous sequence, without
+ * copying their values. Creating the view only records where each array starts, so it is independent
+ * of the number of elements; {@link #get(int)} finds the right array with a binary search over the
+ * arrays. The values are only copied into a single array when {@link #toArray()} is called.
+ */
+public final class DoubleConcatView {
+  private final double[][] parts;
+  // offsets[i] is the index of the first element of parts[i], offsets[parts.length] is the length
+  private final int[] offsets;
+
+  private DoubleConcatView(double[][] parts) {
+    this.parts = parts;
+    this.offsets = new int[parts.length + 1];
+    long offset = 0;
+    for (int i = 0; i < parts.length; i++) {
+      offsets[i] = (int) offset;
+      offset += parts[i].length;
+    }
+    if (offset > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    offsets[parts.length] = (int) offset;
+  }
+
+  /**
+   * Creates a view of the concatenation of any number of {@code double} arrays. Later changes to the
+   * arrays are visible through the view.
+   * 
+   * @param parts
+   *          the arrays to concatenate
+   * @return a new view of the concatenated arrays
+   * @throws InvalidArrayException
+   *           if the arrays contain more than {@code Integer.MAX_VALUE} elements in total
+   */
+  public static DoubleConcatView of(double[]... parts) {
+    return new DoubleConcatView(parts.clone());
+  }
+
+  /**
+   * @return the total number of elements of all arrays
+   */
+  public int length() {
+    return offsets[parts.length];
+  }
+
+  /**
+   * Returns the element at the specified index of the concatenation
+   * 
+   * @param index
+   *          the index of the element
+   * @return the element at {@code index}
+   */
+  public double get(int index) {
+    if (index < 0 || index >= length()) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    int part = part(index);
+    return parts[part][index - offsets[part]];
+  }
+
+  /**
+   * Copies all values into a single array
+   * 
+   * @return a new array containing the values of all arrays
+   * @see DoubleArrays#concatAll(double[]...)
+   */
+  public double[] toArray() {
+    return DoubleArrays.concatAll(parts);
+  }
+
+  /**
+   * @param value
+   *          the value to check for
+   * @return whether or not any of the arrays contains {@code value}
+   * @see DoubleArrays#contains(double[], double)
+   */
+  public boolean contains(double value) {
+    for (double[] part : parts) {
+      if (DoubleArrays.contains(part, value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values, including occurrences spanning two or more
+   * of the arrays
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside the concatenation or {@code -1} if the
+   *         sequence isn't found
+   * @see DoubleArrays#findSequence(double[], double...)
+   */
+  public int findSequence(double... sequence) {
+    return findSequence(0, sequence);
+  }
+
+  /**
+   * Finds the first occurrence starting from {@code fromIndex} of a sequence of values, including
+   * occurrences spanning two or more of the arrays
+   * 
+   * @param fromIndex
+   *          the index from where to start searching
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside the concatenation or {@code -1} if the
+   *         sequence isn't found
+   */
+  public int findSequence(int fromIndex, double[] sequence) {
+    int maxIdx = length() - sequence.length;
+    int start = Math.max(0, fromIndex);
+    if (start > maxIdx) {
+      return -1;
+    }
+    if (sequence.length == 0) {
+      return start;
+    }
+    int part = part(start);
+    int offset = start - offsets[part];
+    for (int i = start; i <= maxIdx; i++) {
+      while (offset == parts[part].length) {
+        part++;
+        offset = 0;
+      }
+      if (matches(part, offset, sequence)) {
+        return i;
+      }
+      offset++;
+    }
+    return -1;
+  }
+
+  /**
+   * Counts the number of times {@code sequence} can be found inside the concatenation
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence}, {@code 0} if {@code sequence} is empty
+   * @see #findSequence(double...)
+   */
+  public int countSequence(double... sequence) {
+    if (sequence.length == 0) {
+      // An empty sequence is found at every index, so the search would never advance
+      return 0;
+    }
+    int count = 0;
+    int idx = 0;
+    while ((idx = findSequence(idx, sequence)) != -1) {
+      count++;
+      idx += sequence.length;
+    }
+    return count;
+  }
+
+  /**
+   * @return the biggest value of all arrays
+   * @see DoubleArrays#max(double...)
+   */
+  public double max() {
+    checkNotEmpty("max");
+    boolean first = true;
+    double max = 0;
+    for (double[] part : parts) {
+      if (part.length > 0) {
+        double partMax = DoubleArrays.max(part);
+        if (first || partMax > max) {
+          max = partMax;
+          first = false;
+        }
+      }
+    }
+    return max;
+  }
+
+  /**
+   * @return the smallest value of all arrays
+   * @see DoubleArrays#min(double...)
+   */
+  public double min() {
+    checkNotEmpty("min");
+    boolean first = true;
+    double min = 0;
+    for (double[] part : parts) {
+      if (part.length > 0) {
+        double partMin = DoubleArrays.min(part);
+        if (first || partMin < min) {
+          min = partMin;
+          first = false;
+        }
+      }
+    }
+    return min;
+  }
+
+  /**
+   * @return the average value of all arrays
+   * @see DoubleArrays#avg(double...)
+   */
+  public double avg() {
+    checkNotEmpty("average");
+    return sum() / length();
+  }
+
+  /**
+   * @return the sum of the values of all arrays
+   * @see DoubleArrays#sum(double...)
+   */
+  public double sum() {
+    double total = 0;
+    for (double[] part : parts) {
+      total += DoubleArrays.sum(part);
+    }
+    return total;
+  }
+
+  private void checkNotEmpty(String operation) {
+    if (length() == 0) {
+      throw new InvalidArrayException("Can't get " + operation + " value from empty array");
+    }
+  }
+
+  private boolean matches(int part, int offset, double[] sequence) {
+    int p = part;
+    int o = offset;
+    for (double item : sequence) {
+      while (o == parts[p].length) {
+        p++;
+        o = 0;
+      }
+      if (!Doubles.equality(parts[p][o], item, DoubleArrays.DELTA)) {
+        return false;
+      }
+      o++;
+    }
+    return true;
+  }
+
+  private int part(int index) {
+    // Finds the last part starting at or before index, skipping empty parts
+    int idx = Arrays.binarySearch(offsets, 0, parts.length, index);
+    if (idx < 0) {
+      return -idx - 2;
+    }
+    while (idx < parts.length - 1 && offsets[idx + 1] == index) {
+      idx++;
+    }
+    return idx;
+  }
+}
@@ -0,0 +1,223 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * A view of a range of a {@code double} array. Creating a slice doesn't copy any values, the operations
+ * of the slice run directly on the range of the underlying array and changes to the array are
+ * visible through the slice.
+ */
+public final class DoubleSlice {
+  private final double[] array;
+  private final int offset;
+  private final int length;
+
+  private DoubleSlice(double[] array, int offset, int length) {
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates a slice covering a whole array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @return a new slice of {@code array}
+   */
+  public static DoubleSlice of(double... array) {
+    return new DoubleSlice(array, 0, array.length);
+  }
+
+  /**
+   * Creates a slice covering a range of an array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new slice of {@code array}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static DoubleSlice of(double[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    return new DoubleSlice(array, fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return the array this slice is a view of
+   */
+  public double[] array() {
+    return array;
+  }
+
+  /**
+   * @return the index of the first element of this slice inside {@link #array()}
+   */
+  public int offset() {
+    return offset;
+  }
+
+  /**
+   * @return the number of elements in this slice
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the element at the specified index of this slice
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @return the element at {@code index}
+   */
+  public double get(int index) {
+    return array[offset + checkIndex(index)];
+  }
+
+  /**
+   * Replaces the element at the specified index of this slice, which modifies the underlying array
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @param value
+   *          the new value of the element
+   */
+  public void set(int index, double value) {
+    array[offset + checkIndex(index)] = value;
+  }
+
+  /**
+   * Creates a slice covering a range of this slice
+   * 
+   * @param fromIndex
+   *          the index of the first element relative to the start of this slice, inclusive
+   * @param toIndex
+   *          the index of the last element relative to the start of this slice, exclusive
+   * @return a new slice of the same array
+   */
+  public DoubleSlice subSlice(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return new DoubleSlice(array, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return a new array containing a copy of the elements of this slice
+   */
+  public double[] toArray() {
+    return Arrays.copyOfRange(array, offset, offset + length);
+  }
+
+  /**
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @return the elements of this slice separated by {@code delimiter}
+   * @see DoubleArrays#join(CharSequence, double[], int, int)
+   */
+  public String join(CharSequence delimiter) {
+    return DoubleArrays.join(delimiter, array, offset, offset + length);
+  }
+
+  /**
+   * @param value
+   *          the value to check for
+   * @return whether or not this slice contains {@code value}
+   * @see DoubleArrays#contains(double[], int, int, double)
+   */
+  public boolean contains(double value) {
+    return DoubleArrays.contains(array, offset, offset + length, value);
+  }
+
+  /**
+   * @return a new array containing only the distinct values of this slice
+   * @see DoubleArrays#distinct(double[], int, int)
+   */
+  public double[] distinct() {
+    return DoubleArrays.distinct(array, offset, offset + length);
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the index relative to the start of this slice of the first occurrence of
+   *         {@code sequence} or {@code -1} if the sequence isn't found
+   * @see DoubleArrays#findSequence(double[], int, int, double[])
+   */
+  public int findSequence(double... sequence) {
+    int idx = DoubleArrays.findSequence(array, offset, offset + length, sequence);
+    return idx == -1 ? -1 : idx - offset;
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside this slice
+   * @see DoubleArrays#countSequence(double[], int, int, double[])
+   */
+  public int countSequence(double... sequence) {
+    return DoubleArrays.countSequence(array, offset, offset + length, sequence);
+  }
+
+  /**
+   * @return the biggest value of this slice
+   * @see DoubleArrays#max(double[], int, int)
+   */
+  public double max() {
+    return DoubleArrays.max(array, offset, offset + length);
+  }
+
+  /**
+   * @return the smallest value of this slice
+   * @see DoubleArrays#min(double[], int, int)
+   */
+  public double min() {
+    return DoubleArrays.min(array, offset, offset + length);
+  }
+
+  /**
+   * @return the average value of this slice
+   * @see DoubleArrays#avg(double[], int, int)
+   */
+  public double avg() {
+    return DoubleArrays.avg(array, offset, offset + length);
+  }
+
+  /**
+   * @return the sum of the values of this slice
+   * @see DoubleArrays#sum(double[], int, int)
+   */
+  public double sum() {
+    return DoubleArrays.sum(array, offset, offset + length);
+  }
+
+  /**
+   * @return count, sum, minimum, maximum, mean and variance of this slice, computed in a single pass
+   * @see DoubleArrays#stats(double[], int, int)
+   */
+  public DoubleStats stats() {
+    return DoubleArrays.stats(array, offset, offset + length);
+  }
+
+  /**
+   * @param k
+   *          the number of values to select
+   * @return a new array containing the {@code k} largest values of this slice, largest first
+   * @see DoubleArrays#topK(double[], int, int, int)
+   */
+  public double[] topK(int k) {
+    return DoubleArrays.topK(array, offset, offset + length, k);
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return index;
+  }
+}
@@ -0,0 +1,73 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Count, sum, minimum, maximum, mean and variance of {@code double} or {@code float} values,
+ * computed in a single pass by {@link DoubleArrays#stats(double[], int, int, DoubleStats)} and
+ * {@link FloatArrays#stats(float[], int, int, DoubleStats)}. An instance can be passed to these
+ * methods again to reuse it for the next array.
+ */
+public final class DoubleStats {
+  private int count;
+  private double sum;
+  private double min;
+  private double max;
+  private double mean;
+  private double variance;
+
+  /**
+   * Creates an empty holder, to be filled by one of the {@code stats} methods
+   */
+  public DoubleStats() {}
+
+  void set(int count, double sum, double min, double max, double mean, double variance) {
+    this.count = count;
+    this.sum = sum;
+    this.min = min;
+    this.max = max;
+    this.mean = mean;
+    this.variance = variance;
+  }
+
+  /**
+   * @return the number of values
+   */
+  public int count() {
+    return count;
+  }
+
+  /**
+   * @return the sum of the values
+   */
+  public double sum() {
+    return sum;
+  }
+
+  /**
+   * @return the smallest value
+   */
+  public double min() {
+    return min;
+  }
+
+  /**
+   * @return the biggest value
+   */
+  public double max() {
+    return max;
+  }
+
+  /**
+   * @return the average of the values
+   */
+  public double mean() {
+    return mean;
+  }
+
+  /**
+   * @return the population variance of the values, the mean of the squared differences from
+   *         {@link #mean()}
+   */
+  public double variance() {
+    return variance;
+  }
+}
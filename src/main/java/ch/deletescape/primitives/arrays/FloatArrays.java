@@ -1,11 +1,12 @@
 package ch.deletescape.primitives.arrays;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import ch.deletescape.primitives.Floats;
 
 public final class FloatArrays {
-  private static final float DELTA = 0.001f;
+  static final float DELTA = 0.001f;
 
   /**
    * Private Constructor to prevent initialization
@@ -20,11 +21,86 @@ public final class FloatArrays {
    * @return the resulting float array.
    */
   public static float[] from(int[] iArr) {
-    float[] tmp = new float[iArr.length];
-    for (int i = 0; i < iArr.length; i++) {
-      tmp[i] = iArr[i];
+    return from(iArr, 0, new float[iArr.length], 0, iArr.length);
+  }
+
+  /**
+   * Converts a range of a int array to float values, writing them into an existing float array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] from(int[] iArr, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = iArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a int array to float values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing float array
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(int[], int, float[], int, int)
+   */
+  public static float[] parallelFrom(int[] iArr, int srcPos, float[] dest, int destPos, int length) {
+    return parallelFrom(iArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a int array to float values in parallel, writing them into an existing float
+   * array. Every chunk is converted the same way as by {@link #from(int[], int, float[], int, int)}.
+   * 
+   * @param iArr
+   *          the int array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] parallelFrom(int[] iArr, int srcPos, float[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(iArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(iArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(iArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -35,11 +111,86 @@ public final class FloatArrays {
    * @return the resulting float array.
    */
   public static float[] from(char[] cArr) {
-    float[] tmp = new float[cArr.length];
-    for (int i = 0; i < cArr.length; i++) {
-      tmp[i] = cArr[i];
+    return from(cArr, 0, new float[cArr.length], 0, cArr.length);
+  }
+
+  /**
+   * Converts a range of a char array to float values, writing them into an existing float array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] from(char[] cArr, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = cArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a char array to float values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing float array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(char[], int, float[], int, int)
+   */
+  public static float[] parallelFrom(char[] cArr, int srcPos, float[] dest, int destPos, int length) {
+    return parallelFrom(cArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a char array to float values in parallel, writing them into an existing float
+   * array. Every chunk is converted the same way as by {@link #from(char[], int, float[], int, int)}.
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] parallelFrom(char[] cArr, int srcPos, float[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(cArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(cArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -50,11 +201,86 @@ public final class FloatArrays {
    * @return the resulting float array.
    */
   public static float[] from(byte[] bArr) {
-    float[] tmp = new float[bArr.length];
-    for (int i = 0; i < bArr.length; i++) {
-      tmp[i] = bArr[i];
+    return from(bArr, 0, new float[bArr.length], 0, bArr.length);
+  }
+
+  /**
+   * Converts a range of a byte array to float values, writing them into an existing float array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] from(byte[] bArr, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = bArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a byte array to float values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing float array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(byte[], int, float[], int, int)
+   */
+  public static float[] parallelFrom(byte[] bArr, int srcPos, float[] dest, int destPos, int length) {
+    return parallelFrom(bArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a byte array to float values in parallel, writing them into an existing float
+   * array. Every chunk is converted the same way as by {@link #from(byte[], int, float[], int, int)}.
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] parallelFrom(byte[] bArr, int srcPos, float[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(bArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(bArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -65,11 +291,86 @@ public final class FloatArrays {
    * @return the resulting float array.
    */
   public static float[] from(short[] shrtArr) {
-    float[] tmp = new float[shrtArr.length];
-    for (int i = 0; i < shrtArr.length; i++) {
-      tmp[i] = shrtArr[i];
+    return from(shrtArr, 0, new float[shrtArr.length], 0, shrtArr.length);
+  }
+
+  /**
+   * Converts a range of a short array to float values, writing them into an existing float array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] from(short[] shrtArr, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = shrtArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a short array to float values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing float array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(short[], int, float[], int, int)
+   */
+  public static float[] parallelFrom(short[] shrtArr, int srcPos, float[] dest, int destPos, int length) {
+    return parallelFrom(shrtArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a short array to float values in parallel, writing them into an existing float
+   * array. Every chunk is converted the same way as by {@link #from(short[], int, float[], int, int)}.
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] parallelFrom(short[] shrtArr, int srcPos, float[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(shrtArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(shrtArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -81,11 +382,88 @@ public final class FloatArrays {
    * @see Floats#from(double)
    */
   public static float[] from(double[] dblArr) {
-    float[] tmp = new float[dblArr.length];
-    for (int i = 0; i < dblArr.length; i++) {
-      tmp[i] = Floats.from(dblArr[i]);
+    return from(dblArr, 0, new float[dblArr.length], 0, dblArr.length);
+  }
+
+  /**
+   * Converts a range of a double array to float values using {@link Floats#from(double)},
+   * writing them into an existing float array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Floats#from(double)
+   */
+  public static float[] from(double[] dblArr, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Floats.from(dblArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a double array to float values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing float array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(double[], int, float[], int, int)
+   */
+  public static float[] parallelFrom(double[] dblArr, int srcPos, float[] dest, int destPos, int length) {
+    return parallelFrom(dblArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a double array to float values in parallel, writing them into an existing float
+   * array. Every chunk is converted the same way as by {@link #from(double[], int, float[], int, int)}.
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] parallelFrom(double[] dblArr, int srcPos, float[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(dblArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(dblArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -96,11 +474,86 @@ public final class FloatArrays {
    * @return the resulting float array.
    */
   public static float[] from(long[] lngArr) {
-    float[] tmp = new float[lngArr.length];
-    for (int i = 0; i < lngArr.length; i++) {
-      tmp[i] = lngArr[i];
+    return from(lngArr, 0, new float[lngArr.length], 0, lngArr.length);
+  }
+
+  /**
+   * Converts a range of a long array to float values, writing them into an existing float array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] from(long[] lngArr, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = lngArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a long array to float values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing float array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(long[], int, float[], int, int)
+   */
+  public static float[] parallelFrom(long[] lngArr, int srcPos, float[] dest, int destPos, int length) {
+    return parallelFrom(lngArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a long array to float values in parallel, writing them into an existing float
+   * array. Every chunk is converted the same way as by {@link #from(long[], int, float[], int, int)}.
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] parallelFrom(long[] lngArr, int srcPos, float[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(lngArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(lngArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -112,11 +565,88 @@ public final class FloatArrays {
    * @see Floats#from(boolean)
    */
   public static float[] from(boolean[] boolArr) {
-    float[] tmp = new float[boolArr.length];
-    for (int i = 0; i < boolArr.length; i++) {
-      tmp[i] = Floats.from(boolArr[i]);
+    return from(boolArr, 0, new float[boolArr.length], 0, boolArr.length);
+  }
+
+  /**
+   * Converts a range of a boolean array to float values using {@link Floats#from(boolean)},
+   * writing them into an existing float array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Floats#from(boolean)
+   */
+  public static float[] from(boolean[] boolArr, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Floats.from(boolArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a boolean array to float values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing float array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(boolean[], int, float[], int, int)
+   */
+  public static float[] parallelFrom(boolean[] boolArr, int srcPos, float[] dest, int destPos, int length) {
+    return parallelFrom(boolArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a boolean array to float values in parallel, writing them into an existing float
+   * array. Every chunk is converted the same way as by {@link #from(boolean[], int, float[], int, int)}.
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the float array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] parallelFrom(boolean[] boolArr, int srcPos, float[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(boolArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(boolArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -148,9 +678,32 @@ public final class FloatArrays {
    * @see String#join(CharSequence, CharSequence...)
    */
   public static String join(CharSequence delimiter, float... elements) {
-    String[] tmp = new String[elements.length];
-    for (int i = 0; i < tmp.length; i++) {
-      tmp[i] = Float.toString(elements[i]);
+    return join(delimiter, elements, 0, elements.length);
+  }
+
+  /**
+   * Joins a range of an array the same way {@link #join(CharSequence, float...)} joins a whole array
+   * 
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @param elements
+   *          the elements to join together.
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new {@code String} that is composed of the elements in the range separated by the
+   *         {@code delimiter}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > elements.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static String join(CharSequence delimiter, float[] elements, int fromIndex, int toIndex) {
+    Ranges.check(elements.length, fromIndex, toIndex);
+    String[] tmp = new String[toIndex - fromIndex];
+    for (int i = fromIndex; i < toIndex; i++) {
+      tmp[i - fromIndex] = Float.toString(elements[i]);
     }
     return String.join(delimiter, tmp);
   }
@@ -161,13 +714,18 @@ public final class FloatArrays {
    * @param arrays
    *          the {@code float} arrays to concatenate
    * @return an {@code float} array cotaining the values of all {@code arrays}
+   * @throws InvalidArrayException
+   *           if the arrays contain more than {@code Integer.MAX_VALUE} elements in total
    */
   public static float[] concatAll(float[]... arrays) {
-    int totalLength = 0;
+    long totalLength = 0;
     for (float[] array : arrays) {
       totalLength += array.length;
     }
-    float[] result = new float[totalLength];
+    if (totalLength > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    float[] result = new float[(int) totalLength];
     int offset = 0;
     for (float[] array : arrays) {
       System.arraycopy(array, 0, result, offset, array.length);
@@ -187,14 +745,92 @@ public final class FloatArrays {
    * @return whether or not {@code array} contains {@code value}
    */
   public static boolean contains(float[] array, float value) {
-    for (float item : array) {
-      if (Floats.equality(item, value, DELTA)) {
+    return contains(array, 0, array.length, value);
+  }
+
+  /**
+   * Returns true if a range of an array contains the specified value
+   * {@code 0.001} is used for equality checks
+   * 
+   * @param array
+   *          the array to search for {@code value}
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to check for
+   * @return whether or not the range contains {@code value}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static boolean contains(float[] array, int fromIndex, int toIndex, float value) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (Floats.equality(array[i], value, DELTA)) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Checks if an array contains a specific value, searching it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(float[] array, float value) {
+    return parallelContains(array, 0, array.length, value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Checks if an array contains a specific value, searching it in parallel
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(float[] array, float value, ParallelConfig config) {
+    return parallelContains(array, 0, array.length, value, config);
+  }
+
+  /**
+   * Checks if a range of an array contains a specific value, searching it in parallel. Chunks which
+   * haven't been searched yet are skipped as soon as the value was found.
+   * 
+   * @param array
+   *          the array to search in
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not the range contains {@code value}
+   * @see #contains(float[], int, int, float)
+   */
+  public static boolean parallelContains(float[] array, int fromIndex, int toIndex, float value,
+      ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return contains(array, fromIndex, toIndex, value);
+    }
+    return Parallel.anyChunk(config, fromIndex, toIndex, (from, to) -> contains(array, from, to, value));
+  }
+
   /**
    * Returns a new array containing only the unique values of the original array
    * 
@@ -203,15 +839,35 @@ public final class FloatArrays {
    * @return only the distinct values in {@code array}
    */
   public static float[] distinct(float[] array) {
-    float[] tmp = new float[array.length];
-    int i = 0;
-    for (float item : array) {
-      if (!contains(tmp, item)) {
-        tmp[i++] = item;
+    return distinct(array, 0, array.length);
+  }
+
+  /**
+   * Returns a new array containing only the unique values in a range of an array
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return only the distinct values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static float[] distinct(float[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    float[] tmp = new float[toIndex - fromIndex];
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (!contains(tmp, 0, count, array[i])) {
+        tmp[count++] = array[i];
       }
     }
-    float[] distincts = new float[i];
-    System.arraycopy(tmp, 0, distincts, 0, i);
+    float[] distincts = new float[count];
+    System.arraycopy(tmp, 0, distincts, 0, count);
     return distincts;
   }
 
@@ -255,6 +911,39 @@ public final class FloatArrays {
     return -1;
   }
 
+  /**
+   * Finds the first occurrence of a sequence of values inside a range of an array. Only occurrences
+   * that lie completely within the range are found.
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside {@code array} or {@code -1} if the
+   *         sequence isn't found
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int findSequence(float[] array, int fromIndex, int toIndex, float[] sequence) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int seqLen = sequence.length;
+    int maxIdx = toIndex - seqLen;
+    for (int i = fromIndex; i <= maxIdx; i++) {
+      for (int j = 0; Floats.equality(array[i + j], sequence[j], DELTA); j++) {
+        if (j == seqLen - 1) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
   /**
    * Counts the number of times {@code sequence} can be found inside {@code array}
    * 
@@ -295,23 +984,51 @@ public final class FloatArrays {
   }
 
   /**
-   * Insert an array into another one starting at the specified {@code index}
+   * Counts the number of times {@code sequence} can be found inside a range of {@code array}
    * 
    * @param array
-   *          the array where you want to insert the values
-   * @param insert
-   *          the array to insert into {@code array}
-   * @param index
-   *          the index from where to start inserting the values
-   * @return a new array, based on a copy of {@code array} with {@code insert} inserted into it
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #findSequence(float[], int, int, float[])
    */
-  public static float[] insert(float[] array, float[] insert, int index) {
-    int lenArr = array.length;
-    int lenIns = insert.length;
-    int idx = Math.max(0, Math.min(lenArr, index));
-    int offset = Math.min(idx + 1, lenArr);
-    float[] arr = new float[lenArr + lenIns];
-    System.arraycopy(array, 0, arr, 0, offset);
+  public static int countSequence(float[] array, int fromIndex, int toIndex, float[] sequence) {
+    int count = 0;
+    int idx = fromIndex;
+    int len = sequence.length;
+    while ((idx = findSequence(array, idx, toIndex, sequence)) != -1) {
+      count++;
+      idx += len;
+    }
+    return count;
+  }
+
+  /**
+   * Insert an array into another one starting at the specified {@code index}
+   * 
+   * @param array
+   *          the array where you want to insert the values
+   * @param insert
+   *          the array to insert into {@code array}
+   * @param index
+   *          the index from where to start inserting the values
+   * @return a new array, based on a copy of {@code array} with {@code insert} inserted into it
+   */
+  public static float[] insert(float[] array, float[] insert, int index) {
+    int lenArr = array.length;
+    int lenIns = insert.length;
+    int idx = Math.max(0, Math.min(lenArr, index));
+    float[] arr = new float[lenArr + lenIns];
+    System.arraycopy(array, 0, arr, 0, idx);
     System.arraycopy(insert, 0, arr, idx, lenIns);
     System.arraycopy(array, idx, arr, idx + lenIns, lenArr - idx);
     return arr;
@@ -339,14 +1056,53 @@ public final class FloatArrays {
    * @return the biggest value from {@code values}
    */
   public static float max(float... values) {
-    if (values.length == 0) {
+    return max(values, 0, values.length);
+  }
+
+  /**
+   * Returns the greatest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the biggest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static float max(float[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get max value from empty array");
     }
-    float max = values[0];
-    for (float i : values) {
-      if (i > max) {
-        max = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    float max0 = array[fromIndex];
+    float max1 = max0;
+    float max2 = max0;
+    float max3 = max0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      max0 = array[i] > max0 ? array[i] : max0;
+      max1 = array[i + 1] > max1 ? array[i + 1] : max1;
+      max2 = array[i + 2] > max2 ? array[i + 2] : max2;
+      max3 = array[i + 3] > max3 ? array[i + 3] : max3;
+    }
+    for (; i < toIndex; i++) {
+      max0 = array[i] > max0 ? array[i] : max0;
+    }
+    float max = max0;
+    if (max1 > max) {
+      max = max1;
+    }
+    if (max2 > max) {
+      max = max2;
+    }
+    if (max3 > max) {
+      max = max3;
     }
     return max;
   }
@@ -359,14 +1115,53 @@ public final class FloatArrays {
    * @return the smallest value from {@code values}
    */
   public static float min(float... values) {
-    if (values.length == 0) {
+    return min(values, 0, values.length);
+  }
+
+  /**
+   * Returns the smallest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the smallest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static float min(float[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get min value from empty array");
     }
-    float min = values[0];
-    for (float i : values) {
-      if (i < min) {
-        min = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    float min0 = array[fromIndex];
+    float min1 = min0;
+    float min2 = min0;
+    float min3 = min0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      min0 = array[i] < min0 ? array[i] : min0;
+      min1 = array[i + 1] < min1 ? array[i + 1] : min1;
+      min2 = array[i + 2] < min2 ? array[i + 2] : min2;
+      min3 = array[i + 3] < min3 ? array[i + 3] : min3;
+    }
+    for (; i < toIndex; i++) {
+      min0 = array[i] < min0 ? array[i] : min0;
+    }
+    float min = min0;
+    if (min1 < min) {
+      min = min1;
+    }
+    if (min2 < min) {
+      min = min2;
+    }
+    if (min3 < min) {
+      min = min3;
     }
     return min;
   }
@@ -379,11 +1174,66 @@ public final class FloatArrays {
    * @return the average value of {@code values}
    */
   public static float avg(float... values) {
-    int len = values.length;
+    return avg(values, 0, values.length);
+  }
+
+  /**
+   * Returns the average of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the average value of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static float avg(float[] array, int fromIndex, int toIndex) {
+    return avg(array, fromIndex, toIndex, Summation.PAIRWISE);
+  }
+
+  /**
+   * Returns the average of the values of an array, summing them up with the specified algorithm
+   * 
+   * @param array
+   *          the array containing the values
+   * @param summation
+   *          the algorithm to sum up the values with
+   * @return the average value of {@code array}
+   */
+  public static float avg(float[] array, Summation summation) {
+    return avg(array, 0, array.length, summation);
+  }
+
+  /**
+   * Returns the average of the values in a range of an array, summing them up with the specified
+   * algorithm
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param summation
+   *          the algorithm to sum up the values with
+   * @return the average value of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static float avg(float[] array, int fromIndex, int toIndex, Summation summation) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
     if (len == 0) {
       throw new InvalidArrayException("Can't get average value from empty array");
     }
-    return sum(values) / len;
+    return (float) (summation.sum(array, fromIndex, toIndex) / len);
   }
 
   /**
@@ -394,10 +1244,1504 @@ public final class FloatArrays {
    * @return the sum of {@code values}
    */
   public static float sum(float... values) {
-    float total = 0;
-    for (float i : values) {
-      total += i;
+    return sum(values, 0, values.length);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static float sum(float[] array, int fromIndex, int toIndex) {
+    return sum(array, fromIndex, toIndex, Summation.PAIRWISE);
+  }
+
+  /**
+   * Returns the sum of the values of an array, summed up with the specified algorithm
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param summation
+   *          the algorithm to sum up the values with
+   * @return the sum of {@code array}
+   */
+  public static float sum(float[] array, Summation summation) {
+    return sum(array, 0, array.length, summation);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array, summed up with the specified algorithm
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param summation
+   *          the algorithm to sum up the values with
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static float sum(float[] array, int fromIndex, int toIndex, Summation summation) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    return (float) summation.sum(array, fromIndex, toIndex);
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values of an array in a single
+   * pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the statistics of {@code array}
+   * @see #stats(float[], int, int, DoubleStats)
+   */
+  public static DoubleStats stats(float[] array) {
+    return stats(array, 0, array.length, new DoubleStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the statistics of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #stats(float[], int, int, DoubleStats)
+   */
+  public static DoubleStats stats(float[] array, int fromIndex, int toIndex) {
+    return stats(array, fromIndex, toIndex, new DoubleStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass, storing them in an existing holder
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param stats
+   *          the holder to store the statistics in, its previous values are replaced
+   * @return {@code stats}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static DoubleStats stats(float[] array, int fromIndex, int toIndex, DoubleStats stats) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int count = toIndex - fromIndex;
+    if (count == 0) {
+      throw new InvalidArrayException("Can't get statistics from empty array");
+    }
+    // The variance is updated value by value, the same way as by moments, so it doesn't lose most of
+    // its precision if the values are far away from zero
+    Moments moments = new Moments();
+    double min = array[fromIndex];
+    double max = min;
+    double sum = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      float value = array[i];
+      min = value < min ? value : min;
+      max = value > max ? value : max;
+      sum += value;
+      moments.add(value);
+    }
+    stats.set(count, sum, min, max, moments.mean(), moments.variance());
+    return stats;
+  }
+
+  /**
+   * Returns the value which would be at index {@code n} if the array was sorted, without sorting it.
+   * The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param n
+   *          the index in the sorted array
+   * @return the {@code n}-th smallest value, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code n} is outside of the array
+   * @see #nthElementInPlace(float[], int, int, int)
+   */
+  public static float nthElement(float[] array, int n) {
+    return nthElementInPlace(array.clone(), 0, array.length, n);
+  }
+
+  /**
+   * Reorders a range of an array so the value at {@code fromIndex + n} is the one which would be there
+   * if the range was sorted, all values before it are smaller or equal and all values after it are
+   * bigger or equal. This takes linear time on average and {@code O(n log n)} time in the worst case.
+   * {@code NaN} values are ordered after all other values, like {@link Arrays#sort(float[])} does.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param n
+   *          the index in the sorted range
+   * @return the {@code n}-th smallest value of the range, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0}, {@code toIndex > array.length} or {@code n} is outside of the
+   *           range
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static float nthElementInPlace(float[] array, int fromIndex, int toIndex, int n) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (n < 0 || n >= toIndex - fromIndex) {
+      throw new ArrayIndexOutOfBoundsException(n);
+    }
+    int end = moveNaNsToEnd(array, fromIndex, toIndex);
+    int[] ranks = new int[] { fromIndex + n };
+    select(array, fromIndex, end, ranks, 0, Selection.split(ranks, 0, 1, end), Selection.depthLimit(end - fromIndex));
+    return array[fromIndex + n];
+  }
+
+  /**
+   * Returns the median of any number of values, without sorting them. The values themselves aren't
+   * changed.
+   * 
+   * @param values
+   *          the values
+   * @return the median value of {@code values}
+   * @see #percentile(float[], double)
+   */
+  public static double median(float... values) {
+    return percentile(values, 50);
+  }
+
+  /**
+   * Returns a percentile of the values of an array, interpolating linearly between the two closest
+   * values, without sorting it. The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentile
+   *          the percentile, between 0 and 100
+   * @return the percentile of {@code array}
+   * @throws IllegalArgumentException
+   *           if {@code percentile} isn't between 0 and 100
+   * @see #percentilesInPlace(float[], int, int, double...)
+   */
+  public static double percentile(float[] array, double percentile) {
+    return percentiles(array, percentile)[0];
+  }
+
+  /**
+   * Returns several percentiles of the values of an array, without sorting it. The array itself isn't
+   * changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of {@code array}, in the same order as {@code percentiles}
+   * @throws IllegalArgumentException
+   *           if a percentile isn't between 0 and 100
+   * @see #percentilesInPlace(float[], int, int, double...)
+   */
+  public static double[] percentiles(float[] array, double... percentiles) {
+    return percentilesInPlace(array.clone(), 0, array.length, percentiles);
+  }
+
+  /**
+   * Computes several percentiles of the values in a range of an array, interpolating linearly between
+   * the two closest values. All of them are found in a single partitioning pass, which reorders the
+   * range instead of copying it.
+   * {@code NaN} values are ordered after all other values, like {@link Arrays#sort(float[])} does.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of the range, in the same order as {@code percentiles}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex} or a percentile isn't between 0 and 100
+   */
+  public static double[] percentilesInPlace(float[] array, int fromIndex, int toIndex, double... percentiles) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
+    if (len == 0) {
+      throw new InvalidArrayException("Can't get percentile from empty array");
+    }
+    int[] ranks = Selection.ranks(fromIndex, len, percentiles);
+    int end = moveNaNsToEnd(array, fromIndex, toIndex);
+    select(array, fromIndex, end, ranks, 0, Selection.split(ranks, 0, ranks.length, end), Selection.depthLimit(len));
+    double[] result = new double[percentiles.length];
+    for (int i = 0; i < result.length; i++) {
+      double pos = Selection.position(len, percentiles[i]);
+      int lower = fromIndex + (int) Math.floor(pos);
+      int upper = fromIndex + (int) Math.ceil(pos);
+      result[i] = Selection.interpolate(array[lower], array[upper], pos - Math.floor(pos));
+    }
+    return result;
+  }
+
+  /**
+   * Counts the values of an array in bins of equal width between {@code min} and {@code max}. Every
+   * bin includes its lower bound, the last one includes {@code max} as well. Values outside of
+   * {@code [min, max]} and {@code NaN} values aren't counted.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param bins
+   *          the number of bins
+   * @return the number of values in each bin
+   * @throws IllegalArgumentException
+   *           if {@code bins} isn't positive or {@code min} isn't smaller than {@code max}
+   */
+  public static long[] histogram(float[] array, float min, float max, int bins) {
+    return histogram(array, 0, array.length, min, max, new long[bins]);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins of equal width between {@code min} and
+   * {@code max}, adding them to existing counts. The bin of a value is computed with a multiplication
+   * by a precomputed factor in {@code double} precision and then checked against the bounds of the
+   * bin, so a value on the lower bound of a bin is never counted in the bin before.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param counts
+   *          the counts to add to, there is one bin per element
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, {@code counts} is empty or {@code min} isn't smaller
+   *           than {@code max}
+   * @see #histogram(float[], float, float, int)
+   */
+  public static long[] histogram(float[] array, int fromIndex, int toIndex, float min, float max, long[] counts) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    double scale = Histograms.scale(min, max, counts.length);
+    int bins = counts.length;
+    for (int i = fromIndex; i < toIndex; i++) {
+      float value = array[i];
+      if (value >= min && value <= max) {
+        counts[Histograms.bin(value, min, max, scale, bins)]++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Counts the values of an array in bins delimited by the given boundaries. Bin {@code i} includes
+   * the values from {@code boundaries[i]}, inclusive, to {@code boundaries[i + 1]}, exclusive; the
+   * last bin includes its upper boundary as well. Values outside of the boundaries and {@code NaN} values aren't
+   * counted.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @return the number of values in each bin, one less than there are boundaries
+   * @throws IllegalArgumentException
+   *           if there are less than two boundaries or they aren't strictly increasing
+   */
+  public static long[] histogram(float[] array, float[] boundaries) {
+    return histogram(array, 0, array.length, boundaries, new long[Math.max(0, boundaries.length - 1)]);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins delimited by the given boundaries, adding them to
+   * existing counts. The bin of a value is found by a binary search whose steps don't branch on the
+   * comparisons.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @param counts
+   *          the counts to add to, one less than there are boundaries
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, the boundaries aren't strictly increasing or don't match
+   *           the length of {@code counts}
+   * @see #histogram(float[], float[])
+   */
+  public static long[] histogram(float[] array, int fromIndex, int toIndex, float[] boundaries, long[] counts) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    checkBoundaries(boundaries, counts.length);
+    float first = boundaries[0];
+    float lastBoundary = boundaries[boundaries.length - 1];
+    int last = counts.length - 1;
+    for (int i = fromIndex; i < toIndex; i++) {
+      float value = array[i];
+      if (value >= first && value <= lastBoundary) {
+        // Finds the last boundary which isn't bigger than the value
+        int base = 0;
+        for (int len = boundaries.length; len > 1; len -= len >>> 1) {
+          int probe = base + (len >>> 1);
+          base = boundaries[probe] <= value ? probe : base;
+        }
+        counts[Math.min(base, last)]++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Counts the values of an array in bins of equal width in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param bins
+   *          the number of bins
+   * @return the number of values in each bin
+   * @throws IllegalArgumentException
+   *           if {@code bins} isn't positive or {@code min} isn't smaller than {@code max}
+   * @see #histogram(float[], float, float, int)
+   */
+  public static long[] parallelHistogram(float[] array, float min, float max, int bins) {
+    return parallelHistogram(array, 0, array.length, min, max, new long[bins], ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins of equal width in parallel, adding them to
+   * existing counts. Every chunk counts into its own array, these are added up in the end.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param counts
+   *          the counts to add to, there is one bin per element
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, {@code counts} is empty or {@code min} isn't smaller
+   *           than {@code max}
+   * @see #histogram(float[], int, int, float, float, long[])
+   */
+  public static long[] parallelHistogram(float[] array, int fromIndex, int toIndex, float min, float max, long[] counts,
+      ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    Histograms.scale(min, max, counts.length);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return histogram(array, fromIndex, toIndex, min, max, counts);
+    }
+    ParallelConfig chunking = Histograms.chunking(config, toIndex - fromIndex);
+    long[][] partials = new long[Parallel.chunks(chunking, fromIndex, toIndex)][];
+    Parallel.forEachChunk(chunking, fromIndex, toIndex,
+        (chunk, from, to) -> partials[chunk] = histogram(array, from, to, min, max, new long[counts.length]));
+    return Histograms.merge(partials, counts);
+  }
+
+  /**
+   * Counts the values of an array in bins delimited by the given boundaries in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @return the number of values in each bin, one less than there are boundaries
+   * @throws IllegalArgumentException
+   *           if there are less than two boundaries or they aren't strictly increasing
+   * @see #histogram(float[], float[])
+   */
+  public static long[] parallelHistogram(float[] array, float[] boundaries) {
+    return parallelHistogram(array, 0, array.length, boundaries, new long[Math.max(0, boundaries.length - 1)],
+        ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins delimited by the given boundaries in parallel,
+   * adding them to existing counts. Every chunk counts into its own array, these are added up in the
+   * end.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @param counts
+   *          the counts to add to, one less than there are boundaries
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, the boundaries aren't strictly increasing or don't match
+   *           the length of {@code counts}
+   * @see #histogram(float[], int, int, float[], long[])
+   */
+  public static long[] parallelHistogram(float[] array, int fromIndex, int toIndex, float[] boundaries, long[] counts,
+      ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    checkBoundaries(boundaries, counts.length);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return histogram(array, fromIndex, toIndex, boundaries, counts);
+    }
+    ParallelConfig chunking = Histograms.chunking(config, toIndex - fromIndex);
+    long[][] partials = new long[Parallel.chunks(chunking, fromIndex, toIndex)][];
+    Parallel.forEachChunk(chunking, fromIndex, toIndex,
+        (chunk, from, to) -> partials[chunk] = histogram(array, from, to, boundaries, new long[counts.length]));
+    return Histograms.merge(partials, counts);
+  }
+
+  private static void checkBoundaries(float[] boundaries, int bins) {
+    Histograms.checkBoundaries(boundaries.length, bins);
+    for (int i = 1; i < boundaries.length; i++) {
+      if (!(boundaries[i - 1] < boundaries[i])) {
+        throw new IllegalArgumentException("Boundaries must be strictly increasing");
+      }
+    }
+  }
+
+  /**
+   * Replaces every value of an array with the sum of it and all values before it. Afterwards the sum
+   * of any range {@code [from, to)} with {@code from > 0} is {@code array[to - 1] - array[from - 1]}.
+   * The sums are accumulated in {@code double} precision.
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   * @see #differences(float[])
+   */
+  public static float[] prefixSum(float[] array) {
+    return prefixSum(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running sums of a range of an array, writing them into an existing array. Each result
+   * is the sum of the source value at the same position and all source values before it in the range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] prefixSum(float[] src, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    double sum = 0;
+    for (int i = 0; i < length; i++) {
+      sum += src[from + i];
+      dest[destPos + i] = (float) sum;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the sum of it and all values before it, computing them in
+   * parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   * @see #prefixSum(float[])
+   */
+  public static float[] parallelPrefixSum(float[] array) {
+    return parallelPrefixSum(array, 0, array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Computes the running sums of a range of an array in parallel, writing them into an existing array.
+   * The first pass sums up every chunk, the second one computes the running sums of every chunk
+   * starting from the total of the chunks before it, so every value is only read twice.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #prefixSum(float[], int, float[], int, int)
+   */
+  public static float[] parallelPrefixSum(float[] src, int srcPos, float[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return prefixSum(src, srcPos, dest, destPos, length);
+    }
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    double[] offsets = new double[Parallel.chunks(config, 0, length)];
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> offsets[chunk] = Summation.PAIRWISE.sum(src, from + start, from + end));
+    double total = 0;
+    for (int i = 0; i < offsets.length; i++) {
+      double chunkSum = offsets[i];
+      offsets[i] = total;
+      total += chunkSum;
+    }
+    Parallel.forEachChunk(config, 0, length, (chunk, start, end) -> {
+      double sum = offsets[chunk];
+      for (int i = start; i < end; i++) {
+        sum += src[from + i];
+        dest[destPos + i] = (float) sum;
+      }
+    });
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array but the first with its difference from the value before it,
+   * which reverts {@link #prefixSum(float[])}.
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static float[] differences(float[] array) {
+    return differences(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the differences between neighbouring values of a range of an array, writing them into an
+   * existing array. The first result is the first source value itself, so this reverts
+   * {@link #prefixSum(float[], int, float[], int, int)}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] differences(float[] src, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    float previous = 0;
+    for (int i = 0; i < length; i++) {
+      float value = src[from + i];
+      dest[destPos + i] = value - previous;
+      previous = value;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the minimum of it and all values before it
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static float[] runningMin(float[] array) {
+    return runningMin(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running minimum of a range of an array, writing it into an existing array. Each result
+   * is the minimum of the source value at the same position and all source values before it in the
+   * range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] runningMin(float[] src, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    if (length == 0) {
+      return dest;
+    }
+    float min = src[from];
+    for (int i = 0; i < length; i++) {
+      float value = src[from + i];
+      min = value < min ? value : min;
+      dest[destPos + i] = min;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the maximum of it and all values before it
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static float[] runningMax(float[] array) {
+    return runningMax(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running maximum of a range of an array, writing it into an existing array. Each result
+   * is the maximum of the source value at the same position and all source values before it in the
+   * range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static float[] runningMax(float[] src, int srcPos, float[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    if (length == 0) {
+      return dest;
+    }
+    float max = src[from];
+    for (int i = 0; i < length; i++) {
+      float value = src[from + i];
+      max = value > max ? value : max;
+      dest[destPos + i] = max;
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the sum of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the sums of the windows, {@code array.length - window + 1} of them or none if the array is
+   *         shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static float[] movingSum(float[] array, int window) {
+    return movingSum(array, 0, new float[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the sum of every window of {@code window} consecutive values of a range of an array,
+   * writing them into an existing array. Every sum is derived from the previous one by adding the value
+   * entering the window and removing the one leaving it, so this takes {@code O(n)} time no matter how
+   * big the window is. The sum is kept in {@code double} precision and compensated for the rounding
+   * errors of every step.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static float[] movingSum(float[] src, int srcPos, float[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    float[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    Windows.RunningSum sum = new Windows.RunningSum();
+    for (int i = 0; i < window - 1 && i < length; i++) {
+      sum.add(values[from + i]);
+    }
+    for (int i = 0; i < windows; i++) {
+      sum.add(values[from + i + window - 1]);
+      dest[destPos + i] = (float) sum.value();
+      sum.remove(values[from + i]);
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the average of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the averages of the windows, {@code array.length - window + 1} of them or none if the array
+   *         is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static double[] movingAvg(float[] array, int window) {
+    return movingAvg(array, 0, new double[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the average of every window of {@code window} consecutive values of a range of an array,
+   * writing them into an existing array. The sum of the window is kept up to date the same way as by
+   * {@link #movingSum(float[], int, float[], int, int, int)}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static double[] movingAvg(float[] src, int srcPos, double[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    Windows.RunningSum sum = new Windows.RunningSum();
+    for (int i = 0; i < window - 1 && i < length; i++) {
+      sum.add(src[srcPos + i]);
+    }
+    for (int i = 0; i < windows; i++) {
+      sum.add(src[srcPos + i + window - 1]);
+      dest[destPos + i] = sum.value() / window;
+      sum.remove(src[srcPos + i]);
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the minimum value of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the minimum values of the windows, {@code array.length - window + 1} of them or none if the
+   *         array is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static float[] movingMin(float[] array, int window) {
+    return movingMin(array, 0, new float[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the minimum value of every window of {@code window} consecutive values of a range of an
+   * array, writing them into an existing array. The indices of the values which can still become the
+   * minimum of a later window are kept in a deque, ordered by index and by value, so this takes
+   * {@code O(n)} time no matter how big the window is. Like {@link Math#min(float, float)}, the minimum of a
+   * window containing {@code NaN} is {@code NaN}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static float[] movingMin(float[] src, int srcPos, float[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    if (windows == 0) {
+      return dest;
+    }
+    float[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    // A ring buffer of indices, the values at them are strictly increasing from head to tail
+    int[] deque = new int[window];
+    int head = 0;
+    int size = 0;
+    // NaN values aren't ordered, so they are left out of the deque and only their last index is kept
+    int lastNaN = Integer.MIN_VALUE;
+    for (int i = 0; i < length; i++) {
+      if (size > 0 && deque[head] <= i - window) {
+        head = head + 1 == window ? 0 : head + 1;
+        size--;
+      }
+      float value = values[from + i];
+      if (value != value) {
+        lastNaN = i;
+      } else {
+        while (size > 0) {
+          int last = head + size - 1;
+          if (values[from + deque[last < window ? last : last - window]] < value) {
+            break;
+          }
+          size--;
+        }
+        int tail = head + size;
+        deque[tail < window ? tail : tail - window] = i;
+        size++;
+      }
+      if (i >= window - 1) {
+        dest[destPos + i - window + 1] = lastNaN > i - window ? Float.NaN : values[from + deque[head]];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the maximum value of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the maximum values of the windows, {@code array.length - window + 1} of them or none if the
+   *         array is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static float[] movingMax(float[] array, int window) {
+    return movingMax(array, 0, new float[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the maximum value of every window of {@code window} consecutive values of a range of an
+   * array, writing them into an existing array. The indices of the values which can still become the
+   * maximum of a later window are kept in a deque, ordered by index and by value, so this takes
+   * {@code O(n)} time no matter how big the window is. Like {@link Math#max(float, float)}, the maximum of a
+   * window containing {@code NaN} is {@code NaN}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static float[] movingMax(float[] src, int srcPos, float[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    if (windows == 0) {
+      return dest;
+    }
+    float[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    // A ring buffer of indices, the values at them are strictly decreasing from head to tail
+    int[] deque = new int[window];
+    int head = 0;
+    int size = 0;
+    // NaN values aren't ordered, so they are left out of the deque and only their last index is kept
+    int lastNaN = Integer.MIN_VALUE;
+    for (int i = 0; i < length; i++) {
+      if (size > 0 && deque[head] <= i - window) {
+        head = head + 1 == window ? 0 : head + 1;
+        size--;
+      }
+      float value = values[from + i];
+      if (value != value) {
+        lastNaN = i;
+      } else {
+        while (size > 0) {
+          int last = head + size - 1;
+          if (values[from + deque[last < window ? last : last - window]] > value) {
+            break;
+          }
+          size--;
+        }
+        int tail = head + size;
+        deque[tail < window ? tail : tail - window] = i;
+        size++;
+      }
+      if (i >= window - 1) {
+        dest[destPos + i - window + 1] = lastNaN > i - window ? Float.NaN : values[from + deque[head]];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * Moves the values at the given ranks of a range to their sorted positions, using a three way
+   * partitioning quickselect which falls back to sorting after too many bad pivots
+   */
+  private static void select(float[] array, int fromIndex, int toIndex, int[] ranks, int rankFrom, int rankTo,
+      int depth) {
+    while (rankFrom < rankTo) {
+      if (depth-- == 0 || toIndex - fromIndex <= Selection.SORT_THRESHOLD) {
+        Arrays.sort(array, fromIndex, toIndex);
+        return;
+      }
+      float a = array[fromIndex];
+      float b = array[(fromIndex + toIndex) >>> 1];
+      float c = array[toIndex - 1];
+      float pivot = a < b ? (b < c ? b : a < c ? c : a) : (a < c ? a : b < c ? c : b);
+      // [fromIndex, lt) < pivot, [lt, i) == pivot, [gt, toIndex) > pivot
+      int lt = fromIndex;
+      int gt = toIndex;
+      int i = fromIndex;
+      while (i < gt) {
+        float value = array[i];
+        if (value < pivot) {
+          array[i++] = array[lt];
+          array[lt++] = value;
+        } else if (value > pivot) {
+          array[i] = array[--gt];
+          array[gt] = value;
+        } else {
+          i++;
+        }
+      }
+      int left = Selection.split(ranks, rankFrom, rankTo, lt);
+      int right = Selection.split(ranks, left, rankTo, gt);
+      // Recurse into the smaller side and loop on the bigger one to bound the stack depth
+      if (lt - fromIndex < toIndex - gt) {
+        select(array, fromIndex, lt, ranks, rankFrom, left, depth);
+        fromIndex = gt;
+        rankFrom = right;
+      } else {
+        select(array, gt, toIndex, ranks, right, rankTo, depth);
+        toIndex = lt;
+        rankTo = left;
+      }
+    }
+  }
+
+  /**
+   * Moves all {@code NaN} values of a range to its end, where {@link Arrays#sort(float[])} puts them
+   * 
+   * @return the index of the first {@code NaN} value, {@code toIndex} if there are none
+   */
+  private static int moveNaNsToEnd(float[] array, int fromIndex, int toIndex) {
+    int end = toIndex;
+    for (int i = toIndex - 1; i >= fromIndex; i--) {
+      if (array[i] != array[i]) {
+        array[i] = array[--end];
+        array[end] = Float.NaN;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Computes the moments of the values of an array in a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the moments of {@code array}
+   * @see #moments(float[], int, int, Moments)
+   */
+  public static Moments moments(float[] array) {
+    return moments(array, 0, array.length, new Moments());
+  }
+
+  /**
+   * Computes the moments of the values in a range of an array in a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the moments of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #moments(float[], int, int, Moments)
+   */
+  public static Moments moments(float[] array, int fromIndex, int toIndex) {
+    return moments(array, fromIndex, toIndex, new Moments());
+  }
+
+  /**
+   * Adds the values in a range of an array to existing moments. Unlike {@link #stats(float[], int, int)}
+   * this can be called for any number of consecutive batches of values.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param moments
+   *          the moments to add the values to
+   * @return {@code moments}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static Moments moments(float[] array, int fromIndex, int toIndex, Moments moments) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+      moments.add(array[i]);
+    }
+    return moments;
+  }
+
+  /**
+   * Returns the population variance of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population variance of {@code values}
+   * @see Moments#variance()
+   */
+  public static double variance(float... values) {
+    return variance(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population variance of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population variance of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#variance()
+   */
+  public static double variance(float[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "variance").variance();
+  }
+
+  /**
+   * Returns the population standard deviation of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population standard deviation of {@code values}
+   * @see Moments#stddev()
+   */
+  public static double stddev(float... values) {
+    return stddev(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population standard deviation of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population standard deviation of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#stddev()
+   */
+  public static double stddev(float[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "standard deviation").stddev();
+  }
+
+  /**
+   * Returns the population skewness of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population skewness of {@code values}
+   * @see Moments#skewness()
+   */
+  public static double skewness(float... values) {
+    return skewness(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population skewness of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population skewness of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#skewness()
+   */
+  public static double skewness(float[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "skewness").skewness();
+  }
+
+  /**
+   * Returns the population excess kurtosis of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population excess kurtosis of {@code values}
+   * @see Moments#kurtosis()
+   */
+  public static double kurtosis(float... values) {
+    return kurtosis(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population excess kurtosis of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population excess kurtosis of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#kurtosis()
+   */
+  public static double kurtosis(float[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "kurtosis").kurtosis();
+  }
+
+  /**
+   * Computes the moments of the values of an array in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the moments of {@code array}
+   */
+  public static Moments parallelMoments(float[] array) {
+    return parallelMoments(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Computes the moments of the values of an array in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the moments of {@code array}
+   */
+  public static Moments parallelMoments(float[] array, ParallelConfig config) {
+    return parallelMoments(array, 0, array.length, config);
+  }
+
+  /**
+   * Computes the moments of the values in a range of an array in parallel. The moments of every chunk
+   * are computed separately and then merged.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the moments of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#merge(Moments)
+   */
+  public static Moments parallelMoments(float[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return moments(array, fromIndex, toIndex);
+    }
+    Moments[] partials = new Moments[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = moments(array, from, to));
+    Moments moments = new Moments();
+    for (Moments partial : partials) {
+      moments.merge(partial);
+    }
+    return moments;
+  }
+
+  private static Moments nonEmptyMoments(float[] array, int fromIndex, int toIndex, String name) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
+      throw new InvalidArrayException("Can't get " + name + " from empty array");
+    }
+    return moments(array, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the maximum value of {@code array}
+   */
+  public static float parallelMax(float[] array) {
+    return parallelMax(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value of {@code array}
+   */
+  public static float parallelMax(float[] array, ParallelConfig config) {
+    return parallelMax(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the maximum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value in the range
+   * @see #max(float[], int, int)
+   */
+  public static float parallelMax(float[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return max(array, fromIndex, toIndex);
+    }
+    float[] partials = new float[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = max(array, from, to));
+    return max(partials);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the minimum value of {@code array}
+   */
+  public static float parallelMin(float[] array) {
+    return parallelMin(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value of {@code array}
+   */
+  public static float parallelMin(float[] array, ParallelConfig config) {
+    return parallelMin(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the minimum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value in the range
+   * @see #min(float[], int, int)
+   */
+  public static float parallelMin(float[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return min(array, fromIndex, toIndex);
+    }
+    float[] partials = new float[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = min(array, from, to));
+    return min(partials);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the sum of the values of {@code array}
+   */
+  public static float parallelSum(float[] array) {
+    return parallelSum(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values of {@code array}
+   */
+  public static float parallelSum(float[] array, ParallelConfig config) {
+    return parallelSum(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array, computing it in parallel. The
+   * chunks and their partial sums are summed up pairwise, so the result can differ slightly from
+   * {@link #sum(float[], int, int)}.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values in the range
+   * @see #sum(float[], int, int)
+   */
+  public static float parallelSum(float[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return sum(array, fromIndex, toIndex);
     }
-    return total;
+    double[] partials = new double[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex,
+        (chunk, from, to) -> partials[chunk] = Summation.PAIRWISE.sum(array, from, to));
+    return (float) Summation.PAIRWISE.sum(partials, 0, partials.length);
   }
 }
@@ -0,0 +1,213 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * A view of a range of a {@code float} array. Creating a slice doesn't copy any values, the operations
+ * of the slice run directly on the range of the underlying array and changes to the array are
+ * visible through the slice.
+ */
+public final class FloatSlice {
+  private final float[] array;
+  private final int offset;
+  private final int length;
+
+  private FloatSlice(float[] array, int offset, int length) {
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates a slice covering a whole array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @return a new slice of {@code array}
+   */
+  public static FloatSlice of(float... array) {
+    return new FloatSlice(array, 0, array.length);
+  }
+
+  /**
+   * Creates a slice covering a range of an array
+   * 
+   * @param array
+   *          the array to create a view of
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new slice of {@code array}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static FloatSlice of(float[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    return new FloatSlice(array, fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return the array this slice is a view of
+   */
+  public float[] array() {
+    return array;
+  }
+
+  /**
+   * @return the index of the first element of this slice inside {@link #array()}
+   */
+  public int offset() {
+    return offset;
+  }
+
+  /**
+   * @return the number of elements in this slice
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the element at the specified index of this slice
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @return the element at {@code index}
+   */
+  public float get(int index) {
+    return array[offset + checkIndex(index)];
+  }
+
+  /**
+   * Replaces the element at the specified index of this slice, which modifies the underlying array
+   * 
+   * @param index
+   *          the index relative to the start of this slice
+   * @param value
+   *          the new value of the element
+   */
+  public void set(int index, float value) {
+    array[offset + checkIndex(index)] = value;
+  }
+
+  /**
+   * Creates a slice covering a range of this slice
+   * 
+   * @param fromIndex
+   *          the index of the first element relative to the start of this slice, inclusive
+   * @param toIndex
+   *          the index of the last element relative to the start of this slice, exclusive
+   * @return a new slice of the same array
+   */
+  public FloatSlice subSlice(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return new FloatSlice(array, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * @return a new array containing a copy of the elements of this slice
+   */
+  public float[] toArray() {
+    return Arrays.copyOfRange(array, offset, offset + length);
+  }
+
+  /**
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @return the elements of this slice separated by {@code delimiter}
+   * @see FloatArrays#join(CharSequence, float[], int, int)
+   */
+  public String join(CharSequence delimiter) {
+    return FloatArrays.join(delimiter, array, offset, offset + length);
+  }
+
+  /**
+   * @param value
+   *          the value to check for
+   * @return whether or not this slice contains {@code value}
+   * @see FloatArrays#contains(float[], int, int, float)
+   */
+  public boolean contains(float value) {
+    return FloatArrays.contains(array, offset, offset + length, value);
+  }
+
+  /**
+   * @return a new array containing only the distinct values of this slice
+   * @see FloatArrays#distinct(float[], int, int)
+   */
+  public float[] distinct() {
+    return FloatArrays.distinct(array, offset, offset + length);
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the index relative to the start of this slice of the first occurrence of
+   *         {@code sequence} or {@code -1} if the sequence isn't found
+   * @see FloatArrays#findSequence(float[], int, int, float[])
+   */
+  public int findSequence(float... sequence) {
+    int idx = FloatArrays.findSequence(array, offset, offset + length, sequence);
+    return idx == -1 ? -1 : idx - offset;
+  }
+
+  /**
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside this slice
+   * @see FloatArrays#countSequence(float[], int, int, float[])
+   */
+  public int countSequence(float... sequence) {
+    return FloatArrays.countSequence(array, offset, offset + length, sequence);
+  }
+
+  /**
+   * @return the biggest value of this slice
+   * @see FloatArrays#max(float[], int, int)
+   */
+  public float max() {
+    return FloatArrays.max(array, offset, offset + length);
+  }
+
+  /**
+   * @return the smallest value of this slice
+   * @see FloatArrays#min(float[], int, int)
+   */
+  public float min() {
+    return FloatArrays.min(array, offset, offset + length);
+  }
+
+  /**
+   * @return the average value of this slice
+   * @see FloatArrays#avg(float[], int, int)
+   */
+  public float avg() {
+    return FloatArrays.avg(array, offset, offset + length);
+  }
+
+  /**
+   * @return the sum of the values of this slice
+   * @see FloatArrays#sum(float[], int, int)
+   */
+  public float sum() {
+    return FloatArrays.sum(array, offset, offset + length);
+  }
+
+  /**
+   * @return count, sum, minimum, maximum, mean and variance of this slice, computed in a single pass
+   * @see FloatArrays#stats(float[], int, int)
+   */
+  public DoubleStats stats() {
+    return FloatArrays.stats(array, offset, offset + length);
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return index;
+  }
+}
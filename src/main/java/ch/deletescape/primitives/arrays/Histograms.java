@@ -0,0 +1,162 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Argument checks and merging shared by the {@code histogram} operations of the array classes
+ */
+final class Histograms {
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private Histograms() {}
+
+  /**
+   * Returns the factor which maps the offset of a value from {@code min} to its bin, so the bins can
+   * be computed with a multiplication instead of a division
+   * 
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param bins
+   *          the number of bins
+   * @return the number of bins per unit
+   * @throws IllegalArgumentException
+   *           if there are no bins or {@code min} isn't smaller than {@code max}
+   */
+  static double scale(double min, double max, int bins) {
+    checkBins(bins);
+    if (!(min < max)) {
+      throw new IllegalArgumentException("min(" + min + ") must be smaller than max(" + max + ")");
+    }
+    return bins / (max - min);
+  }
+
+  /**
+   * Returns the bin of a value between {@code min} and {@code max}. The bin is estimated with
+   * {@code scale} and then checked against the lower bound {@code min + i * (max - min) / bins} of bin
+   * {@code i}, so a value that sits on a bound isn't moved into the bin before by a rounding error.
+   * 
+   * @param value
+   *          the value to find the bin of, within {@code [min, max]}
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param scale
+   *          the factor returned by {@link #scale(double, double, int)}
+   * @param bins
+   *          the number of bins
+   * @return the index of the bin
+   */
+  static int bin(double value, double min, double max, double scale, int bins) {
+    int bin = Math.min((int) ((value - min) * scale), bins - 1);
+    if (bin < bins - 1 && value >= lowerBound(min, max, bins, bin + 1)) {
+      bin++;
+    } else if (bin > 0 && value < lowerBound(min, max, bins, bin)) {
+      bin--;
+    }
+    return bin;
+  }
+
+  private static double lowerBound(double min, double max, int bins, int bin) {
+    return min + (max - min) * bin / bins;
+  }
+
+  /**
+   * Returns the bin {@code offset * bins / span}, rounded down, of a value {@code offset} away from
+   * the lower bound of the first bin. Both {@code offset} and {@code span} are unsigned, so the whole
+   * range of {@code long} values can be covered. The bin is estimated in {@code double} precision
+   * and then corrected by comparing the exact products.
+   * 
+   * @param offset
+   *          the unsigned distance of the value from the lower bound of the first bin, at most
+   *          {@code span}
+   * @param span
+   *          the unsigned distance between the lower bound of the first bin and the upper bound of
+   *          the last one
+   * @param bins
+   *          the number of bins
+   * @return the index of the bin
+   */
+  static int bin(long offset, long span, int bins) {
+    int bin = (int) Math.min(bins - 1, unsignedToDouble(offset) / unsignedToDouble(span) * bins);
+    while (bin < bins - 1 && compareProducts(bin + 1, span, bins, offset) <= 0) {
+      bin++;
+    }
+    while (bin > 0 && compareProducts(bin, span, bins, offset) > 0) {
+      bin--;
+    }
+    return bin;
+  }
+
+  private static double unsignedToDouble(long value) {
+    return value >= 0 ? value : (value >>> 1) * 2.0;
+  }
+
+  /**
+   * Compares {@code a * b} with {@code c * d} without overflowing, {@code b} and {@code d} being
+   * unsigned
+   */
+  private static int compareProducts(int a, long b, int c, long d) {
+    long low1 = (b & 0xFFFFFFFFL) * a;
+    long high1 = (b >>> 32) * a + (low1 >>> 32);
+    long low2 = (d & 0xFFFFFFFFL) * c;
+    long high2 = (d >>> 32) * c + (low2 >>> 32);
+    int cmp = Long.compare(high1, high2);
+    return cmp != 0 ? cmp : Long.compare(low1 & 0xFFFFFFFFL, low2 & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Checks that the number of boundaries matches the number of bins
+   * 
+   * @param boundaries
+   *          the number of boundaries
+   * @param bins
+   *          the number of bins
+   * @throws IllegalArgumentException
+   *           if there are no bins or there isn't exactly one boundary more than there are bins
+   */
+  static void checkBoundaries(int boundaries, int bins) {
+    checkBins(bins);
+    if (boundaries != bins + 1) {
+      throw new IllegalArgumentException(boundaries + " boundaries can't delimit " + bins + " bins");
+    }
+  }
+
+  private static void checkBins(int bins) {
+    if (bins < 1) {
+      throw new IllegalArgumentException("A histogram needs at least one bin");
+    }
+  }
+
+  /**
+   * Returns the configuration to compute a histogram with. Every chunk counts into its own array, so
+   * the grain size is increased if needed to keep the number of chunks close to the parallelism of
+   * the pool.
+   * 
+   * @param config
+   *          the configuration passed by the caller
+   * @param length
+   *          the number of values to count
+   * @return {@code config} or a copy of it with a bigger grain size
+   */
+  static ParallelConfig chunking(ParallelConfig config, int length) {
+    long maxChunks = 4L * config.pool().getParallelism();
+    int grainSize = (int) Math.max(config.grainSize(), (length + maxChunks - 1) / maxChunks);
+    return grainSize == config.grainSize() ? config : config.withGrainSize(grainSize);
+  }
+
+  /**
+   * Adds the counts of all chunks to {@code counts}
+   * 
+   * @return {@code counts}
+   */
+  static long[] merge(long[][] partials, long[] counts) {
+    for (long[] partial : partials) {
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] += partial[i];
+      }
+    }
+    return counts;
+  }
+}
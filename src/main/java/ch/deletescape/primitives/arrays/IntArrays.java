@@ -1,8 +1,12 @@
 package ch.deletescape.primitives.arrays;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Random;
 
 import ch.deletescape.primitives.Ints;
+import ch.deletescape.primitives.collections.IntHeap;
 
 public final class IntArrays {
   /**
@@ -19,11 +23,88 @@ public final class IntArrays {
    * @see Ints#from(long)
    */
   public static int[] from(long[] lngArr) {
-    int[] tmp = new int[lngArr.length];
-    for (int i = 0; i < lngArr.length; i++) {
-      tmp[i] = Ints.from(lngArr[i]);
+    return from(lngArr, 0, new int[lngArr.length], 0, lngArr.length);
+  }
+
+  /**
+   * Converts a range of a long array to int values using {@link Ints#from(long)},
+   * writing them into an existing int array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Ints#from(long)
+   */
+  public static int[] from(long[] lngArr, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Ints.from(lngArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a long array to int values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing int array
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(long[], int, int[], int, int)
+   */
+  public static int[] parallelFrom(long[] lngArr, int srcPos, int[] dest, int destPos, int length) {
+    return parallelFrom(lngArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a long array to int values in parallel, writing them into an existing int
+   * array. Every chunk is converted the same way as by {@link #from(long[], int, int[], int, int)}.
+   * 
+   * @param lngArr
+   *          the long array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] parallelFrom(long[] lngArr, int srcPos, int[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(lngArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(lngArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(lngArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -34,11 +115,86 @@ public final class IntArrays {
    * @return the resulting int array.
    */
   public static int[] from(char[] cArr) {
-    int[] tmp = new int[cArr.length];
-    for (int i = 0; i < cArr.length; i++) {
-      tmp[i] = cArr[i];
+    return from(cArr, 0, new int[cArr.length], 0, cArr.length);
+  }
+
+  /**
+   * Converts a range of a char array to int values, writing them into an existing int array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] from(char[] cArr, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = cArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a char array to int values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing int array
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(char[], int, int[], int, int)
+   */
+  public static int[] parallelFrom(char[] cArr, int srcPos, int[] dest, int destPos, int length) {
+    return parallelFrom(cArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a char array to int values in parallel, writing them into an existing int
+   * array. Every chunk is converted the same way as by {@link #from(char[], int, int[], int, int)}.
+   * 
+   * @param cArr
+   *          the char array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] parallelFrom(char[] cArr, int srcPos, int[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(cArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(cArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(cArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -49,11 +205,86 @@ public final class IntArrays {
    * @return the resulting int array.
    */
   public static int[] from(byte[] bArr) {
-    int[] tmp = new int[bArr.length];
-    for (int i = 0; i < bArr.length; i++) {
-      tmp[i] = bArr[i];
+    return from(bArr, 0, new int[bArr.length], 0, bArr.length);
+  }
+
+  /**
+   * Converts a range of a byte array to int values, writing them into an existing int array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] from(byte[] bArr, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = bArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a byte array to int values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing int array
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(byte[], int, int[], int, int)
+   */
+  public static int[] parallelFrom(byte[] bArr, int srcPos, int[] dest, int destPos, int length) {
+    return parallelFrom(bArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a byte array to int values in parallel, writing them into an existing int
+   * array. Every chunk is converted the same way as by {@link #from(byte[], int, int[], int, int)}.
+   * 
+   * @param bArr
+   *          the byte array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] parallelFrom(byte[] bArr, int srcPos, int[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(bArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(bArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(bArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -64,11 +295,86 @@ public final class IntArrays {
    * @return the resulting int array.
    */
   public static int[] from(short[] shrtArr) {
-    int[] tmp = new int[shrtArr.length];
-    for (int i = 0; i < shrtArr.length; i++) {
-      tmp[i] = shrtArr[i];
+    return from(shrtArr, 0, new int[shrtArr.length], 0, shrtArr.length);
+  }
+
+  /**
+   * Converts a range of a short array to int values, writing them into an existing int array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] from(short[] shrtArr, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = shrtArr[srcPos + i];
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a short array to int values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing int array
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(short[], int, int[], int, int)
+   */
+  public static int[] parallelFrom(short[] shrtArr, int srcPos, int[] dest, int destPos, int length) {
+    return parallelFrom(shrtArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a short array to int values in parallel, writing them into an existing int
+   * array. Every chunk is converted the same way as by {@link #from(short[], int, int[], int, int)}.
+   * 
+   * @param shrtArr
+   *          the short array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] parallelFrom(short[] shrtArr, int srcPos, int[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(shrtArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(shrtArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(shrtArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -80,11 +386,88 @@ public final class IntArrays {
    * @see Ints#from(double)
    */
   public static int[] from(double[] dblArr) {
-    int[] tmp = new int[dblArr.length];
-    for (int i = 0; i < dblArr.length; i++) {
-      tmp[i] = Ints.from(dblArr[i]);
+    return from(dblArr, 0, new int[dblArr.length], 0, dblArr.length);
+  }
+
+  /**
+   * Converts a range of a double array to int values using {@link Ints#from(double)},
+   * writing them into an existing int array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Ints#from(double)
+   */
+  public static int[] from(double[] dblArr, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Ints.from(dblArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a double array to int values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing int array
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(double[], int, int[], int, int)
+   */
+  public static int[] parallelFrom(double[] dblArr, int srcPos, int[] dest, int destPos, int length) {
+    return parallelFrom(dblArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a double array to int values in parallel, writing them into an existing int
+   * array. Every chunk is converted the same way as by {@link #from(double[], int, int[], int, int)}.
+   * 
+   * @param dblArr
+   *          the double array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] parallelFrom(double[] dblArr, int srcPos, int[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(dblArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(dblArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(dblArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -96,11 +479,88 @@ public final class IntArrays {
    * @see Ints#from(float)
    */
   public static int[] from(float[] fltArr) {
-    int[] tmp = new int[fltArr.length];
-    for (int i = 0; i < fltArr.length; i++) {
-      tmp[i] = Ints.from(fltArr[i]);
+    return from(fltArr, 0, new int[fltArr.length], 0, fltArr.length);
+  }
+
+  /**
+   * Converts a range of a float array to int values using {@link Ints#from(float)},
+   * writing them into an existing int array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Ints#from(float)
+   */
+  public static int[] from(float[] fltArr, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Ints.from(fltArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a float array to int values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing int array
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(float[], int, int[], int, int)
+   */
+  public static int[] parallelFrom(float[] fltArr, int srcPos, int[] dest, int destPos, int length) {
+    return parallelFrom(fltArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a float array to int values in parallel, writing them into an existing int
+   * array. Every chunk is converted the same way as by {@link #from(float[], int, int[], int, int)}.
+   * 
+   * @param fltArr
+   *          the float array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] parallelFrom(float[] fltArr, int srcPos, int[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(fltArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(fltArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(fltArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
   }
 
   /**
@@ -112,11 +572,110 @@ public final class IntArrays {
    * @see Ints#from(boolean)
    */
   public static int[] from(boolean[] boolArr) {
-    int[] tmp = new int[boolArr.length];
-    for (int i = 0; i < boolArr.length; i++) {
-      tmp[i] = Ints.from(boolArr[i]);
+    return from(boolArr, 0, new int[boolArr.length], 0, boolArr.length);
+  }
+
+  /**
+   * Converts a range of a boolean array to int values using {@link Ints#from(boolean)},
+   * writing them into an existing int array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see Ints#from(boolean)
+   */
+  public static int[] from(boolean[] boolArr, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    for (int i = 0; i < length; i++) {
+      dest[destPos + i] = Ints.from(boolArr[srcPos + i]);
     }
-    return tmp;
+    return dest;
+  }
+
+  /**
+   * Converts a range of a boolean array to int values in parallel using {@link ParallelConfig#DEFAULT},
+   * writing them into an existing int array
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #from(boolean[], int, int[], int, int)
+   */
+  public static int[] parallelFrom(boolean[] boolArr, int srcPos, int[] dest, int destPos, int length) {
+    return parallelFrom(boolArr, srcPos, dest, destPos, length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Converts a range of a boolean array to int values in parallel, writing them into an existing int
+   * array. Every chunk is converted the same way as by {@link #from(boolean[], int, int[], int, int)}.
+   * 
+   * @param boolArr
+   *          the boolean array to convert
+   * @param srcPos
+   *          the index of the first value to convert
+   * @param dest
+   *          the int array to write the converted values to
+   * @param destPos
+   *          the index in {@code dest} of the first converted value
+   * @param length
+   *          the number of values to convert
+   * @param config
+   *          controls how the conversion is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] parallelFrom(boolean[] boolArr, int srcPos, int[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(boolArr.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return from(boolArr, srcPos, dest, destPos, length);
+    }
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> from(boolArr, srcPos + start, dest, destPos + start, end - start));
+    return dest;
+  }
+
+  /**
+   * Reinterprets a byte array as int values, combining every 4 bytes into one value in the specified
+   * byte order. In contrast to {@link #from(byte[])} the bytes aren't converted one by one.
+   * 
+   * @param bytes
+   *          the bytes to combine, the length must be a multiple of 4
+   * @param order
+   *          the byte order of the values in {@code bytes}
+   * @return a new int array containing {@code bytes.length / 4} values
+   * @throws InvalidArrayException
+   *           if the length of {@code bytes} isn't a multiple of 4
+   * @see ByteArrays#toBytes(int[], ByteOrder)
+   */
+  public static int[] fromBytes(byte[] bytes, ByteOrder order) {
+    if (bytes.length % 4 != 0) {
+      throw new InvalidArrayException("Byte array length " + bytes.length + " isn't a multiple of 4");
+    }
+    int[] values = new int[bytes.length / 4];
+    ByteBuffer.wrap(bytes).order(order).asIntBuffer().get(values);
+    return values;
   }
 
   /**
@@ -148,9 +707,32 @@ public final class IntArrays {
    * @see String#join(CharSequence, CharSequence...)
    */
   public static String join(CharSequence delimiter, int... elements) {
-    String[] tmp = new String[elements.length];
-    for (int i = 0; i < tmp.length; i++) {
-      tmp[i] = Integer.toString(elements[i]);
+    return join(delimiter, elements, 0, elements.length);
+  }
+
+  /**
+   * Joins a range of an array the same way {@link #join(CharSequence, int...)} joins a whole array
+   * 
+   * @param delimiter
+   *          the delimiter that separates each element
+   * @param elements
+   *          the elements to join together.
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return a new {@code String} that is composed of the elements in the range separated by the
+   *         {@code delimiter}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > elements.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static String join(CharSequence delimiter, int[] elements, int fromIndex, int toIndex) {
+    Ranges.check(elements.length, fromIndex, toIndex);
+    String[] tmp = new String[toIndex - fromIndex];
+    for (int i = fromIndex; i < toIndex; i++) {
+      tmp[i - fromIndex] = Integer.toString(elements[i]);
     }
     return String.join(delimiter, tmp);
   }
@@ -161,13 +743,18 @@ public final class IntArrays {
    * @param arrays
    *          the {@code int} arrays to concatenate
    * @return an {@code int} array cotaining the values of all {@code arrays}
+   * @throws InvalidArrayException
+   *           if the arrays contain more than {@code Integer.MAX_VALUE} elements in total
    */
   public static int[] concatAll(int[]... arrays) {
-    int totalLength = 0;
+    long totalLength = 0;
     for (int[] array : arrays) {
       totalLength += array.length;
     }
-    int[] result = new int[totalLength];
+    if (totalLength > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    int[] result = new int[(int) totalLength];
     int offset = 0;
     for (int[] array : arrays) {
       System.arraycopy(array, 0, result, offset, array.length);
@@ -186,14 +773,98 @@ public final class IntArrays {
    * @return whether or not {@code array} contains {@code value}
    */
   public static boolean contains(int[] array, int value) {
-    for (int item : array) {
-      if (item == value) {
+    return contains(array, 0, array.length, value);
+  }
+
+  /**
+   * Returns true if a range of an array contains the specified value
+   * 
+   * @param array
+   *          the array to search for {@code value}
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to check for
+   * @return whether or not the range contains {@code value}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static boolean contains(int[] array, int fromIndex, int toIndex, int value) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int i = fromIndex;
+    // Compares blocks of eight values with non-short-circuit ors, so there is one branch per block
+    for (; i < toIndex - 7; i += 8) {
+      if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value
+          | array[i + 4] == value | array[i + 5] == value | array[i + 6] == value | array[i + 7] == value) {
+        return true;
+      }
+    }
+    for (; i < toIndex; i++) {
+      if (array[i] == value) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Checks if an array contains a specific value, searching it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(int[] array, int value) {
+    return parallelContains(array, 0, array.length, value, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Checks if an array contains a specific value, searching it in parallel
+   * 
+   * @param array
+   *          the array to search in
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not {@code array} contains {@code value}
+   */
+  public static boolean parallelContains(int[] array, int value, ParallelConfig config) {
+    return parallelContains(array, 0, array.length, value, config);
+  }
+
+  /**
+   * Checks if a range of an array contains a specific value, searching it in parallel. Chunks which
+   * haven't been searched yet are skipped as soon as the value was found.
+   * 
+   * @param array
+   *          the array to search in
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param value
+   *          the value to search for
+   * @param config
+   *          controls how the search is split up
+   * @return whether or not the range contains {@code value}
+   * @see #contains(int[], int, int, int)
+   */
+  public static boolean parallelContains(int[] array, int fromIndex, int toIndex, int value, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return contains(array, fromIndex, toIndex, value);
+    }
+    return Parallel.anyChunk(config, fromIndex, toIndex, (from, to) -> contains(array, from, to, value));
+  }
+
   /**
    * Returns a new array containing only the unique values of the original array
    * 
@@ -202,15 +873,35 @@ public final class IntArrays {
    * @return only the distinct values in {@code array}
    */
   public static int[] distinct(int[] array) {
-    int[] tmp = new int[array.length];
-    int i = 0;
-    for (int item : array) {
-      if (!contains(tmp, item)) {
-        tmp[i++] = item;
+    return distinct(array, 0, array.length);
+  }
+
+  /**
+   * Returns a new array containing only the unique values in a range of an array
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return only the distinct values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int[] distinct(int[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int[] tmp = new int[toIndex - fromIndex];
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (!contains(tmp, 0, count, array[i])) {
+        tmp[count++] = array[i];
       }
     }
-    int[] distincts = new int[i];
-    System.arraycopy(tmp, 0, distincts, 0, i);
+    int[] distincts = new int[count];
+    System.arraycopy(tmp, 0, distincts, 0, count);
     return distincts;
   }
 
@@ -244,10 +935,39 @@ public final class IntArrays {
     int seqLen = sequence.length;
     int maxIdx = array.length - seqLen;
     for (int i = Math.min(fromIndex, maxIdx); i <= maxIdx; i++) {
-      for (int j = 0; array[i + j] == sequence[j]; j++) {
-        if (j == seqLen - 1) {
-          return i;
-        }
+      if (array[i] == sequence[0] && ArrayKernels.regionMatches(array, i, sequence)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values inside a range of an array. Only occurrences
+   * that lie completely within the range are found.
+   * 
+   * @param array
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence inside {@code array} or {@code -1} if the
+   *         sequence isn't found
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int findSequence(int[] array, int fromIndex, int toIndex, int[] sequence) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int seqLen = sequence.length;
+    int maxIdx = toIndex - seqLen;
+    for (int i = fromIndex; i <= maxIdx; i++) {
+      if (array[i] == sequence[0] && ArrayKernels.regionMatches(array, i, sequence)) {
+        return i;
       }
     }
     return -1;
@@ -293,23 +1013,51 @@ public final class IntArrays {
   }
 
   /**
-   * Insert an array into another one starting at the specified {@code index}
+   * Counts the number of times {@code sequence} can be found inside a range of {@code array}
    * 
    * @param array
-   *          the array where you want to insert the values
-   * @param insert
-   *          the array to insert into {@code array}
-   * @param index
-   *          the index from where to start inserting the values
-   * @return a new array, based on a copy of {@code array} with {@code insert} inserted into it
-   */
-  public static int[] insert(int[] array, int[] insert, int index) {
+   *          the array to search
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param sequence
+   *          the sequence to search for
+   * @return the number of occurrences of {@code sequence} inside the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #findSequence(int[], int, int, int[])
+   */
+  public static int countSequence(int[] array, int fromIndex, int toIndex, int[] sequence) {
+    int count = 0;
+    int idx = fromIndex;
+    int len = sequence.length;
+    while ((idx = findSequence(array, idx, toIndex, sequence)) != -1) {
+      count++;
+      idx += len;
+    }
+    return count;
+  }
+
+  /**
+   * Insert an array into another one starting at the specified {@code index}
+   * 
+   * @param array
+   *          the array where you want to insert the values
+   * @param insert
+   *          the array to insert into {@code array}
+   * @param index
+   *          the index from where to start inserting the values
+   * @return a new array, based on a copy of {@code array} with {@code insert} inserted into it
+   */
+  public static int[] insert(int[] array, int[] insert, int index) {
     int lenArr = array.length;
     int lenIns = insert.length;
     int idx = Math.max(0, Math.min(lenArr, index));
-    int offset = Math.min(idx + 1, lenArr);
     int[] arr = new int[lenArr + lenIns];
-    System.arraycopy(array, 0, arr, 0, offset);
+    System.arraycopy(array, 0, arr, 0, idx);
     System.arraycopy(insert, 0, arr, idx, lenIns);
     System.arraycopy(array, idx, arr, idx + lenIns, lenArr - idx);
     return arr;
@@ -337,16 +1085,45 @@ public final class IntArrays {
    * @return the biggest value from {@code values}
    */
   public static int max(int... values) {
-    if (values.length == 0) {
+    return max(values, 0, values.length);
+  }
+
+  /**
+   * Returns the greatest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the biggest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int max(int[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get max value from empty array");
     }
-    int max = values[0];
-    for (int i : values) {
-      if (i > max) {
-        max = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    int max0 = array[fromIndex];
+    int max1 = max0;
+    int max2 = max0;
+    int max3 = max0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      max0 = Math.max(max0, array[i]);
+      max1 = Math.max(max1, array[i + 1]);
+      max2 = Math.max(max2, array[i + 2]);
+      max3 = Math.max(max3, array[i + 3]);
     }
-    return max;
+    for (; i < toIndex; i++) {
+      max0 = Math.max(max0, array[i]);
+    }
+    return Math.max(Math.max(max0, max1), Math.max(max2, max3));
   }
 
   /**
@@ -357,16 +1134,45 @@ public final class IntArrays {
    * @return the smallest value from {@code values}
    */
   public static int min(int... values) {
-    if (values.length == 0) {
+    return min(values, 0, values.length);
+  }
+
+  /**
+   * Returns the smallest value in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to compare
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the smallest value in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int min(int[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
       throw new InvalidArrayException("Can't get min value from empty array");
     }
-    int min = values[0];
-    for (int i : values) {
-      if (i < min) {
-        min = i;
-      }
+    // Four independent lanes let the JIT keep several comparisons in flight or vectorize the loop
+    int min0 = array[fromIndex];
+    int min1 = min0;
+    int min2 = min0;
+    int min3 = min0;
+    int i = fromIndex + 1;
+    for (; i < toIndex - 3; i += 4) {
+      min0 = Math.min(min0, array[i]);
+      min1 = Math.min(min1, array[i + 1]);
+      min2 = Math.min(min2, array[i + 2]);
+      min3 = Math.min(min3, array[i + 3]);
+    }
+    for (; i < toIndex; i++) {
+      min0 = Math.min(min0, array[i]);
     }
-    return min;
+    return Math.min(Math.min(min0, min1), Math.min(min2, min3));
   }
 
   /**
@@ -377,11 +1183,31 @@ public final class IntArrays {
    * @return the average value of {@code values}
    */
   public static double avg(int... values) {
-    int len = values.length;
+    return avg(values, 0, values.length);
+  }
+
+  /**
+   * Returns the average of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the average value of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static double avg(int[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
     if (len == 0) {
       throw new InvalidArrayException("Can't get average value from empty array");
     }
-    return sum(values) / (double) len;
+    return sumLong(array, fromIndex, toIndex) / (double) len;
   }
 
   /**
@@ -392,21 +1218,1633 @@ public final class IntArrays {
    * @return the sum of {@code values}
    */
   public static int sum(int... values) {
-    int total = 0;
-    for (int i : values) {
-      total += i;
+    return sum(values, 0, values.length);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array.
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int sum(int[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    // Independent accumulators break the dependency between additions
+    int total0 = 0;
+    int total1 = 0;
+    int total2 = 0;
+    int total3 = 0;
+    int i = fromIndex;
+    for (; i < toIndex - 3; i += 4) {
+      total0 += array[i];
+      total1 += array[i + 1];
+      total2 += array[i + 2];
+      total3 += array[i + 3];
+    }
+    for (; i < toIndex; i++) {
+      total0 += array[i];
     }
-    return total;
+    return (total0 + total1 + total2 + total3);
   }
 
   /**
-   * Returns a random value from the supplied values
+   * Returns the sum of any number of values as a {@code long}. Unlike {@link #sum(int...)} this
+   * can't overflow for any array length.
    * 
    * @param values
-   *          the values to choose a random value from
-   * @return a value randomly chosen from {@code values}
+   *          the values to sum up
+   * @return the sum of {@code values}
    */
-  public static int random(int... values) {
-    return values[Math.floorMod(Ints.random(), values.length)];
+  public static long sumLong(int... values) {
+    return sumLong(values, 0, values.length);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array as a {@code long}. Unlike
+   * {@link #sum(int[], int, int)} this can't overflow for any array length.
+   * 
+   * @param array
+   *          the array containing the values to sum up
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the sum of the values in the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static long sumLong(int[] array, int fromIndex, int toIndex) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    // Independent accumulators break the dependency between additions
+    long total0 = 0;
+    long total1 = 0;
+    long total2 = 0;
+    long total3 = 0;
+    int i = fromIndex;
+    for (; i < toIndex - 3; i += 4) {
+      total0 += array[i];
+      total1 += array[i + 1];
+      total2 += array[i + 2];
+      total3 += array[i + 3];
+    }
+    for (; i < toIndex; i++) {
+      total0 += array[i];
+    }
+    return total0 + total1 + total2 + total3;
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values of an array in a single
+   * pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the statistics of {@code array}
+   * @see #stats(int[], int, int, IntStats)
+   */
+  public static IntStats stats(int[] array) {
+    return stats(array, 0, array.length, new IntStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the statistics of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #stats(int[], int, int, IntStats)
+   */
+  public static IntStats stats(int[] array, int fromIndex, int toIndex) {
+    return stats(array, fromIndex, toIndex, new IntStats());
+  }
+
+  /**
+   * Computes count, sum, minimum, maximum, mean and variance of the values in a range of an array in
+   * a single pass, storing them in an existing holder
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param stats
+   *          the holder to store the statistics in, its previous values are replaced
+   * @return {@code stats}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static IntStats stats(int[] array, int fromIndex, int toIndex, IntStats stats) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int count = toIndex - fromIndex;
+    if (count == 0) {
+      throw new InvalidArrayException("Can't get statistics from empty array");
+    }
+    // The variance is updated value by value, the same way as by moments, so it doesn't lose most of
+    // its precision if the values are far away from zero
+    Moments moments = new Moments();
+    int min = array[fromIndex];
+    int max = min;
+    long sum = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      int value = array[i];
+      min = value < min ? value : min;
+      max = value > max ? value : max;
+      sum += value;
+      moments.add(value);
+    }
+    stats.set(count, sum, min, max, moments.mean(), moments.variance());
+    return stats;
+  }
+
+  /**
+   * Returns the value which would be at index {@code n} if the array was sorted, without sorting it.
+   * The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param n
+   *          the index in the sorted array
+   * @return the {@code n}-th smallest value, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code n} is outside of the array
+   * @see #nthElementInPlace(int[], int, int, int)
+   */
+  public static int nthElement(int[] array, int n) {
+    return nthElementInPlace(array.clone(), 0, array.length, n);
+  }
+
+  /**
+   * Reorders a range of an array so the value at {@code fromIndex + n} is the one which would be there
+   * if the range was sorted, all values before it are smaller or equal and all values after it are
+   * bigger or equal. This takes linear time on average and {@code O(n log n)} time in the worst case.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param n
+   *          the index in the sorted range
+   * @return the {@code n}-th smallest value of the range, counting from 0
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0}, {@code toIndex > array.length} or {@code n} is outside of the
+   *           range
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int nthElementInPlace(int[] array, int fromIndex, int toIndex, int n) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (n < 0 || n >= toIndex - fromIndex) {
+      throw new ArrayIndexOutOfBoundsException(n);
+    }
+    int[] ranks = new int[] { fromIndex + n };
+    select(array, fromIndex, toIndex, ranks, 0, 1, Selection.depthLimit(toIndex - fromIndex));
+    return array[fromIndex + n];
+  }
+
+  /**
+   * Returns the median of any number of values, without sorting them. The values themselves aren't
+   * changed.
+   * 
+   * @param values
+   *          the values
+   * @return the median value of {@code values}
+   * @see #percentile(int[], double)
+   */
+  public static double median(int... values) {
+    return percentile(values, 50);
+  }
+
+  /**
+   * Returns a percentile of the values of an array, interpolating linearly between the two closest
+   * values, without sorting it. The array itself isn't changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentile
+   *          the percentile, between 0 and 100
+   * @return the percentile of {@code array}
+   * @throws IllegalArgumentException
+   *           if {@code percentile} isn't between 0 and 100
+   * @see #percentilesInPlace(int[], int, int, double...)
+   */
+  public static double percentile(int[] array, double percentile) {
+    return percentiles(array, percentile)[0];
+  }
+
+  /**
+   * Returns several percentiles of the values of an array, without sorting it. The array itself isn't
+   * changed.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of {@code array}, in the same order as {@code percentiles}
+   * @throws IllegalArgumentException
+   *           if a percentile isn't between 0 and 100
+   * @see #percentilesInPlace(int[], int, int, double...)
+   */
+  public static double[] percentiles(int[] array, double... percentiles) {
+    return percentilesInPlace(array.clone(), 0, array.length, percentiles);
+  }
+
+  /**
+   * Computes several percentiles of the values in a range of an array, interpolating linearly between
+   * the two closest values. All of them are found in a single partitioning pass, which reorders the
+   * range instead of copying it.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the percentiles of the range, in the same order as {@code percentiles}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex} or a percentile isn't between 0 and 100
+   */
+  public static double[] percentilesInPlace(int[] array, int fromIndex, int toIndex, double... percentiles) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = toIndex - fromIndex;
+    if (len == 0) {
+      throw new InvalidArrayException("Can't get percentile from empty array");
+    }
+    int[] ranks = Selection.ranks(fromIndex, len, percentiles);
+    select(array, fromIndex, toIndex, ranks, 0, ranks.length, Selection.depthLimit(len));
+    double[] result = new double[percentiles.length];
+    for (int i = 0; i < result.length; i++) {
+      double pos = Selection.position(len, percentiles[i]);
+      int lower = fromIndex + (int) Math.floor(pos);
+      int upper = fromIndex + (int) Math.ceil(pos);
+      result[i] = Selection.interpolate(array[lower], array[upper], pos - Math.floor(pos));
+    }
+    return result;
+  }
+
+  /**
+   * Counts the values of an array in bins of equal width between {@code min} and {@code max}. Every
+   * bin includes its lower bound, the last one includes {@code max} as well. Values outside of
+   * {@code [min, max]} aren't counted.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param bins
+   *          the number of bins
+   * @return the number of values in each bin
+   * @throws IllegalArgumentException
+   *           if {@code bins} isn't positive or {@code min} isn't smaller than {@code max}
+   */
+  public static long[] histogram(int[] array, int min, int max, int bins) {
+    return histogram(array, 0, array.length, min, max, new long[bins]);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins of equal width between {@code min} and
+   * {@code max}, adding them to existing counts. The bin of a value is computed exactly with integer
+   * arithmetic, not with a search.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param counts
+   *          the counts to add to, there is one bin per element
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, {@code counts} is empty or {@code min} isn't smaller
+   *           than {@code max}
+   * @see #histogram(int[], int, int, int)
+   */
+  public static long[] histogram(int[] array, int fromIndex, int toIndex, int min, int max, long[] counts) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    Histograms.scale(min, max, counts.length);
+    int bins = counts.length;
+    int last = bins - 1;
+    // The span times the number of bins is below 2^63, so the products fit into a long
+    long span = (long) max - min;
+    for (int i = fromIndex; i < toIndex; i++) {
+      int value = array[i];
+      if (value >= min && value <= max) {
+        counts[(int) Math.min(((long) value - min) * bins / span, last)]++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Counts the values of an array in bins delimited by the given boundaries. Bin {@code i} includes
+   * the values from {@code boundaries[i]}, inclusive, to {@code boundaries[i + 1]}, exclusive; the
+   * last bin includes its upper boundary as well. Values outside of the boundaries aren't
+   * counted.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @return the number of values in each bin, one less than there are boundaries
+   * @throws IllegalArgumentException
+   *           if there are less than two boundaries or they aren't strictly increasing
+   */
+  public static long[] histogram(int[] array, int[] boundaries) {
+    return histogram(array, 0, array.length, boundaries, new long[Math.max(0, boundaries.length - 1)]);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins delimited by the given boundaries, adding them to
+   * existing counts. The bin of a value is found by a binary search whose steps don't branch on the
+   * comparisons.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @param counts
+   *          the counts to add to, one less than there are boundaries
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, the boundaries aren't strictly increasing or don't match
+   *           the length of {@code counts}
+   * @see #histogram(int[], int[])
+   */
+  public static long[] histogram(int[] array, int fromIndex, int toIndex, int[] boundaries, long[] counts) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    checkBoundaries(boundaries, counts.length);
+    int first = boundaries[0];
+    int lastBoundary = boundaries[boundaries.length - 1];
+    int last = counts.length - 1;
+    for (int i = fromIndex; i < toIndex; i++) {
+      int value = array[i];
+      if (value >= first && value <= lastBoundary) {
+        // Finds the last boundary which isn't bigger than the value
+        int base = 0;
+        for (int len = boundaries.length; len > 1; len -= len >>> 1) {
+          int probe = base + (len >>> 1);
+          base = boundaries[probe] <= value ? probe : base;
+        }
+        counts[Math.min(base, last)]++;
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Counts the values of an array in bins of equal width in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param bins
+   *          the number of bins
+   * @return the number of values in each bin
+   * @throws IllegalArgumentException
+   *           if {@code bins} isn't positive or {@code min} isn't smaller than {@code max}
+   * @see #histogram(int[], int, int, int)
+   */
+  public static long[] parallelHistogram(int[] array, int min, int max, int bins) {
+    return parallelHistogram(array, 0, array.length, min, max, new long[bins], ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins of equal width in parallel, adding them to
+   * existing counts. Every chunk counts into its own array, these are added up in the end.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param min
+   *          the lower bound of the first bin
+   * @param max
+   *          the upper bound of the last bin
+   * @param counts
+   *          the counts to add to, there is one bin per element
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, {@code counts} is empty or {@code min} isn't smaller
+   *           than {@code max}
+   * @see #histogram(int[], int, int, int, int, long[])
+   */
+  public static long[] parallelHistogram(int[] array, int fromIndex, int toIndex, int min, int max, long[] counts,
+      ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    Histograms.scale(min, max, counts.length);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return histogram(array, fromIndex, toIndex, min, max, counts);
+    }
+    ParallelConfig chunking = Histograms.chunking(config, toIndex - fromIndex);
+    long[][] partials = new long[Parallel.chunks(chunking, fromIndex, toIndex)][];
+    Parallel.forEachChunk(chunking, fromIndex, toIndex,
+        (chunk, from, to) -> partials[chunk] = histogram(array, from, to, min, max, new long[counts.length]));
+    return Histograms.merge(partials, counts);
+  }
+
+  /**
+   * Counts the values of an array in bins delimited by the given boundaries in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @return the number of values in each bin, one less than there are boundaries
+   * @throws IllegalArgumentException
+   *           if there are less than two boundaries or they aren't strictly increasing
+   * @see #histogram(int[], int[])
+   */
+  public static long[] parallelHistogram(int[] array, int[] boundaries) {
+    return parallelHistogram(array, 0, array.length, boundaries, new long[Math.max(0, boundaries.length - 1)],
+        ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Counts the values in a range of an array in bins delimited by the given boundaries in parallel,
+   * adding them to existing counts. Every chunk counts into its own array, these are added up in the
+   * end.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param boundaries
+   *          the strictly increasing boundaries of the bins
+   * @param counts
+   *          the counts to add to, one less than there are boundaries
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code counts}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}, the boundaries aren't strictly increasing or don't match
+   *           the length of {@code counts}
+   * @see #histogram(int[], int, int, int[], long[])
+   */
+  public static long[] parallelHistogram(int[] array, int fromIndex, int toIndex, int[] boundaries, long[] counts,
+      ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    checkBoundaries(boundaries, counts.length);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return histogram(array, fromIndex, toIndex, boundaries, counts);
+    }
+    ParallelConfig chunking = Histograms.chunking(config, toIndex - fromIndex);
+    long[][] partials = new long[Parallel.chunks(chunking, fromIndex, toIndex)][];
+    Parallel.forEachChunk(chunking, fromIndex, toIndex,
+        (chunk, from, to) -> partials[chunk] = histogram(array, from, to, boundaries, new long[counts.length]));
+    return Histograms.merge(partials, counts);
+  }
+
+  private static void checkBoundaries(int[] boundaries, int bins) {
+    Histograms.checkBoundaries(boundaries.length, bins);
+    for (int i = 1; i < boundaries.length; i++) {
+      if (!(boundaries[i - 1] < boundaries[i])) {
+        throw new IllegalArgumentException("Boundaries must be strictly increasing");
+      }
+    }
+  }
+
+  /**
+   * Replaces every value of an array with the sum of it and all values before it. Afterwards the sum
+   * of any range {@code [from, to)} with {@code from > 0} is {@code array[to - 1] - array[from - 1]}.
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   * @see #differences(int[])
+   */
+  public static int[] prefixSum(int[] array) {
+    return prefixSum(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running sums of a range of an array, writing them into an existing array. Each result
+   * is the sum of the source value at the same position and all source values before it in the range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] prefixSum(int[] src, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    int sum = 0;
+    for (int i = 0; i < length; i++) {
+      sum += src[from + i];
+      dest[destPos + i] = sum;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the sum of it and all values before it, computing them in
+   * parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   * @see #prefixSum(int[])
+   */
+  public static int[] parallelPrefixSum(int[] array) {
+    return parallelPrefixSum(array, 0, array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Computes the running sums of a range of an array in parallel, writing them into an existing array.
+   * The first pass sums up every chunk, the second one computes the running sums of every chunk
+   * starting from the total of the chunks before it, so every value is only read twice.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param config
+   *          controls how the computation is split up
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   * @see #prefixSum(int[], int, int[], int, int)
+   */
+  public static int[] parallelPrefixSum(int[] src, int srcPos, int[] dest, int destPos, int length,
+      ParallelConfig config) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    if (!config.isParallel(length)) {
+      return prefixSum(src, srcPos, dest, destPos, length);
+    }
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    int[] offsets = new int[Parallel.chunks(config, 0, length)];
+    Parallel.forEachChunk(config, 0, length,
+        (chunk, start, end) -> offsets[chunk] = sum(src, from + start, from + end));
+    int total = 0;
+    for (int i = 0; i < offsets.length; i++) {
+      int chunkSum = offsets[i];
+      offsets[i] = total;
+      total += chunkSum;
+    }
+    Parallel.forEachChunk(config, 0, length, (chunk, start, end) -> {
+      int sum = offsets[chunk];
+      for (int i = start; i < end; i++) {
+        sum += src[from + i];
+        dest[destPos + i] = sum;
+      }
+    });
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array but the first with its difference from the value before it,
+   * which reverts {@link #prefixSum(int[])}.
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static int[] differences(int[] array) {
+    return differences(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the differences between neighbouring values of a range of an array, writing them into an
+   * existing array. The first result is the first source value itself, so this reverts
+   * {@link #prefixSum(int[], int, int[], int, int)}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] differences(int[] src, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    int previous = 0;
+    for (int i = 0; i < length; i++) {
+      int value = src[from + i];
+      dest[destPos + i] = value - previous;
+      previous = value;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the minimum of it and all values before it
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static int[] runningMin(int[] array) {
+    return runningMin(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running minimum of a range of an array, writing it into an existing array. Each result
+   * is the minimum of the source value at the same position and all source values before it in the
+   * range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] runningMin(int[] src, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    if (length == 0) {
+      return dest;
+    }
+    int min = src[from];
+    for (int i = 0; i < length; i++) {
+      int value = src[from + i];
+      min = value < min ? value : min;
+      dest[destPos + i] = min;
+    }
+    return dest;
+  }
+
+  /**
+   * Replaces every value of an array with the maximum of it and all values before it
+   * 
+   * @param array
+   *          the array containing the values
+   * @return {@code array}
+   */
+  public static int[] runningMax(int[] array) {
+    return runningMax(array, 0, array, 0, array.length);
+  }
+
+  /**
+   * Computes the running maximum of a range of an array, writing it into an existing array. Each result
+   * is the maximum of the source value at the same position and all source values before it in the
+   * range.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, may be {@code src}
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @return {@code dest}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if one of the ranges is outside of its array or {@code length} is negative
+   */
+  public static int[] runningMax(int[] src, int srcPos, int[] dest, int destPos, int length) {
+    Ranges.checkCopy(src.length, srcPos, dest.length, destPos, length);
+    int from = Scans.sourcePos(src, srcPos, dest, destPos, length);
+    if (length == 0) {
+      return dest;
+    }
+    int max = src[from];
+    for (int i = 0; i < length; i++) {
+      int value = src[from + i];
+      max = value > max ? value : max;
+      dest[destPos + i] = max;
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the sum of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the sums of the windows, {@code array.length - window + 1} of them or none if the array is
+   *         shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static int[] movingSum(int[] array, int window) {
+    return movingSum(array, 0, new int[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the sum of every window of {@code window} consecutive values of a range of an array,
+   * writing them into an existing array. Every sum is derived from the previous one by adding the value
+   * entering the window and removing the one leaving it, so this takes {@code O(n)} time no matter how
+   * big the window is. The sums wrap around on overflow like {@link #sum(int[], int, int)}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static int[] movingSum(int[] src, int srcPos, int[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    int[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    long sum = 0;
+    for (int i = 0; i < window - 1 && i < length; i++) {
+      sum += values[from + i];
+    }
+    for (int i = 0; i < windows; i++) {
+      sum += values[from + i + window - 1];
+      dest[destPos + i] = (int) sum;
+      sum -= values[from + i];
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the average of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the averages of the windows, {@code array.length - window + 1} of them or none if the array
+   *         is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static double[] movingAvg(int[] array, int window) {
+    return movingAvg(array, 0, new double[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the average of every window of {@code window} consecutive values of a range of an array,
+   * writing them into an existing array. The sum of the window is kept up to date the same way as by
+   * {@link #movingSum(int[], int, int[], int, int, int)}.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static double[] movingAvg(int[] src, int srcPos, double[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    long sum = 0;
+    for (int i = 0; i < window - 1 && i < length; i++) {
+      sum += src[srcPos + i];
+    }
+    for (int i = 0; i < windows; i++) {
+      sum += src[srcPos + i + window - 1];
+      dest[destPos + i] = sum / (double) window;
+      sum -= src[srcPos + i];
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the minimum value of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the minimum values of the windows, {@code array.length - window + 1} of them or none if the
+   *         array is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static int[] movingMin(int[] array, int window) {
+    return movingMin(array, 0, new int[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the minimum value of every window of {@code window} consecutive values of a range of an
+   * array, writing them into an existing array. The indices of the values which can still become the
+   * minimum of a later window are kept in a deque, ordered by index and by value, so this takes
+   * {@code O(n)} time no matter how big the window is.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static int[] movingMin(int[] src, int srcPos, int[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    if (windows == 0) {
+      return dest;
+    }
+    int[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    // A ring buffer of indices, the values at them are strictly increasing from head to tail
+    int[] deque = new int[window];
+    int head = 0;
+    int size = 0;
+    for (int i = 0; i < length; i++) {
+      if (size > 0 && deque[head] <= i - window) {
+        head = head + 1 == window ? 0 : head + 1;
+        size--;
+      }
+      int value = values[from + i];
+      while (size > 0) {
+        int last = head + size - 1;
+        if (values[from + deque[last < window ? last : last - window]] < value) {
+          break;
+        }
+        size--;
+      }
+      int tail = head + size;
+      deque[tail < window ? tail : tail - window] = i;
+      size++;
+      if (i >= window - 1) {
+        dest[destPos + i - window + 1] = values[from + deque[head]];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * Returns the maximum value of every window of {@code window} consecutive values of an array
+   * 
+   * @param array
+   *          the array containing the values
+   * @param window
+   *          the number of values per window
+   * @return the maximum values of the windows, {@code array.length - window + 1} of them or none if the
+   *         array is shorter than a window
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   */
+  public static int[] movingMax(int[] array, int window) {
+    return movingMax(array, 0, new int[Math.max(0, array.length - window + 1)], 0, array.length, window);
+  }
+
+  /**
+   * Computes the maximum value of every window of {@code window} consecutive values of a range of an
+   * array, writing them into an existing array. The indices of the values which can still become the
+   * maximum of a later window are kept in a deque, ordered by index and by value, so this takes
+   * {@code O(n)} time no matter how big the window is.
+   * 
+   * @param src
+   *          the array containing the values
+   * @param srcPos
+   *          the index of the first value
+   * @param dest
+   *          the array to write the results to, one per window
+   * @param destPos
+   *          the index in {@code dest} of the first result
+   * @param length
+   *          the number of values
+   * @param window
+   *          the number of values per window
+   * @return {@code dest}
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the values or the results are outside of their array or {@code length} is negative
+   */
+  public static int[] movingMax(int[] src, int srcPos, int[] dest, int destPos, int length, int window) {
+    int windows = Windows.count(src.length, srcPos, dest.length, destPos, length, window);
+    if (windows == 0) {
+      return dest;
+    }
+    int[] values = src;
+    int from = srcPos;
+    if (src == dest) {
+      // The results could overwrite values which are still needed
+      values = Arrays.copyOfRange(src, srcPos, srcPos + length);
+      from = 0;
+    }
+    // A ring buffer of indices, the values at them are strictly decreasing from head to tail
+    int[] deque = new int[window];
+    int head = 0;
+    int size = 0;
+    for (int i = 0; i < length; i++) {
+      if (size > 0 && deque[head] <= i - window) {
+        head = head + 1 == window ? 0 : head + 1;
+        size--;
+      }
+      int value = values[from + i];
+      while (size > 0) {
+        int last = head + size - 1;
+        if (values[from + deque[last < window ? last : last - window]] > value) {
+          break;
+        }
+        size--;
+      }
+      int tail = head + size;
+      deque[tail < window ? tail : tail - window] = i;
+      size++;
+      if (i >= window - 1) {
+        dest[destPos + i - window + 1] = values[from + deque[head]];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * Moves the values at the given ranks of a range to their sorted positions, using a three way
+   * partitioning quickselect which falls back to sorting after too many bad pivots
+   */
+  private static void select(int[] array, int fromIndex, int toIndex, int[] ranks, int rankFrom, int rankTo,
+      int depth) {
+    while (rankFrom < rankTo) {
+      if (depth-- == 0 || toIndex - fromIndex <= Selection.SORT_THRESHOLD) {
+        Arrays.sort(array, fromIndex, toIndex);
+        return;
+      }
+      int a = array[fromIndex];
+      int b = array[(fromIndex + toIndex) >>> 1];
+      int c = array[toIndex - 1];
+      int pivot = a < b ? (b < c ? b : a < c ? c : a) : (a < c ? a : b < c ? c : b);
+      // [fromIndex, lt) < pivot, [lt, i) == pivot, [gt, toIndex) > pivot
+      int lt = fromIndex;
+      int gt = toIndex;
+      int i = fromIndex;
+      while (i < gt) {
+        int value = array[i];
+        if (value < pivot) {
+          array[i++] = array[lt];
+          array[lt++] = value;
+        } else if (value > pivot) {
+          array[i] = array[--gt];
+          array[gt] = value;
+        } else {
+          i++;
+        }
+      }
+      int left = Selection.split(ranks, rankFrom, rankTo, lt);
+      int right = Selection.split(ranks, left, rankTo, gt);
+      // Recurse into the smaller side and loop on the bigger one to bound the stack depth
+      if (lt - fromIndex < toIndex - gt) {
+        select(array, fromIndex, lt, ranks, rankFrom, left, depth);
+        fromIndex = gt;
+        rankFrom = right;
+      } else {
+        select(array, gt, toIndex, ranks, right, rankTo, depth);
+        toIndex = lt;
+        rankTo = left;
+      }
+    }
+  }
+
+  /**
+   * Computes the moments of the values of an array in a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the moments of {@code array}
+   * @see #moments(int[], int, int, Moments)
+   */
+  public static Moments moments(int[] array) {
+    return moments(array, 0, array.length, new Moments());
+  }
+
+  /**
+   * Computes the moments of the values in a range of an array in a single pass
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the moments of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see #moments(int[], int, int, Moments)
+   */
+  public static Moments moments(int[] array, int fromIndex, int toIndex) {
+    return moments(array, fromIndex, toIndex, new Moments());
+  }
+
+  /**
+   * Adds the values in a range of an array to existing moments. Unlike {@link #stats(int[], int, int)}
+   * this can be called for any number of consecutive batches of values.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param moments
+   *          the moments to add the values to
+   * @return {@code moments}
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static Moments moments(int[] array, int fromIndex, int toIndex, Moments moments) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+      moments.add(array[i]);
+    }
+    return moments;
+  }
+
+  /**
+   * Returns the population variance of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population variance of {@code values}
+   * @see Moments#variance()
+   */
+  public static double variance(int... values) {
+    return variance(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population variance of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population variance of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#variance()
+   */
+  public static double variance(int[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "variance").variance();
+  }
+
+  /**
+   * Returns the population standard deviation of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population standard deviation of {@code values}
+   * @see Moments#stddev()
+   */
+  public static double stddev(int... values) {
+    return stddev(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population standard deviation of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population standard deviation of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#stddev()
+   */
+  public static double stddev(int[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "standard deviation").stddev();
+  }
+
+  /**
+   * Returns the population skewness of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population skewness of {@code values}
+   * @see Moments#skewness()
+   */
+  public static double skewness(int... values) {
+    return skewness(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population skewness of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population skewness of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#skewness()
+   */
+  public static double skewness(int[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "skewness").skewness();
+  }
+
+  /**
+   * Returns the population excess kurtosis of any number of values, computed in a single pass.
+   * 
+   * @param values
+   *          the values
+   * @return the population excess kurtosis of {@code values}
+   * @see Moments#kurtosis()
+   */
+  public static double kurtosis(int... values) {
+    return kurtosis(values, 0, values.length);
+  }
+
+  /**
+   * Returns the population excess kurtosis of the values in a range of an array, computed in a single pass.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @return the population excess kurtosis of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#kurtosis()
+   */
+  public static double kurtosis(int[] array, int fromIndex, int toIndex) {
+    return nonEmptyMoments(array, fromIndex, toIndex, "kurtosis").kurtosis();
+  }
+
+  /**
+   * Computes the moments of the values of an array in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the moments of {@code array}
+   */
+  public static Moments parallelMoments(int[] array) {
+    return parallelMoments(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Computes the moments of the values of an array in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the moments of {@code array}
+   */
+  public static Moments parallelMoments(int[] array, ParallelConfig config) {
+    return parallelMoments(array, 0, array.length, config);
+  }
+
+  /**
+   * Computes the moments of the values in a range of an array in parallel. The moments of every chunk
+   * are computed separately and then merged.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the moments of the range
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @see Moments#merge(Moments)
+   */
+  public static Moments parallelMoments(int[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return moments(array, fromIndex, toIndex);
+    }
+    Moments[] partials = new Moments[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = moments(array, from, to));
+    Moments moments = new Moments();
+    for (Moments partial : partials) {
+      moments.merge(partial);
+    }
+    return moments;
+  }
+
+  private static Moments nonEmptyMoments(int[] array, int fromIndex, int toIndex, String name) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (fromIndex == toIndex) {
+      throw new InvalidArrayException("Can't get " + name + " from empty array");
+    }
+    return moments(array, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the maximum value of {@code array}
+   */
+  public static int parallelMax(int[] array) {
+    return parallelMax(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the maximum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value of {@code array}
+   */
+  public static int parallelMax(int[] array, ParallelConfig config) {
+    return parallelMax(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the maximum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the maximum value in the range
+   * @see #max(int[], int, int)
+   */
+  public static int parallelMax(int[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return max(array, fromIndex, toIndex);
+    }
+    int[] partials = new int[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = max(array, from, to));
+    return max(partials);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel using {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the minimum value of {@code array}
+   */
+  public static int parallelMin(int[] array) {
+    return parallelMin(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the minimum value of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value of {@code array}
+   */
+  public static int parallelMin(int[] array, ParallelConfig config) {
+    return parallelMin(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the minimum value in a range of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the minimum value in the range
+   * @see #min(int[], int, int)
+   */
+  public static int parallelMin(int[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return min(array, fromIndex, toIndex);
+    }
+    int[] partials = new int[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = min(array, from, to));
+    return min(partials);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel using
+   * {@link ParallelConfig#DEFAULT}
+   * 
+   * @param array
+   *          the array containing the values
+   * @return the sum of the values of {@code array}
+   */
+  public static int parallelSum(int[] array) {
+    return parallelSum(array, 0, array.length, ParallelConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the sum of the values of an array, computing it in parallel
+   * 
+   * @param array
+   *          the array containing the values
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values of {@code array}
+   */
+  public static int parallelSum(int[] array, ParallelConfig config) {
+    return parallelSum(array, 0, array.length, config);
+  }
+
+  /**
+   * Returns the sum of the values in a range of an array, computing it in parallel.
+   * 
+   * @param array
+   *          the array containing the values
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param config
+   *          controls how the computation is split up
+   * @return the sum of the values in the range
+   * @see #sum(int[], int, int)
+   */
+  public static int parallelSum(int[] array, int fromIndex, int toIndex, ParallelConfig config) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    if (!config.isParallel(toIndex - fromIndex)) {
+      return sum(array, fromIndex, toIndex);
+    }
+    int[] partials = new int[Parallel.chunks(config, fromIndex, toIndex)];
+    Parallel.forEachChunk(config, fromIndex, toIndex, (chunk, from, to) -> partials[chunk] = sum(array, from, to));
+    return sum(partials);
+  }
+
+  /**
+   * Returns a random value from the supplied values
+   * 
+   * @param values
+   *          the values to choose a random value from
+   * @return a value randomly chosen from {@code values}
+   */
+  public static int random(int... values) {
+    return values[Math.floorMod(Ints.random(), values.length)];
+  }
+
+  /**
+   * Returns the {@code k} largest values of an array in descending order, without sorting the
+   * whole array. This runs in {@code O(n log k)}.
+   * 
+   * @param array
+   *          the array to select the values from
+   * @param k
+   *          the number of values to select, is clamped to the range {@code [0, array.length]}
+   * @return a new array containing the {@code k} largest values of {@code array}, largest first
+   */
+  public static int[] topK(int[] array, int k) {
+    return topK(array, 0, array.length, k);
+  }
+
+  /**
+   * Returns the {@code k} largest values in a range of an array in descending order
+   * 
+   * @param array
+   *          the array to select the values from
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   * @param k
+   *          the number of values to select, is clamped to the range {@code [0, toIndex - fromIndex]}
+   * @return a new array containing the {@code k} largest values of the range, largest first
+   * @throws ArrayIndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > array.length}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public static int[] topK(int[] array, int fromIndex, int toIndex, int k) {
+    Ranges.check(array.length, fromIndex, toIndex);
+    int len = Math.max(0, Math.min(toIndex - fromIndex, k));
+    if (len == 0) {
+      return new int[0];
+    }
+    IntHeap heap = IntHeap.minHeap(len);
+    for (int i = fromIndex; i < fromIndex + len; i++) {
+      heap.push(array[i]);
+    }
+    for (int i = fromIndex + len; i < toIndex; i++) {
+      if (array[i] > heap.peek()) {
+        heap.replaceTop(array[i]);
+      }
+    }
+    int[] result = new int[len];
+    for (int i = len - 1; i >= 0; i--) {
+      result[i] = heap.pop();
+    }
+    return result;
+  }
+
+  /**
+   * Returns the indices of the {@code k} largest values of an array, ordered by descending value.
+   * Equal values are ordered by ascending index. This runs in {@code O(n log k)}.
+   * 
+   * @param array
+   *          the array to select the indices from
+   * @param k
+   *          the number of indices to select, is clamped to the range {@code [0, array.length]}
+   * @return a new array containing the indices of the {@code k} largest values of {@code array}
+   * @see #topK(int[], int)
+   */
+  public static int[] topKIndices(int[] array, int k) {
+    int len = Math.max(0, Math.min(array.length, k));
+    if (len == 0) {
+      return new int[0];
+    }
+    // A min heap of indices, the root being the index of the smallest selected value
+    int[] heap = new int[len];
+    for (int i = 0; i < len; i++) {
+      heap[i] = i;
+      siftUpIndex(array, heap, i);
+    }
+    for (int i = len; i < array.length; i++) {
+      if (array[i] > array[heap[0]]) {
+        heap[0] = i;
+        siftDownIndex(array, heap, len);
+      }
+    }
+    int[] result = new int[len];
+    for (int size = len; size > 0; size--) {
+      result[size - 1] = heap[0];
+      heap[0] = heap[size - 1];
+      siftDownIndex(array, heap, size - 1);
+    }
+    return result;
+  }
+
+  private static boolean ranksLower(int[] array, int idx1, int idx2) {
+    return array[idx1] < array[idx2] || array[idx1] == array[idx2] && idx1 > idx2;
+  }
+
+  private static void siftUpIndex(int[] array, int[] heap, int pos) {
+    int idx = pos;
+    while (idx > 0) {
+      int parent = (idx - 1) >>> 1;
+      if (!ranksLower(array, heap[idx], heap[parent])) {
+        break;
+      }
+      int tmp = heap[idx];
+      heap[idx] = heap[parent];
+      heap[parent] = tmp;
+      idx = parent;
+    }
+  }
+
+  private static void siftDownIndex(int[] array, int[] heap, int size) {
+    int idx = 0;
+    int half = size >>> 1;
+    while (idx < half) {
+      int child = 2 * idx + 1;
+      if (child + 1 < size && ranksLower(array, heap[child + 1], heap[child])) {
+        child++;
+      }
+      if (!ranksLower(array, heap[child], heap[idx])) {
+        break;
+      }
+      int tmp = heap[idx];
+      heap[idx] = heap[child];
+      heap[child] = tmp;
+      idx = child;
+    }
   }
 }
@@ -0,0 +1,277 @@
+package ch.deletescape.primitives.arrays;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * A {@code int} array stored outside of the Java heap and indexed with {@code long} values. It
+ * offers the same operations as {@link IntArrays} and has to be {@link #close() closed} once it is
+ * no longer needed.
+ */
+public abstract class IntBufferArray extends BufferArray {
+  private IntBuffer[] views;
+
+  IntBufferArray(ByteBuffer[] buffers, long length, ByteOrder order, int byteChunkShift) {
+    super(buffers, length, 2, byteChunkShift);
+    views = new IntBuffer[buffers.length];
+    for (int i = 0; i < buffers.length; i++) {
+      views[i] = buffers[i].order(order).asIntBuffer();
+    }
+  }
+
+  /**
+   * Returns the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @return the element at {@code index}
+   */
+  public int get(long index) {
+    checkIndex(index);
+    return at(views(), index);
+  }
+
+  /**
+   * Replaces the element at the specified index
+   * 
+   * @param index
+   *          the index of the element
+   * @param value
+   *          the new value of the element
+   */
+  public void set(long index, int value) {
+    checkIndex(index);
+    views()[(int) (index >>> chunkShift)].put((int) (index & chunkMask), value);
+  }
+
+  /**
+   * Copies values from a heap array into this array
+   * 
+   * @param src
+   *          the array to copy the values from
+   * @param srcPos
+   *          the index of the first value in {@code src}
+   * @param index
+   *          the index in this array where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyFrom(int[] src, int srcPos, long index, int count) {
+    checkRange(index, count);
+    IntBuffer[] tmp = views();
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      IntBuffer view = tmp[(int) (pos >>> chunkShift)].duplicate();
+      view.position((int) (pos & chunkMask));
+      int chunk = Math.min(count - done, view.remaining());
+      view.put(src, srcPos + done, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies values from this array into a heap array
+   * 
+   * @param index
+   *          the index of the first value in this array
+   * @param dest
+   *          the array to copy the values to
+   * @param destPos
+   *          the index in {@code dest} where the first value is stored
+   * @param count
+   *          the number of values to copy
+   */
+  public void copyTo(long index, int[] dest, int destPos, int count) {
+    checkRange(index, count);
+    IntBuffer[] tmp = views();
+    int done = 0;
+    while (done < count) {
+      long pos = index + done;
+      IntBuffer view = tmp[(int) (pos >>> chunkShift)].duplicate();
+      view.position((int) (pos & chunkMask));
+      int chunk = Math.min(count - done, view.remaining());
+      view.get(dest, destPos + done, chunk);
+      done += chunk;
+    }
+  }
+
+  /**
+   * Copies this array to the heap
+   * 
+   * @return a new {@code int} array containing all values of this array
+   * @throws InvalidArrayException
+   *           if this array has too many elements to fit into a heap array
+   */
+  public int[] toArray() {
+    int[] tmp = new int[toArrayLength()];
+    copyTo(0, tmp, 0, tmp.length);
+    return tmp;
+  }
+
+  /**
+   * Returns true if the array contains the specified value
+   * 
+   * @param value
+   *          the value to check for
+   * @return whether or not this array contains {@code value}
+   * @see IntArrays#contains(int[], int)
+   */
+  public boolean contains(int value) {
+    for (IntBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        if (view.get(i) == value) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the values of this array without duplicates, in the order of their first occurrence
+   * 
+   * @return only the distinct values in this array
+   * @see IntArrays#distinct(int[])
+   */
+  public int[] distinct() {
+    int[] distincts = new int[16];
+    int count = 0;
+    for (IntBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        int item = view.get(i);
+        if (indexOf(distincts, count, item) == -1) {
+          if (count == distincts.length) {
+            distincts = Arrays.copyOf(distincts, count * 2);
+          }
+          distincts[count++] = item;
+        }
+      }
+    }
+    return Arrays.copyOf(distincts, count);
+  }
+
+  /**
+   * Finds the first occurrence of a sequence of values in this array
+   * 
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see IntArrays#findSequence(int[], int...)
+   */
+  public long findSequence(int[] sequence) {
+    return findSequence(0, sequence);
+  }
+
+  /**
+   * Finds the first occurrence starting from {@code fromIndex} of a sequence of values in this array
+   * 
+   * @param fromIndex
+   *          the index from where to start searching
+   * @param sequence
+   *          the sequence to search for
+   * @return the index of the first sequence occurrence or {@code -1} if the sequence isn't found
+   * @see IntArrays#findSequence(int, int[], int...)
+   */
+  public long findSequence(long fromIndex, int[] sequence) {
+    IntBuffer[] tmp = views();
+    int seqLen = sequence.length;
+    long maxIdx = length - seqLen;
+    for (long i = Math.max(0, Math.min(fromIndex, maxIdx)); i <= maxIdx; i++) {
+      for (int j = 0; at(tmp, i + j) == sequence[j]; j++) {
+        if (j == seqLen - 1) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the greatest value of this array
+   * 
+   * @return the biggest value in this array
+   * @see IntArrays#max(int...)
+   */
+  public int max() {
+    if (length == 0) {
+      throw new InvalidArrayException("Can't get max value from empty array");
+    }
+    int max = get(0);
+    for (IntBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        int item = view.get(i);
+        if (item > max) {
+          max = item;
+        }
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Returns the smallest value of this array
+   * 
+   * @return the smallest value in this array
+   * @see IntArrays#min(int...)
+   */
+  public int min() {
+    if (length == 0) {
+      throw new InvalidArrayException("Can't get min value from empty array");
+    }
+    int min = get(0);
+    for (IntBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        int item = view.get(i);
+        if (item < min) {
+          min = item;
+        }
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Returns the sum of all values in this array
+   * 
+   * @return the sum of the values in this array
+   * @see IntArrays#sum(int...)
+   */
+  public int sum() {
+    int total = 0;
+    for (IntBuffer view : views()) {
+      for (int i = 0, n = view.limit(); i < n; i++) {
+        total += view.get(i);
+      }
+    }
+    return total;
+  }
+
+  @Override
+  final void releaseViews() {
+    views = null;
+  }
+
+  private IntBuffer[] views() {
+    IntBuffer[] tmp = views;
+    if (tmp == null) {
+      throw new IllegalStateException("Array has already been closed");
+    }
+    return tmp;
+  }
+
+  private int at(IntBuffer[] tmp, long index) {
+    return tmp[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+  }
+
+  private static int indexOf(int[] array, int length, int value) {
+    for (int i = 0; i < length; i++) {
+      if (array[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,287 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * An immutable sequence of {@code int} values stored as a balanced tree of chunks. In contrast to
+ * {@link IntArrays#insert(int[], int[], int)}, which copies the whole array, inserting, deleting and
+ * extracting ranges only copies the chunks at the edges of the range and returns a new rope sharing
+ * all other chunks with the original. Every rope is therefore also a cheap snapshot: later edits never
+ * change it.
+ */
+public final class IntRope {
+  static final int MAX_CHUNK_LENGTH = 256;
+  private static final IntRope EMPTY = new IntRope(new int[0]);
+
+  // Exactly one of chunk and left/right is set
+  private final int[] chunk;
+  private final IntRope left;
+  private final IntRope right;
+  private final int length;
+  private final int height;
+
+  private IntRope(int[] chunk) {
+    this.chunk = chunk;
+    this.left = null;
+    this.right = null;
+    this.length = chunk.length;
+    this.height = 0;
+  }
+
+  private IntRope(IntRope left, IntRope right) {
+    this.chunk = null;
+    this.left = left;
+    this.right = right;
+    this.length = left.length + right.length;
+    this.height = Math.max(left.height, right.height) + 1;
+  }
+
+  /**
+   * @return a rope without any values
+   */
+  public static IntRope empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a rope containing a copy of the specified values
+   * 
+   * @param values
+   *          the values of the rope
+   * @return a new rope containing {@code values}
+   */
+  public static IntRope of(int... values) {
+    return values.length == 0 ? EMPTY : build(values, 0, values.length);
+  }
+
+  /**
+   * @return the number of values in this rope
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the value at the specified index
+   * 
+   * @param index
+   *          the index of the value
+   * @return the value at {@code index}
+   */
+  public int get(int index) {
+    if (index < 0 || index >= length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    IntRope node = this;
+    int idx = index;
+    while (node.chunk == null) {
+      if (idx < node.left.length) {
+        node = node.left;
+      } else {
+        idx -= node.left.length;
+        node = node.right;
+      }
+    }
+    return node.chunk[idx];
+  }
+
+  /**
+   * Inserts values starting at the specified {@code index}
+   * 
+   * @param index
+   *          the index from where to start inserting the values
+   * @param values
+   *          the values to insert
+   * @return a new rope with {@code values} inserted at {@code index}
+   */
+  public IntRope insert(int index, int... values) {
+    return insert(index, of(values));
+  }
+
+  /**
+   * Inserts the values of another rope starting at the specified {@code index}
+   * 
+   * @param index
+   *          the index from where to start inserting the values
+   * @param rope
+   *          the rope to insert
+   * @return a new rope with the values of {@code rope} inserted at {@code index}
+   */
+  public IntRope insert(int index, IntRope rope) {
+    if (index < 0 || index > length) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    return join(join(prefix(index), rope), suffix(index));
+  }
+
+  /**
+   * Appends the values of another rope to the end of this rope
+   * 
+   * @param rope
+   *          the rope to append
+   * @return a new rope containing the values of this rope followed by those of {@code rope}
+   */
+  public IntRope concat(IntRope rope) {
+    return join(this, rope);
+  }
+
+  /**
+   * Removes the values in the range {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+   * 
+   * @param fromIndex
+   *          the index of the first value to remove
+   * @param toIndex
+   *          the index after the last value to remove
+   * @return a new rope without the values in the range
+   */
+  public IntRope delete(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return join(prefix(fromIndex), suffix(toIndex));
+  }
+
+  /**
+   * Returns the values in the range {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+   * 
+   * @param fromIndex
+   *          the index of the first value
+   * @param toIndex
+   *          the index after the last value
+   * @return a new rope containing the values in the range
+   */
+  public IntRope subRope(int fromIndex, int toIndex) {
+    Ranges.check(length, fromIndex, toIndex);
+    return prefix(toIndex).suffix(fromIndex);
+  }
+
+  /**
+   * @return a new array containing all values of this rope
+   */
+  public int[] toArray() {
+    int[] array = new int[length];
+    copyTo(array, 0);
+    return array;
+  }
+
+  int height() {
+    return height;
+  }
+
+  private void copyTo(int[] dest, int destPos) {
+    if (chunk != null) {
+      System.arraycopy(chunk, 0, dest, destPos, chunk.length);
+    } else {
+      left.copyTo(dest, destPos);
+      right.copyTo(dest, destPos + left.length);
+    }
+  }
+
+  private IntRope prefix(int end) {
+    if (end == length) {
+      return this;
+    }
+    if (end == 0) {
+      return EMPTY;
+    }
+    if (chunk != null) {
+      return new IntRope(Arrays.copyOfRange(chunk, 0, end));
+    }
+    if (end <= left.length) {
+      return left.prefix(end);
+    }
+    return join(left, right.prefix(end - left.length));
+  }
+
+  private IntRope suffix(int start) {
+    if (start == 0) {
+      return this;
+    }
+    if (start == length) {
+      return EMPTY;
+    }
+    if (chunk != null) {
+      return new IntRope(Arrays.copyOfRange(chunk, start, chunk.length));
+    }
+    if (start >= left.length) {
+      return right.suffix(start - left.length);
+    }
+    return join(left.suffix(start), right);
+  }
+
+  private static IntRope build(int[] values, int from, int to) {
+    if (to - from <= MAX_CHUNK_LENGTH) {
+      return new IntRope(Arrays.copyOfRange(values, from, to));
+    }
+    int mid = (from + to) >>> 1;
+    return new IntRope(build(values, from, mid), build(values, mid, to));
+  }
+
+  // AVL join: keeps the heights of siblings within one of each other
+  private static IntRope join(IntRope a, IntRope b) {
+    if (a.length == 0) {
+      return b;
+    }
+    if (b.length == 0) {
+      return a;
+    }
+    if ((long) a.length + b.length > Integer.MAX_VALUE) {
+      throw new InvalidArrayException("Can't concatenate more than " + Integer.MAX_VALUE + " elements");
+    }
+    if (a.height > b.height + 1) {
+      return joinRight(a, b);
+    }
+    if (b.height > a.height + 1) {
+      return joinLeft(a, b);
+    }
+    return node(a, b);
+  }
+
+  private static IntRope joinRight(IntRope a, IntRope b) {
+    IntRope l = a.left;
+    IntRope c = a.right;
+    if (c.height <= b.height + 1) {
+      IntRope t = node(c, b);
+      if (t.height <= l.height + 1) {
+        return new IntRope(l, t);
+      }
+      return rotateLeft(new IntRope(l, rotateRight(t)));
+    }
+    IntRope t = joinRight(c, b);
+    IntRope joined = new IntRope(l, t);
+    return t.height <= l.height + 1 ? joined : rotateLeft(joined);
+  }
+
+  private static IntRope joinLeft(IntRope a, IntRope b) {
+    IntRope c = b.left;
+    IntRope r = b.right;
+    if (c.height <= a.height + 1) {
+      IntRope t = node(a, c);
+      if (t.height <= r.height + 1) {
+        return new IntRope(t, r);
+      }
+      return rotateRight(new IntRope(rotateLeft(t), r));
+    }
+    IntRope t = joinLeft(a, c);
+    IntRope joined = new IntRope(t, r);
+    return t.height <= r.height + 1 ? joined : rotateRight(joined);
+  }
+
+  private static IntRope node(IntRope a, IntRope b) {
+    // Merges small neighbouring chunks so repeated small edits don't fragment the rope
+    if (a.chunk != null && b.chunk != null && a.length + b.length <= MAX_CHUNK_LENGTH) {
+      int[] merged = Arrays.copyOf(a.chunk, a.length + b.length);
+      System.arraycopy(b.chunk, 0, merged, a.length, b.length);
+      return new IntRope(merged);
+    }
+    return new IntRope(a, b);
+  }
+
+  private static IntRope rotateLeft(IntRope node) {
+    IntRope r = node.right;
+    return new IntRope(new IntRope(node.left, r.left), r.right);
+  }
+
+  private static IntRope rotateRight(IntRope node) {
+    IntRope l = node.left;
+    return new IntRope(l.left, new IntRope(l.right, node.right));
+  }
+}
@@ -0,0 +1,74 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Count, sum, minimum, maximum, mean and variance of {@code int}, {@code short}, {@code char} or
+ * {@code byte} values, computed in a single pass by
+ * {@link IntArrays#stats(int[], int, int, IntStats)} and the equivalent methods of
+ * {@link ShortArrays}, {@link CharArrays} and {@link ByteArrays}. An instance can be passed to these
+ * methods again to reuse it for the next array.
+ */
+public final class IntStats {
+  private int count;
+  private long sum;
+  private int min;
+  private int max;
+  private double mean;
+  private double variance;
+
+  /**
+   * Creates an empty holder, to be filled by one of the {@code stats} methods
+   */
+  public IntStats() {}
+
+  void set(int count, long sum, int min, int max, double mean, double variance) {
+    this.count = count;
+    this.sum = sum;
+    this.min = min;
+    this.max = max;
+    this.mean = mean;
+    this.variance = variance;
+  }
+
+  /**
+   * @return the number of values
+   */
+  public int count() {
+    return count;
+  }
+
+  /**
+   * @return the sum of the values, which can't overflow
+   */
+  public long sum() {
+    return sum;
+  }
+
+  /**
+   * @return the smallest value
+   */
+  public int min() {
+    return min;
+  }
+
+  /**
+   * @return the biggest value
+   */
+  public int max() {
+    return max;
+  }
+
+  /**
+   * @return the average of the values
+   */
+  public double mean() {
+    return mean;
+  }
+
+  /**
+   * @return the population variance of the values, the mean of the squared differences from
+   *         {@link #mean()}
+   */
+  public double variance() {
+    return variance;
+  }
+}
@@ -0,0 +1,72 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Count, sum, minimum, maximum, mean and variance of {@code long} values, computed in a single pass
+ * by {@link LongArrays#stats(long[], int, int, LongStats)}. An instance can be passed to these
+ * methods again to reuse it for the next array.
+ */
+public final class LongStats {
+  private int count;
+  private long sum;
+  private long min;
+  private long max;
+  private double mean;
+  private double variance;
+
+  /**
+   * Creates an empty holder, to be filled by one of the {@code stats} methods
+   */
+  public LongStats() {}
+
+  void set(int count, long sum, long min, long max, double mean, double variance) {
+    this.count = count;
+    this.sum = sum;
+    this.min = min;
+    this.max = max;
+    this.mean = mean;
+    this.variance = variance;
+  }
+
+  /**
+   * @return the number of values
+   */
+  public int count() {
+    return count;
+  }
+
+  /**
+   * @return the sum of the values, which wraps around on overflow like {@link LongArrays#sum(long...)}
+   */
+  public long sum() {
+    return sum;
+  }
+
+  /**
+   * @return the smallest value
+   */
+  public long min() {
+    return min;
+  }
+
+  /**
+   * @return the biggest value
+   */
+  public long max() {
+    return max;
+  }
+
+  /**
+   * @return the average of the values
+   */
+  public double mean() {
+    return mean;
+  }
+
+  /**
+   * @return the population variance of the values, the mean of the squared differences from
+   *         {@link #mean()}
+   */
+  public double variance() {
+    return variance;
+  }
+}
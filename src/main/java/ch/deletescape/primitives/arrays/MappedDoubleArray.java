@@ -0,0 +1,141 @@
+package ch.deletescape.primitives.arrays;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@code double} array backed by a memory-mapped file. Opening the array doesn't read the file, its
+ * pages are loaded lazily by the operating system when they are accessed and are shared with every
+ * other process mapping the same file. Writable arrays write through to the file, {@link #force()}
+ * makes sure the changes have reached the storage device. Modifying a read-only array throws a
+ * {@link java.nio.ReadOnlyBufferException}.
+ */
+public final class MappedDoubleArray extends DoubleBufferArray {
+  private final boolean writable;
+
+  private MappedDoubleArray(ByteBuffer[] buffers, long length, ByteOrder order, boolean writable) {
+    super(buffers, length, order, CHUNK_SHIFT);
+    this.writable = writable;
+  }
+
+  /**
+   * Maps an existing file of big-endian {@code double} values
+   * 
+   * @param file
+   *          the file to map
+   * @param writable
+   *          whether or not changes to the array should be written to the file
+   * @return a new array backed by {@code file}
+   * @throws UncheckedIOException
+   *           if the file can't be mapped
+   */
+  public static MappedDoubleArray open(Path file, boolean writable) {
+    return open(file, writable, ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * Maps an existing file of {@code double} values, a trailing partial value is ignored
+   * 
+   * @param file
+   *          the file to map
+   * @param writable
+   *          whether or not changes to the array should be written to the file
+   * @param order
+   *          the byte order the values are stored in
+   * @return a new array backed by {@code file}
+   * @throws UncheckedIOException
+   *           if the file can't be mapped
+   */
+  public static MappedDoubleArray open(Path file, boolean writable, ByteOrder order) {
+    StandardOpenOption[] options = writable
+        ? new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE }
+        : new StandardOpenOption[] { StandardOpenOption.READ };
+    try (FileChannel channel = FileChannel.open(file, options)) {
+      return map(channel, channel.size() >>> 3, writable, order);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Creates a writable array of big-endian {@code double} values backed by {@code file}. The file is
+   * created if it doesn't exist and resized to hold exactly {@code length} values.
+   * 
+   * @param file
+   *          the file to map
+   * @param length
+   *          the number of elements
+   * @return a new array backed by {@code file}
+   * @throws UncheckedIOException
+   *           if the file can't be created or mapped
+   */
+  public static MappedDoubleArray create(Path file, long length) {
+    return create(file, length, ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * Creates a writable array of {@code double} values backed by {@code file}. The file is created if it
+   * doesn't exist and resized to hold exactly {@code length} values.
+   * 
+   * @param file
+   *          the file to map
+   * @param length
+   *          the number of elements
+   * @param order
+   *          the byte order the values are stored in
+   * @return a new array backed by {@code file}
+   * @throws UncheckedIOException
+   *           if the file can't be created or mapped
+   */
+  public static MappedDoubleArray create(Path file, long length, ByteOrder order) {
+    if (length < 0) {
+      throw new InvalidArrayException("Array length must not be negative");
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      long bytes = length << 3;
+      if (channel.size() > bytes) {
+        channel.truncate(bytes);
+      }
+      return map(channel, length, true, order);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static MappedDoubleArray map(FileChannel channel, long length, boolean writable, ByteOrder order)
+      throws IOException {
+    MapMode mode = writable ? MapMode.READ_WRITE : MapMode.READ_ONLY;
+    long bytes = length << 3;
+    int count = (int) ((bytes + (1L << CHUNK_SHIFT) - 1) >>> CHUNK_SHIFT);
+    ByteBuffer[] buffers = new ByteBuffer[count];
+    for (int i = 0; i < count; i++) {
+      long position = (long) i << CHUNK_SHIFT;
+      buffers[i] = channel.map(mode, position, Math.min(1L << CHUNK_SHIFT, bytes - position));
+    }
+    return new MappedDoubleArray(buffers, length, order, writable);
+  }
+
+  /**
+   * @return whether or not changes to this array are written to the file
+   */
+  public boolean isWritable() {
+    return writable;
+  }
+
+  /**
+   * Forces all changes made to this array to be written to the storage device containing the file
+   */
+  public void force() {
+    for (ByteBuffer buffer : buffers()) {
+      ((MappedByteBuffer) buffer).force();
+    }
+  }
+}
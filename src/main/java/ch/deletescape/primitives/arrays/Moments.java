@@ -0,0 +1,130 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Mean, variance, skewness and kurtosis of a stream of values, updated one value at a time using
+ * Welford's method. Two instances can be merged, so the moments of chunks which were computed
+ * separately (or in parallel) can be combined without having to look at the values again.
+ * 
+ * @see IntArrays#moments(int[], int, int, Moments)
+ * @see LongArrays#moments(long[], int, int, Moments)
+ * @see FloatArrays#moments(float[], int, int, Moments)
+ * @see DoubleArrays#moments(double[], int, int, Moments)
+ */
+public final class Moments {
+  private long count;
+  private double mean;
+  // Sums of the second, third and fourth powers of the differences from the mean
+  private double m2;
+  private double m3;
+  private double m4;
+
+  /**
+   * Creates an instance without any values
+   */
+  public Moments() {}
+
+  /**
+   * Adds a value
+   * 
+   * @param value
+   *          the value to add
+   * @return this instance
+   */
+  public Moments add(double value) {
+    long n1 = count;
+    count++;
+    double n = count;
+    double delta = value - mean;
+    double deltaN = delta / n;
+    double deltaN2 = deltaN * deltaN;
+    double term = delta * deltaN * n1;
+    mean += deltaN;
+    m4 += term * deltaN2 * (n * n - 3 * n + 3) + 6 * deltaN2 * m2 - 4 * deltaN * m3;
+    m3 += term * deltaN * (n - 2) - 3 * deltaN * m2;
+    m2 += term;
+    return this;
+  }
+
+  /**
+   * Adds all values of another instance, as if they had been added to this one
+   * 
+   * @param other
+   *          the instance to add the values of, it isn't changed
+   * @return this instance
+   */
+  public Moments merge(Moments other) {
+    if (other.count == 0) {
+      return this;
+    }
+    if (count == 0) {
+      count = other.count;
+      mean = other.mean;
+      m2 = other.m2;
+      m3 = other.m3;
+      m4 = other.m4;
+      return this;
+    }
+    double na = count;
+    double nb = other.count;
+    double n = na + nb;
+    double delta = other.mean - mean;
+    double delta2 = delta * delta;
+    double m2 = this.m2 + other.m2 + delta2 * na * nb / n;
+    double m3 = this.m3 + other.m3 + delta2 * delta * na * nb * (na - nb) / (n * n)
+        + 3 * delta * (na * other.m2 - nb * this.m2) / n;
+    double m4 = this.m4 + other.m4 + delta2 * delta2 * na * nb * (na * na - na * nb + nb * nb) / (n * n * n)
+        + 6 * delta2 * (na * na * other.m2 + nb * nb * this.m2) / (n * n)
+        + 4 * delta * (na * other.m3 - nb * this.m3) / n;
+    this.count += other.count;
+    this.mean += delta * nb / n;
+    this.m2 = m2;
+    this.m3 = m3;
+    this.m4 = m4;
+    return this;
+  }
+
+  /**
+   * @return the number of values
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * @return the average of the values, {@code NaN} if there are none
+   */
+  public double mean() {
+    return count == 0 ? Double.NaN : mean;
+  }
+
+  /**
+   * @return the population variance of the values, the mean of the squared differences from
+   *         {@link #mean()}; {@code NaN} if there are none
+   */
+  public double variance() {
+    return m2 / count;
+  }
+
+  /**
+   * @return the population standard deviation of the values, the square root of {@link #variance()}
+   */
+  public double stddev() {
+    return Math.sqrt(variance());
+  }
+
+  /**
+   * @return the population skewness of the values; {@code NaN} if there are none or all of them are
+   *         equal
+   */
+  public double skewness() {
+    return Math.sqrt((double) count) * m3 / Math.pow(m2, 1.5);
+  }
+
+  /**
+   * @return the population excess kurtosis of the values, which is {@code 0} for a normal
+   *         distribution; {@code NaN} if there are none or all of them are equal
+   */
+  public double kurtosis() {
+    return count * m4 / (m2 * m2) - 3;
+  }
+}
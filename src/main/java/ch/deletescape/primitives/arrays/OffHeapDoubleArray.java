@@ -0,0 +1,41 @@
+package ch.deletescape.primitives.arrays;
+
+import java.nio.ByteOrder;
+
+/**
+ * A {@code double} array backed by direct memory instead of the Java heap, so even very large arrays
+ * don't add to the work of the garbage collector. The memory is freed by {@link #close()}.
+ */
+public final class OffHeapDoubleArray extends DoubleBufferArray {
+  private OffHeapDoubleArray(long length, int byteChunkShift) {
+    super(allocateDirect(length, 3, byteChunkShift), length, ByteOrder.nativeOrder(), byteChunkShift);
+  }
+
+  /**
+   * Allocates a new off-heap array with all elements set to {@code 0}
+   * 
+   * @param length
+   *          the number of elements
+   * @return a new off-heap array
+   */
+  public static OffHeapDoubleArray allocate(long length) {
+    return allocate(length, CHUNK_SHIFT);
+  }
+
+  static OffHeapDoubleArray allocate(long length, int byteChunkShift) {
+    return new OffHeapDoubleArray(length, byteChunkShift);
+  }
+
+  /**
+   * Copies a heap array into a new off-heap array
+   * 
+   * @param array
+   *          the values to copy
+   * @return a new off-heap array containing the values of {@code array}
+   */
+  public static OffHeapDoubleArray copyOf(double... array) {
+    OffHeapDoubleArray tmp = allocate(array.length);
+    tmp.copyFrom(array, 0, 0, array.length);
+    return tmp;
+  }
+}
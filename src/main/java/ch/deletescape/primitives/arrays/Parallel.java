@@ -0,0 +1,101 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Splits a range of an array into chunks of {@link ParallelConfig#grainSize()} elements and processes
+ * them as fork/join tasks. The chunks are numbered, so callers can store one partial result per chunk
+ * and combine them after all tasks are done.
+ */
+final class Parallel {
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private Parallel() {}
+
+  /**
+   * Processes one chunk of a range
+   */
+  interface Chunk {
+    void run(int chunk, int fromIndex, int toIndex);
+  }
+
+  /**
+   * Searches one chunk of a range
+   */
+  interface ChunkSearch {
+    boolean test(int fromIndex, int toIndex);
+  }
+
+  /**
+   * @return the number of chunks the range is split into
+   */
+  static int chunks(ParallelConfig config, int fromIndex, int toIndex) {
+    return (int) (((long) toIndex - fromIndex + config.grainSize() - 1) / config.grainSize());
+  }
+
+  /**
+   * Runs {@code chunk} for every chunk of the range and waits until all are done
+   */
+  static void forEachChunk(ParallelConfig config, int fromIndex, int toIndex, Chunk chunk) {
+    config.pool().invoke(new ChunkAction(config.grainSize(), fromIndex, toIndex, 0,
+        chunks(config, fromIndex, toIndex), chunk, null));
+  }
+
+  /**
+   * Runs {@code search} for the chunks of the range until one of them returns {@code true}. Chunks
+   * that haven't started yet when that happens are skipped.
+   * 
+   * @return whether or not {@code search} returned {@code true} for any chunk
+   */
+  static boolean anyChunk(ParallelConfig config, int fromIndex, int toIndex, ChunkSearch search) {
+    AtomicBoolean found = new AtomicBoolean();
+    Chunk chunk = (index, from, to) -> {
+      if (search.test(from, to)) {
+        found.set(true);
+      }
+    };
+    config.pool().invoke(new ChunkAction(config.grainSize(), fromIndex, toIndex, 0,
+        chunks(config, fromIndex, toIndex), chunk, found));
+    return found.get();
+  }
+
+  private static final class ChunkAction extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int grainSize;
+    private final int fromIndex;
+    private final int toIndex;
+    private final int firstChunk;
+    private final int lastChunk;
+    private final transient Chunk chunk;
+    private final AtomicBoolean cancelled;
+
+    ChunkAction(int grainSize, int fromIndex, int toIndex, int firstChunk, int lastChunk, Chunk chunk,
+        AtomicBoolean cancelled) {
+      this.grainSize = grainSize;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.firstChunk = firstChunk;
+      this.lastChunk = lastChunk;
+      this.chunk = chunk;
+      this.cancelled = cancelled;
+    }
+
+    @Override
+    protected void compute() {
+      if (cancelled != null && cancelled.get()) {
+        return;
+      }
+      if (lastChunk - firstChunk > 1) {
+        int mid = (firstChunk + lastChunk) >>> 1;
+        invokeAll(new ChunkAction(grainSize, fromIndex, toIndex, firstChunk, mid, chunk, cancelled),
+            new ChunkAction(grainSize, fromIndex, toIndex, mid, lastChunk, chunk, cancelled));
+      } else if (lastChunk > firstChunk) {
+        int from = fromIndex + firstChunk * grainSize;
+        chunk.run(firstChunk, from, (int) Math.min(toIndex, (long) from + grainSize));
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Controls how the {@code parallel} operations of the array classes split their work. Ranges shorter
+ * than the threshold are processed sequentially on the calling thread, longer ones are split into
+ * chunks of the grain size, which run as tasks in the pool.
+ */
+public final class ParallelConfig {
+  /**
+   * Runs ranges of at least 131072 elements in chunks of 32768 elements in the common pool
+   */
+  public static final ParallelConfig DEFAULT = new ParallelConfig(ForkJoinPool.commonPool(), 1 << 17, 1 << 15);
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+  private final int grainSize;
+
+  private ParallelConfig(ForkJoinPool pool, int threshold, int grainSize) {
+    this.pool = Objects.requireNonNull(pool, "pool");
+    if (threshold < 0) {
+      throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+    }
+    if (grainSize < 1) {
+      throw new IllegalArgumentException("Grain size must be positive: " + grainSize);
+    }
+    this.threshold = threshold;
+    this.grainSize = grainSize;
+  }
+
+  /**
+   * Creates a new configuration
+   * 
+   * @param pool
+   *          the pool to run the tasks in
+   * @param threshold
+   *          the minimum number of elements to process in parallel
+   * @param grainSize
+   *          the number of elements processed by a single task
+   * @return a new configuration
+   * @throws IllegalArgumentException
+   *           if {@code threshold} is negative or {@code grainSize} isn't positive
+   */
+  public static ParallelConfig of(ForkJoinPool pool, int threshold, int grainSize) {
+    return new ParallelConfig(pool, threshold, grainSize);
+  }
+
+  /**
+   * @param pool
+   *          the pool to run the tasks in
+   * @return a copy of this configuration using another pool
+   */
+  public ParallelConfig withPool(ForkJoinPool pool) {
+    return new ParallelConfig(pool, threshold, grainSize);
+  }
+
+  /**
+   * @param threshold
+   *          the minimum number of elements to process in parallel
+   * @return a copy of this configuration using another threshold
+   */
+  public ParallelConfig withThreshold(int threshold) {
+    return new ParallelConfig(pool, threshold, grainSize);
+  }
+
+  /**
+   * @param grainSize
+   *          the number of elements processed by a single task
+   * @return a copy of this configuration using another grain size
+   */
+  public ParallelConfig withGrainSize(int grainSize) {
+    return new ParallelConfig(pool, threshold, grainSize);
+  }
+
+  /**
+   * @return the pool to run the tasks in
+   */
+  public ForkJoinPool pool() {
+    return pool;
+  }
+
+  /**
+   * @return the minimum number of elements to process in parallel
+   */
+  public int threshold() {
+    return threshold;
+  }
+
+  /**
+   * @return the number of elements processed by a single task
+   */
+  public int grainSize() {
+    return grainSize;
+  }
+
+  /**
+   * @param length
+   *          the number of elements to process
+   * @return whether or not {@code length} elements should be processed in parallel
+   */
+  boolean isParallel(int length) {
+    return length >= threshold;
+  }
+}
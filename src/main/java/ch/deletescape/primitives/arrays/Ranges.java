@@ -0,0 +1,65 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Bounds checks shared by the operations that work on a range of an array. They are done once,
+ * before the loop over the range, so the loop itself doesn't need any checks.
+ */
+final class Ranges {
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private Ranges() {}
+
+  /**
+   * Checks that {@code [fromIndex, toIndex)} is a valid range of an array of the given length, the
+   * same way {@link java.util.Arrays#fill(int[], int, int, int)} does
+   * 
+   * @param length
+   *          the length of the array
+   * @param fromIndex
+   *          the index of the first element, inclusive
+   * @param toIndex
+   *          the index of the last element, exclusive
+   */
+  static void check(int length, int fromIndex, int toIndex) {
+    if (fromIndex > toIndex) {
+      throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+    }
+    if (fromIndex < 0) {
+      throw new ArrayIndexOutOfBoundsException(fromIndex);
+    }
+    if (toIndex > length) {
+      throw new ArrayIndexOutOfBoundsException(toIndex);
+    }
+  }
+
+  /**
+   * Checks that {@code length} values can be copied from {@code srcPos} of one array to
+   * {@code destPos} of another, the same way {@link System#arraycopy(Object, int, Object, int, int)}
+   * does
+   * 
+   * @param srcLength
+   *          the length of the source array
+   * @param srcPos
+   *          the index of the first value to copy
+   * @param destLength
+   *          the length of the destination array
+   * @param destPos
+   *          the index of the first value to write
+   * @param length
+   *          the number of values to copy
+   */
+  static void checkCopy(int srcLength, int srcPos, int destLength, int destPos, int length) {
+    if (length < 0) {
+      throw new ArrayIndexOutOfBoundsException("length " + length + " is negative");
+    }
+    if (srcPos < 0 || (long) srcPos + length > srcLength) {
+      throw new ArrayIndexOutOfBoundsException("source range [" + srcPos + ", " + ((long) srcPos + length)
+          + ") out of bounds for length " + srcLength);
+    }
+    if (destPos < 0 || (long) destPos + length > destLength) {
+      throw new ArrayIndexOutOfBoundsException("destination range [" + destPos + ", " + ((long) destPos + length)
+          + ") out of bounds for length " + destLength);
+    }
+  }
+}
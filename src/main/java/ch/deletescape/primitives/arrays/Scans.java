@@ -0,0 +1,38 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Helpers for the operations which compute every value of a destination range from the values up to
+ * the same position of a source range, like {@code prefixSum}
+ */
+final class Scans {
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private Scans() {}
+
+  /**
+   * Makes it safe to scan from {@code src} to {@code dest} if both are the same array. If the ranges
+   * are at different positions, the source values are copied to the destination first, the same way
+   * {@link System#arraycopy(Object, int, Object, int, int)} copies overlapping ranges, so the scan can
+   * then be done in place.
+   * 
+   * @param src
+   *          the source array
+   * @param srcPos
+   *          the index of the first source value
+   * @param dest
+   *          the destination array
+   * @param destPos
+   *          the index of the first destination value
+   * @param length
+   *          the number of values
+   * @return the index of the first value to read from, in {@code src}
+   */
+  static int sourcePos(Object src, int srcPos, Object dest, int destPos, int length) {
+    if (src == dest && srcPos != destPos) {
+      System.arraycopy(src, srcPos, dest, destPos, length);
+      return destPos;
+    }
+    return srcPos;
+  }
+}
@@ -0,0 +1,103 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * Rank bookkeeping shared by the {@code nthElement} and {@code percentiles} operations. The
+ * partitioning itself is done by each array class, the ranks passed to it are sorted and distinct so
+ * a single pass can place all of them.
+ */
+final class Selection {
+  /**
+   * Ranges of at most this many values are sorted instead of partitioned further
+   */
+  static final int SORT_THRESHOLD = 16;
+
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private Selection() {}
+
+  /**
+   * Returns how many times a range may be partitioned before the rest of it is sorted instead. This
+   * bounds the running time if the pivots keep being bad.
+   * 
+   * @param length
+   *          the length of the range
+   * @return the maximum partitioning depth
+   */
+  static int depthLimit(int length) {
+    return 2 * (32 - Integer.numberOfLeadingZeros(length));
+  }
+
+  /**
+   * Returns the array indices which have to be in their sorted position to compute the percentiles
+   * of a range, interpolating linearly between the closest ranks
+   * 
+   * @param fromIndex
+   *          the index of the first element of the range
+   * @param length
+   *          the length of the range, must be positive
+   * @param percentiles
+   *          the percentiles, between 0 and 100
+   * @return the sorted and distinct indices
+   * @throws IllegalArgumentException
+   *           if a percentile isn't between 0 and 100
+   */
+  static int[] ranks(int fromIndex, int length, double[] percentiles) {
+    int[] ranks = new int[percentiles.length * 2];
+    for (int i = 0; i < percentiles.length; i++) {
+      double pos = position(length, percentiles[i]);
+      ranks[2 * i] = fromIndex + (int) Math.floor(pos);
+      ranks[2 * i + 1] = fromIndex + (int) Math.ceil(pos);
+    }
+    Arrays.sort(ranks);
+    int distinct = 0;
+    for (int i = 0; i < ranks.length; i++) {
+      if (distinct == 0 || ranks[i] != ranks[distinct - 1]) {
+        ranks[distinct++] = ranks[i];
+      }
+    }
+    return Arrays.copyOf(ranks, distinct);
+  }
+
+  /**
+   * @return the (fractional) offset of a percentile in a sorted range of the given length
+   * @throws IllegalArgumentException
+   *           if {@code percentile} isn't between 0 and 100
+   */
+  static double position(int length, double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    return percentile / 100 * (length - 1);
+  }
+
+  /**
+   * Interpolates linearly between two neighbouring values of a sorted range
+   * 
+   * @return {@code lower} if both are equal, otherwise the value {@code fraction} of the way to
+   *         {@code upper}
+   */
+  static double interpolate(double lower, double upper, double fraction) {
+    return fraction == 0 || lower == upper ? lower : lower + (upper - lower) * fraction;
+  }
+
+  /**
+   * Returns the position of the first rank which is not smaller than {@code index}
+   * 
+   * @param ranks
+   *          the sorted and distinct ranks
+   * @param fromIndex
+   *          the first position to consider
+   * @param toIndex
+   *          the position after the last one to consider
+   * @param index
+   *          the array index to look for
+   * @return the position in {@code ranks}, between {@code fromIndex} and {@code toIndex}
+   */
+  static int split(int[] ranks, int fromIndex, int toIndex, int index) {
+    int pos = Arrays.binarySearch(ranks, fromIndex, toIndex, index);
+    return pos >= 0 ? pos : -pos - 1;
+  }
+}
@@ -0,0 +1,177 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Algorithms for summing up {@code double} and {@code float} values. Every addition of two floating
+ * point values may round the result, the algorithms differ in how these rounding errors add up.
+ * {@code float} values are always summed up as {@code double} values.
+ * 
+ * @see DoubleArrays#sum(double[], int, int, Summation)
+ * @see FloatArrays#sum(float[], int, int, Summation)
+ */
+public enum Summation {
+  /**
+   * Splits the values in halves until at most 128 are left, sums those up in a simple unrolled loop
+   * and adds the halves together. The error grows with {@code O(log n)} instead of {@code O(n)}, at
+   * about the speed of a simple loop. This is the default.
+   */
+  PAIRWISE {
+    @Override
+    double sum(double[] array, int fromIndex, int toIndex) {
+      int len = toIndex - fromIndex;
+      if (len > PAIRWISE_BLOCK) {
+        int mid = fromIndex + (len >>> 1);
+        return sum(array, fromIndex, mid) + sum(array, mid, toIndex);
+      }
+      double total0 = 0;
+      double total1 = 0;
+      double total2 = 0;
+      double total3 = 0;
+      int i = fromIndex;
+      for (; i < toIndex - 3; i += 4) {
+        total0 += array[i];
+        total1 += array[i + 1];
+        total2 += array[i + 2];
+        total3 += array[i + 3];
+      }
+      for (; i < toIndex; i++) {
+        total0 += array[i];
+      }
+      return (total0 + total1) + (total2 + total3);
+    }
+
+    @Override
+    double sum(float[] array, int fromIndex, int toIndex) {
+      int len = toIndex - fromIndex;
+      if (len > PAIRWISE_BLOCK) {
+        int mid = fromIndex + (len >>> 1);
+        return sum(array, fromIndex, mid) + sum(array, mid, toIndex);
+      }
+      double total0 = 0;
+      double total1 = 0;
+      double total2 = 0;
+      double total3 = 0;
+      int i = fromIndex;
+      for (; i < toIndex - 3; i += 4) {
+        total0 += array[i];
+        total1 += array[i + 1];
+        total2 += array[i + 2];
+        total3 += array[i + 3];
+      }
+      for (; i < toIndex; i++) {
+        total0 += array[i];
+      }
+      return (total0 + total1) + (total2 + total3);
+    }
+  },
+
+  /**
+   * Kahan summation, which carries the rounding error of every addition over to the next one. The
+   * error doesn't grow with the number of values, but it's about four times slower than
+   * {@link #PAIRWISE}. Once the sum is infinite or {@code NaN} the remaining values are added without
+   * compensation, so the result is the same as the one of a simple loop.
+   */
+  KAHAN {
+    @Override
+    double sum(double[] array, int fromIndex, int toIndex) {
+      double total = 0;
+      double compensation = 0;
+      for (int i = fromIndex; i < toIndex; i++) {
+        double value = array[i] - compensation;
+        double next = total + value;
+        compensation = (next - total) - value;
+        total = next;
+        if (!Double.isFinite(total)) {
+          return addUncompensated(total, array, i + 1, toIndex);
+        }
+      }
+      return total;
+    }
+
+    @Override
+    double sum(float[] array, int fromIndex, int toIndex) {
+      double total = 0;
+      double compensation = 0;
+      for (int i = fromIndex; i < toIndex; i++) {
+        double value = array[i] - compensation;
+        double next = total + value;
+        compensation = (next - total) - value;
+        total = next;
+        if (!Double.isFinite(total)) {
+          return addUncompensated(total, array, i + 1, toIndex);
+        }
+      }
+      return total;
+    }
+  },
+
+  /**
+   * Neumaier's improvement of {@link #KAHAN}, which also stays exact when a value is bigger than the
+   * sum so far, for example when large values cancel each other out. Infinite and {@code NaN} sums
+   * are handled the same way as by {@link #KAHAN}.
+   */
+  NEUMAIER {
+    @Override
+    double sum(double[] array, int fromIndex, int toIndex) {
+      double total = 0;
+      double compensation = 0;
+      for (int i = fromIndex; i < toIndex; i++) {
+        double value = array[i];
+        double next = total + value;
+        if (Math.abs(total) >= Math.abs(value)) {
+          compensation += (total - next) + value;
+        } else {
+          compensation += (value - next) + total;
+        }
+        total = next;
+        if (!Double.isFinite(total)) {
+          return addUncompensated(total, array, i + 1, toIndex);
+        }
+      }
+      return total + compensation;
+    }
+
+    @Override
+    double sum(float[] array, int fromIndex, int toIndex) {
+      double total = 0;
+      double compensation = 0;
+      for (int i = fromIndex; i < toIndex; i++) {
+        double value = array[i];
+        double next = total + value;
+        if (Math.abs(total) >= Math.abs(value)) {
+          compensation += (total - next) + value;
+        } else {
+          compensation += (value - next) + total;
+        }
+        total = next;
+        if (!Double.isFinite(total)) {
+          return addUncompensated(total, array, i + 1, toIndex);
+        }
+      }
+      return total + compensation;
+    }
+  };
+
+  static final int PAIRWISE_BLOCK = 128;
+
+  abstract double sum(double[] array, int fromIndex, int toIndex);
+
+  abstract double sum(float[] array, int fromIndex, int toIndex);
+
+  /**
+   * Adds the remaining values to a sum that isn't finite anymore. The compensation would be
+   * {@code NaN} from here on, while the simple sum is still infinite or already {@code NaN}.
+   */
+  private static double addUncompensated(double total, double[] array, int fromIndex, int toIndex) {
+    for (int i = fromIndex; i < toIndex; i++) {
+      total += array[i];
+    }
+    return total;
+  }
+
+  private static double addUncompensated(double total, float[] array, int fromIndex, int toIndex) {
+    for (int i = fromIndex; i < toIndex; i++) {
+      total += array[i];
+    }
+    return total;
+  }
+}
@@ -0,0 +1,127 @@
+package ch.deletescape.primitives.arrays;
+
+/**
+ * Helpers for the {@code moving} operations, which aggregate every window of a fixed number of
+ * consecutive values
+ */
+final class Windows {
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private Windows() {}
+
+  /**
+   * Checks the arguments of a moving aggregate and returns the number of windows
+   * 
+   * @param srcLength
+   *          the length of the source array
+   * @param srcPos
+   *          the index of the first source value
+   * @param destLength
+   *          the length of the destination array
+   * @param destPos
+   *          the index of the first result
+   * @param length
+   *          the number of source values
+   * @param window
+   *          the number of values per window
+   * @return the number of windows, which is the number of results
+   * @throws IllegalArgumentException
+   *           if {@code window} isn't positive
+   * @throws ArrayIndexOutOfBoundsException
+   *           if the source values or the results are outside of their array
+   */
+  static int count(int srcLength, int srcPos, int destLength, int destPos, int length, int window) {
+    if (window < 1) {
+      throw new IllegalArgumentException("Window size must be positive: " + window);
+    }
+    Ranges.checkCopy(srcLength, srcPos, srcLength, srcPos, length);
+    int windows = Math.max(0, length - window + 1);
+    Ranges.checkCopy(srcLength, srcPos, destLength, destPos, windows);
+    return windows;
+  }
+
+  /**
+   * A sum which values are added to and removed from, compensating for the rounding errors of every
+   * step so they don't add up over a long series. {@code NaN} and infinite values are only counted, so
+   * the sum is correct again as soon as they are removed. A total that overflows can't be brought back
+   * by removing values, so the caller has to {@link #reset(double[], int, int) reset} the sum to the
+   * values of the window if it {@link #overflowed()}.
+   */
+  static final class RunningSum {
+    private double total;
+    private double compensation;
+    private int nans;
+    private int positiveInfinities;
+    private int negativeInfinities;
+    private boolean overflowed;
+
+    void add(double value) {
+      if (value != value) {
+        nans++;
+      } else if (value == Double.POSITIVE_INFINITY) {
+        positiveInfinities++;
+      } else if (value == Double.NEGATIVE_INFINITY) {
+        negativeInfinities++;
+      } else {
+        addFinite(value);
+      }
+    }
+
+    void remove(double value) {
+      if (value != value) {
+        nans--;
+      } else if (value == Double.POSITIVE_INFINITY) {
+        positiveInfinities--;
+      } else if (value == Double.NEGATIVE_INFINITY) {
+        negativeInfinities--;
+      } else {
+        addFinite(-value);
+      }
+    }
+
+    private void addFinite(double value) {
+      double next = total + value;
+      if (Math.abs(total) >= Math.abs(value)) {
+        compensation += (total - next) + value;
+      } else {
+        compensation += (value - next) + total;
+      }
+      if (Double.isInfinite(next)) {
+        // The compensation would become NaN and stay NaN for every later window
+        overflowed = true;
+        compensation = 0;
+      }
+      total = next;
+    }
+
+    boolean overflowed() {
+      return overflowed;
+    }
+
+    void reset(double[] values, int fromIndex, int toIndex) {
+      total = 0;
+      compensation = 0;
+      nans = 0;
+      positiveInfinities = 0;
+      negativeInfinities = 0;
+      overflowed = false;
+      for (int i = fromIndex; i < toIndex; i++) {
+        add(values[i]);
+      }
+    }
+
+    double value() {
+      if (nans > 0 || (positiveInfinities > 0 && negativeInfinities > 0)) {
+        return Double.NaN;
+      }
+      if (positiveInfinities > 0) {
+        return Double.POSITIVE_INFINITY;
+      }
+      if (negativeInfinities > 0) {
+        return Double.NEGATIVE_INFINITY;
+      }
+      return total + compensation;
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package ch.deletescape.primitives.collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An index over a fixed number of {@code double} values which can change at any time. Updating a value
+ * and getting the sum, minimum or maximum of any range of values both take {@code O(log n)} time. For
+ * values which never change, a {@link DoubleSparseTable} answers minimum and maximum queries faster.
+ */
+public final class DoubleSegmentTree {
+  private final int size;
+  // Leaves are at [size, 2 * size), the parent of node i is at i / 2
+  private final double[] sums;
+  private final double[] mins;
+  private final double[] maxs;
+
+  private DoubleSegmentTree(int size) {
+    this.size = size;
+    this.sums = new double[2 * size];
+    this.mins = new double[2 * size];
+    this.maxs = new double[2 * size];
+  }
+
+  /**
+   * Creates an index over a copy of the given values in {@code O(n)} time
+   * 
+   * @param values
+   *          the initial values
+   * @return a new index
+   */
+  public static DoubleSegmentTree of(double... values) {
+    int size = values.length;
+    DoubleSegmentTree tree = new DoubleSegmentTree(size);
+    for (int i = 0; i < size; i++) {
+      tree.sums[size + i] = values[i];
+      tree.mins[size + i] = values[i];
+      tree.maxs[size + i] = values[i];
+    }
+    for (int i = size - 1; i > 0; i--) {
+      tree.pull(i);
+    }
+    return tree;
+  }
+
+  /**
+   * @return the number of values
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns a value
+   * 
+   * @param index
+   *          the index of the value
+   * @return the value at {@code index}
+   * @throws IndexOutOfBoundsException
+   *           if {@code index} is outside of the index
+   */
+  public double get(int index) {
+    checkIndex(index);
+    return mins[size + index];
+  }
+
+  /**
+   * Replaces a value
+   * 
+   * @param index
+   *          the index of the value
+   * @param value
+   *          the new value
+   * @throws IndexOutOfBoundsException
+   *           if {@code index} is outside of the index
+   */
+  public void set(int index, double value) {
+    checkIndex(index);
+    int node = size + index;
+    sums[node] = value;
+    mins[node] = value;
+    maxs[node] = value;
+    for (node >>>= 1; node > 0; node >>>= 1) {
+      pull(node);
+    }
+  }
+
+  /**
+   * Adds to a value
+   * 
+   * @param index
+   *          the index of the value
+   * @param delta
+   *          the amount to add
+   * @throws IndexOutOfBoundsException
+   *           if {@code index} is outside of the index
+   */
+  public void add(int index, double delta) {
+    set(index, get(index) + delta);
+  }
+
+  /**
+   * Returns the sum of a range of values
+   * 
+   * @param fromIndex
+   *          the index of the first value, inclusive
+   * @param toIndex
+   *          the index of the last value, exclusive
+   * @return the sum of the range, {@code 0} if it is empty
+   * @throws IndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > size()}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   */
+  public double sum(int fromIndex, int toIndex) {
+    checkRange(fromIndex, toIndex);
+    double sum = 0;
+    for (int lo = fromIndex + size, hi = toIndex + size; lo < hi; lo >>>= 1, hi >>>= 1) {
+      if ((lo & 1) != 0) {
+        sum += sums[lo++];
+      }
+      if ((hi & 1) != 0) {
+        sum += sums[--hi];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the smallest value of a range
+   * 
+   * @param fromIndex
+   *          the index of the first value, inclusive
+   * @param toIndex
+   *          the index of the last value, exclusive
+   * @return the smallest value of the range
+   * @throws IndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > size()}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @throws NoSuchElementException
+   *           if the range is empty
+   */
+  public double min(int fromIndex, int toIndex) {
+    checkNonEmptyRange(fromIndex, toIndex);
+    double min = Double.POSITIVE_INFINITY;
+    for (int lo = fromIndex + size, hi = toIndex + size; lo < hi; lo >>>= 1, hi >>>= 1) {
+      if ((lo & 1) != 0) {
+        min = Math.min(min, mins[lo++]);
+      }
+      if ((hi & 1) != 0) {
+        min = Math.min(min, mins[--hi]);
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Returns the biggest value of a range
+   * 
+   * @param fromIndex
+   *          the index of the first value, inclusive
+   * @param toIndex
+   *          the index of the last value, exclusive
+   * @return the biggest value of the range
+   * @throws IndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > size()}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @throws NoSuchElementException
+   *           if the range is empty
+   */
+  public double max(int fromIndex, int toIndex) {
+    checkNonEmptyRange(fromIndex, toIndex);
+    double max = Double.NEGATIVE_INFINITY;
+    for (int lo = fromIndex + size, hi = toIndex + size; lo < hi; lo >>>= 1, hi >>>= 1) {
+      if ((lo & 1) != 0) {
+        max = Math.max(max, maxs[lo++]);
+      }
+      if ((hi & 1) != 0) {
+        max = Math.max(max, maxs[--hi]);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Copies the current values into a new array
+   * 
+   * @return the values
+   */
+  public double[] toArray() {
+    double[] values = new double[size];
+    System.arraycopy(mins, size, values, 0, size);
+    return values;
+  }
+
+  private void pull(int node) {
+    int left = 2 * node;
+    sums[node] = sums[left] + sums[left + 1];
+    mins[node] = Math.min(mins[left], mins[left + 1]);
+    maxs[node] = Math.max(maxs[left], maxs[left + 1]);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  private void checkRange(int fromIndex, int toIndex) {
+    if (fromIndex > toIndex) {
+      throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+    }
+    if (fromIndex < 0 || toIndex > size) {
+      throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size);
+    }
+  }
+
+  private void checkNonEmptyRange(int fromIndex, int toIndex) {
+    checkRange(fromIndex, toIndex);
+    if (fromIndex == toIndex) {
+      throw new NoSuchElementException("Range is empty");
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package ch.deletescape.primitives.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary heap of primitive {@code int} values. Depending on how it was created the heap either keeps
+ * its smallest ({@link #minHeap()}) or its largest ({@link #maxHeap()}) value on top.
+ */
+public final class IntHeap {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final boolean maxHeap;
+  private int[] heap;
+  private int size;
+
+  private IntHeap(boolean maxHeap, int capacity) {
+    this.maxHeap = maxHeap;
+    this.heap = new int[Math.max(1, capacity)];
+  }
+
+  /**
+   * Creates an empty heap that keeps its smallest value on top
+   * 
+   * @return a new min heap
+   */
+  public static IntHeap minHeap() {
+    return minHeap(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty heap that keeps its smallest value on top
+   * 
+   * @param capacity
+   *          the number of values the heap can hold before it has to grow
+   * @return a new min heap
+   */
+  public static IntHeap minHeap(int capacity) {
+    return new IntHeap(false, capacity);
+  }
+
+  /**
+   * Creates an empty heap that keeps its largest value on top
+   * 
+   * @return a new max heap
+   */
+  public static IntHeap maxHeap() {
+    return maxHeap(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty heap that keeps its largest value on top
+   * 
+   * @param capacity
+   *          the number of values the heap can hold before it has to grow
+   * @return a new max heap
+   */
+  public static IntHeap maxHeap(int capacity) {
+    return new IntHeap(true, capacity);
+  }
+
+  /**
+   * Adds a value to the heap
+   * 
+   * @param value
+   *          the value to add
+   */
+  public void push(int value) {
+    if (size == heap.length) {
+      heap = Arrays.copyOf(heap, size * 2);
+    }
+    siftUp(size++, value);
+  }
+
+  /**
+   * Returns the value on top of the heap without removing it
+   * 
+   * @return the smallest value for a min heap or the largest value for a max heap
+   * @throws NoSuchElementException
+   *           if the heap is empty
+   */
+  public int peek() {
+    if (size == 0) {
+      throw new NoSuchElementException("Heap is empty");
+    }
+    return heap[0];
+  }
+
+  /**
+   * Removes and returns the value on top of the heap
+   * 
+   * @return the smallest value for a min heap or the largest value for a max heap
+   * @throws NoSuchElementException
+   *           if the heap is empty
+   */
+  public int pop() {
+    int top = peek();
+    int last = heap[--size];
+    if (size > 0) {
+      siftDown(0, last);
+    }
+    return top;
+  }
+
+  /**
+   * Replaces the value on top of the heap with {@code value}. This is cheaper than a {@link #pop()}
+   * followed by a {@link #push(int)}.
+   * 
+   * @param value
+   *          the value to add
+   * @return the value that was on top of the heap before
+   * @throws NoSuchElementException
+   *           if the heap is empty
+   */
+  public int replaceTop(int value) {
+    int top = peek();
+    siftDown(0, value);
+    return top;
+  }
+
+  /**
+   * @return the number of values in the heap
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return whether or not the heap is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes all values from the heap
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Returns the values of the heap in no particular order
+   * 
+   * @return a new array containing all values of the heap
+   */
+  public int[] toArray() {
+    return Arrays.copyOf(heap, size);
+  }
+
+  /**
+   * Removes all values from the heap, returning them in the order they would be popped
+   * 
+   * @return a new array containing all values of the heap, starting with the top value
+   */
+  public int[] drain() {
+    int[] values = new int[size];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = pop();
+    }
+    return values;
+  }
+
+  private boolean above(int a, int b) {
+    return maxHeap ? a > b : a < b;
+  }
+
+  private void siftUp(int pos, int value) {
+    int idx = pos;
+    while (idx > 0) {
+      int parent = (idx - 1) >>> 1;
+      int p = heap[parent];
+      if (!above(value, p)) {
+        break;
+      }
+      heap[idx] = p;
+      idx = parent;
+    }
+    heap[idx] = value;
+  }
+
+  private void siftDown(int pos, int value) {
+    int idx = pos;
+    int half = size >>> 1;
+    while (idx < half) {
+      int child = 2 * idx + 1;
+      int right = child + 1;
+      if (right < size && above(heap[right], heap[child])) {
+        child = right;
+      }
+      if (!above(heap[child], value)) {
+        break;
+      }
+      heap[idx] = heap[child];
+      idx = child;
+    }
+    heap[idx] = value;
+  }
+}
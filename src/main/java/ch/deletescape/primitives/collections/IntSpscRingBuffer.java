@@ -0,0 +1,131 @@
+package ch.deletescape.primitives.collections;
+
+/**
+ * A bounded, lock-free ring buffer of primitive {@code int} values for handing values from exactly
+ * one producer thread to exactly one consumer thread. The batch methods
+ * {@link #offerAll(int[], int, int)} and {@link #drainTo(int[], int, int)} move whole ranges with
+ * at most two array copies and a single index update.
+ */
+public final class IntSpscRingBuffer extends RingBuffer {
+  private final int[] buffer;
+
+  /**
+   * Creates a new ring buffer
+   * 
+   * @param capacity
+   *          the minimum number of values the buffer can hold, is rounded up to the next power of two
+   */
+  public IntSpscRingBuffer(int capacity) {
+    super(capacity);
+    buffer = new int[this.capacity];
+  }
+
+  /**
+   * Adds a value to the buffer, may only be called by the producer thread
+   * 
+   * @param value
+   *          the value to add
+   * @return {@code true} if the value was added or {@code false} if the buffer is full
+   */
+  public boolean offer(int value) {
+    long producer = producerIndex;
+    if (producer - consumerIndex >= capacity) {
+      return false;
+    }
+    buffer[(int) producer & mask] = value;
+    setProducerIndex(producer + 1);
+    return true;
+  }
+
+  /**
+   * Removes a value from the buffer, may only be called by the consumer thread
+   * 
+   * @param emptyValue
+   *          the value to return if the buffer is empty
+   * @return the oldest value in the buffer or {@code emptyValue} if the buffer is empty
+   */
+  public int poll(int emptyValue) {
+    long consumer = consumerIndex;
+    if (consumer >= producerIndex) {
+      return emptyValue;
+    }
+    int value = buffer[(int) consumer & mask];
+    setConsumerIndex(consumer + 1);
+    return value;
+  }
+
+  /**
+   * Adds as many values of {@code src} as there is room for, may only be called by the producer
+   * thread
+   * 
+   * @param src
+   *          the values to add
+   * @return the number of values that were added
+   */
+  public int offerAll(int[] src) {
+    return offerAll(src, 0, src.length);
+  }
+
+  /**
+   * Adds as many values of a range of {@code src} as there is room for, may only be called by the
+   * producer thread
+   * 
+   * @param src
+   *          the values to add
+   * @param offset
+   *          the index of the first value to add
+   * @param length
+   *          the maximum number of values to add
+   * @return the number of values that were added
+   */
+  public int offerAll(int[] src, int offset, int length) {
+    long producer = producerIndex;
+    int count = (int) Math.min(length, capacity - (producer - consumerIndex));
+    if (count <= 0) {
+      return 0;
+    }
+    int start = (int) producer & mask;
+    int first = Math.min(count, capacity - start);
+    System.arraycopy(src, offset, buffer, start, first);
+    System.arraycopy(src, offset + first, buffer, 0, count - first);
+    setProducerIndex(producer + count);
+    return count;
+  }
+
+  /**
+   * Removes as many values as fit into {@code dest}, may only be called by the consumer thread
+   * 
+   * @param dest
+   *          the array to store the values in, starting at index {@code 0}
+   * @return the number of values that were removed
+   */
+  public int drainTo(int[] dest) {
+    return drainTo(dest, 0, dest.length);
+  }
+
+  /**
+   * Removes up to {@code maxLength} values into {@code dest}, may only be called by the consumer
+   * thread
+   * 
+   * @param dest
+   *          the array to store the values in
+   * @param offset
+   *          the index of {@code dest} where the first value is stored
+   * @param maxLength
+   *          the maximum number of values to remove
+   * @return the number of values that were removed
+   */
+  public int drainTo(int[] dest, int offset, int maxLength) {
+    long consumer = consumerIndex;
+    int count = (int) Math.min(maxLength, producerIndex - consumer);
+    if (count <= 0) {
+      return 0;
+    }
+    int start = (int) consumer & mask;
+    int first = Math.min(count, capacity - start);
+    System.arraycopy(buffer, start, dest, offset, first);
+    System.arraycopy(buffer, 0, dest, offset + first, count - first);
+    setConsumerIndex(consumer + count);
+    return count;
+  }
+}
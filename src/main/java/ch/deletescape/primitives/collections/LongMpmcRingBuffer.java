@@ -0,0 +1,153 @@
+package ch.deletescape.primitives.collections;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free ring buffer of primitive {@code long} values that can be shared by any number
+ * of producer and consumer threads. Every slot carries a sequence number that tells producers and
+ * consumers whether it is free or filled, so they only contend on the index they advance.
+ */
+public final class LongMpmcRingBuffer extends RingBuffer {
+  private final long[] buffer;
+  private final AtomicLongArray sequences;
+
+  /**
+   * Creates a new ring buffer
+   * 
+   * @param capacity
+   *          the minimum number of values the buffer can hold, is rounded up to the next power of two
+   */
+  public LongMpmcRingBuffer(int capacity) {
+    super(capacity);
+    buffer = new long[this.capacity];
+    sequences = new AtomicLongArray(this.capacity);
+    for (int i = 0; i < this.capacity; i++) {
+      sequences.lazySet(i, i);
+    }
+  }
+
+  /**
+   * Adds a value to the buffer
+   * 
+   * @param value
+   *          the value to add
+   * @return {@code true} if the value was added or {@code false} if the buffer is full
+   */
+  public boolean offer(long value) {
+    long producer = producerIndex;
+    while (true) {
+      int idx = (int) producer & mask;
+      long diff = sequences.get(idx) - producer;
+      if (diff == 0) {
+        if (casProducerIndex(producer, producer + 1)) {
+          buffer[idx] = value;
+          sequences.lazySet(idx, producer + 1);
+          return true;
+        }
+      } else if (diff < 0) {
+        return false;
+      }
+      producer = producerIndex;
+    }
+  }
+
+  /**
+   * Removes a value from the buffer
+   * 
+   * @param emptyValue
+   *          the value to return if the buffer is empty
+   * @return the oldest value in the buffer or {@code emptyValue} if the buffer is empty
+   */
+  public long poll(long emptyValue) {
+    long consumer = consumerIndex;
+    while (true) {
+      int idx = (int) consumer & mask;
+      long diff = sequences.get(idx) - (consumer + 1);
+      if (diff == 0) {
+        if (casConsumerIndex(consumer, consumer + 1)) {
+          long value = buffer[idx];
+          sequences.lazySet(idx, consumer + capacity);
+          return value;
+        }
+      } else if (diff < 0) {
+        return emptyValue;
+      }
+      consumer = consumerIndex;
+    }
+  }
+
+  /**
+   * Adds as many values of {@code src} as there is room for
+   * 
+   * @param src
+   *          the values to add
+   * @return the number of values that were added
+   */
+  public int offerAll(long[] src) {
+    return offerAll(src, 0, src.length);
+  }
+
+  /**
+   * Adds as many values of a range of {@code src} as there is room for. Other producers may
+   * interleave their values with the ones added by this method.
+   * 
+   * @param src
+   *          the values to add
+   * @param offset
+   *          the index of the first value to add
+   * @param length
+   *          the maximum number of values to add
+   * @return the number of values that were added
+   */
+  public int offerAll(long[] src, int offset, int length) {
+    int count = 0;
+    while (count < length && offer(src[offset + count])) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Removes as many values as fit into {@code dest}
+   * 
+   * @param dest
+   *          the array to store the values in, starting at index {@code 0}
+   * @return the number of values that were removed
+   */
+  public int drainTo(long[] dest) {
+    return drainTo(dest, 0, dest.length);
+  }
+
+  /**
+   * Removes up to {@code maxLength} values into {@code dest}. Other consumers may concurrently
+   * remove values, so the drained values are not necessarily consecutive.
+   * 
+   * @param dest
+   *          the array to store the values in
+   * @param offset
+   *          the index of {@code dest} where the first value is stored
+   * @param maxLength
+   *          the maximum number of values to remove
+   * @return the number of values that were removed
+   */
+  public int drainTo(long[] dest, int offset, int maxLength) {
+    int count = 0;
+    long consumer = consumerIndex;
+    while (count < maxLength) {
+      int idx = (int) consumer & mask;
+      long diff = sequences.get(idx) - (consumer + 1);
+      if (diff == 0) {
+        if (casConsumerIndex(consumer, consumer + 1)) {
+          dest[offset + count++] = buffer[idx];
+          sequences.lazySet(idx, consumer + capacity);
+          consumer++;
+          continue;
+        }
+      } else if (diff < 0) {
+        break;
+      }
+      consumer = consumerIndex;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,134 @@
+package ch.deletescape.primitives.collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable index over {@code long} values which returns the minimum or maximum of any range in
+ * {@code O(1)} time. Building it takes {@code O(n log n)} time and memory: level {@code k} stores the
+ * minimum and maximum of every range of {@code 2^k} values, and every query combines the two,
+ * possibly overlapping, ranges of the biggest level which cover it. Use a {@link LongSegmentTree} for
+ * values which change.
+ */
+public final class LongSparseTable {
+  private final int size;
+  private final long[][] mins;
+  private final long[][] maxs;
+
+  private LongSparseTable(int size, long[][] mins, long[][] maxs) {
+    this.size = size;
+    this.mins = mins;
+    this.maxs = maxs;
+  }
+
+  /**
+   * Creates an index over a copy of the given values
+   * 
+   * @param values
+   *          the values
+   * @return a new index
+   */
+  public static LongSparseTable of(long... values) {
+    int size = values.length;
+    int levels = size == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(size);
+    long[][] mins = new long[levels][];
+    long[][] maxs = new long[levels][];
+    mins[0] = values.clone();
+    maxs[0] = mins[0];
+    for (int level = 1; level < levels; level++) {
+      int half = 1 << (level - 1);
+      int count = size - (1 << level) + 1;
+      long[] prevMins = mins[level - 1];
+      long[] prevMaxs = maxs[level - 1];
+      long[] levelMins = new long[count];
+      long[] levelMaxs = new long[count];
+      for (int i = 0; i < count; i++) {
+        levelMins[i] = Math.min(prevMins[i], prevMins[i + half]);
+        levelMaxs[i] = Math.max(prevMaxs[i], prevMaxs[i + half]);
+      }
+      mins[level] = levelMins;
+      maxs[level] = levelMaxs;
+    }
+    return new LongSparseTable(size, mins, maxs);
+  }
+
+  /**
+   * @return the number of values
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns a value
+   * 
+   * @param index
+   *          the index of the value
+   * @return the value at {@code index}
+   * @throws IndexOutOfBoundsException
+   *           if {@code index} is outside of the index
+   */
+  public long get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return mins[0][index];
+  }
+
+  /**
+   * Returns the smallest value of a range
+   * 
+   * @param fromIndex
+   *          the index of the first value, inclusive
+   * @param toIndex
+   *          the index of the last value, exclusive
+   * @return the smallest value of the range
+   * @throws IndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > size()}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @throws NoSuchElementException
+   *           if the range is empty
+   */
+  public long min(int fromIndex, int toIndex) {
+    int level = level(fromIndex, toIndex);
+    long[] levelMins = mins[level];
+    return Math.min(levelMins[fromIndex], levelMins[toIndex - (1 << level)]);
+  }
+
+  /**
+   * Returns the biggest value of a range
+   * 
+   * @param fromIndex
+   *          the index of the first value, inclusive
+   * @param toIndex
+   *          the index of the last value, exclusive
+   * @return the biggest value of the range
+   * @throws IndexOutOfBoundsException
+   *           if {@code fromIndex < 0} or {@code toIndex > size()}
+   * @throws IllegalArgumentException
+   *           if {@code fromIndex > toIndex}
+   * @throws NoSuchElementException
+   *           if the range is empty
+   */
+  public long max(int fromIndex, int toIndex) {
+    int level = level(fromIndex, toIndex);
+    long[] levelMaxs = maxs[level];
+    return Math.max(levelMaxs[fromIndex], levelMaxs[toIndex - (1 << level)]);
+  }
+
+  /**
+   * Checks the range and returns the biggest level whose ranges fit into it
+   */
+  private int level(int fromIndex, int toIndex) {
+    if (fromIndex > toIndex) {
+      throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+    }
+    if (fromIndex < 0 || toIndex > size) {
+      throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size);
+    }
+    if (fromIndex == toIndex) {
+      throw new NoSuchElementException("Range is empty");
+    }
+    return 31 - Integer.numberOfLeadingZeros(toIndex - fromIndex);
+  }
+}
@@ -0,0 +1,98 @@
+package ch.deletescape.primitives.collections;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+// The padding classes below make sure the producer and the consumer index never share a cache line,
+// the JVM lays out the fields of a super class before the ones of its sub classes.
+
+abstract class RingBufferPad0 {
+  long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class RingBufferProducerIndex extends RingBufferPad0 {
+  volatile long producerIndex;
+}
+
+abstract class RingBufferPad1 extends RingBufferProducerIndex {
+  long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class RingBufferConsumerIndex extends RingBufferPad1 {
+  volatile long consumerIndex;
+}
+
+abstract class RingBufferPad2 extends RingBufferConsumerIndex {
+  long p20, p21, p22, p23, p24, p25, p26, p27;
+}
+
+/**
+ * Common base of the bounded primitive ring buffers, holding the cache line padded producer and
+ * consumer indices.
+ */
+abstract class RingBuffer extends RingBufferPad2 {
+  static final AtomicLongFieldUpdater<RingBufferProducerIndex> PRODUCER_INDEX = AtomicLongFieldUpdater
+      .newUpdater(RingBufferProducerIndex.class, "producerIndex");
+  static final AtomicLongFieldUpdater<RingBufferConsumerIndex> CONSUMER_INDEX = AtomicLongFieldUpdater
+      .newUpdater(RingBufferConsumerIndex.class, "consumerIndex");
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  final int capacity;
+  final int mask;
+
+  RingBuffer(int capacity) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+    }
+    this.capacity = roundUp(capacity);
+    this.mask = this.capacity - 1;
+  }
+
+  private static int roundUp(int value) {
+    int highest = Integer.highestOneBit(value);
+    return highest == value ? value : highest << 1;
+  }
+
+  /**
+   * @return the maximum number of values the buffer can hold, which is the requested capacity
+   *         rounded up to the next power of two
+   */
+  public final int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the number of values in the buffer. When other threads are modifying the buffer
+   * concurrently this is only an estimate.
+   * 
+   * @return the number of values in the buffer
+   */
+  public final int size() {
+    long consumer = consumerIndex;
+    long producer = producerIndex;
+    return (int) Math.max(0, Math.min(capacity, producer - consumer));
+  }
+
+  /**
+   * @return whether or not the buffer is empty
+   * @see #size()
+   */
+  public final boolean isEmpty() {
+    return size() == 0;
+  }
+
+  final void setProducerIndex(long index) {
+    PRODUCER_INDEX.lazySet(this, index);
+  }
+
+  final void setConsumerIndex(long index) {
+    CONSUMER_INDEX.lazySet(this, index);
+  }
+
+  final boolean casProducerIndex(long expect, long update) {
+    return PRODUCER_INDEX.compareAndSet(this, expect, update);
+  }
+
+  final boolean casConsumerIndex(long expect, long update) {
+    return CONSUMER_INDEX.compareAndSet(this, expect, update);
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package containing data structures that store primitive values without boxing them
+ */
+package ch.deletescape.primitives.collections;
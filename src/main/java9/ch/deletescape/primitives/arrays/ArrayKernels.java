@@ -0,0 +1,111 @@
+package ch.deletescape.primitives.arrays;
+
+import java.util.Arrays;
+
+/**
+ * Inner loops shared by several array operations. This is the Java 9 implementation, which the
+ * multi-release JAR uses instead of the Java 8 one in {@code src/main/java}. It delegates to the
+ * range overloads of {@code Arrays.equals}, which the JVM compares in vectorized blocks.
+ */
+final class ArrayKernels {
+  /**
+   * Private Constructor to prevent initialization
+   */
+  private ArrayKernels() {}
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(boolean[] array, int index, boolean[] sequence) {
+    return Arrays.equals(array, index, index + sequence.length, sequence, 0, sequence.length);
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(byte[] array, int index, byte[] sequence) {
+    return Arrays.equals(array, index, index + sequence.length, sequence, 0, sequence.length);
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(char[] array, int index, char[] sequence) {
+    return Arrays.equals(array, index, index + sequence.length, sequence, 0, sequence.length);
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(int[] array, int index, int[] sequence) {
+    return Arrays.equals(array, index, index + sequence.length, sequence, 0, sequence.length);
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(long[] array, int index, long[] sequence) {
+    return Arrays.equals(array, index, index + sequence.length, sequence, 0, sequence.length);
+  }
+
+  /**
+   * Checks whether the values of {@code array} starting at {@code index} equal {@code sequence}. The
+   * caller has to make sure the whole sequence fits into {@code array}.
+   * 
+   * @param array
+   *          the array to compare
+   * @param index
+   *          the index of the first value to compare
+   * @param sequence
+   *          the values to compare with
+   * @return whether or not the sequence is found at {@code index}
+   */
+  static boolean regionMatches(short[] array, int index, short[] sequence) {
+    return Arrays.equals(array, index, index + sequence.length, sequence, 0, sequence.length);
+  }
+}
@@ -1,5 +1,7 @@
 package ch.deletescape.primitives;
 
+import java.util.Arrays;
+
 import ch.deletescape.primitives.arrays.BoolArrays;
 import ch.deletescape.primitives.arrays.ByteArrays;
 import ch.deletescape.primitives.arrays.CharArrays;
@@ -19,6 +21,10 @@ public class Benchmark {
     RandomGeneratorHolder.random.nextInt();
     randomArrays();
     average();
+    reductions();
+    sums();
+    booleans();
+    percentiles();
     distinct();
     stringsGeneral();
     stringFormatting();
@@ -140,6 +146,150 @@ public class Benchmark {
     System.out.println(Strings.simpleFormat(formatString, "short", toMs(shortTime)));
   }
 
+  private static void reductions() {
+    printTitle("Random Array Max and Contains with " + SIZE + " elements each");
+    Stopwatch watch = new Stopwatch();
+    int[] intArr = IntArrays.random(SIZE);
+    watch.start();
+    IntArrays.max(intArr);
+    watch.stop();
+    long intMaxTime = watch.getDuration();
+
+    watch.start();
+    IntArrays.contains(intArr, intArr[SIZE - 1]);
+    watch.stop();
+    long intContainsTime = watch.getDuration();
+
+    long[] longArr = LongArrays.random(SIZE);
+    watch.start();
+    LongArrays.max(longArr);
+    watch.stop();
+    long longMaxTime = watch.getDuration();
+
+    watch.start();
+    LongArrays.contains(longArr, longArr[SIZE - 1]);
+    watch.stop();
+    long longContainsTime = watch.getDuration();
+
+    double[] doubleArr = DoubleArrays.random(SIZE);
+    watch.start();
+    DoubleArrays.max(doubleArr);
+    watch.stop();
+    long doubleMaxTime = watch.getDuration();
+
+    String formatString = "{}-{} took {}ms";
+    System.out.println(Strings.simpleFormat(formatString, "int", "Max", toMs(intMaxTime)));
+    System.out.println(Strings.simpleFormat(formatString, "int", "Contains", toMs(intContainsTime)));
+    System.out.println(Strings.simpleFormat(formatString, "long", "Max", toMs(longMaxTime)));
+    System.out.println(Strings.simpleFormat(formatString, "long", "Contains", toMs(longContainsTime)));
+    System.out.println(Strings.simpleFormat(formatString, "double", "Max", toMs(doubleMaxTime)));
+  }
+
+  private static void sums() {
+    printTitle("Wide Sums with " + SIZE + " elements each");
+    Stopwatch watch = new Stopwatch();
+    int[] intArr = IntArrays.random(SIZE);
+    watch.start();
+    IntArrays.sum(intArr);
+    watch.stop();
+    long intTime = watch.getDuration();
+
+    watch.start();
+    IntArrays.sumLong(intArr);
+    watch.stop();
+    long intLongTime = watch.getDuration();
+
+    long[] longArr = LongArrays.random(SIZE);
+    watch.start();
+    LongArrays.sum(longArr);
+    watch.stop();
+    long longTime = watch.getDuration();
+
+    watch.start();
+    LongArrays.sumBigInteger(longArr);
+    watch.stop();
+    long longBigTime = watch.getDuration();
+
+    String formatString = "{} took {}ms ({} GB/s)";
+    System.out.println(Strings.simpleFormat(formatString, "IntArrays#sum", toMs(intTime), toGbs(SIZE * 4L, intTime)));
+    System.out.println(Strings.simpleFormat(formatString, "IntArrays#sumLong", toMs(intLongTime),
+        toGbs(SIZE * 4L, intLongTime)));
+    System.out.println(Strings.simpleFormat(formatString, "LongArrays#sum", toMs(longTime), toGbs(SIZE * 8L, longTime)));
+    System.out.println(Strings.simpleFormat(formatString, "LongArrays#sumBigInteger", toMs(longBigTime),
+        toGbs(SIZE * 8L, longBigTime)));
+  }
+
+  private static void booleans() {
+    printTitle("Boolean Counting and Searching with " + SIZE + " elements, warmed up");
+    Stopwatch watch = new Stopwatch();
+    boolean[] boolArr = BoolArrays.random(SIZE);
+    boolean[] sparse = new boolean[SIZE];
+    boolean[] dest = new boolean[SIZE];
+    sparse[SIZE - 1] = true;
+    long loopTime = 0;
+    long countTime = 0;
+    long firstTime = 0;
+    long andTime = 0;
+    int count = 0;
+    // The word reads only pay off once they are compiled, so the JIT gets the same runs for both
+    for (int run = 0; run <= 10; run++) {
+      watch.start();
+      count = 0;
+      for (boolean value : boolArr) {
+        count += value ? 1 : 0;
+      }
+      watch.stop();
+      loopTime = watch.getDuration();
+
+      watch.start();
+      BoolArrays.countTrue(boolArr);
+      watch.stop();
+      countTime = watch.getDuration();
+
+      watch.start();
+      BoolArrays.firstTrue(sparse);
+      watch.stop();
+      firstTime = watch.getDuration();
+
+      watch.start();
+      BoolArrays.and(boolArr, sparse, dest);
+      watch.stop();
+      andTime = watch.getDuration();
+    }
+
+    String formatString = "{} took {}ms";
+    System.out.println(Strings.simpleFormat(formatString, "Loop counting " + count + " values", toMs(loopTime)));
+    System.out.println(Strings.simpleFormat(formatString, "BoolArrays#countTrue", toMs(countTime)));
+    System.out.println(Strings.simpleFormat(formatString, "BoolArrays#firstTrue", toMs(firstTime)));
+    System.out.println(Strings.simpleFormat(formatString, "BoolArrays#and", toMs(andTime)));
+  }
+
+  private static void percentiles() {
+    printTitle("p50 / p95 / p99 with " + SIZE + " elements");
+    Stopwatch watch = new Stopwatch();
+    long[] longArr = LongArrays.random(SIZE);
+    watch.start();
+    long[] sorted = longArr.clone();
+    Arrays.sort(sorted);
+    watch.stop();
+    long sortTime = watch.getDuration();
+
+    watch.start();
+    LongArrays.percentiles(longArr, 50, 95, 99);
+    watch.stop();
+    long selectTime = watch.getDuration();
+
+    watch.start();
+    LongArrays.percentilesInPlace(longArr, 0, longArr.length, 50, 95, 99);
+    watch.stop();
+    long inPlaceTime = watch.getDuration();
+
+    String formatString = "{} took {}ms";
+    System.out.println(Strings.simpleFormat(formatString, "Arrays#sort of a copy", toMs(sortTime)));
+    System.out.println(Strings.simpleFormat(formatString, "LongArrays#percentiles", toMs(selectTime)));
+    System.out.println(Strings.simpleFormat(formatString, "LongArrays#percentilesInPlace", toMs(inPlaceTime)));
+  }
+
   private static void distinct() {
     printTitle("Random Array Distinct Filtering with " + SIZE_DISTINCT + " elements each");
     Stopwatch watch = new Stopwatch();
@@ -259,6 +409,10 @@ public class Benchmark {
     return nanos / (double) 1_000_000;
   }
 
+  private static double toGbs(long bytes, long nanos) {
+    return bytes / (double) nanos;
+  }
+
   private static void printTitle(String title) {
     char decoration = '*';
     String filler = Strings.repeat((70 - (title.length() - 2)) / 2, decoration);
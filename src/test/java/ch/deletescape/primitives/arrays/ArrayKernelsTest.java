@@ -0,0 +1,21 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class ArrayKernelsTest {
+  @Test
+  public void regionMatches() {
+    int[] array = new int[] { 1, 2, 3, 1, 2 };
+    assertThat(ArrayKernels.regionMatches(array, 3, new int[] { 1, 2 }), is(true));
+    assertThat(ArrayKernels.regionMatches(array, 1, new int[] { 2, 3, 4 }), is(false));
+    assertThat(ArrayKernels.regionMatches(array, 5, new int[0]), is(true));
+    assertThat(ArrayKernels.regionMatches(new long[] { 4, 5 }, 0, new long[] { 4, 5 }), is(true));
+    assertThat(ArrayKernels.regionMatches(new char[] { 'a', 'b' }, 1, new char[] { 'a' }), is(false));
+    assertThat(ArrayKernels.regionMatches(new boolean[] { true, false }, 1, new boolean[] { false }), is(true));
+    assertThat(ArrayKernels.regionMatches(new byte[] { 1, 2 }, 0, new byte[] { 1, 3 }), is(false));
+    assertThat(ArrayKernels.regionMatches(new short[] { 1, 2 }, 1, new short[] { 2 }), is(true));
+  }
+}
@@ -0,0 +1,100 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class BigDoubleArrayTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // 4 elements per segment, so most operations span multiple segments
+  private static BigDoubleArray array(double... values) {
+    BigDoubleArray tmp = BigDoubleArray.allocate(values.length, 2);
+    tmp.copyFrom(values, 0, 0, values.length);
+    return tmp;
+  }
+
+  @Test
+  public void allocate() {
+    BigDoubleArray tmp = BigDoubleArray.allocate(3);
+    assertThat(tmp.length(), is(3L));
+    assertThat(tmp.toArray(), is(new double[3]));
+  }
+
+  @Test
+  public void getAndSet() {
+    BigDoubleArray tmp = array(1, 2, 3, 4, 5, 6);
+    tmp.set(4, 10);
+    assertThat(tmp.get(4), is(10.0));
+    assertThat(tmp.get(5), is(6.0));
+  }
+
+  @Test
+  public void copyAcrossSegments() {
+    BigDoubleArray tmp = BigDoubleArray.allocate(10, 2);
+    tmp.copyFrom(new double[] { 9, 1, 2, 3, 4, 5, 6 }, 1, 2, 6);
+    double[] dest = new double[8];
+    tmp.copyTo(1, dest, 1, 7);
+    assertThat(dest, is(new double[] { 0, 0, 1, 2, 3, 4, 5, 6 }));
+  }
+
+  @Test
+  public void concatAll() {
+    assertThat(BigDoubleArray.concatAll(new double[] { 1, 3 }, new double[] { -2, 5 }).toArray(),
+        is(new double[] { 1, 3, -2, 5 }));
+    assertThat(BigDoubleArray.concatAll(array(1, 2, 3, 4, 5), array(6)).toArray(),
+        is(new double[] { 1, 2, 3, 4, 5, 6 }));
+  }
+
+  @Test
+  public void contains() {
+    BigDoubleArray tmp = array(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(tmp.contains(9), is(true));
+    assertThat(tmp.contains(10), is(false));
+    assertThat(tmp.parallelContains(9), is(true));
+    assertThat(tmp.parallelContains(10), is(false));
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(1);
+    assertThat(tmp.parallelContains(9, config), is(true));
+    assertThat(tmp.parallelContains(10, config), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    BigDoubleArray tmp = array(1, 2, 1, 3, 4, 5, 1, 3);
+    assertThat(tmp.findSequence(new double[] { 3, 4, 5 }), is(3L));
+    assertThat(tmp.findSequence(4, new double[] { 1, 3 }), is(6L));
+    assertThat(tmp.findSequence(new double[] { 5, 4 }), is(-1L));
+  }
+
+  @Test
+  public void minMaxSum() {
+    BigDoubleArray tmp = array(3, -2, 7, 1, 0, 5, 4, -1, 2);
+    assertThat(tmp.min(), is(-2.0));
+    assertThat(tmp.max(), is(7.0));
+    assertThat(tmp.parallelMin(), is(-2.0));
+    assertThat(tmp.parallelMax(), is(7.0));
+    assertThat(tmp.sum(), is(19.0));
+    assertThat(tmp.parallelSum(), is(19.0));
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(1);
+    assertThat(tmp.parallelMin(config), is(-2.0));
+    assertThat(tmp.parallelMax(config), is(7.0));
+    assertThat(tmp.parallelSum(config), is(19.0));
+  }
+
+  @Test
+  public void maxEmptyArray() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get max value from empty array"));
+    BigDoubleArray.allocate(0).max();
+  }
+
+  @Test
+  public void indexOutOfBounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    BigDoubleArray.allocate(2).set(-1, 1);
+  }
+}
@@ -0,0 +1,99 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class BigLongArrayTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // 4 elements per segment, so most operations span multiple segments
+  private static BigLongArray array(long... values) {
+    BigLongArray tmp = BigLongArray.allocate(values.length, 2);
+    tmp.copyFrom(values, 0, 0, values.length);
+    return tmp;
+  }
+
+  @Test
+  public void allocate() {
+    BigLongArray tmp = BigLongArray.allocate(3);
+    assertThat(tmp.length(), is(3L));
+    assertThat(tmp.toArray(), is(new long[3]));
+  }
+
+  @Test
+  public void getAndSet() {
+    BigLongArray tmp = array(1, 2, 3, 4, 5, 6);
+    tmp.set(4, 10);
+    assertThat(tmp.get(4), is(10L));
+    assertThat(tmp.get(5), is(6L));
+  }
+
+  @Test
+  public void copyAcrossSegments() {
+    BigLongArray tmp = BigLongArray.allocate(10, 2);
+    tmp.copyFrom(new long[] { 9, 1, 2, 3, 4, 5, 6 }, 1, 2, 6);
+    long[] dest = new long[8];
+    tmp.copyTo(1, dest, 1, 7);
+    assertThat(dest, is(new long[] { 0, 0, 1, 2, 3, 4, 5, 6 }));
+  }
+
+  @Test
+  public void concatAll() {
+    assertThat(BigLongArray.concatAll(new long[] { 1, 3 }, new long[] { -2, 5 }).toArray(),
+        is(new long[] { 1, 3, -2, 5 }));
+    assertThat(BigLongArray.concatAll(array(1, 2, 3, 4, 5), array(6)).toArray(), is(new long[] { 1, 2, 3, 4, 5, 6 }));
+  }
+
+  @Test
+  public void contains() {
+    BigLongArray tmp = array(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(tmp.contains(9), is(true));
+    assertThat(tmp.contains(10), is(false));
+    assertThat(tmp.parallelContains(9), is(true));
+    assertThat(tmp.parallelContains(10), is(false));
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(1);
+    assertThat(tmp.parallelContains(9, config), is(true));
+    assertThat(tmp.parallelContains(10, config), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    BigLongArray tmp = array(1, 2, 1, 3, 4, 5, 1, 3);
+    assertThat(tmp.findSequence(new long[] { 3, 4, 5 }), is(3L));
+    assertThat(tmp.findSequence(4, new long[] { 1, 3 }), is(6L));
+    assertThat(tmp.findSequence(new long[] { 5, 4 }), is(-1L));
+  }
+
+  @Test
+  public void minMaxSum() {
+    BigLongArray tmp = array(3, -2, 7, 1, 0, 5, 4, -1, 2);
+    assertThat(tmp.min(), is(-2L));
+    assertThat(tmp.max(), is(7L));
+    assertThat(tmp.parallelMin(), is(-2L));
+    assertThat(tmp.parallelMax(), is(7L));
+    assertThat(tmp.sum(), is(19L));
+    assertThat(tmp.parallelSum(), is(19L));
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(1);
+    assertThat(tmp.parallelMin(config), is(-2L));
+    assertThat(tmp.parallelMax(config), is(7L));
+    assertThat(tmp.parallelSum(config), is(19L));
+  }
+
+  @Test
+  public void maxEmptyArray() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get max value from empty array"));
+    BigLongArray.allocate(0).max();
+  }
+
+  @Test
+  public void indexOutOfBounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    BigLongArray.allocate(2).set(-1, 1);
+  }
+}
@@ -1,11 +1,17 @@
 package ch.deletescape.primitives.arrays;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 public class BoolArraysTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
   @Test
   public void fromLong() {
     assertThat(BoolArrays.from(new long[] { 1L, Long.MAX_VALUE }), is(new boolean[] { true, false }));
@@ -58,6 +64,18 @@ public class BoolArraysTest {
     assertThat(BoolArrays.contains(new boolean[] { false, false }, true), is(false));
   }
 
+  @Test
+  public void parallelContains() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(3);
+    boolean[] array = new boolean[20];
+    assertThat(BoolArrays.parallelContains(array, true, config), is(false));
+    assertThat(BoolArrays.parallelContains(array, false, config), is(true));
+    array[17] = true;
+    assertThat(BoolArrays.parallelContains(array, true, config), is(true));
+    assertThat(BoolArrays.parallelContains(array, 0, 17, true, config), is(false));
+    assertThat(BoolArrays.parallelContains(array, true), is(true));
+  }
+
   @Test
   public void distinct() {
     assertThat(BoolArrays.distinct(new boolean[] { true, true, false, true }), is(new boolean[] { true, false }));
@@ -113,4 +131,150 @@ public class BoolArraysTest {
   public void random() {
     BoolArrays.random(1);
   }
+
+  @Test
+  public void and() {
+    assertThat(BoolArrays.and(new boolean[] { true, true, false, false }, new boolean[] { true, false, true, false }),
+        is(new boolean[] { true, false, false, false }));
+  }
+
+  @Test
+  public void or() {
+    assertThat(BoolArrays.or(new boolean[] { true, true, false, false }, new boolean[] { true, false, true, false }),
+        is(new boolean[] { true, true, true, false }));
+  }
+
+  @Test
+  public void xor() {
+    assertThat(BoolArrays.xor(new boolean[] { true, true, false, false }, new boolean[] { true, false, true, false }),
+        is(new boolean[] { false, true, true, false }));
+  }
+
+  @Test
+  public void not() {
+    assertThat(BoolArrays.not(new boolean[] { true, false }), is(new boolean[] { false, true }));
+    boolean[] inPlace = new boolean[] { true, false };
+    BoolArrays.not(inPlace, inPlace);
+    assertThat(inPlace, is(new boolean[] { false, true }));
+  }
+
+  @Test
+  public void andDifferentLength() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Arrays must be of the same length"));
+    BoolArrays.and(new boolean[] { true }, new boolean[] { true, false });
+  }
+
+  @Test
+  public void countTrue() {
+    assertThat(BoolArrays.countTrue(new boolean[] { true, false, true, true }), is(3));
+    assertThat(BoolArrays.countTrue(new boolean[0]), is(0));
+  }
+
+  @Test
+  public void firstTrue() {
+    assertThat(BoolArrays.firstTrue(new boolean[] { false, false, true, true }), is(2));
+    assertThat(BoolArrays.firstTrue(new boolean[] { false, false }), is(-1));
+  }
+
+  @Test
+  public void nextTrue() {
+    assertThat(BoolArrays.nextTrue(new boolean[] { true, false, true, true }, 1), is(2));
+    assertThat(BoolArrays.nextTrue(new boolean[] { true, false, true, true }, -1), is(0));
+    assertThat(BoolArrays.nextTrue(new boolean[] { true, false }, 1), is(-1));
+  }
+
+  @Test
+  public void countAndNextTrueAcrossWords() {
+    boolean[] array = new boolean[100];
+    array[3] = true;
+    array[17] = true;
+    array[40] = true;
+    array[41] = true;
+    array[98] = true;
+    assertThat(BoolArrays.countTrue(array), is(5));
+    assertThat(BoolArrays.countTrue(array, 4, 98), is(3));
+    assertThat(BoolArrays.countTrue(array, 41, 99), is(2));
+    assertThat(BoolArrays.nextTrue(array, 4), is(17));
+    assertThat(BoolArrays.nextTrue(array, 18), is(40));
+    assertThat(BoolArrays.nextTrue(array, 41), is(41));
+    assertThat(BoolArrays.nextTrue(array, 42), is(98));
+    assertThat(BoolArrays.nextTrue(array, 99), is(-1));
+    assertThat(BoolArrays.nextTrue(array, 100), is(-1));
+  }
+
+  @Test
+  public void toBits() {
+    boolean[] bools = new boolean[70];
+    bools[0] = true;
+    bools[63] = true;
+    bools[65] = true;
+    assertThat(BoolArrays.toBits(bools), is(new long[] { 1L | Long.MIN_VALUE, 2L }));
+    assertThat(BoolArrays.toBits(new boolean[0]), is(new long[0]));
+  }
+
+  @Test
+  public void fromBits() {
+    assertThat(BoolArrays.fromBits(new long[] { 5L }, 4), is(new boolean[] { true, false, true, false }));
+    boolean[] bools = BoolArrays.random(130);
+    assertThat(BoolArrays.fromBits(BoolArrays.toBits(bools), bools.length), is(bools));
+  }
+
+  @Test
+  public void fromBitsTooShort() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Not enough bits to unpack 65 values"));
+    BoolArrays.fromBits(new long[1], 65);
+  }
+
+  @Test
+  public void rangeOperations() {
+    boolean[] array = new boolean[] { false, true, false, true, true, false };
+    assertThat(BoolArrays.contains(array, 2, 3, true), is(false));
+    assertThat(BoolArrays.contains(array, 1, 3, true), is(true));
+    assertThat(BoolArrays.findSequence(array, 2, 6, new boolean[] { true, false }), is(4));
+    assertThat(BoolArrays.findSequence(array, 0, 5, new boolean[] { true, false }), is(1));
+    assertThat(BoolArrays.countSequence(array, 0, 6, new boolean[] { true, false }), is(2));
+    assertThat(BoolArrays.countSequence(array, 0, 5, new boolean[] { true, false }), is(1));
+    assertThat(BoolArrays.join(";", array, 2, 4), is("false;true"));
+    assertThat(BoolArrays.countTrue(array, 1, 4), is(2));
+    assertThat(BoolArrays.distinct(array, 3, 5), is(new boolean[] { true }));
+    assertThat(BoolArrays.distinct(array, 2, 2), is(new boolean[0]));
+  }
+
+  @Test
+  public void fromIntoDest() {
+    boolean[] dest = new boolean[4];
+    assertThat(BoolArrays.from(new int[] { 0, 1, 1 }, 1, dest, 2, 2), is(sameInstance(dest)));
+    assertThat(dest, is(new boolean[] { false, false, true, true }));
+  }
+
+  @Test
+  public void fromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    BoolArrays.from(new int[] { 1, 2, 3 }, 2, new boolean[4], 0, 2);
+  }
+
+  @Test
+  public void parallelFromIntoDest() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] src = IntArrays.random(100);
+    boolean[] expected = BoolArrays.from(src, 3, new boolean[100], 5, 90);
+    boolean[] dest = new boolean[100];
+    assertThat(BoolArrays.parallelFrom(src, 3, dest, 5, 90, config), is(sameInstance(dest)));
+    assertThat(dest, is(expected));
+    assertThat(BoolArrays.parallelFrom(src, 0, new boolean[100], 0, 100), is(BoolArrays.from(src)));
+  }
+
+  @Test
+  public void parallelFromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    BoolArrays.parallelFrom(new int[3], 2, new boolean[4], 0, 2, ParallelConfig.DEFAULT.withThreshold(0));
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    BoolArrays.contains(new boolean[2], -1, 1, true);
+  }
 }
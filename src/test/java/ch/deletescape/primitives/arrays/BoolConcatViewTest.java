@@ -0,0 +1,46 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class BoolConcatViewTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    BoolConcatView view = BoolConcatView.of(new boolean[] { true, false }, new boolean[0], new boolean[] { true });
+    assertThat(view.length(), is(3));
+    assertThat(view.toArray(), is(new boolean[] { true, false, true }));
+    assertThat(view.get(1), is(false));
+    assertThat(view.get(2), is(true));
+  }
+
+  @Test
+  public void contains() {
+    BoolConcatView view = BoolConcatView.of(new boolean[] { true }, new boolean[] { true });
+    assertThat(view.contains(true), is(true));
+    assertThat(view.contains(false), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    BoolConcatView view = BoolConcatView.of(new boolean[] { true, true }, new boolean[] { false }, new boolean[] { true,
+        false });
+    assertThat(view.findSequence(true, false), is(1));
+    assertThat(view.findSequence(2, new boolean[] { true, false }), is(3));
+    assertThat(view.findSequence(false, false), is(-1));
+    assertThat(view.countSequence(true, false), is(2));
+    assertThat(view.countSequence(), is(0));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    BoolConcatView.of(new boolean[] { true }).get(-1);
+  }
+}
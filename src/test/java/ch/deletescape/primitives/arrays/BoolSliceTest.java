@@ -0,0 +1,59 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class BoolSliceTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    boolean[] array = new boolean[] { true, false, true, true, false };
+    BoolSlice slice = BoolSlice.of(array, 1, 4);
+    assertThat(slice.array(), is(sameInstance(array)));
+    assertThat(slice.offset(), is(1));
+    assertThat(slice.length(), is(3));
+    assertThat(slice.toArray(), is(new boolean[] { false, true, true }));
+    assertThat(BoolSlice.of(array).length(), is(5));
+  }
+
+  @Test
+  public void getAndSet() {
+    boolean[] array = new boolean[] { true, false, true, true, false };
+    BoolSlice slice = BoolSlice.of(array, 1, 4);
+    slice.set(0, true);
+    assertThat(slice.get(0), is(true));
+    assertThat(array[1], is(true));
+  }
+
+  @Test
+  public void subSlice() {
+    BoolSlice slice = BoolSlice.of(new boolean[] { true, false, true, true, false }, 1, 4).subSlice(1, 3);
+    assertThat(slice.offset(), is(2));
+    assertThat(slice.toArray(), is(new boolean[] { true, true }));
+  }
+
+  @Test
+  public void operations() {
+    BoolSlice slice = BoolSlice.of(new boolean[] { true, false, false, true, false, true }, 1, 5);
+    assertThat(slice.contains(true), is(true));
+    assertThat(slice.findSequence(true, false), is(2));
+    assertThat(slice.findSequence(false, true, true), is(-1));
+    assertThat(slice.countSequence(false), is(3));
+    assertThat(slice.join(";"), is("false;false;true;false"));
+    assertThat(slice.countTrue(), is(1));
+    assertThat(slice.distinct(), is(new boolean[] { false, true }));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    BoolSlice.of(new boolean[3], 1, 3).get(-1);
+  }
+}
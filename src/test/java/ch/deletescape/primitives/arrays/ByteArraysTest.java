@@ -1,8 +1,14 @@
 package ch.deletescape.primitives.arrays;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+
+import java.nio.ByteOrder;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -166,4 +172,222 @@ public class ByteArraysTest {
     // To cover the case where we already have a random object
     ByteArrays.random(1);
   }
+
+  @Test
+  public void concatTooLarge() {
+    byte[] array = new byte[1 << 24];
+    byte[][] arrays = new byte[129][];
+    Arrays.fill(arrays, array);
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't concatenate more than 2147483647 elements"));
+    ByteArrays.concatAll(arrays);
+  }
+
+  @Test
+  public void rangeOperations() {
+    byte[] array = new byte[] { 9, 1, 2, 3, 1, 2, 9 };
+    assertThat(ByteArrays.sum(array, 1, 6), is((byte) 9));
+    assertThat(ByteArrays.min(array, 1, 6), is((byte) 1));
+    assertThat(ByteArrays.max(array, 1, 6), is((byte) 3));
+    assertThat(ByteArrays.avg(array, 1, 6), is(1.8));
+    assertThat(ByteArrays.contains(array, 1, 6, (byte) 9), is(false));
+    assertThat(ByteArrays.contains(array, 0, 6, (byte) 9), is(true));
+    assertThat(ByteArrays.findSequence(array, 2, 7, new byte[] { 1, 2 }), is(4));
+    assertThat(ByteArrays.findSequence(array, 0, 5, new byte[] { 1, 2, 9 }), is(-1));
+    assertThat(ByteArrays.countSequence(array, 0, 6, new byte[] { 1, 2 }), is(2));
+    assertThat(ByteArrays.join(";", array, 2, 4), is("2;3"));
+    assertThat(ByteArrays.sum(array, 3, 3), is((byte) 0));
+    assertThat(ByteArrays.distinct(array, 1, 6), is(new byte[] { 1, 2, 3 }));
+  }
+
+  @Test
+  public void rangeKernelsMatchScalarLoop() {
+    byte[] array = ByteArrays.random(40);
+    for (int to = 1; to <= array.length; to++) {
+      int from = to / 3;
+      byte max = array[from];
+      byte min = array[from];
+      for (int j = from; j < to; j++) {
+        max = array[j] > max ? array[j] : max;
+        min = array[j] < min ? array[j] : min;
+      }
+      assertThat(ByteArrays.max(array, from, to), is(max));
+      assertThat(ByteArrays.min(array, from, to), is(min));
+      byte sum = 0;
+      boolean contains = false;
+      for (int j = from; j < to; j++) {
+        sum += array[j];
+        contains |= array[j] == array[0];
+      }
+      assertThat(ByteArrays.sum(array, from, to), is(sum));
+      assertThat(ByteArrays.contains(array, from, to, array[0]), is(contains));
+    }
+  }
+
+  @Test
+  public void parallelReductions() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    byte[] array = ByteArrays.random(100);
+    for (int to = 0; to <= array.length; to += 9) {
+      int from = to / 4;
+      if (to > from) {
+        assertThat(ByteArrays.parallelMax(array, from, to, config), is(ByteArrays.max(array, from, to)));
+        assertThat(ByteArrays.parallelMin(array, from, to, config), is(ByteArrays.min(array, from, to)));
+      }
+      assertThat(ByteArrays.parallelSum(array, from, to, config), is(ByteArrays.sum(array, from, to)));
+      assertThat(ByteArrays.parallelContains(array, from, to, array[0], config),
+          is(ByteArrays.contains(array, from, to, array[0])));
+      assertThat(ByteArrays.parallelContains(array, from, to, array[99], config),
+          is(ByteArrays.contains(array, from, to, array[99])));
+    }
+    assertThat(ByteArrays.parallelMax(array, config), is(ByteArrays.max(array)));
+    assertThat(ByteArrays.parallelMax(array), is(ByteArrays.max(array)));
+    thrown.expect(InvalidArrayException.class);
+    ByteArrays.parallelMin(new byte[0], config);
+  }
+
+  @Test
+  public void stats() {
+    IntStats stats = ByteArrays.stats(new byte[] { 4, 2, 9, 1, 4 });
+    assertThat(stats.count(), is(5));
+    assertThat(stats.sum(), is(20L));
+    assertThat(stats.min(), is(1));
+    assertThat(stats.max(), is(9));
+    assertThat(stats.mean(), is(4.0));
+    assertEquals(7.6, stats.variance(), 1e-12);
+    assertThat(ByteArrays.stats(new byte[] { 9, 1, 2, 3, 9 }, 1, 4, stats), is(sameInstance(stats)));
+    assertThat(stats.count(), is(3));
+    assertThat(stats.max(), is(3));
+    assertEquals(2 / 3.0, stats.variance(), 1e-12);
+  }
+
+  @Test
+  public void nthElement() {
+    byte[] array = ByteArrays.random(200);
+    for (int i = 100; i < array.length; i++) {
+      array[i] = array[i % 20];
+    }
+    byte[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int n = 0; n < array.length; n += 7) {
+      assertThat(ByteArrays.nthElement(array, n), is(sorted[n]));
+    }
+    byte[] range = Arrays.copyOfRange(array, 10, 190);
+    Arrays.sort(range);
+    assertThat(ByteArrays.nthElementInPlace(array, 10, 190, 50), is(range[50]));
+    for (int i = 10; i < 190; i++) {
+      assertThat(i < 60 ? array[i] <= array[60] : array[i] >= array[60], is(true));
+    }
+    byte[] expected = array.clone();
+    Arrays.sort(expected, 10, 190);
+    Arrays.sort(array, 10, 190);
+    assertThat(array, is(expected));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ByteArrays.nthElementInPlace(array, 10, 20, 10);
+  }
+
+  @Test
+  public void percentiles() {
+    byte[] array = new byte[] { 5, 1, 4, 2, 3 };
+    assertEquals(3, ByteArrays.median(array), 0);
+    assertEquals(2.5, ByteArrays.median((byte) 4, (byte) 1, (byte) 2, (byte) 3), 0);
+    assertThat(ByteArrays.percentiles(array, 0, 25, 90, 100), is(new double[] { 1, 2, 4.6, 5 }));
+    assertThat(array, is(new byte[] { 5, 1, 4, 2, 3 }));
+    byte[] buffer = new byte[] { 9, 5, 1, 4, 2, 3, 0 };
+    assertThat(ByteArrays.percentilesInPlace(buffer, 1, 6, 75, 50), is(new double[] { 4, 3 }));
+    assertThat(buffer[0], is((byte) 9));
+    assertThat(buffer[6], is((byte) 0));
+    thrown.expect(IllegalArgumentException.class);
+    ByteArrays.percentile(array, 101);
+  }
+
+  @Test
+  public void sumLong() {
+    byte[] array = new byte[] { Byte.MAX_VALUE, Byte.MAX_VALUE, Byte.MAX_VALUE };
+    assertThat(ByteArrays.sumLong(array), is(3L * Byte.MAX_VALUE));
+    assertThat(ByteArrays.sumLong(array, 1, 3), is(2L * Byte.MAX_VALUE));
+    assertThat(ByteArrays.avg(array), is((double) Byte.MAX_VALUE));
+    assertThat(ByteArrays.sumLong(new byte[0]), is(0L));
+  }
+
+  @Test
+  public void statsEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get statistics from empty array");
+    ByteArrays.stats(new byte[0]);
+  }
+
+  @Test
+  public void fromIntoDest() {
+    byte[] dest = new byte[4];
+    assertThat(ByteArrays.from(new int[] { 1, 2, 3 }, 1, dest, 2, 2), is(sameInstance(dest)));
+    assertThat(dest, is(new byte[] { 0, 0, 2, 3 }));
+  }
+
+  @Test
+  public void fromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ByteArrays.from(new int[] { 1, 2, 3 }, 2, new byte[4], 0, 2);
+  }
+
+  @Test
+  public void parallelFromIntoDest() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] src = IntArrays.random(100);
+    byte[] expected = ByteArrays.from(src, 3, new byte[100], 5, 90);
+    byte[] dest = new byte[100];
+    assertThat(ByteArrays.parallelFrom(src, 3, dest, 5, 90, config), is(sameInstance(dest)));
+    assertThat(dest, is(expected));
+    assertThat(ByteArrays.parallelFrom(src, 0, new byte[100], 0, 100), is(ByteArrays.from(src)));
+  }
+
+  @Test
+  public void parallelFromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ByteArrays.parallelFrom(new int[3], 2, new byte[4], 0, 2, ParallelConfig.DEFAULT.withThreshold(0));
+  }
+
+  @Test
+  public void toBytes() {
+    assertThat(ByteArrays.toBytes(new int[] { 0x102 }, ByteOrder.BIG_ENDIAN), is(new byte[] { 0, 0, 1, 2 }));
+    assertThat(ByteArrays.toBytes(new int[] { 0x102 }, ByteOrder.LITTLE_ENDIAN), is(new byte[] { 2, 1, 0, 0 }));
+    assertThat(ByteArrays.toBytes(new long[] { 1 }, ByteOrder.BIG_ENDIAN), is(new byte[] { 0, 0, 0, 0, 0, 0, 0, 1 }));
+    assertThat(ByteArrays.toBytes(new double[] { 1.0 }, ByteOrder.BIG_ENDIAN),
+        is(new byte[] { 0x3f, (byte) 0xf0, 0, 0, 0, 0, 0, 0 }));
+  }
+
+  @Test
+  public void toBytesRoundTrip() {
+    long[] values = LongArrays.random(10);
+    assertThat(LongArrays.fromBytes(ByteArrays.toBytes(values, ByteOrder.LITTLE_ENDIAN), ByteOrder.LITTLE_ENDIAN),
+        is(values));
+    double[] doubles = DoubleArrays.random(10);
+    assertThat(DoubleArrays.fromBytes(ByteArrays.toBytes(doubles, ByteOrder.BIG_ENDIAN), ByteOrder.BIG_ENDIAN),
+        is(doubles));
+  }
+
+  @Test
+  public void distinctZero() {
+    assertThat(ByteArrays.distinct(new byte[] { 1, 0, 1, 0 }), is(new byte[] { 1, 0 }));
+  }
+
+  @Test
+  public void rangeMinEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get min value from empty array"));
+    ByteArrays.min(new byte[] { 1, 2 }, 1, 1);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ByteArrays.sum(new byte[2], 0, 3);
+  }
+
+  @Test
+  public void rangeReversed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage(is("fromIndex(2) > toIndex(1)"));
+    ByteArrays.contains(new byte[2], 2, 1, (byte) 0);
+  }
 }
@@ -0,0 +1,76 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ByteConcatViewTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    ByteConcatView view = ByteConcatView.of(new byte[] { 1, 2 }, new byte[0], new byte[] { 3 }, new byte[] { 4, 5 });
+    assertThat(view.length(), is(5));
+    assertThat(view.toArray(), is(new byte[] { 1, 2, 3, 4, 5 }));
+    assertThat(ByteConcatView.of().length(), is(0));
+    for (int i = 0; i < view.length(); i++) {
+      assertThat(view.get(i), is((byte) (i + 1)));
+    }
+  }
+
+  @Test
+  public void viewReflectsChanges() {
+    byte[] part = new byte[] { 1, 2 };
+    ByteConcatView view = ByteConcatView.of(new byte[] { 0 }, part);
+    part[1] = 7;
+    assertThat(view.get(2), is((byte) 7));
+  }
+
+  @Test
+  public void contains() {
+    ByteConcatView view = ByteConcatView.of(new byte[] { 1, 2 }, new byte[] { 3 });
+    assertThat(view.contains((byte) 3), is(true));
+    assertThat(view.contains((byte) 4), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    ByteConcatView view = ByteConcatView.of(new byte[] { 1, 2, 3 }, new byte[0], new byte[] { 4 }, new byte[] { 5, 1,
+        2 });
+    assertThat(view.findSequence((byte) 2, (byte) 3), is(1));
+    assertThat(view.findSequence((byte) 3, (byte) 4, (byte) 5), is(2));
+    assertThat(view.findSequence((byte) 2, (byte) 4), is(-1));
+    assertThat(view.findSequence(2, new byte[] { 1, 2 }), is(5));
+    assertThat(view.findSequence(6, new byte[] { 1, 2 }), is(-1));
+    assertThat(view.countSequence((byte) 1, (byte) 2), is(2));
+    assertThat(view.countSequence(), is(0));
+  }
+
+  @Test
+  public void reductions() {
+    ByteConcatView view = ByteConcatView.of(new byte[] { 4, 2 }, new byte[0], new byte[] { 9, 1 }, new byte[] { 4 });
+    assertThat(view.max(), is((byte) 9));
+    assertThat(view.min(), is((byte) 1));
+    assertThat(view.sum(), is((byte) 20));
+    assertThat(view.avg(), is(4.0));
+    ByteConcatView large = ByteConcatView.of(new byte[] { Byte.MAX_VALUE }, new byte[] { Byte.MAX_VALUE });
+    assertThat(large.avg(), is(127.0));
+  }
+
+  @Test
+  public void maxEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get max value from empty array");
+    ByteConcatView.of(new byte[0], new byte[0]).max();
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ByteConcatView.of(new byte[] { 1, 2 }, new byte[] { 3 }).get(3);
+  }
+}
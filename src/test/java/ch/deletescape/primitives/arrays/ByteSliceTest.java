@@ -0,0 +1,71 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ByteSliceTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    byte[] array = new byte[] { 9, 1, 2, 3, 9 };
+    ByteSlice slice = ByteSlice.of(array, 1, 4);
+    assertThat(slice.array(), is(sameInstance(array)));
+    assertThat(slice.offset(), is(1));
+    assertThat(slice.length(), is(3));
+    assertThat(slice.toArray(), is(new byte[] { 1, 2, 3 }));
+    assertThat(ByteSlice.of(array).length(), is(5));
+  }
+
+  @Test
+  public void getAndSet() {
+    byte[] array = new byte[] { 9, 1, 2, 3, 9 };
+    ByteSlice slice = ByteSlice.of(array, 1, 4);
+    slice.set(2, (byte) 5);
+    assertThat(slice.get(2), is((byte) 5));
+    assertThat(array[3], is((byte) 5));
+  }
+
+  @Test
+  public void subSlice() {
+    ByteSlice slice = ByteSlice.of(new byte[] { 9, 1, 2, 3, 9 }, 1, 4).subSlice(1, 3);
+    assertThat(slice.offset(), is(2));
+    assertThat(slice.toArray(), is(new byte[] { 2, 3 }));
+  }
+
+  @Test
+  public void operations() {
+    ByteSlice slice = ByteSlice.of(new byte[] { 9, 1, 2, 3, 1, 2, 9 }, 1, 6);
+    assertThat(slice.contains((byte) 9), is(false));
+    assertThat(slice.contains((byte) 3), is(true));
+    assertThat(slice.findSequence((byte) 1, (byte) 2), is(0));
+    assertThat(slice.findSequence((byte) 3, (byte) 1), is(2));
+    assertThat(slice.findSequence((byte) 2, (byte) 9), is(-1));
+    assertThat(slice.countSequence((byte) 1, (byte) 2), is(2));
+    assertThat(slice.join(";"), is("1;2;3;1;2"));
+    assertThat(slice.min(), is((byte) 1));
+    assertThat(slice.max(), is((byte) 3));
+    assertThat(slice.sum(), is((byte) 9));
+    assertThat(slice.avg(), is(1.8));
+    assertThat(slice.distinct(), is(new byte[] { 1, 2, 3 }));
+    assertThat(slice.stats().max(), is(3));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ByteSlice.of(new byte[] { 9, 1, 2, 3, 9 }, 1, 4).get(3);
+  }
+
+  @Test
+  public void ofOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ByteSlice.of(new byte[2], 1, 3);
+  }
+}
@@ -1,8 +1,12 @@
 package ch.deletescape.primitives.arrays;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -165,4 +169,193 @@ public class CharArraysTest {
   public void random() {
     CharArrays.random(1);
   }
+
+  @Test
+  public void rangeOperations() {
+    char[] array = new char[] { 9, 1, 2, 3, 1, 2, 9 };
+    assertThat(CharArrays.sum(array, 1, 6), is((char) 9));
+    assertThat(CharArrays.min(array, 1, 6), is((char) 1));
+    assertThat(CharArrays.max(array, 1, 6), is((char) 3));
+    assertThat(CharArrays.avg(array, 1, 6), is(1.8));
+    assertThat(CharArrays.contains(array, 1, 6, (char) 9), is(false));
+    assertThat(CharArrays.contains(array, 0, 6, (char) 9), is(true));
+    assertThat(CharArrays.findSequence(array, 2, 7, new char[] { 1, 2 }), is(4));
+    assertThat(CharArrays.findSequence(array, 0, 5, new char[] { 1, 2, 9 }), is(-1));
+    assertThat(CharArrays.countSequence(array, 0, 6, new char[] { 1, 2 }), is(2));
+    assertThat(CharArrays.join(";", array, 2, 4), is("\u0002;\u0003"));
+    assertThat(CharArrays.sum(array, 3, 3), is((char) 0));
+    assertThat(CharArrays.distinct(array, 1, 6), is(new char[] { 1, 2, 3 }));
+  }
+
+  @Test
+  public void rangeKernelsMatchScalarLoop() {
+    char[] array = CharArrays.random(40);
+    for (int to = 1; to <= array.length; to++) {
+      int from = to / 3;
+      char max = array[from];
+      char min = array[from];
+      for (int j = from; j < to; j++) {
+        max = array[j] > max ? array[j] : max;
+        min = array[j] < min ? array[j] : min;
+      }
+      assertThat(CharArrays.max(array, from, to), is(max));
+      assertThat(CharArrays.min(array, from, to), is(min));
+      char sum = 0;
+      boolean contains = false;
+      for (int j = from; j < to; j++) {
+        sum += array[j];
+        contains |= array[j] == array[0];
+      }
+      assertThat(CharArrays.sum(array, from, to), is(sum));
+      assertThat(CharArrays.contains(array, from, to, array[0]), is(contains));
+    }
+  }
+
+  @Test
+  public void parallelReductions() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    char[] array = CharArrays.random(100);
+    for (int to = 0; to <= array.length; to += 9) {
+      int from = to / 4;
+      if (to > from) {
+        assertThat(CharArrays.parallelMax(array, from, to, config), is(CharArrays.max(array, from, to)));
+        assertThat(CharArrays.parallelMin(array, from, to, config), is(CharArrays.min(array, from, to)));
+      }
+      assertThat(CharArrays.parallelSum(array, from, to, config), is(CharArrays.sum(array, from, to)));
+      assertThat(CharArrays.parallelContains(array, from, to, array[0], config),
+          is(CharArrays.contains(array, from, to, array[0])));
+      assertThat(CharArrays.parallelContains(array, from, to, array[99], config),
+          is(CharArrays.contains(array, from, to, array[99])));
+    }
+    assertThat(CharArrays.parallelMax(array, config), is(CharArrays.max(array)));
+    assertThat(CharArrays.parallelMax(array), is(CharArrays.max(array)));
+    thrown.expect(InvalidArrayException.class);
+    CharArrays.parallelMin(new char[0], config);
+  }
+
+  @Test
+  public void stats() {
+    IntStats stats = CharArrays.stats(new char[] { 4, 2, 9, 1, 4 });
+    assertThat(stats.count(), is(5));
+    assertThat(stats.sum(), is(20L));
+    assertThat(stats.min(), is(1));
+    assertThat(stats.max(), is(9));
+    assertThat(stats.mean(), is(4.0));
+    assertEquals(7.6, stats.variance(), 1e-12);
+    assertThat(CharArrays.stats(new char[] { 9, 1, 2, 3, 9 }, 1, 4, stats), is(sameInstance(stats)));
+    assertThat(stats.count(), is(3));
+    assertThat(stats.max(), is(3));
+    assertEquals(2 / 3.0, stats.variance(), 1e-12);
+  }
+
+  @Test
+  public void nthElement() {
+    char[] array = CharArrays.random(200);
+    for (int i = 100; i < array.length; i++) {
+      array[i] = array[i % 20];
+    }
+    char[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int n = 0; n < array.length; n += 7) {
+      assertThat(CharArrays.nthElement(array, n), is(sorted[n]));
+    }
+    char[] range = Arrays.copyOfRange(array, 10, 190);
+    Arrays.sort(range);
+    assertThat(CharArrays.nthElementInPlace(array, 10, 190, 50), is(range[50]));
+    for (int i = 10; i < 190; i++) {
+      assertThat(i < 60 ? array[i] <= array[60] : array[i] >= array[60], is(true));
+    }
+    char[] expected = array.clone();
+    Arrays.sort(expected, 10, 190);
+    Arrays.sort(array, 10, 190);
+    assertThat(array, is(expected));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharArrays.nthElementInPlace(array, 10, 20, 10);
+  }
+
+  @Test
+  public void percentiles() {
+    char[] array = new char[] { 5, 1, 4, 2, 3 };
+    assertEquals(3, CharArrays.median(array), 0);
+    assertEquals(2.5, CharArrays.median((char) 4, (char) 1, (char) 2, (char) 3), 0);
+    assertThat(CharArrays.percentiles(array, 0, 25, 90, 100), is(new double[] { 1, 2, 4.6, 5 }));
+    assertThat(array, is(new char[] { 5, 1, 4, 2, 3 }));
+    char[] buffer = new char[] { 9, 5, 1, 4, 2, 3, 0 };
+    assertThat(CharArrays.percentilesInPlace(buffer, 1, 6, 75, 50), is(new double[] { 4, 3 }));
+    assertThat(buffer[0], is((char) 9));
+    assertThat(buffer[6], is((char) 0));
+    thrown.expect(IllegalArgumentException.class);
+    CharArrays.percentile(array, 101);
+  }
+
+  @Test
+  public void sumLong() {
+    char[] array = new char[] { Character.MAX_VALUE, Character.MAX_VALUE, Character.MAX_VALUE };
+    assertThat(CharArrays.sumLong(array), is(3L * Character.MAX_VALUE));
+    assertThat(CharArrays.sumLong(array, 1, 3), is(2L * Character.MAX_VALUE));
+    assertThat(CharArrays.avg(array), is((double) Character.MAX_VALUE));
+    assertThat(CharArrays.sumLong(new char[0]), is(0L));
+  }
+
+  @Test
+  public void statsEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get statistics from empty array");
+    CharArrays.stats(new char[0]);
+  }
+
+  @Test
+  public void fromIntoDest() {
+    char[] dest = new char[4];
+    assertThat(CharArrays.from(new int[] { 1, 2, 3 }, 1, dest, 2, 2), is(sameInstance(dest)));
+    assertThat(dest, is(new char[] { 0, 0, 2, 3 }));
+  }
+
+  @Test
+  public void fromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharArrays.from(new int[] { 1, 2, 3 }, 2, new char[4], 0, 2);
+  }
+
+  @Test
+  public void parallelFromIntoDest() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] src = IntArrays.random(100);
+    char[] expected = CharArrays.from(src, 3, new char[100], 5, 90);
+    char[] dest = new char[100];
+    assertThat(CharArrays.parallelFrom(src, 3, dest, 5, 90, config), is(sameInstance(dest)));
+    assertThat(dest, is(expected));
+    assertThat(CharArrays.parallelFrom(src, 0, new char[100], 0, 100), is(CharArrays.from(src)));
+  }
+
+  @Test
+  public void parallelFromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharArrays.parallelFrom(new int[3], 2, new char[4], 0, 2, ParallelConfig.DEFAULT.withThreshold(0));
+  }
+
+  @Test
+  public void distinctZero() {
+    assertThat(CharArrays.distinct(new char[] { 1, 0, 1, 0 }), is(new char[] { 1, 0 }));
+  }
+
+  @Test
+  public void rangeMinEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get min value from empty array"));
+    CharArrays.min(new char[] { 1, 2 }, 1, 1);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharArrays.sum(new char[2], 0, 3);
+  }
+
+  @Test
+  public void rangeReversed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage(is("fromIndex(2) > toIndex(1)"));
+    CharArrays.contains(new char[2], 2, 1, (char) 0);
+  }
 }
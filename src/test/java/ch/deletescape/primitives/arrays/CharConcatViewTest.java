@@ -0,0 +1,76 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CharConcatViewTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    CharConcatView view = CharConcatView.of(new char[] { 1, 2 }, new char[0], new char[] { 3 }, new char[] { 4, 5 });
+    assertThat(view.length(), is(5));
+    assertThat(view.toArray(), is(new char[] { 1, 2, 3, 4, 5 }));
+    assertThat(CharConcatView.of().length(), is(0));
+    for (int i = 0; i < view.length(); i++) {
+      assertThat(view.get(i), is((char) (i + 1)));
+    }
+  }
+
+  @Test
+  public void viewReflectsChanges() {
+    char[] part = new char[] { 1, 2 };
+    CharConcatView view = CharConcatView.of(new char[] { 0 }, part);
+    part[1] = 7;
+    assertThat(view.get(2), is((char) 7));
+  }
+
+  @Test
+  public void contains() {
+    CharConcatView view = CharConcatView.of(new char[] { 1, 2 }, new char[] { 3 });
+    assertThat(view.contains((char) 3), is(true));
+    assertThat(view.contains((char) 4), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    CharConcatView view = CharConcatView.of(new char[] { 1, 2, 3 }, new char[0], new char[] { 4 }, new char[] { 5, 1,
+        2 });
+    assertThat(view.findSequence((char) 2, (char) 3), is(1));
+    assertThat(view.findSequence((char) 3, (char) 4, (char) 5), is(2));
+    assertThat(view.findSequence((char) 2, (char) 4), is(-1));
+    assertThat(view.findSequence(2, new char[] { 1, 2 }), is(5));
+    assertThat(view.findSequence(6, new char[] { 1, 2 }), is(-1));
+    assertThat(view.countSequence((char) 1, (char) 2), is(2));
+    assertThat(view.countSequence(), is(0));
+  }
+
+  @Test
+  public void reductions() {
+    CharConcatView view = CharConcatView.of(new char[] { 4, 2 }, new char[0], new char[] { 9, 1 }, new char[] { 4 });
+    assertThat(view.max(), is((char) 9));
+    assertThat(view.min(), is((char) 1));
+    assertThat(view.sum(), is((char) 20));
+    assertThat(view.avg(), is(4.0));
+    CharConcatView large = CharConcatView.of(new char[] { Character.MAX_VALUE }, new char[] { Character.MAX_VALUE });
+    assertThat(large.avg(), is(65535.0));
+  }
+
+  @Test
+  public void maxEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get max value from empty array");
+    CharConcatView.of(new char[0], new char[0]).max();
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharConcatView.of(new char[] { 1, 2 }, new char[] { 3 }).get(3);
+  }
+}
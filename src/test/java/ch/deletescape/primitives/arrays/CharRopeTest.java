@@ -0,0 +1,103 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CharRopeTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    CharRope rope = CharRope.of((char) 1, (char) 2, (char) 3);
+    assertThat(rope.length(), is(3));
+    assertThat(rope.get(1), is((char) 2));
+    assertThat(rope.toArray(), is(new char[] { 1, 2, 3 }));
+    assertThat(CharRope.of(), is(sameInstance(CharRope.empty())));
+  }
+
+  @Test
+  public void ofLarge() {
+    char[] values = CharArrays.random(5000);
+    CharRope rope = CharRope.of(values);
+    assertThat(rope.toArray(), is(values));
+    assertThat(rope.get(4321), is(values[4321]));
+  }
+
+  @Test
+  public void insert() {
+    CharRope rope = CharRope.of((char) 1, (char) 4);
+    CharRope inserted = rope.insert(1, (char) 2, (char) 3);
+    assertThat(inserted.toArray(), is(new char[] { 1, 2, 3, 4 }));
+    assertThat(inserted.insert(0, (char) 0).toArray(), is(new char[] { 0, 1, 2, 3, 4 }));
+    assertThat(inserted.insert(4, CharRope.of((char) 5)).toArray(), is(new char[] { 1, 2, 3, 4, 5 }));
+    assertThat(rope.toArray(), is(new char[] { 1, 4 }));
+  }
+
+  @Test
+  public void deleteAndSubRope() {
+    CharRope rope = CharRope.of((char) 1, (char) 2, (char) 3, (char) 4, (char) 5);
+    assertThat(rope.delete(1, 3).toArray(), is(new char[] { 1, 4, 5 }));
+    assertThat(rope.subRope(1, 3).toArray(), is(new char[] { 2, 3 }));
+    assertThat(rope.concat(CharRope.of((char) 6)).toArray(), is(new char[] { 1, 2, 3, 4, 5, 6 }));
+    assertThat(rope.length(), is(5));
+  }
+
+  @Test
+  public void randomEdits() {
+    Random random = new Random(42);
+    char[] expected = new char[0];
+    CharRope rope = CharRope.empty();
+    for (int i = 0; i < 2000; i++) {
+      int op = random.nextInt(4);
+      if (op < 2 || expected.length == 0) {
+        int index = random.nextInt(expected.length + 1);
+        char[] values = CharArrays.random(1 + random.nextInt(op == 0 ? 4 : 600));
+        expected = CharArrays.insert(expected, values, index);
+        rope = rope.insert(index, values);
+      } else {
+        int from = random.nextInt(expected.length);
+        int to = from + random.nextInt(Math.min(expected.length - from, 300) + 1);
+        if (op == 2) {
+          char[] deleted = new char[expected.length - (to - from)];
+          System.arraycopy(expected, 0, deleted, 0, from);
+          System.arraycopy(expected, to, deleted, from, expected.length - to);
+          expected = deleted;
+          rope = rope.delete(from, to);
+        } else {
+          assertThat(rope.subRope(from, to).toArray(), is(Arrays.copyOfRange(expected, from, to)));
+        }
+      }
+      assertThat(rope.length(), is(expected.length));
+      assertTrue(rope.height() <= 1.45 * Math.log(rope.length() + 2) / Math.log(2) + 1);
+    }
+    assertThat(rope.toArray(), is(expected));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharRope.of((char) 1).get(1);
+  }
+
+  @Test
+  public void insertOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharRope.of((char) 1).insert(2, (char) 2);
+  }
+
+  @Test
+  public void deleteReversed() {
+    thrown.expect(IllegalArgumentException.class);
+    CharRope.of((char) 1, (char) 2).delete(2, 1);
+  }
+}
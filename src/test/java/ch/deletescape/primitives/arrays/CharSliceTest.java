@@ -0,0 +1,71 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CharSliceTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    char[] array = new char[] { 9, 1, 2, 3, 9 };
+    CharSlice slice = CharSlice.of(array, 1, 4);
+    assertThat(slice.array(), is(sameInstance(array)));
+    assertThat(slice.offset(), is(1));
+    assertThat(slice.length(), is(3));
+    assertThat(slice.toArray(), is(new char[] { 1, 2, 3 }));
+    assertThat(CharSlice.of(array).length(), is(5));
+  }
+
+  @Test
+  public void getAndSet() {
+    char[] array = new char[] { 9, 1, 2, 3, 9 };
+    CharSlice slice = CharSlice.of(array, 1, 4);
+    slice.set(2, (char) 5);
+    assertThat(slice.get(2), is((char) 5));
+    assertThat(array[3], is((char) 5));
+  }
+
+  @Test
+  public void subSlice() {
+    CharSlice slice = CharSlice.of(new char[] { 9, 1, 2, 3, 9 }, 1, 4).subSlice(1, 3);
+    assertThat(slice.offset(), is(2));
+    assertThat(slice.toArray(), is(new char[] { 2, 3 }));
+  }
+
+  @Test
+  public void operations() {
+    CharSlice slice = CharSlice.of(new char[] { 9, 1, 2, 3, 1, 2, 9 }, 1, 6);
+    assertThat(slice.contains((char) 9), is(false));
+    assertThat(slice.contains((char) 3), is(true));
+    assertThat(slice.findSequence((char) 1, (char) 2), is(0));
+    assertThat(slice.findSequence((char) 3, (char) 1), is(2));
+    assertThat(slice.findSequence((char) 2, (char) 9), is(-1));
+    assertThat(slice.countSequence((char) 1, (char) 2), is(2));
+    assertThat(slice.join(";"), is("\u0001;\u0002;\u0003;\u0001;\u0002"));
+    assertThat(slice.min(), is((char) 1));
+    assertThat(slice.max(), is((char) 3));
+    assertThat(slice.sum(), is((char) 9));
+    assertThat(slice.avg(), is(1.8));
+    assertThat(slice.distinct(), is(new char[] { 1, 2, 3 }));
+    assertThat(slice.stats().max(), is(3));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharSlice.of(new char[] { 9, 1, 2, 3, 9 }, 1, 4).get(3);
+  }
+
+  @Test
+  public void ofOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    CharSlice.of(new char[2], 1, 3);
+  }
+}
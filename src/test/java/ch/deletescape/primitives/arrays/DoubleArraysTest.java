@@ -1,8 +1,13 @@
 package ch.deletescape.primitives.arrays;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -165,4 +170,422 @@ public class DoubleArraysTest {
   public void random() {
     DoubleArrays.random(1);
   }
+
+  @Test
+  public void topK() {
+    assertThat(DoubleArrays.topK(new double[] { 3, 9, 1, 7, 9, 2 }, 3), is(new double[] { 9, 9, 7 }));
+    assertThat(DoubleArrays.topK(new double[] { 3, 1 }, 5), is(new double[] { 3, 1 }));
+    assertThat(DoubleArrays.topK(new double[] { 3, 1 }, -1), is(new double[0]));
+  }
+
+  @Test
+  public void topKIndices() {
+    assertThat(DoubleArrays.topKIndices(new double[] { 3, 9, 1, 7, 9, 2 }, 3), is(new int[] { 1, 4, 3 }));
+    assertThat(DoubleArrays.topKIndices(new double[] { 3, 1, 3 }, 5), is(new int[] { 0, 2, 1 }));
+    assertThat(DoubleArrays.topKIndices(new double[] { 3, 1 }, 0), is(new int[0]));
+  }
+
+  @Test
+  public void topKSignedZeros() {
+    double[] array = new double[] { 0.0, -0.0, 0.0, -0.0 };
+    assertThat(DoubleArrays.topK(array, 2), is(new double[] { 0.0, 0.0 }));
+    assertThat(DoubleArrays.topKIndices(array, 2), is(new int[] { 0, 2 }));
+    assertThat(DoubleArrays.topKIndices(new double[] { -0.0, 0.0 }, 1), is(new int[] { 1 }));
+  }
+
+  @Test
+  public void topKSkipsNaN() {
+    assertThat(DoubleArrays.topK(new double[] { Double.NaN, 1, 2, 3 }, 2), is(new double[] { 3, 2 }));
+    assertThat(DoubleArrays.topK(new double[] { 1, Double.NaN, 2 }, 3), is(new double[] { 2, 1 }));
+    assertThat(DoubleArrays.topKIndices(new double[] { Double.NaN, 1, 2, 3 }, 2), is(new int[] { 3, 2 }));
+    assertThat(DoubleArrays.topKIndices(new double[] { 2, Double.NaN, 2 }, 3), is(new int[] { 0, 2 }));
+  }
+
+  @Test
+  public void rangeOperations() {
+    double[] array = new double[] { 9, 1, 2, 3, 1, 2, 9 };
+    assertThat(DoubleArrays.sum(array, 1, 6), is(9.0));
+    assertThat(DoubleArrays.min(array, 1, 6), is(1.0));
+    assertThat(DoubleArrays.max(array, 1, 6), is(3.0));
+    assertThat(DoubleArrays.avg(array, 1, 6), is(1.8));
+    assertThat(DoubleArrays.contains(array, 1, 6, 9.0), is(false));
+    assertThat(DoubleArrays.contains(array, 0, 6, 9.0), is(true));
+    assertThat(DoubleArrays.findSequence(array, 2, 7, new double[] { 1, 2 }), is(4));
+    assertThat(DoubleArrays.findSequence(array, 0, 5, new double[] { 1, 2, 9 }), is(-1));
+    assertThat(DoubleArrays.countSequence(array, 0, 6, new double[] { 1, 2 }), is(2));
+    assertThat(DoubleArrays.join(";", array, 2, 4), is("2.0;3.0"));
+    assertThat(DoubleArrays.sum(array, 3, 3), is(0.0));
+    assertThat(DoubleArrays.distinct(array, 1, 6), is(new double[] { 1, 2, 3 }));
+    assertThat(DoubleArrays.topK(array, 1, 6, 2), is(new double[] { 3, 2 }));
+  }
+
+  @Test
+  public void rangeKernelsMatchScalarLoop() {
+    double[] array = DoubleArrays.random(40);
+    for (int to = 1; to <= array.length; to++) {
+      int from = to / 3;
+      double max = array[from];
+      double min = array[from];
+      for (int j = from; j < to; j++) {
+        max = array[j] > max ? array[j] : max;
+        min = array[j] < min ? array[j] : min;
+      }
+      assertThat(DoubleArrays.max(array, from, to), is(max));
+      assertThat(DoubleArrays.min(array, from, to), is(min));
+    }
+  }
+
+  @Test
+  public void parallelReductions() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    double[] array = DoubleArrays.random(100);
+    for (int to = 0; to <= array.length; to += 9) {
+      int from = to / 4;
+      if (to > from) {
+        assertThat(DoubleArrays.parallelMax(array, from, to, config), is(DoubleArrays.max(array, from, to)));
+        assertThat(DoubleArrays.parallelMin(array, from, to, config), is(DoubleArrays.min(array, from, to)));
+      }
+      assertEquals(DoubleArrays.sum(array, from, to), DoubleArrays.parallelSum(array, from, to, config), 1e-3);
+      assertThat(DoubleArrays.parallelContains(array, from, to, array[0], config),
+          is(DoubleArrays.contains(array, from, to, array[0])));
+      assertThat(DoubleArrays.parallelContains(array, from, to, array[99], config),
+          is(DoubleArrays.contains(array, from, to, array[99])));
+    }
+    assertThat(DoubleArrays.parallelMax(array, config), is(DoubleArrays.max(array)));
+    assertThat(DoubleArrays.parallelMax(array), is(DoubleArrays.max(array)));
+    thrown.expect(InvalidArrayException.class);
+    DoubleArrays.parallelMin(new double[0], config);
+  }
+
+  @Test
+  public void stats() {
+    DoubleStats stats = DoubleArrays.stats(new double[] { 4, 2, 9, 1, 4 });
+    assertThat(stats.count(), is(5));
+    assertThat(stats.sum(), is(20.0));
+    assertThat(stats.min(), is(1.0));
+    assertThat(stats.max(), is(9.0));
+    assertThat(stats.mean(), is(4.0));
+    assertEquals(7.6, stats.variance(), 1e-12);
+    assertThat(DoubleArrays.stats(new double[] { 9, 1, 2, 3, 9 }, 1, 4, stats), is(sameInstance(stats)));
+    assertThat(stats.count(), is(3));
+    assertThat(stats.max(), is(3.0));
+    assertEquals(2 / 3.0, stats.variance(), 1e-12);
+  }
+
+  @Test
+  public void nthElement() {
+    double[] array = DoubleArrays.random(200);
+    for (int i = 100; i < array.length; i++) {
+      array[i] = array[i % 20];
+    }
+    double[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int n = 0; n < array.length; n += 7) {
+      assertThat(DoubleArrays.nthElement(array, n), is(sorted[n]));
+    }
+    double[] range = Arrays.copyOfRange(array, 10, 190);
+    Arrays.sort(range);
+    assertThat(DoubleArrays.nthElementInPlace(array, 10, 190, 50), is(range[50]));
+    for (int i = 10; i < 190; i++) {
+      assertThat(i < 60 ? array[i] <= array[60] : array[i] >= array[60], is(true));
+    }
+    double[] expected = array.clone();
+    Arrays.sort(expected, 10, 190);
+    Arrays.sort(array, 10, 190);
+    assertThat(array, is(expected));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    DoubleArrays.nthElementInPlace(array, 10, 20, 10);
+  }
+
+  @Test
+  public void percentiles() {
+    double[] array = new double[] { 5, 1, 4, 2, 3 };
+    assertEquals(3, DoubleArrays.median(array), 0);
+    assertEquals(2.5, DoubleArrays.median(4.0, 1.0, 2.0, 3.0), 0);
+    assertThat(DoubleArrays.percentiles(array, 0, 25, 90, 100), is(new double[] { 1, 2, 4.6, 5 }));
+    assertThat(array, is(new double[] { 5, 1, 4, 2, 3 }));
+    double[] buffer = new double[] { 9, 5, 1, 4, 2, 3, 0 };
+    assertThat(DoubleArrays.percentilesInPlace(buffer, 1, 6, 75, 50), is(new double[] { 4, 3 }));
+    assertThat(buffer[0], is(9.0));
+    assertThat(buffer[6], is(0.0));
+    thrown.expect(IllegalArgumentException.class);
+    DoubleArrays.percentile(array, 101);
+  }
+
+  @Test
+  public void histogram() {
+    double[] array = new double[] { 0, 1, 2, 5, 9, 10, 11, -1, 4 };
+    assertThat(DoubleArrays.histogram(array, 0.0, 10.0, 5), is(new long[] { 2, 1, 2, 0, 2 }));
+    long[] counts = new long[5];
+    DoubleArrays.histogram(array, 0, 3, 0.0, 10.0, counts);
+    assertThat(counts, is(new long[] { 2, 1, 0, 0, 0 }));
+    assertThat(DoubleArrays.histogram(array, 3, 9, 0.0, 10.0, counts), is(sameInstance(counts)));
+    assertThat(counts, is(new long[] { 2, 1, 2, 0, 2 }));
+    assertThat(DoubleArrays.histogram(array, new double[] { 0, 1, 5, 10 }), is(new long[] { 1, 3, 3 }));
+    assertThat(DoubleArrays.histogram(array, new double[] { 2, 3 }), is(new long[] { 1 }));
+    thrown.expect(IllegalArgumentException.class);
+    DoubleArrays.histogram(array, new double[] { 0, 5, 5 });
+  }
+
+  @Test
+  public void parallelHistogram() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    double[] array = DoubleArrays.random(1000);
+    double min = DoubleArrays.min(array);
+    double max = DoubleArrays.max(array);
+    assertThat(DoubleArrays.parallelHistogram(array, 0, 1000, min, max, new long[13], config),
+        is(DoubleArrays.histogram(array, min, max, 13)));
+    assertThat(DoubleArrays.parallelHistogram(array, min, max, 13), is(DoubleArrays.histogram(array, min, max, 13)));
+    double[] sorted = array.clone();
+    Arrays.sort(sorted);
+    double[] boundaries = new double[] { sorted[0], sorted[250], sorted[500], sorted[750], sorted[999] };
+    long[] counts = DoubleArrays.parallelHistogram(array, 0, 1000, boundaries, new long[4], config);
+    assertThat(counts, is(DoubleArrays.histogram(array, boundaries)));
+    assertThat(DoubleArrays.parallelHistogram(array, boundaries), is(counts));
+  }
+
+  @Test
+  public void histogramLowerBounds() {
+    assertThat(DoubleArrays.histogram(new double[] { 11 }, 0.0, 22.0, 30)[15], is(1L));
+    assertThat(DoubleArrays.histogram(new double[] { 13 }, 0.0, 26.0, 30)[15], is(1L));
+    assertThat(DoubleArrays.histogram(new double[] { 11 }, 0.0, 33.0, 45)[15], is(1L));
+    assertThat(DoubleArrays.histogram(new double[] { 22 }, 0.0, 44.0, 30)[15], is(1L));
+    assertThat(DoubleArrays.histogram(new double[] { Math.nextDown(11.0) }, 0.0, 22.0, 30)[14], is(1L));
+  }
+
+  @Test
+  public void prefixSum() {
+    double[] array = new double[] { 3, 1, 4, 1, 5 };
+    assertThat(DoubleArrays.prefixSum(array), is(new double[] { 3, 4, 8, 9, 14 }));
+    assertThat(DoubleArrays.differences(array), is(new double[] { 3, 1, 4, 1, 5 }));
+    double[] dest = new double[4];
+    assertThat(DoubleArrays.prefixSum(array, 1, dest, 1, 3), is(sameInstance(dest)));
+    assertThat(dest, is(new double[] { 0, 1, 5, 6 }));
+    assertThat(DoubleArrays.differences(array, 1, dest, 0, 4), is(new double[] { 1, 3, -3, 4 }));
+    assertThat(DoubleArrays.prefixSum(array, 0, array, 1, 4), is(new double[] { 3, 3, 4, 8, 9 }));
+    assertThat(DoubleArrays.prefixSum(array, 1, array, 0, 4), is(new double[] { 3, 7, 15, 24, 9 }));
+  }
+
+  @Test
+  public void parallelPrefixSum() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    double[] array = new double[100];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i % 7 - 3;
+    }
+    double[] expected = DoubleArrays.prefixSum(array, 5, new double[100], 0, 90);
+    assertThat(DoubleArrays.parallelPrefixSum(array, 5, new double[100], 0, 90, config), is(expected));
+    assertThat(Arrays.copyOf(DoubleArrays.parallelPrefixSum(array, 5, array, 0, 90, config), 90),
+        is(Arrays.copyOf(expected, 90)));
+    assertThat(DoubleArrays.parallelPrefixSum(new double[] { 1, 2, 3 }), is(new double[] { 1, 3, 6 }));
+  }
+
+  @Test
+  public void runningMinMax() {
+    double[] array = new double[] { 3, 1, 4, 1, 5, 0 };
+    assertThat(DoubleArrays.runningMin(array.clone()), is(new double[] { 3, 1, 1, 1, 1, 0 }));
+    assertThat(DoubleArrays.runningMax(array.clone()), is(new double[] { 3, 3, 4, 4, 5, 5 }));
+    double[] dest = new double[3];
+    assertThat(DoubleArrays.runningMax(array, 2, dest, 0, 3), is(sameInstance(dest)));
+    assertThat(dest, is(new double[] { 4, 4, 5 }));
+    assertThat(DoubleArrays.runningMin(array, 0, dest, 0, 0), is(new double[] { 4, 4, 5 }));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    DoubleArrays.runningMin(array, 4, dest, 0, 3);
+  }
+
+  @Test
+  public void movingWindows() {
+    double[] array = new double[] { 3, 1, 4, 1, 5, 9, 2, 6 };
+    assertThat(DoubleArrays.movingSum(array, 3), is(new double[] { 8, 6, 10, 15, 16, 17 }));
+    assertThat(DoubleArrays.movingMin(array, 3), is(new double[] { 1, 1, 1, 1, 2, 2 }));
+    assertThat(DoubleArrays.movingMax(array, 3), is(new double[] { 4, 4, 5, 9, 9, 9 }));
+    assertThat(DoubleArrays.movingAvg(array, 4), is(new double[] { 2.25, 2.75, 4.75, 4.25, 5.5 }));
+    assertThat(DoubleArrays.movingMax(array, 1), is(array));
+    assertThat(DoubleArrays.movingSum(array, 9), is(new double[0]));
+    double[] avgs = new double[3];
+    assertThat(DoubleArrays.movingAvg(array, 2, avgs, 1, 3, 2), is(sameInstance(avgs)));
+    assertThat(avgs, is(new double[] { 0, 2.5, 3 }));
+    double[] copy = array.clone();
+    assertThat(DoubleArrays.movingMin(copy, 2, copy, 0, 6, 2), is(new double[] { 1, 1, 5, 2, 2, 9, 2, 6 }));
+  }
+
+  @Test
+  public void movingWindowsMatchScan() {
+    double[] array = DoubleArrays.random(60);
+    for (int i = 0; i < array.length; i++) {
+      array[i] %= 100;
+    }
+    for (int window = 1; window <= 12; window++) {
+      double[] mins = DoubleArrays.movingMin(array, window);
+      double[] maxs = DoubleArrays.movingMax(array, window);
+      double[] sums = DoubleArrays.movingSum(array, window);
+      for (int i = 0; i + window <= array.length; i++) {
+        assertThat(mins[i], is(DoubleArrays.min(array, i, i + window)));
+        assertThat(maxs[i], is(DoubleArrays.max(array, i, i + window)));
+        assertEquals(DoubleArrays.sum(array, i, i + window), sums[i], 1e-4);
+      }
+    }
+  }
+
+  @Test
+  public void movingWindowsNonFinite() {
+    double inf = Double.POSITIVE_INFINITY;
+    double nan = Double.NaN;
+    assertThat(DoubleArrays.movingAvg(new double[] { 1, inf, 1, 1, 1 }, 2),
+        is(new double[] { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 1, 1 }));
+    assertThat(DoubleArrays.movingSum(new double[] { 1, nan, 1, 1, 1 }, 2), is(new double[] { nan, nan, 2, 2 }));
+    assertThat(DoubleArrays.movingSum(new double[] { 1, -inf, inf, 1, 1 }, 2), is(new double[] { -inf, nan, inf, 2 }));
+    assertThat(DoubleArrays.movingSum(new double[] { 0.5, -inf, 0.25, 0.125 }, 1),
+        is(new double[] { 0.5, -inf, 0.25, 0.125 }));
+    assertThat(DoubleArrays.movingSum(new double[] { 1e308, 1e308, 1, 1, 1 }, 2), is(new double[] { inf, 1e308, 2, 2 }));
+    assertThat(DoubleArrays.movingAvg(new double[] { 1e308, 1e308, 1, 1, 1 }, 2), is(new double[] { inf, 5e307, 1, 1 }));
+  }
+
+  @Test
+  public void movingMinMaxNaN() {
+    double nan = Double.NaN;
+    double[] array = new double[] { 1, nan, 2, 3 };
+    assertThat(DoubleArrays.movingMin(array, 2), is(new double[] { nan, nan, 2 }));
+    assertThat(DoubleArrays.movingMax(array, 2), is(new double[] { nan, nan, 3 }));
+    assertThat(DoubleArrays.movingMin(array, 1), is(array));
+    assertThat(DoubleArrays.movingMax(new double[] { nan, 4, 1, nan, 2 }, 3), is(new double[] { nan, nan, nan }));
+  }
+
+  @Test
+  public void movingWindowNotPositive() {
+    thrown.expect(IllegalArgumentException.class);
+    DoubleArrays.movingAvg(new double[3], 0);
+  }
+
+  @Test
+  public void percentilesWithNaN() {
+    double[] array = new double[] { 3, Double.NaN, 1, 2 };
+    assertThat(Double.isNaN(DoubleArrays.nthElement(array, 3)), is(true));
+    assertThat(DoubleArrays.nthElement(array, 2), is(3.0));
+    assertEquals(2.5, DoubleArrays.median(array), 0);
+  }
+
+  @Test
+  public void moments() {
+    double[] array = new double[] { 2, 4, 4, 4, 5, 5, 7, 9 };
+    assertEquals(4, DoubleArrays.variance(array), 1e-12);
+    assertEquals(2, DoubleArrays.stddev(array), 1e-12);
+    assertEquals(0.65625, DoubleArrays.skewness(array), 1e-12);
+    assertEquals(-0.21875, DoubleArrays.kurtosis(array), 1e-12);
+    assertEquals(2 / 9.0, DoubleArrays.variance(array, 3, 6), 1e-12);
+    Moments moments = DoubleArrays.moments(array, 0, 3);
+    assertThat(DoubleArrays.moments(array, 3, 8, moments), is(sameInstance(moments)));
+    assertThat(moments.count(), is(8L));
+    assertEquals(5, moments.mean(), 1e-12);
+    assertEquals(4, moments.variance(), 1e-12);
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(3);
+    assertEquals(0.65625, DoubleArrays.parallelMoments(array, config).skewness(), 1e-12);
+    assertEquals(-0.21875, DoubleArrays.parallelMoments(array, config).kurtosis(), 1e-12);
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get variance from empty array");
+    DoubleArrays.variance(array, 2, 2);
+  }
+
+  @Test
+  public void sumAccuracy() {
+    double[] array = new double[1_000_000];
+    Arrays.fill(array, 0.1);
+    assertEquals(100000, DoubleArrays.sum(array), 1e-8);
+    assertEquals(100000, DoubleArrays.sum(array, Summation.KAHAN), 1e-10);
+    assertEquals(0.1, DoubleArrays.avg(array, Summation.NEUMAIER), 1e-15);
+    double[] cancelling = new double[] { 1, 1e100, 1, -1e100 };
+    assertThat(DoubleArrays.sum(cancelling, Summation.NEUMAIER), is(2.0));
+    assertThat(DoubleArrays.sum(cancelling, 0, 3, Summation.PAIRWISE), is(1e100));
+    assertThat(DoubleArrays.avg(cancelling, 0, 4, Summation.NEUMAIER), is(0.5));
+  }
+
+  @Test
+  public void sumNotFinite() {
+    double inf = Double.POSITIVE_INFINITY;
+    double[] infinite = new double[] { inf, 1 };
+    double[] overflowing = new double[] { 1e308, 1e308, 1 };
+    for (Summation summation : Summation.values()) {
+      assertThat(DoubleArrays.sum(infinite, summation), is(inf));
+      assertThat(DoubleArrays.sum(overflowing, summation), is(inf));
+      assertThat(DoubleArrays.avg(infinite, summation), is(inf));
+      assertThat(DoubleArrays.sum(new double[] { 1, -inf, 1 }, summation), is(-inf));
+      assertThat(Double.isNaN(DoubleArrays.sum(new double[] { inf, -inf, 1 }, summation)), is(true));
+    }
+  }
+
+  @Test
+  public void statsEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get statistics from empty array");
+    DoubleArrays.stats(new double[0]);
+  }
+
+  @Test
+  public void fromIntoDest() {
+    double[] dest = new double[4];
+    assertThat(DoubleArrays.from(new int[] { 1, 2, 3 }, 1, dest, 2, 2), is(sameInstance(dest)));
+    assertThat(dest, is(new double[] { 0, 0, 2, 3 }));
+  }
+
+  @Test
+  public void fromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    DoubleArrays.from(new int[] { 1, 2, 3 }, 2, new double[4], 0, 2);
+  }
+
+  @Test
+  public void parallelFromIntoDest() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    long[] src = LongArrays.random(100);
+    double[] expected = DoubleArrays.from(src, 3, new double[100], 5, 90);
+    double[] dest = new double[100];
+    assertThat(DoubleArrays.parallelFrom(src, 3, dest, 5, 90, config), is(sameInstance(dest)));
+    assertThat(dest, is(expected));
+    assertThat(DoubleArrays.parallelFrom(src, 0, new double[100], 0, 100), is(DoubleArrays.from(src)));
+  }
+
+  @Test
+  public void parallelFromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    DoubleArrays.parallelFrom(new long[3], 2, new double[4], 0, 2, ParallelConfig.DEFAULT.withThreshold(0));
+  }
+
+  @Test
+  public void fromBytes() {
+    byte[] bytes = new byte[] { 0x3f, (byte) 0xf0, 0, 0, 0, 0, 0, 0 };
+    assertThat(DoubleArrays.fromBytes(bytes, ByteOrder.BIG_ENDIAN), is(new double[] { 1.0 }));
+    assertThat(DoubleArrays.fromBytes(new byte[] { 0, 0, 0, 0, 0, 0, (byte) 0xf0, 0x3f }, ByteOrder.LITTLE_ENDIAN),
+        is(new double[] { 1.0 }));
+  }
+
+  @Test
+  public void fromBytesInvalidLength() {
+    thrown.expect(InvalidArrayException.class);
+    DoubleArrays.fromBytes(new byte[9], ByteOrder.BIG_ENDIAN);
+  }
+
+  @Test
+  public void distinctZero() {
+    assertThat(DoubleArrays.distinct(new double[] { 1, 0, 1, 0 }), is(new double[] { 1, 0 }));
+  }
+
+  @Test
+  public void rangeMinEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get min value from empty array"));
+    DoubleArrays.min(new double[] { 1, 2 }, 1, 1);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    DoubleArrays.sum(new double[2], 0, 3);
+  }
+
+  @Test
+  public void rangeReversed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage(is("fromIndex(2) > toIndex(1)"));
+    DoubleArrays.contains(new double[2], 2, 1, 0.0);
+  }
 }
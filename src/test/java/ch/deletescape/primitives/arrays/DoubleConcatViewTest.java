@@ -0,0 +1,76 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DoubleConcatViewTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    DoubleConcatView view = DoubleConcatView.of(new double[] { 1, 2 }, new double[0], new double[] { 3 },
+        new double[] { 4, 5 });
+    assertThat(view.length(), is(5));
+    assertThat(view.toArray(), is(new double[] { 1, 2, 3, 4, 5 }));
+    assertThat(DoubleConcatView.of().length(), is(0));
+    for (int i = 0; i < view.length(); i++) {
+      assertThat(view.get(i), is(i + 1.0));
+    }
+  }
+
+  @Test
+  public void viewReflectsChanges() {
+    double[] part = new double[] { 1, 2 };
+    DoubleConcatView view = DoubleConcatView.of(new double[] { 0 }, part);
+    part[1] = 7;
+    assertThat(view.get(2), is(7.0));
+  }
+
+  @Test
+  public void contains() {
+    DoubleConcatView view = DoubleConcatView.of(new double[] { 1, 2 }, new double[] { 3 });
+    assertThat(view.contains(3.0), is(true));
+    assertThat(view.contains(4.0), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    DoubleConcatView view = DoubleConcatView.of(new double[] { 1, 2, 3 }, new double[0], new double[] { 4 },
+        new double[] { 5, 1, 2 });
+    assertThat(view.findSequence(2.0, 3.0), is(1));
+    assertThat(view.findSequence(3.0, 4.0, 5.0), is(2));
+    assertThat(view.findSequence(2.0, 4.0), is(-1));
+    assertThat(view.findSequence(2, new double[] { 1, 2 }), is(5));
+    assertThat(view.findSequence(6, new double[] { 1, 2 }), is(-1));
+    assertThat(view.countSequence(1.0, 2.0), is(2));
+    assertThat(view.countSequence(), is(0));
+  }
+
+  @Test
+  public void reductions() {
+    DoubleConcatView view = DoubleConcatView.of(new double[] { 4, 2 }, new double[0], new double[] { 9, 1 },
+        new double[] { 4 });
+    assertThat(view.max(), is(9.0));
+    assertThat(view.min(), is(1.0));
+    assertThat(view.sum(), is(20.0));
+    assertThat(view.avg(), is(4.0));
+  }
+
+  @Test
+  public void maxEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get max value from empty array");
+    DoubleConcatView.of(new double[0], new double[0]).max();
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    DoubleConcatView.of(new double[] { 1, 2 }, new double[] { 3 }).get(3);
+  }
+}
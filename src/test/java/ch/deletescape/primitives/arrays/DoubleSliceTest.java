@@ -0,0 +1,72 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DoubleSliceTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    double[] array = new double[] { 9, 1, 2, 3, 9 };
+    DoubleSlice slice = DoubleSlice.of(array, 1, 4);
+    assertThat(slice.array(), is(sameInstance(array)));
+    assertThat(slice.offset(), is(1));
+    assertThat(slice.length(), is(3));
+    assertThat(slice.toArray(), is(new double[] { 1, 2, 3 }));
+    assertThat(DoubleSlice.of(array).length(), is(5));
+  }
+
+  @Test
+  public void getAndSet() {
+    double[] array = new double[] { 9, 1, 2, 3, 9 };
+    DoubleSlice slice = DoubleSlice.of(array, 1, 4);
+    slice.set(2, 5.0);
+    assertThat(slice.get(2), is(5.0));
+    assertThat(array[3], is(5.0));
+  }
+
+  @Test
+  public void subSlice() {
+    DoubleSlice slice = DoubleSlice.of(new double[] { 9, 1, 2, 3, 9 }, 1, 4).subSlice(1, 3);
+    assertThat(slice.offset(), is(2));
+    assertThat(slice.toArray(), is(new double[] { 2, 3 }));
+  }
+
+  @Test
+  public void operations() {
+    DoubleSlice slice = DoubleSlice.of(new double[] { 9, 1, 2, 3, 1, 2, 9 }, 1, 6);
+    assertThat(slice.contains(9.0), is(false));
+    assertThat(slice.contains(3.0), is(true));
+    assertThat(slice.findSequence(1.0, 2.0), is(0));
+    assertThat(slice.findSequence(3.0, 1.0), is(2));
+    assertThat(slice.findSequence(2.0, 9.0), is(-1));
+    assertThat(slice.countSequence(1.0, 2.0), is(2));
+    assertThat(slice.join(";"), is("1.0;2.0;3.0;1.0;2.0"));
+    assertThat(slice.min(), is(1.0));
+    assertThat(slice.max(), is(3.0));
+    assertThat(slice.sum(), is(9.0));
+    assertThat(slice.avg(), is(1.8));
+    assertThat(slice.distinct(), is(new double[] { 1, 2, 3 }));
+    assertThat(slice.topK(2), is(new double[] { 3, 2 }));
+    assertThat(slice.stats().max(), is(3.0));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    DoubleSlice.of(new double[] { 9, 1, 2, 3, 9 }, 1, 4).get(3);
+  }
+
+  @Test
+  public void ofOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    DoubleSlice.of(new double[2], 1, 3);
+  }
+}
@@ -1,8 +1,12 @@
 package ch.deletescape.primitives.arrays;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -166,4 +170,371 @@ public class FloatArraysTest {
   public void random() {
     FloatArrays.random(1);
   }
+
+  @Test
+  public void rangeOperations() {
+    float[] array = new float[] { 9, 1, 2, 3, 1, 2, 9 };
+    assertThat(FloatArrays.sum(array, 1, 6), is(9f));
+    assertThat(FloatArrays.min(array, 1, 6), is(1f));
+    assertThat(FloatArrays.max(array, 1, 6), is(3f));
+    assertThat(FloatArrays.avg(array, 1, 6), is(1.8f));
+    assertThat(FloatArrays.contains(array, 1, 6, 9f), is(false));
+    assertThat(FloatArrays.contains(array, 0, 6, 9f), is(true));
+    assertThat(FloatArrays.findSequence(array, 2, 7, new float[] { 1, 2 }), is(4));
+    assertThat(FloatArrays.findSequence(array, 0, 5, new float[] { 1, 2, 9 }), is(-1));
+    assertThat(FloatArrays.countSequence(array, 0, 6, new float[] { 1, 2 }), is(2));
+    assertThat(FloatArrays.join(";", array, 2, 4), is("2.0;3.0"));
+    assertThat(FloatArrays.sum(array, 3, 3), is(0f));
+    assertThat(FloatArrays.distinct(array, 1, 6), is(new float[] { 1, 2, 3 }));
+  }
+
+  @Test
+  public void rangeKernelsMatchScalarLoop() {
+    float[] array = FloatArrays.random(40);
+    for (int to = 1; to <= array.length; to++) {
+      int from = to / 3;
+      float max = array[from];
+      float min = array[from];
+      for (int j = from; j < to; j++) {
+        max = array[j] > max ? array[j] : max;
+        min = array[j] < min ? array[j] : min;
+      }
+      assertThat(FloatArrays.max(array, from, to), is(max));
+      assertThat(FloatArrays.min(array, from, to), is(min));
+    }
+  }
+
+  @Test
+  public void parallelReductions() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    float[] array = FloatArrays.random(100);
+    for (int to = 0; to <= array.length; to += 9) {
+      int from = to / 4;
+      if (to > from) {
+        assertThat(FloatArrays.parallelMax(array, from, to, config), is(FloatArrays.max(array, from, to)));
+        assertThat(FloatArrays.parallelMin(array, from, to, config), is(FloatArrays.min(array, from, to)));
+      }
+      assertEquals(FloatArrays.sum(array, from, to), FloatArrays.parallelSum(array, from, to, config), 1e-3);
+      assertThat(FloatArrays.parallelContains(array, from, to, array[0], config),
+          is(FloatArrays.contains(array, from, to, array[0])));
+      assertThat(FloatArrays.parallelContains(array, from, to, array[99], config),
+          is(FloatArrays.contains(array, from, to, array[99])));
+    }
+    assertThat(FloatArrays.parallelMax(array, config), is(FloatArrays.max(array)));
+    assertThat(FloatArrays.parallelMax(array), is(FloatArrays.max(array)));
+    thrown.expect(InvalidArrayException.class);
+    FloatArrays.parallelMin(new float[0], config);
+  }
+
+  @Test
+  public void stats() {
+    DoubleStats stats = FloatArrays.stats(new float[] { 4, 2, 9, 1, 4 });
+    assertThat(stats.count(), is(5));
+    assertThat(stats.sum(), is(20.0));
+    assertThat(stats.min(), is(1.0));
+    assertThat(stats.max(), is(9.0));
+    assertThat(stats.mean(), is(4.0));
+    assertEquals(7.6, stats.variance(), 1e-12);
+    assertThat(FloatArrays.stats(new float[] { 9, 1, 2, 3, 9 }, 1, 4, stats), is(sameInstance(stats)));
+    assertThat(stats.count(), is(3));
+    assertThat(stats.max(), is(3.0));
+    assertEquals(2 / 3.0, stats.variance(), 1e-12);
+  }
+
+  @Test
+  public void nthElement() {
+    float[] array = FloatArrays.random(200);
+    for (int i = 100; i < array.length; i++) {
+      array[i] = array[i % 20];
+    }
+    float[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int n = 0; n < array.length; n += 7) {
+      assertThat(FloatArrays.nthElement(array, n), is(sorted[n]));
+    }
+    float[] range = Arrays.copyOfRange(array, 10, 190);
+    Arrays.sort(range);
+    assertThat(FloatArrays.nthElementInPlace(array, 10, 190, 50), is(range[50]));
+    for (int i = 10; i < 190; i++) {
+      assertThat(i < 60 ? array[i] <= array[60] : array[i] >= array[60], is(true));
+    }
+    float[] expected = array.clone();
+    Arrays.sort(expected, 10, 190);
+    Arrays.sort(array, 10, 190);
+    assertThat(array, is(expected));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    FloatArrays.nthElementInPlace(array, 10, 20, 10);
+  }
+
+  @Test
+  public void percentiles() {
+    float[] array = new float[] { 5, 1, 4, 2, 3 };
+    assertEquals(3, FloatArrays.median(array), 0);
+    assertEquals(2.5, FloatArrays.median(4f, 1f, 2f, 3f), 0);
+    assertThat(FloatArrays.percentiles(array, 0, 25, 90, 100), is(new double[] { 1, 2, 4.6, 5 }));
+    assertThat(array, is(new float[] { 5, 1, 4, 2, 3 }));
+    float[] buffer = new float[] { 9, 5, 1, 4, 2, 3, 0 };
+    assertThat(FloatArrays.percentilesInPlace(buffer, 1, 6, 75, 50), is(new double[] { 4, 3 }));
+    assertThat(buffer[0], is(9f));
+    assertThat(buffer[6], is(0f));
+    thrown.expect(IllegalArgumentException.class);
+    FloatArrays.percentile(array, 101);
+  }
+
+  @Test
+  public void histogram() {
+    float[] array = new float[] { 0, 1, 2, 5, 9, 10, 11, -1, 4 };
+    assertThat(FloatArrays.histogram(array, 0f, 10f, 5), is(new long[] { 2, 1, 2, 0, 2 }));
+    long[] counts = new long[5];
+    FloatArrays.histogram(array, 0, 3, 0f, 10f, counts);
+    assertThat(counts, is(new long[] { 2, 1, 0, 0, 0 }));
+    assertThat(FloatArrays.histogram(array, 3, 9, 0f, 10f, counts), is(sameInstance(counts)));
+    assertThat(counts, is(new long[] { 2, 1, 2, 0, 2 }));
+    assertThat(FloatArrays.histogram(array, new float[] { 0, 1, 5, 10 }), is(new long[] { 1, 3, 3 }));
+    assertThat(FloatArrays.histogram(array, new float[] { 2, 3 }), is(new long[] { 1 }));
+    thrown.expect(IllegalArgumentException.class);
+    FloatArrays.histogram(array, new float[] { 0, 5, 5 });
+  }
+
+  @Test
+  public void parallelHistogram() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    float[] array = FloatArrays.random(1000);
+    float min = FloatArrays.min(array);
+    float max = FloatArrays.max(array);
+    assertThat(FloatArrays.parallelHistogram(array, 0, 1000, min, max, new long[13], config),
+        is(FloatArrays.histogram(array, min, max, 13)));
+    assertThat(FloatArrays.parallelHistogram(array, min, max, 13), is(FloatArrays.histogram(array, min, max, 13)));
+    float[] sorted = array.clone();
+    Arrays.sort(sorted);
+    float[] boundaries = new float[] { sorted[0], sorted[250], sorted[500], sorted[750], sorted[999] };
+    long[] counts = FloatArrays.parallelHistogram(array, 0, 1000, boundaries, new long[4], config);
+    assertThat(counts, is(FloatArrays.histogram(array, boundaries)));
+    assertThat(FloatArrays.parallelHistogram(array, boundaries), is(counts));
+  }
+
+  @Test
+  public void histogramLowerBounds() {
+    assertThat(FloatArrays.histogram(new float[] { 11 }, 0f, 22f, 30)[15], is(1L));
+    assertThat(FloatArrays.histogram(new float[] { 13 }, 0f, 26f, 30)[15], is(1L));
+    assertThat(FloatArrays.histogram(new float[] { 11 }, 0f, 33f, 45)[15], is(1L));
+    assertThat(FloatArrays.histogram(new float[] { 22 }, 0f, 44f, 30)[15], is(1L));
+    assertThat(FloatArrays.histogram(new float[] { Math.nextDown(11f) }, 0f, 22f, 30)[14], is(1L));
+  }
+
+  @Test
+  public void prefixSum() {
+    float[] array = new float[] { 3, 1, 4, 1, 5 };
+    assertThat(FloatArrays.prefixSum(array), is(new float[] { 3, 4, 8, 9, 14 }));
+    assertThat(FloatArrays.differences(array), is(new float[] { 3, 1, 4, 1, 5 }));
+    float[] dest = new float[4];
+    assertThat(FloatArrays.prefixSum(array, 1, dest, 1, 3), is(sameInstance(dest)));
+    assertThat(dest, is(new float[] { 0, 1, 5, 6 }));
+    assertThat(FloatArrays.differences(array, 1, dest, 0, 4), is(new float[] { 1, 3, -3, 4 }));
+    assertThat(FloatArrays.prefixSum(array, 0, array, 1, 4), is(new float[] { 3, 3, 4, 8, 9 }));
+    assertThat(FloatArrays.prefixSum(array, 1, array, 0, 4), is(new float[] { 3, 7, 15, 24, 9 }));
+  }
+
+  @Test
+  public void parallelPrefixSum() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    float[] array = new float[100];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i % 7 - 3;
+    }
+    float[] expected = FloatArrays.prefixSum(array, 5, new float[100], 0, 90);
+    assertThat(FloatArrays.parallelPrefixSum(array, 5, new float[100], 0, 90, config), is(expected));
+    assertThat(Arrays.copyOf(FloatArrays.parallelPrefixSum(array, 5, array, 0, 90, config), 90),
+        is(Arrays.copyOf(expected, 90)));
+    assertThat(FloatArrays.parallelPrefixSum(new float[] { 1, 2, 3 }), is(new float[] { 1, 3, 6 }));
+  }
+
+  @Test
+  public void runningMinMax() {
+    float[] array = new float[] { 3, 1, 4, 1, 5, 0 };
+    assertThat(FloatArrays.runningMin(array.clone()), is(new float[] { 3, 1, 1, 1, 1, 0 }));
+    assertThat(FloatArrays.runningMax(array.clone()), is(new float[] { 3, 3, 4, 4, 5, 5 }));
+    float[] dest = new float[3];
+    assertThat(FloatArrays.runningMax(array, 2, dest, 0, 3), is(sameInstance(dest)));
+    assertThat(dest, is(new float[] { 4, 4, 5 }));
+    assertThat(FloatArrays.runningMin(array, 0, dest, 0, 0), is(new float[] { 4, 4, 5 }));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    FloatArrays.runningMin(array, 4, dest, 0, 3);
+  }
+
+  @Test
+  public void movingWindows() {
+    float[] array = new float[] { 3, 1, 4, 1, 5, 9, 2, 6 };
+    assertThat(FloatArrays.movingSum(array, 3), is(new float[] { 8, 6, 10, 15, 16, 17 }));
+    assertThat(FloatArrays.movingMin(array, 3), is(new float[] { 1, 1, 1, 1, 2, 2 }));
+    assertThat(FloatArrays.movingMax(array, 3), is(new float[] { 4, 4, 5, 9, 9, 9 }));
+    assertThat(FloatArrays.movingAvg(array, 4), is(new double[] { 2.25, 2.75, 4.75, 4.25, 5.5 }));
+    assertThat(FloatArrays.movingMax(array, 1), is(array));
+    assertThat(FloatArrays.movingSum(array, 9), is(new float[0]));
+    double[] avgs = new double[3];
+    assertThat(FloatArrays.movingAvg(array, 2, avgs, 1, 3, 2), is(sameInstance(avgs)));
+    assertThat(avgs, is(new double[] { 0, 2.5, 3 }));
+    float[] copy = array.clone();
+    assertThat(FloatArrays.movingMin(copy, 2, copy, 0, 6, 2), is(new float[] { 1, 1, 5, 2, 2, 9, 2, 6 }));
+  }
+
+  @Test
+  public void movingWindowsMatchScan() {
+    float[] array = FloatArrays.random(60);
+    for (int i = 0; i < array.length; i++) {
+      array[i] %= 100;
+    }
+    for (int window = 1; window <= 12; window++) {
+      float[] mins = FloatArrays.movingMin(array, window);
+      float[] maxs = FloatArrays.movingMax(array, window);
+      float[] sums = FloatArrays.movingSum(array, window);
+      for (int i = 0; i + window <= array.length; i++) {
+        assertThat(mins[i], is(FloatArrays.min(array, i, i + window)));
+        assertThat(maxs[i], is(FloatArrays.max(array, i, i + window)));
+        assertEquals(FloatArrays.sum(array, i, i + window), sums[i], 1e-4);
+      }
+    }
+  }
+
+  @Test
+  public void movingWindowsNonFinite() {
+    float inf = Float.POSITIVE_INFINITY;
+    float nan = Float.NaN;
+    assertThat(FloatArrays.movingAvg(new float[] { 1, inf, 1, 1, 1 }, 2),
+        is(new double[] { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 1, 1 }));
+    assertThat(FloatArrays.movingSum(new float[] { 1, nan, 1, 1, 1 }, 2), is(new float[] { nan, nan, 2, 2 }));
+    assertThat(FloatArrays.movingSum(new float[] { 1, -inf, inf, 1, 1 }, 2), is(new float[] { -inf, nan, inf, 2 }));
+    assertThat(FloatArrays.movingSum(new float[] { 0.5f, -inf, 0.25f, 0.125f }, 1),
+        is(new float[] { 0.5f, -inf, 0.25f, 0.125f }));
+  }
+
+  @Test
+  public void movingMinMaxNaN() {
+    float nan = Float.NaN;
+    float[] array = new float[] { 1, nan, 2, 3 };
+    assertThat(FloatArrays.movingMin(array, 2), is(new float[] { nan, nan, 2 }));
+    assertThat(FloatArrays.movingMax(array, 2), is(new float[] { nan, nan, 3 }));
+    assertThat(FloatArrays.movingMin(array, 1), is(array));
+    assertThat(FloatArrays.movingMax(new float[] { nan, 4, 1, nan, 2 }, 3), is(new float[] { nan, nan, nan }));
+  }
+
+  @Test
+  public void movingWindowNotPositive() {
+    thrown.expect(IllegalArgumentException.class);
+    FloatArrays.movingAvg(new float[3], 0);
+  }
+
+  @Test
+  public void percentilesWithNaN() {
+    float[] array = new float[] { 3, Float.NaN, 1, 2 };
+    assertThat(Float.isNaN(FloatArrays.nthElement(array, 3)), is(true));
+    assertThat(FloatArrays.nthElement(array, 2), is(3f));
+    assertEquals(2.5, FloatArrays.median(array), 0);
+  }
+
+  @Test
+  public void moments() {
+    float[] array = new float[] { 2, 4, 4, 4, 5, 5, 7, 9 };
+    assertEquals(4, FloatArrays.variance(array), 1e-12);
+    assertEquals(2, FloatArrays.stddev(array), 1e-12);
+    assertEquals(0.65625, FloatArrays.skewness(array), 1e-12);
+    assertEquals(-0.21875, FloatArrays.kurtosis(array), 1e-12);
+    assertEquals(2 / 9.0, FloatArrays.variance(array, 3, 6), 1e-12);
+    Moments moments = FloatArrays.moments(array, 0, 3);
+    assertThat(FloatArrays.moments(array, 3, 8, moments), is(sameInstance(moments)));
+    assertThat(moments.count(), is(8L));
+    assertEquals(5, moments.mean(), 1e-12);
+    assertEquals(4, moments.variance(), 1e-12);
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(3);
+    assertEquals(0.65625, FloatArrays.parallelMoments(array, config).skewness(), 1e-12);
+    assertEquals(-0.21875, FloatArrays.parallelMoments(array, config).kurtosis(), 1e-12);
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get variance from empty array");
+    FloatArrays.variance(array, 2, 2);
+  }
+
+  @Test
+  public void sumAccuracy() {
+    float[] array = new float[1_000_000];
+    Arrays.fill(array, 0.1f);
+    assertThat(FloatArrays.sum(array), is(100000f));
+    assertThat(FloatArrays.sum(array, Summation.KAHAN), is(100000f));
+    assertThat(FloatArrays.sum(array, 1, 11, Summation.NEUMAIER), is(1f));
+    assertThat(FloatArrays.avg(array), is(0.1f));
+    assertThat(FloatArrays.avg(array, 0, 2, Summation.KAHAN), is(0.1f));
+  }
+
+  @Test
+  public void sumNotFinite() {
+    float inf = Float.POSITIVE_INFINITY;
+    float[] infinite = new float[] { inf, 1 };
+    for (Summation summation : Summation.values()) {
+      assertThat(FloatArrays.sum(infinite, summation), is(inf));
+      assertThat(FloatArrays.avg(infinite, summation), is(inf));
+      assertThat(FloatArrays.sum(new float[] { 1, -inf, 1 }, summation), is(-inf));
+      assertThat(Float.isNaN(FloatArrays.sum(new float[] { inf, -inf, 1 }, summation)), is(true));
+    }
+  }
+
+  @Test
+  public void statsEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get statistics from empty array");
+    FloatArrays.stats(new float[0]);
+  }
+
+  @Test
+  public void fromIntoDest() {
+    float[] dest = new float[4];
+    assertThat(FloatArrays.from(new int[] { 1, 2, 3 }, 1, dest, 2, 2), is(sameInstance(dest)));
+    assertThat(dest, is(new float[] { 0, 0, 2, 3 }));
+  }
+
+  @Test
+  public void fromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    FloatArrays.from(new int[] { 1, 2, 3 }, 2, new float[4], 0, 2);
+  }
+
+  @Test
+  public void parallelFromIntoDest() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] src = IntArrays.random(100);
+    float[] expected = FloatArrays.from(src, 3, new float[100], 5, 90);
+    float[] dest = new float[100];
+    assertThat(FloatArrays.parallelFrom(src, 3, dest, 5, 90, config), is(sameInstance(dest)));
+    assertThat(dest, is(expected));
+    assertThat(FloatArrays.parallelFrom(src, 0, new float[100], 0, 100), is(FloatArrays.from(src)));
+  }
+
+  @Test
+  public void parallelFromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    FloatArrays.parallelFrom(new int[3], 2, new float[4], 0, 2, ParallelConfig.DEFAULT.withThreshold(0));
+  }
+
+  @Test
+  public void distinctZero() {
+    assertThat(FloatArrays.distinct(new float[] { 1, 0, 1, 0 }), is(new float[] { 1, 0 }));
+  }
+
+  @Test
+  public void rangeMinEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get min value from empty array"));
+    FloatArrays.min(new float[] { 1, 2 }, 1, 1);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    FloatArrays.sum(new float[2], 0, 3);
+  }
+
+  @Test
+  public void rangeReversed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage(is("fromIndex(2) > toIndex(1)"));
+    FloatArrays.contains(new float[2], 2, 1, 0f);
+  }
 }
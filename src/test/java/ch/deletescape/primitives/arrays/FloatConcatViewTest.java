@@ -0,0 +1,76 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class FloatConcatViewTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    FloatConcatView view = FloatConcatView.of(new float[] { 1, 2 }, new float[0], new float[] { 3 }, new float[] { 4,
+        5 });
+    assertThat(view.length(), is(5));
+    assertThat(view.toArray(), is(new float[] { 1, 2, 3, 4, 5 }));
+    assertThat(FloatConcatView.of().length(), is(0));
+    for (int i = 0; i < view.length(); i++) {
+      assertThat(view.get(i), is(i + 1f));
+    }
+  }
+
+  @Test
+  public void viewReflectsChanges() {
+    float[] part = new float[] { 1, 2 };
+    FloatConcatView view = FloatConcatView.of(new float[] { 0 }, part);
+    part[1] = 7;
+    assertThat(view.get(2), is(7f));
+  }
+
+  @Test
+  public void contains() {
+    FloatConcatView view = FloatConcatView.of(new float[] { 1, 2 }, new float[] { 3 });
+    assertThat(view.contains(3f), is(true));
+    assertThat(view.contains(4f), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    FloatConcatView view = FloatConcatView.of(new float[] { 1, 2, 3 }, new float[0], new float[] { 4 },
+        new float[] { 5, 1, 2 });
+    assertThat(view.findSequence(2f, 3f), is(1));
+    assertThat(view.findSequence(3f, 4f, 5f), is(2));
+    assertThat(view.findSequence(2f, 4f), is(-1));
+    assertThat(view.findSequence(2, new float[] { 1, 2 }), is(5));
+    assertThat(view.findSequence(6, new float[] { 1, 2 }), is(-1));
+    assertThat(view.countSequence(1f, 2f), is(2));
+    assertThat(view.countSequence(), is(0));
+  }
+
+  @Test
+  public void reductions() {
+    FloatConcatView view = FloatConcatView.of(new float[] { 4, 2 }, new float[0], new float[] { 9, 1 },
+        new float[] { 4 });
+    assertThat(view.max(), is(9f));
+    assertThat(view.min(), is(1f));
+    assertThat(view.sum(), is(20f));
+    assertThat(view.avg(), is(4f));
+  }
+
+  @Test
+  public void maxEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get max value from empty array");
+    FloatConcatView.of(new float[0], new float[0]).max();
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    FloatConcatView.of(new float[] { 1, 2 }, new float[] { 3 }).get(3);
+  }
+}
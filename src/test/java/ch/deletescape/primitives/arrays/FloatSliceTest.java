@@ -0,0 +1,71 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class FloatSliceTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    float[] array = new float[] { 9, 1, 2, 3, 9 };
+    FloatSlice slice = FloatSlice.of(array, 1, 4);
+    assertThat(slice.array(), is(sameInstance(array)));
+    assertThat(slice.offset(), is(1));
+    assertThat(slice.length(), is(3));
+    assertThat(slice.toArray(), is(new float[] { 1, 2, 3 }));
+    assertThat(FloatSlice.of(array).length(), is(5));
+  }
+
+  @Test
+  public void getAndSet() {
+    float[] array = new float[] { 9, 1, 2, 3, 9 };
+    FloatSlice slice = FloatSlice.of(array, 1, 4);
+    slice.set(2, 5f);
+    assertThat(slice.get(2), is(5f));
+    assertThat(array[3], is(5f));
+  }
+
+  @Test
+  public void subSlice() {
+    FloatSlice slice = FloatSlice.of(new float[] { 9, 1, 2, 3, 9 }, 1, 4).subSlice(1, 3);
+    assertThat(slice.offset(), is(2));
+    assertThat(slice.toArray(), is(new float[] { 2, 3 }));
+  }
+
+  @Test
+  public void operations() {
+    FloatSlice slice = FloatSlice.of(new float[] { 9, 1, 2, 3, 1, 2, 9 }, 1, 6);
+    assertThat(slice.contains(9f), is(false));
+    assertThat(slice.contains(3f), is(true));
+    assertThat(slice.findSequence(1f, 2f), is(0));
+    assertThat(slice.findSequence(3f, 1f), is(2));
+    assertThat(slice.findSequence(2f, 9f), is(-1));
+    assertThat(slice.countSequence(1f, 2f), is(2));
+    assertThat(slice.join(";"), is("1.0;2.0;3.0;1.0;2.0"));
+    assertThat(slice.min(), is(1f));
+    assertThat(slice.max(), is(3f));
+    assertThat(slice.sum(), is(9f));
+    assertThat(slice.avg(), is(1.8f));
+    assertThat(slice.distinct(), is(new float[] { 1, 2, 3 }));
+    assertThat(slice.stats().max(), is(3.0));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    FloatSlice.of(new float[] { 9, 1, 2, 3, 9 }, 1, 4).get(3);
+  }
+
+  @Test
+  public void ofOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    FloatSlice.of(new float[2], 1, 3);
+  }
+}
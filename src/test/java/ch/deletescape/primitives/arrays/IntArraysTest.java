@@ -2,8 +2,13 @@ package ch.deletescape.primitives.arrays;
 
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -171,4 +176,373 @@ public class IntArraysTest {
   public void random() {
     IntArrays.random(1);
   }
+
+  @Test
+  public void topK() {
+    assertThat(IntArrays.topK(new int[] { 3, 9, 1, 7, 9, 2 }, 3), is(new int[] { 9, 9, 7 }));
+    assertThat(IntArrays.topK(new int[] { 3, 1 }, 5), is(new int[] { 3, 1 }));
+    assertThat(IntArrays.topK(new int[] { 3, 1 }, -1), is(new int[0]));
+  }
+
+  @Test
+  public void topKIndices() {
+    assertThat(IntArrays.topKIndices(new int[] { 3, 9, 1, 7, 9, 2 }, 3), is(new int[] { 1, 4, 3 }));
+    assertThat(IntArrays.topKIndices(new int[] { 3, 1, 3 }, 5), is(new int[] { 0, 2, 1 }));
+    assertThat(IntArrays.topKIndices(new int[] { 3, 1 }, 0), is(new int[0]));
+  }
+
+  @Test
+  public void rangeOperations() {
+    int[] array = new int[] { 9, 1, 2, 3, 1, 2, 9 };
+    assertThat(IntArrays.sum(array, 1, 6), is(9));
+    assertThat(IntArrays.min(array, 1, 6), is(1));
+    assertThat(IntArrays.max(array, 1, 6), is(3));
+    assertThat(IntArrays.avg(array, 1, 6), is(1.8));
+    assertThat(IntArrays.contains(array, 1, 6, 9), is(false));
+    assertThat(IntArrays.contains(array, 0, 6, 9), is(true));
+    assertThat(IntArrays.findSequence(array, 2, 7, new int[] { 1, 2 }), is(4));
+    assertThat(IntArrays.findSequence(array, 0, 5, new int[] { 1, 2, 9 }), is(-1));
+    assertThat(IntArrays.countSequence(array, 0, 6, new int[] { 1, 2 }), is(2));
+    assertThat(IntArrays.join(";", array, 2, 4), is("2;3"));
+    assertThat(IntArrays.sum(array, 3, 3), is(0));
+    assertThat(IntArrays.distinct(array, 1, 6), is(new int[] { 1, 2, 3 }));
+    assertThat(IntArrays.topK(array, 1, 6, 2), is(new int[] { 3, 2 }));
+  }
+
+  @Test
+  public void rangeKernelsMatchScalarLoop() {
+    int[] array = IntArrays.random(40);
+    for (int to = 1; to <= array.length; to++) {
+      int from = to / 3;
+      int max = array[from];
+      int min = array[from];
+      for (int j = from; j < to; j++) {
+        max = array[j] > max ? array[j] : max;
+        min = array[j] < min ? array[j] : min;
+      }
+      assertThat(IntArrays.max(array, from, to), is(max));
+      assertThat(IntArrays.min(array, from, to), is(min));
+      int sum = 0;
+      boolean contains = false;
+      for (int j = from; j < to; j++) {
+        sum += array[j];
+        contains |= array[j] == array[0];
+      }
+      assertThat(IntArrays.sum(array, from, to), is(sum));
+      assertThat(IntArrays.contains(array, from, to, array[0]), is(contains));
+    }
+  }
+
+  @Test
+  public void parallelReductions() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] array = IntArrays.random(100);
+    for (int to = 0; to <= array.length; to += 9) {
+      int from = to / 4;
+      if (to > from) {
+        assertThat(IntArrays.parallelMax(array, from, to, config), is(IntArrays.max(array, from, to)));
+        assertThat(IntArrays.parallelMin(array, from, to, config), is(IntArrays.min(array, from, to)));
+      }
+      assertThat(IntArrays.parallelSum(array, from, to, config), is(IntArrays.sum(array, from, to)));
+      assertThat(IntArrays.parallelContains(array, from, to, array[0], config),
+          is(IntArrays.contains(array, from, to, array[0])));
+      assertThat(IntArrays.parallelContains(array, from, to, array[99], config),
+          is(IntArrays.contains(array, from, to, array[99])));
+    }
+    assertThat(IntArrays.parallelMax(array, config), is(IntArrays.max(array)));
+    assertThat(IntArrays.parallelMax(array), is(IntArrays.max(array)));
+    thrown.expect(InvalidArrayException.class);
+    IntArrays.parallelMin(new int[0], config);
+  }
+
+  @Test
+  public void stats() {
+    IntStats stats = IntArrays.stats(new int[] { 4, 2, 9, 1, 4 });
+    assertThat(stats.count(), is(5));
+    assertThat(stats.sum(), is(20L));
+    assertThat(stats.min(), is(1));
+    assertThat(stats.max(), is(9));
+    assertThat(stats.mean(), is(4.0));
+    assertEquals(7.6, stats.variance(), 1e-12);
+    assertThat(IntArrays.stats(new int[] { 9, 1, 2, 3, 9 }, 1, 4, stats), is(sameInstance(stats)));
+    assertThat(stats.count(), is(3));
+    assertThat(stats.max(), is(3));
+    assertEquals(2 / 3.0, stats.variance(), 1e-12);
+  }
+
+  @Test
+  public void statsFarFromFirstValue() {
+    int[] array = new int[] { 0, 1000000001, 1000000002, 1000000003, 1000000004 };
+    IntStats stats = IntArrays.stats(array);
+    Moments moments = IntArrays.moments(array);
+    assertThat(stats.mean(), is(moments.mean()));
+    assertThat(stats.variance(), is(moments.variance()));
+  }
+
+  @Test
+  public void nthElement() {
+    int[] array = IntArrays.random(200);
+    for (int i = 100; i < array.length; i++) {
+      array[i] = array[i % 20];
+    }
+    int[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int n = 0; n < array.length; n += 7) {
+      assertThat(IntArrays.nthElement(array, n), is(sorted[n]));
+    }
+    int[] range = Arrays.copyOfRange(array, 10, 190);
+    Arrays.sort(range);
+    assertThat(IntArrays.nthElementInPlace(array, 10, 190, 50), is(range[50]));
+    for (int i = 10; i < 190; i++) {
+      assertThat(i < 60 ? array[i] <= array[60] : array[i] >= array[60], is(true));
+    }
+    int[] expected = array.clone();
+    Arrays.sort(expected, 10, 190);
+    Arrays.sort(array, 10, 190);
+    assertThat(array, is(expected));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    IntArrays.nthElementInPlace(array, 10, 20, 10);
+  }
+
+  @Test
+  public void percentiles() {
+    int[] array = new int[] { 5, 1, 4, 2, 3 };
+    assertEquals(3, IntArrays.median(array), 0);
+    assertEquals(2.5, IntArrays.median(4, 1, 2, 3), 0);
+    assertThat(IntArrays.percentiles(array, 0, 25, 90, 100), is(new double[] { 1, 2, 4.6, 5 }));
+    assertThat(array, is(new int[] { 5, 1, 4, 2, 3 }));
+    int[] buffer = new int[] { 9, 5, 1, 4, 2, 3, 0 };
+    assertThat(IntArrays.percentilesInPlace(buffer, 1, 6, 75, 50), is(new double[] { 4, 3 }));
+    assertThat(buffer[0], is(9));
+    assertThat(buffer[6], is(0));
+    thrown.expect(IllegalArgumentException.class);
+    IntArrays.percentile(array, 101);
+  }
+
+  @Test
+  public void histogram() {
+    int[] array = new int[] { 0, 1, 2, 5, 9, 10, 11, -1, 4 };
+    assertThat(IntArrays.histogram(array, 0, 10, 5), is(new long[] { 2, 1, 2, 0, 2 }));
+    long[] counts = new long[5];
+    IntArrays.histogram(array, 0, 3, 0, 10, counts);
+    assertThat(counts, is(new long[] { 2, 1, 0, 0, 0 }));
+    assertThat(IntArrays.histogram(array, 3, 9, 0, 10, counts), is(sameInstance(counts)));
+    assertThat(counts, is(new long[] { 2, 1, 2, 0, 2 }));
+    assertThat(IntArrays.histogram(array, new int[] { 0, 1, 5, 10 }), is(new long[] { 1, 3, 3 }));
+    assertThat(IntArrays.histogram(array, new int[] { 2, 3 }), is(new long[] { 1 }));
+    thrown.expect(IllegalArgumentException.class);
+    IntArrays.histogram(array, new int[] { 0, 5, 5 });
+  }
+
+  @Test
+  public void parallelHistogram() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] array = IntArrays.random(1000);
+    int min = IntArrays.min(array);
+    int max = IntArrays.max(array);
+    assertThat(IntArrays.parallelHistogram(array, 0, 1000, min, max, new long[13], config),
+        is(IntArrays.histogram(array, min, max, 13)));
+    assertThat(IntArrays.parallelHistogram(array, min, max, 13), is(IntArrays.histogram(array, min, max, 13)));
+    int[] sorted = array.clone();
+    Arrays.sort(sorted);
+    int[] boundaries = new int[] { sorted[0], sorted[250], sorted[500], sorted[750], sorted[999] };
+    long[] counts = IntArrays.parallelHistogram(array, 0, 1000, boundaries, new long[4], config);
+    assertThat(counts, is(IntArrays.histogram(array, boundaries)));
+    assertThat(IntArrays.parallelHistogram(array, boundaries), is(counts));
+  }
+
+  @Test
+  public void histogramLowerBounds() {
+    assertThat(IntArrays.histogram(new int[] { 11 }, 0, 22, 30)[15], is(1L));
+    assertThat(IntArrays.histogram(new int[] { 13 }, 0, 26, 30)[15], is(1L));
+    assertThat(IntArrays.histogram(new int[] { 11 }, 0, 33, 45)[15], is(1L));
+    assertThat(IntArrays.histogram(new int[] { 22 }, 0, 44, 30)[15], is(1L));
+    int[] extremes = new int[] { Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE };
+    assertThat(IntArrays.histogram(extremes, Integer.MIN_VALUE, Integer.MAX_VALUE, 4), is(new long[] { 1, 1, 1, 1 }));
+  }
+
+  @Test
+  public void prefixSum() {
+    int[] array = new int[] { 3, 1, 4, 1, 5 };
+    assertThat(IntArrays.prefixSum(array), is(new int[] { 3, 4, 8, 9, 14 }));
+    assertThat(IntArrays.differences(array), is(new int[] { 3, 1, 4, 1, 5 }));
+    int[] dest = new int[4];
+    assertThat(IntArrays.prefixSum(array, 1, dest, 1, 3), is(sameInstance(dest)));
+    assertThat(dest, is(new int[] { 0, 1, 5, 6 }));
+    assertThat(IntArrays.differences(array, 1, dest, 0, 4), is(new int[] { 1, 3, -3, 4 }));
+    assertThat(IntArrays.prefixSum(array, 0, array, 1, 4), is(new int[] { 3, 3, 4, 8, 9 }));
+    assertThat(IntArrays.prefixSum(array, 1, array, 0, 4), is(new int[] { 3, 7, 15, 24, 9 }));
+  }
+
+  @Test
+  public void parallelPrefixSum() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] array = new int[100];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i % 7 - 3;
+    }
+    int[] expected = IntArrays.prefixSum(array, 5, new int[100], 0, 90);
+    assertThat(IntArrays.parallelPrefixSum(array, 5, new int[100], 0, 90, config), is(expected));
+    assertThat(Arrays.copyOf(IntArrays.parallelPrefixSum(array, 5, array, 0, 90, config), 90),
+        is(Arrays.copyOf(expected, 90)));
+    assertThat(IntArrays.parallelPrefixSum(new int[] { 1, 2, 3 }), is(new int[] { 1, 3, 6 }));
+  }
+
+  @Test
+  public void runningMinMax() {
+    int[] array = new int[] { 3, 1, 4, 1, 5, 0 };
+    assertThat(IntArrays.runningMin(array.clone()), is(new int[] { 3, 1, 1, 1, 1, 0 }));
+    assertThat(IntArrays.runningMax(array.clone()), is(new int[] { 3, 3, 4, 4, 5, 5 }));
+    int[] dest = new int[3];
+    assertThat(IntArrays.runningMax(array, 2, dest, 0, 3), is(sameInstance(dest)));
+    assertThat(dest, is(new int[] { 4, 4, 5 }));
+    assertThat(IntArrays.runningMin(array, 0, dest, 0, 0), is(new int[] { 4, 4, 5 }));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    IntArrays.runningMin(array, 4, dest, 0, 3);
+  }
+
+  @Test
+  public void movingWindows() {
+    int[] array = new int[] { 3, 1, 4, 1, 5, 9, 2, 6 };
+    assertThat(IntArrays.movingSum(array, 3), is(new int[] { 8, 6, 10, 15, 16, 17 }));
+    assertThat(IntArrays.movingMin(array, 3), is(new int[] { 1, 1, 1, 1, 2, 2 }));
+    assertThat(IntArrays.movingMax(array, 3), is(new int[] { 4, 4, 5, 9, 9, 9 }));
+    assertThat(IntArrays.movingAvg(array, 4), is(new double[] { 2.25, 2.75, 4.75, 4.25, 5.5 }));
+    assertThat(IntArrays.movingMax(array, 1), is(array));
+    assertThat(IntArrays.movingSum(array, 9), is(new int[0]));
+    double[] avgs = new double[3];
+    assertThat(IntArrays.movingAvg(array, 2, avgs, 1, 3, 2), is(sameInstance(avgs)));
+    assertThat(avgs, is(new double[] { 0, 2.5, 3 }));
+    int[] copy = array.clone();
+    assertThat(IntArrays.movingMin(copy, 2, copy, 0, 6, 2), is(new int[] { 1, 1, 5, 2, 2, 9, 2, 6 }));
+  }
+
+  @Test
+  public void movingWindowsMatchScan() {
+    int[] array = IntArrays.random(60);
+    for (int i = 0; i < array.length; i++) {
+      array[i] %= 100;
+    }
+    for (int window = 1; window <= 12; window++) {
+      int[] mins = IntArrays.movingMin(array, window);
+      int[] maxs = IntArrays.movingMax(array, window);
+      int[] sums = IntArrays.movingSum(array, window);
+      for (int i = 0; i + window <= array.length; i++) {
+        assertThat(mins[i], is(IntArrays.min(array, i, i + window)));
+        assertThat(maxs[i], is(IntArrays.max(array, i, i + window)));
+        assertThat(sums[i], is(IntArrays.sum(array, i, i + window)));
+      }
+    }
+  }
+
+  @Test
+  public void movingWindowNotPositive() {
+    thrown.expect(IllegalArgumentException.class);
+    IntArrays.movingAvg(new int[3], 0);
+  }
+
+  @Test
+  public void moments() {
+    int[] array = new int[] { 2, 4, 4, 4, 5, 5, 7, 9 };
+    assertEquals(4, IntArrays.variance(array), 1e-12);
+    assertEquals(2, IntArrays.stddev(array), 1e-12);
+    assertEquals(0.65625, IntArrays.skewness(array), 1e-12);
+    assertEquals(-0.21875, IntArrays.kurtosis(array), 1e-12);
+    assertEquals(2 / 9.0, IntArrays.variance(array, 3, 6), 1e-12);
+    Moments moments = IntArrays.moments(array, 0, 3);
+    assertThat(IntArrays.moments(array, 3, 8, moments), is(sameInstance(moments)));
+    assertThat(moments.count(), is(8L));
+    assertEquals(5, moments.mean(), 1e-12);
+    assertEquals(4, moments.variance(), 1e-12);
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(3);
+    assertEquals(0.65625, IntArrays.parallelMoments(array, config).skewness(), 1e-12);
+    assertEquals(-0.21875, IntArrays.parallelMoments(array, config).kurtosis(), 1e-12);
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get variance from empty array");
+    IntArrays.variance(array, 2, 2);
+  }
+
+  @Test
+  public void sumLong() {
+    int[] array = new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE };
+    assertThat(IntArrays.sumLong(array), is(3L * Integer.MAX_VALUE));
+    assertThat(IntArrays.sumLong(array, 1, 3), is(2L * Integer.MAX_VALUE));
+    assertThat(IntArrays.avg(array), is((double) Integer.MAX_VALUE));
+    assertThat(IntArrays.sumLong(new int[0]), is(0L));
+  }
+
+  @Test
+  public void statsEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get statistics from empty array");
+    IntArrays.stats(new int[0]);
+  }
+
+  @Test
+  public void fromIntoDest() {
+    int[] dest = new int[4];
+    assertThat(IntArrays.from(new long[] { 1, 2, 3 }, 1, dest, 2, 2), is(sameInstance(dest)));
+    assertThat(dest, is(new int[] { 0, 0, 2, 3 }));
+  }
+
+  @Test
+  public void fromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    IntArrays.from(new long[] { 1, 2, 3 }, 2, new int[4], 0, 2);
+  }
+
+  @Test
+  public void parallelFromIntoDest() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    long[] src = LongArrays.random(100);
+    int[] expected = IntArrays.from(src, 3, new int[100], 5, 90);
+    int[] dest = new int[100];
+    assertThat(IntArrays.parallelFrom(src, 3, dest, 5, 90, config), is(sameInstance(dest)));
+    assertThat(dest, is(expected));
+    assertThat(IntArrays.parallelFrom(src, 0, new int[100], 0, 100), is(IntArrays.from(src)));
+  }
+
+  @Test
+  public void parallelFromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    IntArrays.parallelFrom(new long[3], 2, new int[4], 0, 2, ParallelConfig.DEFAULT.withThreshold(0));
+  }
+
+  @Test
+  public void fromBytes() {
+    byte[] bytes = new byte[] { 0, 0, 1, 2, 3, 0, 0, 0 };
+    assertThat(IntArrays.fromBytes(bytes, ByteOrder.BIG_ENDIAN), is(new int[] { 0x102, 0x3000000 }));
+    assertThat(IntArrays.fromBytes(bytes, ByteOrder.LITTLE_ENDIAN), is(new int[] { 0x2010000, 3 }));
+  }
+
+  @Test
+  public void fromBytesInvalidLength() {
+    thrown.expect(InvalidArrayException.class);
+    IntArrays.fromBytes(new byte[6], ByteOrder.BIG_ENDIAN);
+  }
+
+  @Test
+  public void distinctZero() {
+    assertThat(IntArrays.distinct(new int[] { 1, 0, 1, 0 }), is(new int[] { 1, 0 }));
+  }
+
+  @Test
+  public void rangeMinEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get min value from empty array"));
+    IntArrays.min(new int[] { 1, 2 }, 1, 1);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    IntArrays.sum(new int[2], 0, 3);
+  }
+
+  @Test
+  public void rangeReversed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage(is("fromIndex(2) > toIndex(1)"));
+    IntArrays.contains(new int[2], 2, 1, 0);
+  }
 }
@@ -0,0 +1,75 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IntConcatViewTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    IntConcatView view = IntConcatView.of(new int[] { 1, 2 }, new int[0], new int[] { 3 }, new int[] { 4, 5 });
+    assertThat(view.length(), is(5));
+    assertThat(view.toArray(), is(new int[] { 1, 2, 3, 4, 5 }));
+    assertThat(IntConcatView.of().length(), is(0));
+    for (int i = 0; i < view.length(); i++) {
+      assertThat(view.get(i), is(i + 1));
+    }
+  }
+
+  @Test
+  public void viewReflectsChanges() {
+    int[] part = new int[] { 1, 2 };
+    IntConcatView view = IntConcatView.of(new int[] { 0 }, part);
+    part[1] = 7;
+    assertThat(view.get(2), is(7));
+  }
+
+  @Test
+  public void contains() {
+    IntConcatView view = IntConcatView.of(new int[] { 1, 2 }, new int[] { 3 });
+    assertThat(view.contains(3), is(true));
+    assertThat(view.contains(4), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    IntConcatView view = IntConcatView.of(new int[] { 1, 2, 3 }, new int[0], new int[] { 4 }, new int[] { 5, 1, 2 });
+    assertThat(view.findSequence(2, 3), is(1));
+    assertThat(view.findSequence(3, 4, 5), is(2));
+    assertThat(view.findSequence(2, 4), is(-1));
+    assertThat(view.findSequence(2, new int[] { 1, 2 }), is(5));
+    assertThat(view.findSequence(6, new int[] { 1, 2 }), is(-1));
+    assertThat(view.countSequence(1, 2), is(2));
+    assertThat(view.countSequence(), is(0));
+  }
+
+  @Test
+  public void reductions() {
+    IntConcatView view = IntConcatView.of(new int[] { 4, 2 }, new int[0], new int[] { 9, 1 }, new int[] { 4 });
+    assertThat(view.max(), is(9));
+    assertThat(view.min(), is(1));
+    assertThat(view.sum(), is(20));
+    assertThat(view.avg(), is(4.0));
+    IntConcatView large = IntConcatView.of(new int[] { Integer.MAX_VALUE }, new int[] { Integer.MAX_VALUE });
+    assertThat(large.avg(), is(2147483647.0));
+  }
+
+  @Test
+  public void maxEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get max value from empty array");
+    IntConcatView.of(new int[0], new int[0]).max();
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    IntConcatView.of(new int[] { 1, 2 }, new int[] { 3 }).get(3);
+  }
+}
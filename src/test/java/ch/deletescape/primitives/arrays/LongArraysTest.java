@@ -1,8 +1,14 @@
 package ch.deletescape.primitives.arrays;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -166,4 +172,386 @@ public class LongArraysTest {
   public void random() {
     LongArrays.random(1);
   }
+
+  @Test
+  public void topK() {
+    assertThat(LongArrays.topK(new long[] { 3, 9, 1, 7, 9, 2 }, 3), is(new long[] { 9, 9, 7 }));
+    assertThat(LongArrays.topK(new long[] { 3, 1 }, 5), is(new long[] { 3, 1 }));
+    assertThat(LongArrays.topK(new long[] { 3, 1 }, -1), is(new long[0]));
+  }
+
+  @Test
+  public void topKIndices() {
+    assertThat(LongArrays.topKIndices(new long[] { 3, 9, 1, 7, 9, 2 }, 3), is(new int[] { 1, 4, 3 }));
+    assertThat(LongArrays.topKIndices(new long[] { 3, 1, 3 }, 5), is(new int[] { 0, 2, 1 }));
+    assertThat(LongArrays.topKIndices(new long[] { 3, 1 }, 0), is(new int[0]));
+  }
+
+  @Test
+  public void rangeOperations() {
+    long[] array = new long[] { 9, 1, 2, 3, 1, 2, 9 };
+    assertThat(LongArrays.sum(array, 1, 6), is(9L));
+    assertThat(LongArrays.min(array, 1, 6), is(1L));
+    assertThat(LongArrays.max(array, 1, 6), is(3L));
+    assertThat(LongArrays.avg(array, 1, 6), is(1.8));
+    assertThat(LongArrays.contains(array, 1, 6, 9L), is(false));
+    assertThat(LongArrays.contains(array, 0, 6, 9L), is(true));
+    assertThat(LongArrays.findSequence(array, 2, 7, new long[] { 1, 2 }), is(4));
+    assertThat(LongArrays.findSequence(array, 0, 5, new long[] { 1, 2, 9 }), is(-1));
+    assertThat(LongArrays.countSequence(array, 0, 6, new long[] { 1, 2 }), is(2));
+    assertThat(LongArrays.join(";", array, 2, 4), is("2;3"));
+    assertThat(LongArrays.sum(array, 3, 3), is(0L));
+    assertThat(LongArrays.distinct(array, 1, 6), is(new long[] { 1, 2, 3 }));
+    assertThat(LongArrays.topK(array, 1, 6, 2), is(new long[] { 3, 2 }));
+  }
+
+  @Test
+  public void rangeKernelsMatchScalarLoop() {
+    long[] array = LongArrays.random(40);
+    for (int to = 1; to <= array.length; to++) {
+      int from = to / 3;
+      long max = array[from];
+      long min = array[from];
+      for (int j = from; j < to; j++) {
+        max = array[j] > max ? array[j] : max;
+        min = array[j] < min ? array[j] : min;
+      }
+      assertThat(LongArrays.max(array, from, to), is(max));
+      assertThat(LongArrays.min(array, from, to), is(min));
+      long sum = 0;
+      boolean contains = false;
+      for (int j = from; j < to; j++) {
+        sum += array[j];
+        contains |= array[j] == array[0];
+      }
+      assertThat(LongArrays.sum(array, from, to), is(sum));
+      assertThat(LongArrays.contains(array, from, to, array[0]), is(contains));
+    }
+  }
+
+  @Test
+  public void parallelReductions() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    long[] array = LongArrays.random(100);
+    for (int to = 0; to <= array.length; to += 9) {
+      int from = to / 4;
+      if (to > from) {
+        assertThat(LongArrays.parallelMax(array, from, to, config), is(LongArrays.max(array, from, to)));
+        assertThat(LongArrays.parallelMin(array, from, to, config), is(LongArrays.min(array, from, to)));
+      }
+      assertThat(LongArrays.parallelSum(array, from, to, config), is(LongArrays.sum(array, from, to)));
+      assertThat(LongArrays.parallelContains(array, from, to, array[0], config),
+          is(LongArrays.contains(array, from, to, array[0])));
+      assertThat(LongArrays.parallelContains(array, from, to, array[99], config),
+          is(LongArrays.contains(array, from, to, array[99])));
+    }
+    assertThat(LongArrays.parallelMax(array, config), is(LongArrays.max(array)));
+    assertThat(LongArrays.parallelMax(array), is(LongArrays.max(array)));
+    thrown.expect(InvalidArrayException.class);
+    LongArrays.parallelMin(new long[0], config);
+  }
+
+  @Test
+  public void stats() {
+    LongStats stats = LongArrays.stats(new long[] { 4, 2, 9, 1, 4 });
+    assertThat(stats.count(), is(5));
+    assertThat(stats.sum(), is(20L));
+    assertThat(stats.min(), is(1L));
+    assertThat(stats.max(), is(9L));
+    assertThat(stats.mean(), is(4.0));
+    assertEquals(7.6, stats.variance(), 1e-12);
+    assertThat(LongArrays.stats(new long[] { 9, 1, 2, 3, 9 }, 1, 4, stats), is(sameInstance(stats)));
+    assertThat(stats.count(), is(3));
+    assertThat(stats.max(), is(3L));
+    assertEquals(2 / 3.0, stats.variance(), 1e-12);
+  }
+
+  @Test
+  public void statsFarFromFirstValue() {
+    long[] array = new long[] { 0, (1L << 40) + 1, (1L << 40) + 2, (1L << 40) + 3, (1L << 40) + 4 };
+    LongStats stats = LongArrays.stats(array);
+    Moments moments = LongArrays.moments(array);
+    assertThat(stats.mean(), is(moments.mean()));
+    assertThat(stats.variance(), is(moments.variance()));
+  }
+
+  @Test
+  public void nthElement() {
+    long[] array = LongArrays.random(200);
+    for (int i = 100; i < array.length; i++) {
+      array[i] = array[i % 20];
+    }
+    long[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int n = 0; n < array.length; n += 7) {
+      assertThat(LongArrays.nthElement(array, n), is(sorted[n]));
+    }
+    long[] range = Arrays.copyOfRange(array, 10, 190);
+    Arrays.sort(range);
+    assertThat(LongArrays.nthElementInPlace(array, 10, 190, 50), is(range[50]));
+    for (int i = 10; i < 190; i++) {
+      assertThat(i < 60 ? array[i] <= array[60] : array[i] >= array[60], is(true));
+    }
+    long[] expected = array.clone();
+    Arrays.sort(expected, 10, 190);
+    Arrays.sort(array, 10, 190);
+    assertThat(array, is(expected));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    LongArrays.nthElementInPlace(array, 10, 20, 10);
+  }
+
+  @Test
+  public void percentiles() {
+    long[] array = new long[] { 5, 1, 4, 2, 3 };
+    assertEquals(3, LongArrays.median(array), 0);
+    assertEquals(2.5, LongArrays.median(4L, 1L, 2L, 3L), 0);
+    assertThat(LongArrays.percentiles(array, 0, 25, 90, 100), is(new double[] { 1, 2, 4.6, 5 }));
+    assertThat(array, is(new long[] { 5, 1, 4, 2, 3 }));
+    long[] buffer = new long[] { 9, 5, 1, 4, 2, 3, 0 };
+    assertThat(LongArrays.percentilesInPlace(buffer, 1, 6, 75, 50), is(new double[] { 4, 3 }));
+    assertThat(buffer[0], is(9L));
+    assertThat(buffer[6], is(0L));
+    thrown.expect(IllegalArgumentException.class);
+    LongArrays.percentile(array, 101);
+  }
+
+  @Test
+  public void histogram() {
+    long[] array = new long[] { 0, 1, 2, 5, 9, 10, 11, -1, 4 };
+    assertThat(LongArrays.histogram(array, 0L, 10L, 5), is(new long[] { 2, 1, 2, 0, 2 }));
+    long[] counts = new long[5];
+    LongArrays.histogram(array, 0, 3, 0L, 10L, counts);
+    assertThat(counts, is(new long[] { 2, 1, 0, 0, 0 }));
+    assertThat(LongArrays.histogram(array, 3, 9, 0L, 10L, counts), is(sameInstance(counts)));
+    assertThat(counts, is(new long[] { 2, 1, 2, 0, 2 }));
+    assertThat(LongArrays.histogram(array, new long[] { 0, 1, 5, 10 }), is(new long[] { 1, 3, 3 }));
+    assertThat(LongArrays.histogram(array, new long[] { 2, 3 }), is(new long[] { 1 }));
+    thrown.expect(IllegalArgumentException.class);
+    LongArrays.histogram(array, new long[] { 0, 5, 5 });
+  }
+
+  @Test
+  public void parallelHistogram() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    long[] array = LongArrays.random(1000);
+    long min = LongArrays.min(array);
+    long max = LongArrays.max(array);
+    assertThat(LongArrays.parallelHistogram(array, 0, 1000, min, max, new long[13], config),
+        is(LongArrays.histogram(array, min, max, 13)));
+    assertThat(LongArrays.parallelHistogram(array, min, max, 13), is(LongArrays.histogram(array, min, max, 13)));
+    long[] sorted = array.clone();
+    Arrays.sort(sorted);
+    long[] boundaries = new long[] { sorted[0], sorted[250], sorted[500], sorted[750], sorted[999] };
+    long[] counts = LongArrays.parallelHistogram(array, 0, 1000, boundaries, new long[4], config);
+    assertThat(counts, is(LongArrays.histogram(array, boundaries)));
+    assertThat(LongArrays.parallelHistogram(array, boundaries), is(counts));
+  }
+
+  @Test
+  public void histogramLowerBounds() {
+    assertThat(LongArrays.histogram(new long[] { 11 }, 0L, 22L, 30)[15], is(1L));
+    assertThat(LongArrays.histogram(new long[] { 13 }, 0L, 26L, 30)[15], is(1L));
+    assertThat(LongArrays.histogram(new long[] { 11 }, 0L, 33L, 45)[15], is(1L));
+    assertThat(LongArrays.histogram(new long[] { 22 }, 0L, 44L, 30)[15], is(1L));
+    long[] extremes = new long[] { Long.MIN_VALUE, -1, 0, Long.MAX_VALUE };
+    assertThat(LongArrays.histogram(extremes, Long.MIN_VALUE, Long.MAX_VALUE, 4), is(new long[] { 1, 1, 1, 1 }));
+    long big = (1L << 62) + 3;
+    assertThat(LongArrays.histogram(new long[] { -1, 0 }, -big, big, 2), is(new long[] { 1, 1 }));
+  }
+
+  @Test
+  public void prefixSum() {
+    long[] array = new long[] { 3, 1, 4, 1, 5 };
+    assertThat(LongArrays.prefixSum(array), is(new long[] { 3, 4, 8, 9, 14 }));
+    assertThat(LongArrays.differences(array), is(new long[] { 3, 1, 4, 1, 5 }));
+    long[] dest = new long[4];
+    assertThat(LongArrays.prefixSum(array, 1, dest, 1, 3), is(sameInstance(dest)));
+    assertThat(dest, is(new long[] { 0, 1, 5, 6 }));
+    assertThat(LongArrays.differences(array, 1, dest, 0, 4), is(new long[] { 1, 3, -3, 4 }));
+    assertThat(LongArrays.prefixSum(array, 0, array, 1, 4), is(new long[] { 3, 3, 4, 8, 9 }));
+    assertThat(LongArrays.prefixSum(array, 1, array, 0, 4), is(new long[] { 3, 7, 15, 24, 9 }));
+  }
+
+  @Test
+  public void parallelPrefixSum() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    long[] array = new long[100];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i % 7 - 3;
+    }
+    long[] expected = LongArrays.prefixSum(array, 5, new long[100], 0, 90);
+    assertThat(LongArrays.parallelPrefixSum(array, 5, new long[100], 0, 90, config), is(expected));
+    assertThat(Arrays.copyOf(LongArrays.parallelPrefixSum(array, 5, array, 0, 90, config), 90),
+        is(Arrays.copyOf(expected, 90)));
+    assertThat(LongArrays.parallelPrefixSum(new long[] { 1, 2, 3 }), is(new long[] { 1, 3, 6 }));
+  }
+
+  @Test
+  public void runningMinMax() {
+    long[] array = new long[] { 3, 1, 4, 1, 5, 0 };
+    assertThat(LongArrays.runningMin(array.clone()), is(new long[] { 3, 1, 1, 1, 1, 0 }));
+    assertThat(LongArrays.runningMax(array.clone()), is(new long[] { 3, 3, 4, 4, 5, 5 }));
+    long[] dest = new long[3];
+    assertThat(LongArrays.runningMax(array, 2, dest, 0, 3), is(sameInstance(dest)));
+    assertThat(dest, is(new long[] { 4, 4, 5 }));
+    assertThat(LongArrays.runningMin(array, 0, dest, 0, 0), is(new long[] { 4, 4, 5 }));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    LongArrays.runningMin(array, 4, dest, 0, 3);
+  }
+
+  @Test
+  public void movingWindows() {
+    long[] array = new long[] { 3, 1, 4, 1, 5, 9, 2, 6 };
+    assertThat(LongArrays.movingSum(array, 3), is(new long[] { 8, 6, 10, 15, 16, 17 }));
+    assertThat(LongArrays.movingMin(array, 3), is(new long[] { 1, 1, 1, 1, 2, 2 }));
+    assertThat(LongArrays.movingMax(array, 3), is(new long[] { 4, 4, 5, 9, 9, 9 }));
+    assertThat(LongArrays.movingAvg(array, 4), is(new double[] { 2.25, 2.75, 4.75, 4.25, 5.5 }));
+    assertThat(LongArrays.movingMax(array, 1), is(array));
+    assertThat(LongArrays.movingSum(array, 9), is(new long[0]));
+    double[] avgs = new double[3];
+    assertThat(LongArrays.movingAvg(array, 2, avgs, 1, 3, 2), is(sameInstance(avgs)));
+    assertThat(avgs, is(new double[] { 0, 2.5, 3 }));
+    long[] copy = array.clone();
+    assertThat(LongArrays.movingMin(copy, 2, copy, 0, 6, 2), is(new long[] { 1, 1, 5, 2, 2, 9, 2, 6 }));
+  }
+
+  @Test
+  public void movingWindowsMatchScan() {
+    long[] array = LongArrays.random(60);
+    for (int i = 0; i < array.length; i++) {
+      array[i] %= 100;
+    }
+    for (int window = 1; window <= 12; window++) {
+      long[] mins = LongArrays.movingMin(array, window);
+      long[] maxs = LongArrays.movingMax(array, window);
+      long[] sums = LongArrays.movingSum(array, window);
+      for (int i = 0; i + window <= array.length; i++) {
+        assertThat(mins[i], is(LongArrays.min(array, i, i + window)));
+        assertThat(maxs[i], is(LongArrays.max(array, i, i + window)));
+        assertThat(sums[i], is(LongArrays.sum(array, i, i + window)));
+      }
+    }
+  }
+
+  @Test
+  public void movingWindowNotPositive() {
+    thrown.expect(IllegalArgumentException.class);
+    LongArrays.movingAvg(new long[3], 0);
+  }
+
+  @Test
+  public void moments() {
+    long[] array = new long[] { 2, 4, 4, 4, 5, 5, 7, 9 };
+    assertEquals(4, LongArrays.variance(array), 1e-12);
+    assertEquals(2, LongArrays.stddev(array), 1e-12);
+    assertEquals(0.65625, LongArrays.skewness(array), 1e-12);
+    assertEquals(-0.21875, LongArrays.kurtosis(array), 1e-12);
+    assertEquals(2 / 9.0, LongArrays.variance(array, 3, 6), 1e-12);
+    Moments moments = LongArrays.moments(array, 0, 3);
+    assertThat(LongArrays.moments(array, 3, 8, moments), is(sameInstance(moments)));
+    assertThat(moments.count(), is(8L));
+    assertEquals(5, moments.mean(), 1e-12);
+    assertEquals(4, moments.variance(), 1e-12);
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(3);
+    assertEquals(0.65625, LongArrays.parallelMoments(array, config).skewness(), 1e-12);
+    assertEquals(-0.21875, LongArrays.parallelMoments(array, config).kurtosis(), 1e-12);
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get variance from empty array");
+    LongArrays.variance(array, 2, 2);
+  }
+
+  @Test
+  public void sumBigInteger() {
+    long[] array = new long[] { Long.MAX_VALUE, Long.MAX_VALUE, 2 };
+    assertThat(LongArrays.sumBigInteger(array), is(BigInteger.ONE.shiftLeft(64)));
+    assertThat(LongArrays.sumBigInteger(Long.MIN_VALUE, Long.MIN_VALUE, -1), is(BigInteger.ONE.shiftLeft(64).negate()
+        .subtract(BigInteger.ONE)));
+    assertThat(LongArrays.sumBigInteger(array, 2, 3), is(BigInteger.valueOf(2)));
+    assertThat(LongArrays.avg(Long.MAX_VALUE, Long.MAX_VALUE), is((double) Long.MAX_VALUE));
+  }
+
+  @Test
+  public void sumBigIntegerMatchesBigIntegerSum() {
+    long[] array = LongArrays.random(1001);
+    BigInteger expected = BigInteger.ZERO;
+    for (long value : array) {
+      expected = expected.add(BigInteger.valueOf(value));
+    }
+    assertThat(LongArrays.sumBigInteger(array), is(expected));
+  }
+
+  @Test
+  public void statsEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get statistics from empty array");
+    LongArrays.stats(new long[0]);
+  }
+
+  @Test
+  public void fromIntoDest() {
+    long[] dest = new long[4];
+    assertThat(LongArrays.from(new int[] { 1, 2, 3 }, 1, dest, 2, 2), is(sameInstance(dest)));
+    assertThat(dest, is(new long[] { 0, 0, 2, 3 }));
+  }
+
+  @Test
+  public void fromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    LongArrays.from(new int[] { 1, 2, 3 }, 2, new long[4], 0, 2);
+  }
+
+  @Test
+  public void parallelFromIntoDest() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] src = IntArrays.random(100);
+    long[] expected = LongArrays.from(src, 3, new long[100], 5, 90);
+    long[] dest = new long[100];
+    assertThat(LongArrays.parallelFrom(src, 3, dest, 5, 90, config), is(sameInstance(dest)));
+    assertThat(dest, is(expected));
+    assertThat(LongArrays.parallelFrom(src, 0, new long[100], 0, 100), is(LongArrays.from(src)));
+  }
+
+  @Test
+  public void parallelFromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    LongArrays.parallelFrom(new int[3], 2, new long[4], 0, 2, ParallelConfig.DEFAULT.withThreshold(0));
+  }
+
+  @Test
+  public void fromBytes() {
+    byte[] bytes = new byte[] { 0, 0, 0, 0, 0, 0, 1, 2 };
+    assertThat(LongArrays.fromBytes(bytes, ByteOrder.BIG_ENDIAN), is(new long[] { 0x102L }));
+    assertThat(LongArrays.fromBytes(bytes, ByteOrder.LITTLE_ENDIAN), is(new long[] { 0x201000000000000L }));
+  }
+
+  @Test
+  public void fromBytesInvalidLength() {
+    thrown.expect(InvalidArrayException.class);
+    LongArrays.fromBytes(new byte[4], ByteOrder.BIG_ENDIAN);
+  }
+
+  @Test
+  public void distinctZero() {
+    assertThat(LongArrays.distinct(new long[] { 1, 0, 1, 0 }), is(new long[] { 1, 0 }));
+  }
+
+  @Test
+  public void rangeMinEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get min value from empty array"));
+    LongArrays.min(new long[] { 1, 2 }, 1, 1);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    LongArrays.sum(new long[2], 0, 3);
+  }
+
+  @Test
+  public void rangeReversed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage(is("fromIndex(2) > toIndex(1)"));
+    LongArrays.contains(new long[2], 2, 1, 0L);
+  }
 }
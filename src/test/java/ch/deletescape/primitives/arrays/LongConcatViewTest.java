@@ -0,0 +1,74 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LongConcatViewTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    LongConcatView view = LongConcatView.of(new long[] { 1, 2 }, new long[0], new long[] { 3 }, new long[] { 4, 5 });
+    assertThat(view.length(), is(5));
+    assertThat(view.toArray(), is(new long[] { 1, 2, 3, 4, 5 }));
+    assertThat(LongConcatView.of().length(), is(0));
+    for (int i = 0; i < view.length(); i++) {
+      assertThat(view.get(i), is(i + 1L));
+    }
+  }
+
+  @Test
+  public void viewReflectsChanges() {
+    long[] part = new long[] { 1, 2 };
+    LongConcatView view = LongConcatView.of(new long[] { 0 }, part);
+    part[1] = 7;
+    assertThat(view.get(2), is(7L));
+  }
+
+  @Test
+  public void contains() {
+    LongConcatView view = LongConcatView.of(new long[] { 1, 2 }, new long[] { 3 });
+    assertThat(view.contains(3L), is(true));
+    assertThat(view.contains(4L), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    LongConcatView view = LongConcatView.of(new long[] { 1, 2, 3 }, new long[0], new long[] { 4 }, new long[] { 5, 1,
+        2 });
+    assertThat(view.findSequence(2L, 3L), is(1));
+    assertThat(view.findSequence(3L, 4L, 5L), is(2));
+    assertThat(view.findSequence(2L, 4L), is(-1));
+    assertThat(view.findSequence(2, new long[] { 1, 2 }), is(5));
+    assertThat(view.findSequence(6, new long[] { 1, 2 }), is(-1));
+    assertThat(view.countSequence(1L, 2L), is(2));
+    assertThat(view.countSequence(), is(0));
+  }
+
+  @Test
+  public void reductions() {
+    LongConcatView view = LongConcatView.of(new long[] { 4, 2 }, new long[0], new long[] { 9, 1 }, new long[] { 4 });
+    assertThat(view.max(), is(9L));
+    assertThat(view.min(), is(1L));
+    assertThat(view.sum(), is(20L));
+    assertThat(view.avg(), is(4.0));
+  }
+
+  @Test
+  public void maxEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get max value from empty array");
+    LongConcatView.of(new long[0], new long[0]).max();
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    LongConcatView.of(new long[] { 1, 2 }, new long[] { 3 }).get(3);
+  }
+}
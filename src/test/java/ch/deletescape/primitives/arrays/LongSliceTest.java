@@ -0,0 +1,72 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LongSliceTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    long[] array = new long[] { 9, 1, 2, 3, 9 };
+    LongSlice slice = LongSlice.of(array, 1, 4);
+    assertThat(slice.array(), is(sameInstance(array)));
+    assertThat(slice.offset(), is(1));
+    assertThat(slice.length(), is(3));
+    assertThat(slice.toArray(), is(new long[] { 1, 2, 3 }));
+    assertThat(LongSlice.of(array).length(), is(5));
+  }
+
+  @Test
+  public void getAndSet() {
+    long[] array = new long[] { 9, 1, 2, 3, 9 };
+    LongSlice slice = LongSlice.of(array, 1, 4);
+    slice.set(2, 5L);
+    assertThat(slice.get(2), is(5L));
+    assertThat(array[3], is(5L));
+  }
+
+  @Test
+  public void subSlice() {
+    LongSlice slice = LongSlice.of(new long[] { 9, 1, 2, 3, 9 }, 1, 4).subSlice(1, 3);
+    assertThat(slice.offset(), is(2));
+    assertThat(slice.toArray(), is(new long[] { 2, 3 }));
+  }
+
+  @Test
+  public void operations() {
+    LongSlice slice = LongSlice.of(new long[] { 9, 1, 2, 3, 1, 2, 9 }, 1, 6);
+    assertThat(slice.contains(9L), is(false));
+    assertThat(slice.contains(3L), is(true));
+    assertThat(slice.findSequence(1L, 2L), is(0));
+    assertThat(slice.findSequence(3L, 1L), is(2));
+    assertThat(slice.findSequence(2L, 9L), is(-1));
+    assertThat(slice.countSequence(1L, 2L), is(2));
+    assertThat(slice.join(";"), is("1;2;3;1;2"));
+    assertThat(slice.min(), is(1L));
+    assertThat(slice.max(), is(3L));
+    assertThat(slice.sum(), is(9L));
+    assertThat(slice.avg(), is(1.8));
+    assertThat(slice.distinct(), is(new long[] { 1, 2, 3 }));
+    assertThat(slice.topK(2), is(new long[] { 3, 2 }));
+    assertThat(slice.stats().max(), is(3L));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    LongSlice.of(new long[] { 9, 1, 2, 3, 9 }, 1, 4).get(3);
+  }
+
+  @Test
+  public void ofOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    LongSlice.of(new long[2], 1, 3);
+  }
+}
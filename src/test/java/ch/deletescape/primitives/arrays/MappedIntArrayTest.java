@@ -0,0 +1,85 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedIntArrayTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path write(int... values) throws IOException {
+    Path file = folder.newFile().toPath();
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+      for (int value : values) {
+        out.writeInt(value);
+      }
+    }
+    return file;
+  }
+
+  @Test
+  public void open() throws IOException {
+    try (MappedIntArray array = MappedIntArray.open(write(3, -2, 7, 1), false)) {
+      assertThat(array.length(), is(4L));
+      assertThat(array.isWritable(), is(false));
+      assertThat(array.toArray(), is(new int[] { 3, -2, 7, 1 }));
+      assertThat(array.contains(7), is(true));
+      assertThat(array.findSequence(new int[] { 7, 1 }), is(2L));
+      assertThat(array.min(), is(-2));
+      assertThat(array.max(), is(7));
+      assertThat(array.sum(), is(9));
+    }
+  }
+
+  @Test
+  public void writeThrough() throws IOException {
+    Path file = folder.newFile().toPath();
+    try (MappedIntArray array = MappedIntArray.create(file, 3, ByteOrder.LITTLE_ENDIAN)) {
+      array.copyFrom(new int[] { 1, 2, 3 }, 0, 0, 3);
+      array.set(1, 5);
+      array.force();
+    }
+    assertThat(Files.size(file), is(3L * 4));
+    try (MappedIntArray array = MappedIntArray.open(file, true, ByteOrder.LITTLE_ENDIAN)) {
+      assertThat(array.toArray(), is(new int[] { 1, 5, 3 }));
+    }
+  }
+
+  @Test
+  public void createTruncates() throws IOException {
+    Path file = write(1, 2, 3);
+    try (MappedIntArray array = MappedIntArray.create(file, 2)) {
+      assertThat(array.toArray(), is(new int[] { 1, 2 }));
+    }
+    assertThat(Files.size(file), is(2L * 4));
+  }
+
+  @Test
+  public void readOnly() throws IOException {
+    try (MappedIntArray array = MappedIntArray.open(write(1), false)) {
+      thrown.expect(ReadOnlyBufferException.class);
+      array.set(0, 2);
+    }
+  }
+
+  @Test
+  public void missingFile() {
+    thrown.expect(UncheckedIOException.class);
+    MappedIntArray.open(folder.getRoot().toPath().resolve("missing"), false);
+  }
+}
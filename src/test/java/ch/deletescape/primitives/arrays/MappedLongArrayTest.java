@@ -0,0 +1,85 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedLongArrayTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path write(long... values) throws IOException {
+    Path file = folder.newFile().toPath();
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+      for (long value : values) {
+        out.writeLong(value);
+      }
+    }
+    return file;
+  }
+
+  @Test
+  public void open() throws IOException {
+    try (MappedLongArray array = MappedLongArray.open(write(3, -2, 7, 1), false)) {
+      assertThat(array.length(), is(4L));
+      assertThat(array.isWritable(), is(false));
+      assertThat(array.toArray(), is(new long[] { 3, -2, 7, 1 }));
+      assertThat(array.contains(7), is(true));
+      assertThat(array.findSequence(new long[] { 7, 1 }), is(2L));
+      assertThat(array.min(), is(-2L));
+      assertThat(array.max(), is(7L));
+      assertThat(array.sum(), is(9L));
+    }
+  }
+
+  @Test
+  public void writeThrough() throws IOException {
+    Path file = folder.newFile().toPath();
+    try (MappedLongArray array = MappedLongArray.create(file, 3, ByteOrder.LITTLE_ENDIAN)) {
+      array.copyFrom(new long[] { 1, 2, 3 }, 0, 0, 3);
+      array.set(1, 5);
+      array.force();
+    }
+    assertThat(Files.size(file), is(3L * 8));
+    try (MappedLongArray array = MappedLongArray.open(file, true, ByteOrder.LITTLE_ENDIAN)) {
+      assertThat(array.toArray(), is(new long[] { 1, 5, 3 }));
+    }
+  }
+
+  @Test
+  public void createTruncates() throws IOException {
+    Path file = write(1, 2, 3);
+    try (MappedLongArray array = MappedLongArray.create(file, 2)) {
+      assertThat(array.toArray(), is(new long[] { 1, 2 }));
+    }
+    assertThat(Files.size(file), is(2L * 8));
+  }
+
+  @Test
+  public void readOnly() throws IOException {
+    try (MappedLongArray array = MappedLongArray.open(write(1), false)) {
+      thrown.expect(ReadOnlyBufferException.class);
+      array.set(0, 2);
+    }
+  }
+
+  @Test
+  public void missingFile() {
+    thrown.expect(UncheckedIOException.class);
+    MappedLongArray.open(folder.getRoot().toPath().resolve("missing"), false);
+  }
+}
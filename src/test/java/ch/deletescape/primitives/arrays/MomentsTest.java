@@ -0,0 +1,51 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class MomentsTest {
+  @Test
+  public void empty() {
+    Moments moments = new Moments();
+    assertThat(moments.count(), is(0L));
+    assertThat(Double.isNaN(moments.mean()), is(true));
+    assertThat(Double.isNaN(moments.variance()), is(true));
+  }
+
+  @Test
+  public void constantValues() {
+    Moments moments = new Moments().add(3).add(3).add(3);
+    assertEquals(3, moments.mean(), 0);
+    assertEquals(0, moments.variance(), 0);
+    assertThat(Double.isNaN(moments.skewness()), is(true));
+  }
+
+  @Test
+  public void merge() {
+    double[] values = DoubleArrays.random(1000);
+    Moments all = DoubleArrays.moments(values);
+    for (int split : new int[] { 0, 1, 500, 999, 1000 }) {
+      Moments left = DoubleArrays.moments(values, 0, split);
+      assertThat(left.merge(DoubleArrays.moments(values, split, values.length)), is(sameInstance(left)));
+      assertThat(left.count(), is(1000L));
+      assertEquals(all.mean(), left.mean(), 1e-12);
+      assertEquals(all.variance(), left.variance(), 1e-12);
+      assertEquals(all.skewness(), left.skewness(), 1e-9);
+      assertEquals(all.kurtosis(), left.kurtosis(), 1e-9);
+    }
+  }
+
+  @Test
+  public void largeOffset() {
+    // The sum-of-squares formula loses all precision here
+    Moments moments = new Moments();
+    for (int i = 0; i < 1000; i++) {
+      moments.add(1e9 + (i % 2));
+    }
+    assertEquals(0.25, moments.variance(), 1e-9);
+  }
+}
@@ -0,0 +1,110 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class OffHeapDoubleArrayTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // 4 elements per chunk, so most operations cross chunk boundaries
+  private static OffHeapDoubleArray array(double... values) {
+    OffHeapDoubleArray tmp = OffHeapDoubleArray.allocate(values.length, 5);
+    tmp.copyFrom(values, 0, 0, values.length);
+    return tmp;
+  }
+
+  @Test
+  public void allocate() {
+    try (OffHeapDoubleArray tmp = OffHeapDoubleArray.allocate(3)) {
+      assertThat(tmp.length(), is(3L));
+      assertThat(tmp.toArray(), is(new double[3]));
+    }
+  }
+
+  @Test
+  public void copyOf() {
+    try (OffHeapDoubleArray tmp = OffHeapDoubleArray.copyOf(1, 2, 3)) {
+      assertThat(tmp.toArray(), is(new double[] { 1, 2, 3 }));
+    }
+  }
+
+  @Test
+  public void getAndSet() {
+    try (OffHeapDoubleArray tmp = array(1, 2, 3, 4, 5, 6)) {
+      tmp.set(4, 10);
+      assertThat(tmp.get(4), is(10.0));
+      assertThat(tmp.get(5), is(6.0));
+    }
+  }
+
+  @Test
+  public void copyAcrossChunks() {
+    try (OffHeapDoubleArray tmp = OffHeapDoubleArray.allocate(10, 5)) {
+      tmp.copyFrom(new double[] { 9, 1, 2, 3, 4, 5, 6 }, 1, 2, 6);
+      double[] dest = new double[8];
+      tmp.copyTo(1, dest, 1, 7);
+      assertThat(dest, is(new double[] { 0, 0, 1, 2, 3, 4, 5, 6 }));
+    }
+  }
+
+  @Test
+  public void contains() {
+    try (OffHeapDoubleArray tmp = array(1, 2, 3, 4, 5, 6)) {
+      assertThat(tmp.contains(6), is(true));
+      assertThat(tmp.contains(7), is(false));
+    }
+  }
+
+  @Test
+  public void distinct() {
+    try (OffHeapDoubleArray tmp = array(1, 2, 1, 3, 2, 4, 1)) {
+      assertThat(tmp.distinct(), is(new double[] { 1, 2, 3, 4 }));
+    }
+  }
+
+  @Test
+  public void findSequence() {
+    try (OffHeapDoubleArray tmp = array(1, 2, 1, 3, 4, 5, 1, 3)) {
+      assertThat(tmp.findSequence(new double[] { 3, 4, 5 }), is(3L));
+      assertThat(tmp.findSequence(4, new double[] { 1, 3 }), is(6L));
+      assertThat(tmp.findSequence(new double[] { 5, 4 }), is(-1L));
+    }
+  }
+
+  @Test
+  public void minMaxSum() {
+    try (OffHeapDoubleArray tmp = array(3, -2, 7, 1, 0, 5)) {
+      assertThat(tmp.min(), is(-2.0));
+      assertThat(tmp.max(), is(7.0));
+      assertThat(tmp.sum(), is(14.0));
+    }
+  }
+
+  @Test
+  public void minEmptyArray() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get min value from empty array"));
+    OffHeapDoubleArray.allocate(0).min();
+  }
+
+  @Test
+  public void indexOutOfBounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    OffHeapDoubleArray.allocate(2).get(2);
+  }
+
+  @Test
+  public void closed() {
+    OffHeapDoubleArray tmp = OffHeapDoubleArray.copyOf(1);
+    tmp.close();
+    tmp.close();
+    assertThat(tmp.isClosed(), is(true));
+    thrown.expect(IllegalStateException.class);
+    tmp.sum();
+  }
+}
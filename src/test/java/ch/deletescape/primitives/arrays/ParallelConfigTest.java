@@ -0,0 +1,67 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ParallelConfigTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      ParallelConfig config = ParallelConfig.of(pool, 10, 3);
+      assertThat(config.pool(), is(sameInstance(pool)));
+      assertThat(config.threshold(), is(10));
+      assertThat(config.grainSize(), is(3));
+      assertThat(config.isParallel(9), is(false));
+      assertThat(config.isParallel(10), is(true));
+      assertThat(IntArrays.parallelSum(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }, config), is(55));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void with() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(5).withGrainSize(2);
+    assertThat(config.pool(), is(sameInstance(ForkJoinPool.commonPool())));
+    assertThat(config.threshold(), is(5));
+    assertThat(config.grainSize(), is(2));
+  }
+
+  @Test
+  public void chunks() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withGrainSize(4);
+    assertThat(Parallel.chunks(config, 0, 0), is(0));
+    assertThat(Parallel.chunks(config, 1, 5), is(1));
+    assertThat(Parallel.chunks(config, 1, 6), is(2));
+    assertThat(Parallel.chunks(ParallelConfig.DEFAULT.withGrainSize(Integer.MAX_VALUE), 0, Integer.MAX_VALUE), is(1));
+  }
+
+  @Test
+  public void negativeThreshold() {
+    thrown.expect(IllegalArgumentException.class);
+    ParallelConfig.DEFAULT.withThreshold(-1);
+  }
+
+  @Test
+  public void zeroGrainSize() {
+    thrown.expect(IllegalArgumentException.class);
+    ParallelConfig.DEFAULT.withGrainSize(0);
+  }
+
+  @Test
+  public void nullPool() {
+    thrown.expect(NullPointerException.class);
+    ParallelConfig.of(null, 0, 1);
+  }
+}
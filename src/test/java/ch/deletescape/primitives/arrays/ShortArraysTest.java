@@ -1,8 +1,12 @@
 package ch.deletescape.primitives.arrays;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -164,4 +168,193 @@ public class ShortArraysTest {
   public void random() {
     ShortArrays.random(1);
   }
+
+  @Test
+  public void rangeOperations() {
+    short[] array = new short[] { 9, 1, 2, 3, 1, 2, 9 };
+    assertThat(ShortArrays.sum(array, 1, 6), is((short) 9));
+    assertThat(ShortArrays.min(array, 1, 6), is((short) 1));
+    assertThat(ShortArrays.max(array, 1, 6), is((short) 3));
+    assertThat(ShortArrays.avg(array, 1, 6), is(1.8));
+    assertThat(ShortArrays.contains(array, 1, 6, (short) 9), is(false));
+    assertThat(ShortArrays.contains(array, 0, 6, (short) 9), is(true));
+    assertThat(ShortArrays.findSequence(array, 2, 7, new short[] { 1, 2 }), is(4));
+    assertThat(ShortArrays.findSequence(array, 0, 5, new short[] { 1, 2, 9 }), is(-1));
+    assertThat(ShortArrays.countSequence(array, 0, 6, new short[] { 1, 2 }), is(2));
+    assertThat(ShortArrays.join(";", array, 2, 4), is("2;3"));
+    assertThat(ShortArrays.sum(array, 3, 3), is((short) 0));
+    assertThat(ShortArrays.distinct(array, 1, 6), is(new short[] { 1, 2, 3 }));
+  }
+
+  @Test
+  public void rangeKernelsMatchScalarLoop() {
+    short[] array = ShortArrays.random(40);
+    for (int to = 1; to <= array.length; to++) {
+      int from = to / 3;
+      short max = array[from];
+      short min = array[from];
+      for (int j = from; j < to; j++) {
+        max = array[j] > max ? array[j] : max;
+        min = array[j] < min ? array[j] : min;
+      }
+      assertThat(ShortArrays.max(array, from, to), is(max));
+      assertThat(ShortArrays.min(array, from, to), is(min));
+      short sum = 0;
+      boolean contains = false;
+      for (int j = from; j < to; j++) {
+        sum += array[j];
+        contains |= array[j] == array[0];
+      }
+      assertThat(ShortArrays.sum(array, from, to), is(sum));
+      assertThat(ShortArrays.contains(array, from, to, array[0]), is(contains));
+    }
+  }
+
+  @Test
+  public void parallelReductions() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    short[] array = ShortArrays.random(100);
+    for (int to = 0; to <= array.length; to += 9) {
+      int from = to / 4;
+      if (to > from) {
+        assertThat(ShortArrays.parallelMax(array, from, to, config), is(ShortArrays.max(array, from, to)));
+        assertThat(ShortArrays.parallelMin(array, from, to, config), is(ShortArrays.min(array, from, to)));
+      }
+      assertThat(ShortArrays.parallelSum(array, from, to, config), is(ShortArrays.sum(array, from, to)));
+      assertThat(ShortArrays.parallelContains(array, from, to, array[0], config),
+          is(ShortArrays.contains(array, from, to, array[0])));
+      assertThat(ShortArrays.parallelContains(array, from, to, array[99], config),
+          is(ShortArrays.contains(array, from, to, array[99])));
+    }
+    assertThat(ShortArrays.parallelMax(array, config), is(ShortArrays.max(array)));
+    assertThat(ShortArrays.parallelMax(array), is(ShortArrays.max(array)));
+    thrown.expect(InvalidArrayException.class);
+    ShortArrays.parallelMin(new short[0], config);
+  }
+
+  @Test
+  public void stats() {
+    IntStats stats = ShortArrays.stats(new short[] { 4, 2, 9, 1, 4 });
+    assertThat(stats.count(), is(5));
+    assertThat(stats.sum(), is(20L));
+    assertThat(stats.min(), is(1));
+    assertThat(stats.max(), is(9));
+    assertThat(stats.mean(), is(4.0));
+    assertEquals(7.6, stats.variance(), 1e-12);
+    assertThat(ShortArrays.stats(new short[] { 9, 1, 2, 3, 9 }, 1, 4, stats), is(sameInstance(stats)));
+    assertThat(stats.count(), is(3));
+    assertThat(stats.max(), is(3));
+    assertEquals(2 / 3.0, stats.variance(), 1e-12);
+  }
+
+  @Test
+  public void nthElement() {
+    short[] array = ShortArrays.random(200);
+    for (int i = 100; i < array.length; i++) {
+      array[i] = array[i % 20];
+    }
+    short[] sorted = array.clone();
+    Arrays.sort(sorted);
+    for (int n = 0; n < array.length; n += 7) {
+      assertThat(ShortArrays.nthElement(array, n), is(sorted[n]));
+    }
+    short[] range = Arrays.copyOfRange(array, 10, 190);
+    Arrays.sort(range);
+    assertThat(ShortArrays.nthElementInPlace(array, 10, 190, 50), is(range[50]));
+    for (int i = 10; i < 190; i++) {
+      assertThat(i < 60 ? array[i] <= array[60] : array[i] >= array[60], is(true));
+    }
+    short[] expected = array.clone();
+    Arrays.sort(expected, 10, 190);
+    Arrays.sort(array, 10, 190);
+    assertThat(array, is(expected));
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ShortArrays.nthElementInPlace(array, 10, 20, 10);
+  }
+
+  @Test
+  public void percentiles() {
+    short[] array = new short[] { 5, 1, 4, 2, 3 };
+    assertEquals(3, ShortArrays.median(array), 0);
+    assertEquals(2.5, ShortArrays.median((short) 4, (short) 1, (short) 2, (short) 3), 0);
+    assertThat(ShortArrays.percentiles(array, 0, 25, 90, 100), is(new double[] { 1, 2, 4.6, 5 }));
+    assertThat(array, is(new short[] { 5, 1, 4, 2, 3 }));
+    short[] buffer = new short[] { 9, 5, 1, 4, 2, 3, 0 };
+    assertThat(ShortArrays.percentilesInPlace(buffer, 1, 6, 75, 50), is(new double[] { 4, 3 }));
+    assertThat(buffer[0], is((short) 9));
+    assertThat(buffer[6], is((short) 0));
+    thrown.expect(IllegalArgumentException.class);
+    ShortArrays.percentile(array, 101);
+  }
+
+  @Test
+  public void sumLong() {
+    short[] array = new short[] { Short.MAX_VALUE, Short.MAX_VALUE, Short.MAX_VALUE };
+    assertThat(ShortArrays.sumLong(array), is(3L * Short.MAX_VALUE));
+    assertThat(ShortArrays.sumLong(array, 1, 3), is(2L * Short.MAX_VALUE));
+    assertThat(ShortArrays.avg(array), is((double) Short.MAX_VALUE));
+    assertThat(ShortArrays.sumLong(new short[0]), is(0L));
+  }
+
+  @Test
+  public void statsEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get statistics from empty array");
+    ShortArrays.stats(new short[0]);
+  }
+
+  @Test
+  public void fromIntoDest() {
+    short[] dest = new short[4];
+    assertThat(ShortArrays.from(new int[] { 1, 2, 3 }, 1, dest, 2, 2), is(sameInstance(dest)));
+    assertThat(dest, is(new short[] { 0, 0, 2, 3 }));
+  }
+
+  @Test
+  public void fromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ShortArrays.from(new int[] { 1, 2, 3 }, 2, new short[4], 0, 2);
+  }
+
+  @Test
+  public void parallelFromIntoDest() {
+    ParallelConfig config = ParallelConfig.DEFAULT.withThreshold(0).withGrainSize(7);
+    int[] src = IntArrays.random(100);
+    short[] expected = ShortArrays.from(src, 3, new short[100], 5, 90);
+    short[] dest = new short[100];
+    assertThat(ShortArrays.parallelFrom(src, 3, dest, 5, 90, config), is(sameInstance(dest)));
+    assertThat(dest, is(expected));
+    assertThat(ShortArrays.parallelFrom(src, 0, new short[100], 0, 100), is(ShortArrays.from(src)));
+  }
+
+  @Test
+  public void parallelFromIntoDestOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ShortArrays.parallelFrom(new int[3], 2, new short[4], 0, 2, ParallelConfig.DEFAULT.withThreshold(0));
+  }
+
+  @Test
+  public void distinctZero() {
+    assertThat(ShortArrays.distinct(new short[] { 1, 0, 1, 0 }), is(new short[] { 1, 0 }));
+  }
+
+  @Test
+  public void rangeMinEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage(is("Can't get min value from empty array"));
+    ShortArrays.min(new short[] { 1, 2 }, 1, 1);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ShortArrays.sum(new short[2], 0, 3);
+  }
+
+  @Test
+  public void rangeReversed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage(is("fromIndex(2) > toIndex(1)"));
+    ShortArrays.contains(new short[2], 2, 1, (short) 0);
+  }
 }
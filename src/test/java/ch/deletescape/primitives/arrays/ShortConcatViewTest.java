@@ -0,0 +1,78 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ShortConcatViewTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    ShortConcatView view = ShortConcatView.of(new short[] { 1, 2 }, new short[0], new short[] { 3 }, new short[] { 4,
+        5 });
+    assertThat(view.length(), is(5));
+    assertThat(view.toArray(), is(new short[] { 1, 2, 3, 4, 5 }));
+    assertThat(ShortConcatView.of().length(), is(0));
+    for (int i = 0; i < view.length(); i++) {
+      assertThat(view.get(i), is((short) (i + 1)));
+    }
+  }
+
+  @Test
+  public void viewReflectsChanges() {
+    short[] part = new short[] { 1, 2 };
+    ShortConcatView view = ShortConcatView.of(new short[] { 0 }, part);
+    part[1] = 7;
+    assertThat(view.get(2), is((short) 7));
+  }
+
+  @Test
+  public void contains() {
+    ShortConcatView view = ShortConcatView.of(new short[] { 1, 2 }, new short[] { 3 });
+    assertThat(view.contains((short) 3), is(true));
+    assertThat(view.contains((short) 4), is(false));
+  }
+
+  @Test
+  public void findSequence() {
+    ShortConcatView view = ShortConcatView.of(new short[] { 1, 2, 3 }, new short[0], new short[] { 4 },
+        new short[] { 5, 1, 2 });
+    assertThat(view.findSequence((short) 2, (short) 3), is(1));
+    assertThat(view.findSequence((short) 3, (short) 4, (short) 5), is(2));
+    assertThat(view.findSequence((short) 2, (short) 4), is(-1));
+    assertThat(view.findSequence(2, new short[] { 1, 2 }), is(5));
+    assertThat(view.findSequence(6, new short[] { 1, 2 }), is(-1));
+    assertThat(view.countSequence((short) 1, (short) 2), is(2));
+    assertThat(view.countSequence(), is(0));
+  }
+
+  @Test
+  public void reductions() {
+    ShortConcatView view = ShortConcatView.of(new short[] { 4, 2 }, new short[0], new short[] { 9, 1 },
+        new short[] { 4 });
+    assertThat(view.max(), is((short) 9));
+    assertThat(view.min(), is((short) 1));
+    assertThat(view.sum(), is((short) 20));
+    assertThat(view.avg(), is(4.0));
+    ShortConcatView large = ShortConcatView.of(new short[] { Short.MAX_VALUE }, new short[] { Short.MAX_VALUE });
+    assertThat(large.avg(), is(32767.0));
+  }
+
+  @Test
+  public void maxEmpty() {
+    thrown.expect(InvalidArrayException.class);
+    thrown.expectMessage("Can't get max value from empty array");
+    ShortConcatView.of(new short[0], new short[0]).max();
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ShortConcatView.of(new short[] { 1, 2 }, new short[] { 3 }).get(3);
+  }
+}
@@ -0,0 +1,71 @@
+package ch.deletescape.primitives.arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ShortSliceTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void of() {
+    short[] array = new short[] { 9, 1, 2, 3, 9 };
+    ShortSlice slice = ShortSlice.of(array, 1, 4);
+    assertThat(slice.array(), is(sameInstance(array)));
+    assertThat(slice.offset(), is(1));
+    assertThat(slice.length(), is(3));
+    assertThat(slice.toArray(), is(new short[] { 1, 2, 3 }));
+    assertThat(ShortSlice.of(array).length(), is(5));
+  }
+
+  @Test
+  public void getAndSet() {
+    short[] array = new short[] { 9, 1, 2, 3, 9 };
+    ShortSlice slice = ShortSlice.of(array, 1, 4);
+    slice.set(2, (short) 5);
+    assertThat(slice.get(2), is((short) 5));
+    assertThat(array[3], is((short) 5));
+  }
+
+  @Test
+  public void subSlice() {
+    ShortSlice slice = ShortSlice.of(new short[] { 9, 1, 2, 3, 9 }, 1, 4).subSlice(1, 3);
+    assertThat(slice.offset(), is(2));
+    assertThat(slice.toArray(), is(new short[] { 2, 3 }));
+  }
+
+  @Test
+  public void operations() {
+    ShortSlice slice = ShortSlice.of(new short[] { 9, 1, 2, 3, 1, 2, 9 }, 1, 6);
+    assertThat(slice.contains((short) 9), is(false));
+    assertThat(slice.contains((short) 3), is(true));
+    assertThat(slice.findSequence((short) 1, (short) 2), is(0));
+    assertThat(slice.findSequence((short) 3, (short) 1), is(2));
+    assertThat(slice.findSequence((short) 2, (short) 9), is(-1));
+    assertThat(slice.countSequence((short) 1, (short) 2), is(2));
+    assertThat(slice.join(";"), is("1;2;3;1;2"));
+    assertThat(slice.min(), is((short) 1));
+    assertThat(slice.max(), is((short) 3));
+    assertThat(slice.sum(), is((short) 9));
+    assertThat(slice.avg(), is(1.8));
+    assertThat(slice.distinct(), is(new short[] { 1, 2, 3 }));
+    assertThat(slice.stats().max(), is(3));
+  }
+
+  @Test
+  public void getOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ShortSlice.of(new short[] { 9, 1, 2, 3, 9 }, 1, 4).get(3);
+  }
+
+  @Test
+  public void ofOutOfBounds() {
+    thrown.expect(ArrayIndexOutOfBoundsException.class);
+    ShortSlice.of(new short[2], 1, 3);
+  }
+}
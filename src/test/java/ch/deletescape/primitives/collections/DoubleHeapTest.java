@@ -0,0 +1,79 @@
+package ch.deletescape.primitives.collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DoubleHeapTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void minHeap() {
+    DoubleHeap heap = DoubleHeap.minHeap(1);
+    for (double value : new double[] { 5, 1, 4, 2, 3, 1 }) {
+      heap.push(value);
+    }
+    assertThat(heap.size(), is(6));
+    assertThat(heap.peek(), is(1.0));
+    assertThat(heap.drain(), is(new double[] { 1, 1, 2, 3, 4, 5 }));
+    assertThat(heap.isEmpty(), is(true));
+  }
+
+  @Test
+  public void maxHeap() {
+    DoubleHeap heap = DoubleHeap.maxHeap();
+    for (double value : new double[] { 5, 1, 4, 2, 3, 1 }) {
+      heap.push(value);
+    }
+    assertThat(heap.pop(), is(5.0));
+    assertThat(heap.pop(), is(4.0));
+    assertThat(heap.drain(), is(new double[] { 3, 2, 1, 1 }));
+  }
+
+  @Test
+  public void nanOrderedLast() {
+    DoubleHeap heap = DoubleHeap.minHeap();
+    for (double value : new double[] { 3, Double.NaN, 1, -0.0, 0.0, 2 }) {
+      heap.push(value);
+    }
+    assertThat(heap.drain(), is(new double[] { -0.0, 0.0, 1, 2, 3, Double.NaN }));
+    heap = DoubleHeap.maxHeap();
+    for (double value : new double[] { 1, Double.NaN, 3 }) {
+      heap.push(value);
+    }
+    assertThat(Double.isNaN(heap.pop()), is(true));
+    assertThat(heap.pop(), is(3.0));
+  }
+
+  @Test
+  public void replaceTop() {
+    DoubleHeap heap = DoubleHeap.minHeap();
+    heap.push(1);
+    heap.push(3);
+    assertThat(heap.replaceTop(4), is(1.0));
+    assertThat(heap.drain(), is(new double[] { 3, 4 }));
+  }
+
+  @Test
+  public void clear() {
+    DoubleHeap heap = DoubleHeap.minHeap();
+    heap.push(1);
+    assertThat(heap.toArray(), is(new double[] { 1 }));
+    heap.clear();
+    assertThat(heap.size(), is(0));
+    assertThat(heap.toArray(), is(new double[0]));
+  }
+
+  @Test
+  public void popEmpty() {
+    thrown.expect(NoSuchElementException.class);
+    thrown.expectMessage(is("Heap is empty"));
+    DoubleHeap.maxHeap().pop();
+  }
+}
@@ -0,0 +1,87 @@
+package ch.deletescape.primitives.collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class DoubleMpmcRingBufferTest {
+  @Test
+  public void capacity() {
+    assertThat(new DoubleMpmcRingBuffer(1).capacity(), is(1));
+    assertThat(new DoubleMpmcRingBuffer(5).capacity(), is(8));
+    assertThat(new DoubleMpmcRingBuffer(8).capacity(), is(8));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidCapacity() {
+    new DoubleMpmcRingBuffer(0);
+  }
+
+  @Test
+  public void offerAndPoll() {
+    DoubleMpmcRingBuffer buffer = new DoubleMpmcRingBuffer(2);
+    assertThat(buffer.isEmpty(), is(true));
+    assertThat(buffer.offer(1), is(true));
+    assertThat(buffer.offer(2), is(true));
+    assertThat(buffer.offer(3), is(false));
+    assertThat(buffer.size(), is(2));
+    assertThat(buffer.poll(-1), is(1.0));
+    assertThat(buffer.offer(3), is(true));
+    assertThat(buffer.poll(-1), is(2.0));
+    assertThat(buffer.poll(-1), is(3.0));
+    assertThat(buffer.poll(-1), is(-1.0));
+  }
+
+  @Test
+  public void batchWrapsAround() {
+    DoubleMpmcRingBuffer buffer = new DoubleMpmcRingBuffer(4);
+    assertThat(buffer.offerAll(new double[] { 1, 2, 3 }), is(3));
+    double[] dest = new double[5];
+    assertThat(buffer.drainTo(dest, 1, 2), is(2));
+    assertThat(buffer.offerAll(new double[] { 9, 4, 5, 6, 7 }, 1, 4), is(3));
+    assertThat(buffer.drainTo(dest, 1, 4), is(4));
+    assertThat(dest, is(new double[] { 0, 3, 4, 5, 6 }));
+    assertThat(buffer.drainTo(dest), is(0));
+  }
+
+  @Test
+  public void concurrentHandOff() throws InterruptedException {
+    int perProducer = 50_000;
+    DoubleMpmcRingBuffer buffer = new DoubleMpmcRingBuffer(64);
+    AtomicLong sum = new AtomicLong();
+    AtomicLong received = new AtomicLong();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < 2; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 1; i <= perProducer; i++) {
+          while (!buffer.offer(i)) {
+            Thread.yield();
+          }
+        }
+      });
+      threads[t + 2] = new Thread(() -> {
+        double[] dest = new double[16];
+        while (received.get() < 2 * perProducer) {
+          int n = buffer.drainTo(dest);
+          if (n == 0) {
+            Thread.yield();
+          }
+          for (int i = 0; i < n; i++) {
+            sum.addAndGet((long) dest[i]);
+          }
+          received.addAndGet(n);
+        }
+      });
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(sum.get(), is(perProducer * (perProducer + 1L)));
+  }
+}
@@ -0,0 +1,64 @@
+package ch.deletescape.primitives.collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IntHeapTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void minHeap() {
+    IntHeap heap = IntHeap.minHeap(1);
+    for (int value : new int[] { 5, 1, 4, 2, 3, 1 }) {
+      heap.push(value);
+    }
+    assertThat(heap.size(), is(6));
+    assertThat(heap.peek(), is(1));
+    assertThat(heap.drain(), is(new int[] { 1, 1, 2, 3, 4, 5 }));
+    assertThat(heap.isEmpty(), is(true));
+  }
+
+  @Test
+  public void maxHeap() {
+    IntHeap heap = IntHeap.maxHeap();
+    for (int value : new int[] { 5, 1, 4, 2, 3, 1 }) {
+      heap.push(value);
+    }
+    assertThat(heap.pop(), is(5));
+    assertThat(heap.pop(), is(4));
+    assertThat(heap.drain(), is(new int[] { 3, 2, 1, 1 }));
+  }
+
+  @Test
+  public void replaceTop() {
+    IntHeap heap = IntHeap.minHeap();
+    heap.push(1);
+    heap.push(3);
+    assertThat(heap.replaceTop(4), is(1));
+    assertThat(heap.drain(), is(new int[] { 3, 4 }));
+  }
+
+  @Test
+  public void clear() {
+    IntHeap heap = IntHeap.minHeap();
+    heap.push(1);
+    assertThat(heap.toArray(), is(new int[] { 1 }));
+    heap.clear();
+    assertThat(heap.size(), is(0));
+    assertThat(heap.toArray(), is(new int[0]));
+  }
+
+  @Test
+  public void popEmpty() {
+    thrown.expect(NoSuchElementException.class);
+    thrown.expectMessage(is("Heap is empty"));
+    IntHeap.maxHeap().pop();
+  }
+}
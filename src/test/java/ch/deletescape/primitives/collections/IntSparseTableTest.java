@@ -0,0 +1,64 @@
+package ch.deletescape.primitives.collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IntSparseTableTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void queries() {
+    int[] values = new int[] { 5, 1, 4, 2, 3 };
+    IntSparseTable table = IntSparseTable.of(values);
+    values[1] = 0;
+    assertThat(table.size(), is(5));
+    assertThat(table.get(1), is(1));
+    assertThat(table.min(0, 5), is(1));
+    assertThat(table.min(2, 5), is(2));
+    assertThat(table.max(1, 5), is(4));
+    assertThat(table.max(3, 4), is(2));
+  }
+
+  @Test
+  public void matchesScan() {
+    Random random = new Random(42);
+    for (int size = 1; size < 40; size++) {
+      int[] values = new int[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = random.nextInt(100);
+      }
+      IntSparseTable table = IntSparseTable.of(values);
+      for (int from = 0; from < size; from++) {
+        int min = values[from];
+        int max = values[from];
+        for (int to = from + 1; to <= size; to++) {
+          min = Math.min(min, values[to - 1]);
+          max = Math.max(max, values[to - 1]);
+          assertThat(table.min(from, to), is(min));
+          assertThat(table.max(from, to), is(max));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void empty() {
+    assertThat(IntSparseTable.of().size(), is(0));
+    thrown.expect(NoSuchElementException.class);
+    IntSparseTable.of().min(0, 0);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    IntSparseTable.of(1, 2).max(-1, 2);
+  }
+}
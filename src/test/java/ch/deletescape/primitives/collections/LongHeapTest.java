@@ -0,0 +1,64 @@
+package ch.deletescape.primitives.collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LongHeapTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void minHeap() {
+    LongHeap heap = LongHeap.minHeap(1);
+    for (long value : new long[] { 5, 1, 4, 2, 3, 1 }) {
+      heap.push(value);
+    }
+    assertThat(heap.size(), is(6));
+    assertThat(heap.peek(), is(1L));
+    assertThat(heap.drain(), is(new long[] { 1, 1, 2, 3, 4, 5 }));
+    assertThat(heap.isEmpty(), is(true));
+  }
+
+  @Test
+  public void maxHeap() {
+    LongHeap heap = LongHeap.maxHeap();
+    for (long value : new long[] { 5, 1, 4, 2, 3, 1 }) {
+      heap.push(value);
+    }
+    assertThat(heap.pop(), is(5L));
+    assertThat(heap.pop(), is(4L));
+    assertThat(heap.drain(), is(new long[] { 3, 2, 1, 1 }));
+  }
+
+  @Test
+  public void replaceTop() {
+    LongHeap heap = LongHeap.minHeap();
+    heap.push(1);
+    heap.push(3);
+    assertThat(heap.replaceTop(4), is(1L));
+    assertThat(heap.drain(), is(new long[] { 3, 4 }));
+  }
+
+  @Test
+  public void clear() {
+    LongHeap heap = LongHeap.minHeap();
+    heap.push(1);
+    assertThat(heap.toArray(), is(new long[] { 1 }));
+    heap.clear();
+    assertThat(heap.size(), is(0));
+    assertThat(heap.toArray(), is(new long[0]));
+  }
+
+  @Test
+  public void popEmpty() {
+    thrown.expect(NoSuchElementException.class);
+    thrown.expectMessage(is("Heap is empty"));
+    LongHeap.maxHeap().pop();
+  }
+}
@@ -0,0 +1,87 @@
+package ch.deletescape.primitives.collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LongSegmentTreeTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void queries() {
+    LongSegmentTree tree = LongSegmentTree.of(5, 1, 4, 2, 3);
+    assertThat(tree.size(), is(5));
+    assertThat(tree.sum(0, 5), is(15L));
+    assertThat(tree.sum(1, 4), is(7L));
+    assertThat(tree.sum(2, 2), is(0L));
+    assertThat(tree.min(0, 5), is(1L));
+    assertThat(tree.min(2, 5), is(2L));
+    assertThat(tree.max(1, 5), is(4L));
+    assertThat(tree.max(3, 4), is(2L));
+  }
+
+  @Test
+  public void updates() {
+    LongSegmentTree tree = LongSegmentTree.of(5, 1, 4, 2, 3);
+    tree.set(1, 9);
+    tree.add(4, -3);
+    assertThat(tree.get(1), is(9L));
+    assertThat(tree.toArray(), is(new long[] { 5, 9, 4, 2, 0 }));
+    assertThat(tree.sum(0, 5), is(20L));
+    assertThat(tree.max(0, 3), is(9L));
+    assertThat(tree.min(0, 5), is(0L));
+  }
+
+  @Test
+  public void matchesScan() {
+    Random random = new Random(42);
+    long[] values = new long[37];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(100);
+    }
+    LongSegmentTree tree = LongSegmentTree.of(values);
+    for (int round = 0; round < 200; round++) {
+      int index = random.nextInt(values.length);
+      values[index] = random.nextInt(100) - 50;
+      tree.set(index, values[index]);
+      int from = random.nextInt(values.length);
+      int to = from + 1 + random.nextInt(values.length - from);
+      long sum = 0;
+      long min = values[from];
+      long max = values[from];
+      for (int i = from; i < to; i++) {
+        sum += values[i];
+        min = Math.min(min, values[i]);
+        max = Math.max(max, values[i]);
+      }
+      assertThat(tree.sum(from, to), is(sum));
+      assertThat(tree.min(from, to), is(min));
+      assertThat(tree.max(from, to), is(max));
+    }
+  }
+
+  @Test
+  public void emptyRange() {
+    thrown.expect(NoSuchElementException.class);
+    LongSegmentTree.of(1, 2).min(1, 1);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    LongSegmentTree.of(1, 2).sum(0, 3);
+  }
+
+  @Test
+  public void indexOutOfBounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    LongSegmentTree.of(1, 2).set(-1, 0);
+  }
+}
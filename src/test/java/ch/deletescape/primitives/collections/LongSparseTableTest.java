@@ -0,0 +1,64 @@
+package ch.deletescape.primitives.collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LongSparseTableTest {
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void queries() {
+    long[] values = new long[] { 5, 1, 4, 2, 3 };
+    LongSparseTable table = LongSparseTable.of(values);
+    values[1] = 0;
+    assertThat(table.size(), is(5));
+    assertThat(table.get(1), is(1L));
+    assertThat(table.min(0, 5), is(1L));
+    assertThat(table.min(2, 5), is(2L));
+    assertThat(table.max(1, 5), is(4L));
+    assertThat(table.max(3, 4), is(2L));
+  }
+
+  @Test
+  public void matchesScan() {
+    Random random = new Random(42);
+    for (int size = 1; size < 40; size++) {
+      long[] values = new long[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = random.nextInt(100);
+      }
+      LongSparseTable table = LongSparseTable.of(values);
+      for (int from = 0; from < size; from++) {
+        long min = values[from];
+        long max = values[from];
+        for (int to = from + 1; to <= size; to++) {
+          min = Math.min(min, values[to - 1]);
+          max = Math.max(max, values[to - 1]);
+          assertThat(table.min(from, to), is(min));
+          assertThat(table.max(from, to), is(max));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void empty() {
+    assertThat(LongSparseTable.of().size(), is(0));
+    thrown.expect(NoSuchElementException.class);
+    LongSparseTable.of().min(0, 0);
+  }
+
+  @Test
+  public void rangeOutOfBounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    LongSparseTable.of(1, 2).max(-1, 2);
+  }
+}
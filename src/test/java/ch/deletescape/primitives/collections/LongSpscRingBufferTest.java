@@ -0,0 +1,76 @@
+package ch.deletescape.primitives.collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class LongSpscRingBufferTest {
+  @Test
+  public void capacity() {
+    assertThat(new LongSpscRingBuffer(1).capacity(), is(1));
+    assertThat(new LongSpscRingBuffer(5).capacity(), is(8));
+    assertThat(new LongSpscRingBuffer(8).capacity(), is(8));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidCapacity() {
+    new LongSpscRingBuffer(0);
+  }
+
+  @Test
+  public void offerAndPoll() {
+    LongSpscRingBuffer buffer = new LongSpscRingBuffer(2);
+    assertThat(buffer.isEmpty(), is(true));
+    assertThat(buffer.offer(1), is(true));
+    assertThat(buffer.offer(2), is(true));
+    assertThat(buffer.offer(3), is(false));
+    assertThat(buffer.size(), is(2));
+    assertThat(buffer.poll(-1), is(1L));
+    assertThat(buffer.offer(3), is(true));
+    assertThat(buffer.poll(-1), is(2L));
+    assertThat(buffer.poll(-1), is(3L));
+    assertThat(buffer.poll(-1), is(-1L));
+  }
+
+  @Test
+  public void batchWrapsAround() {
+    LongSpscRingBuffer buffer = new LongSpscRingBuffer(4);
+    assertThat(buffer.offerAll(new long[] { 1, 2, 3 }), is(3));
+    long[] dest = new long[5];
+    assertThat(buffer.drainTo(dest, 1, 2), is(2));
+    assertThat(buffer.offerAll(new long[] { 9, 4, 5, 6, 7 }, 1, 4), is(3));
+    assertThat(buffer.drainTo(dest, 1, 4), is(4));
+    assertThat(dest, is(new long[] { 0, 3, 4, 5, 6 }));
+    assertThat(buffer.drainTo(dest), is(0));
+  }
+
+  @Test
+  public void concurrentHandOff() throws InterruptedException {
+    int count = 100_000;
+    LongSpscRingBuffer buffer = new LongSpscRingBuffer(64);
+    Thread producer = new Thread(() -> {
+      for (int i = 1; i <= count; i++) {
+        while (!buffer.offer(i)) {
+          Thread.yield();
+        }
+      }
+    });
+    producer.start();
+    long[] dest = new long[16];
+    long received = 0;
+    long sum = 0;
+    while (received < count) {
+      int n = buffer.drainTo(dest);
+      if (n == 0) {
+        Thread.yield();
+      }
+      for (int i = 0; i < n; i++) {
+        sum += dest[i];
+      }
+      received += n;
+    }
+    producer.join();
+    assertThat(sum, is(count * (count + 1L) / 2));
+  }
+}